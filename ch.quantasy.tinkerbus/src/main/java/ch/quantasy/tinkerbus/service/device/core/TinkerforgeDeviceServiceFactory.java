@@ -25,22 +25,23 @@ import com.tinkerforge.Device;
 public class TinkerforgeDeviceServiceFactory {
 
     public static ATinkerforgeDeviceService getDevice(Device device, String deviceID) {
-	ATinkerforgeDeviceService service = null;
-	if (TinkerforgeDevice.getDevice(device) == TinkerforgeDevice.AmbientLight) {
-	    service = new TinkerforgeAmbientLightService((BrickletAmbientLight) device, deviceID);
+	TinkerforgeDevice tinkerforgeDevice = TinkerforgeDevice.getDevice(device);
+	if (tinkerforgeDevice == null) {
+	    return null;
 	}
-	if (TinkerforgeDevice.getDevice(device) == TinkerforgeDevice.DC) {
-	    service = new TinkerforgeDCService((BrickDC) device, deviceID);
+	switch (tinkerforgeDevice) {
+	    case AmbientLight:
+		return new TinkerforgeAmbientLightService((BrickletAmbientLight) device, deviceID);
+	    case DC:
+		return new TinkerforgeDCService((BrickDC) device, deviceID);
+	    case LEDStrip:
+		return new TinkerforgeLEDService((BrickletLEDStrip) device, deviceID);
+	    case DualRelay:
+		return new TinkerforgeDualRelayService((BrickletDualRelay) device, deviceID);
+	    case RemoteSwitch:
+		return new TinkerforgeRemoteSwitchService((BrickletRemoteSwitch) device, deviceID);
+	    default:
+		return null;
 	}
-	if (TinkerforgeDevice.getDevice(device) == TinkerforgeDevice.LEDStrip) {
-	    service = new TinkerforgeLEDService((BrickletLEDStrip) device, deviceID);
-	}
-	if (TinkerforgeDevice.getDevice(device) == TinkerforgeDevice.DualRelay) {
-	    service = new TinkerforgeDualRelayService((BrickletDualRelay) device, deviceID);
-	}
-	if (TinkerforgeDevice.getDevice(device) == TinkerforgeDevice.RemoteSwitch) {
-	    service = new TinkerforgeRemoteSwitchService((BrickletRemoteSwitch) device, deviceID);
-	}
-	return service;
     }
 }
@@ -9,10 +9,6 @@ import ch.quantasy.tinkerforge.tinker.agent.implementation.TinkerforgeStackAgent
 import ch.quantasy.tinkerforge.tinker.core.implementation.AbstractTinkerforgeStackManager;
 import ch.quantasy.tinkerforge.tinker.core.implementation.TinkerforgeStackAddress;
 import com.tinkerforge.Device;
-import java.io.IOException;
-import java.net.UnknownHostException;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  *
@@ -21,8 +17,6 @@ import java.util.TimerTask;
 public class TinkerforgeStackManager extends AbstractTinkerforgeStackManager {
 
     private TinkerforgeStackService stackService;
-    private Timer timer;
-    private Exception actualConnectionException;
     public static final int DEFAULT_CONNECTION_TIMEOUT_IN_MILLISECONDS = 1000 * 60;
     private int connectionTimeoutInMilliseconds;
 
@@ -42,30 +36,12 @@ public class TinkerforgeStackManager extends AbstractTinkerforgeStackManager {
 
     @Override
     public synchronized void connect() {
-	if (this.timer != null) {
-	    return;
-	}
-	this.timer = new Timer(true);
-	this.timer.schedule(new TimerTask() {
-
-	    @Override
-	    public void run() {
-		try {
-		    TinkerforgeStackManager.super.connect();
-		    TinkerforgeStackManager.this.actualConnectionException = null;
-		    TinkerforgeStackManager.this.timer.cancel();
-		} catch (final UnknownHostException e) {
-		    TinkerforgeStackManager.this.actualConnectionException = e;
-		} catch (final IOException e) {
-		    TinkerforgeStackManager.this.actualConnectionException = e;
-		}
-	    }
-	}, 0, TinkerforgeStackManager.this.connectionTimeoutInMilliseconds);
-
+	super.connectInBackground(this.connectionTimeoutInMilliseconds);
     }
 
     @Override
     public void disconnect() {
+	super.cancelConnectInBackground();
 	super.disconnect();
     }
 
@@ -77,10 +53,6 @@ public class TinkerforgeStackManager extends AbstractTinkerforgeStackManager {
 	this.connectionTimeoutInMilliseconds = connectionTimeoutInMilliseconds;
     }
 
-    public Exception getActualConnectionException() {
-	return actualConnectionException;
-    }
-
     @Override
     protected void connected() {
 	stackService.connected();
@@ -17,6 +17,7 @@ import ch.quantasy.tinkerbus.service.device.core.ATinkerforgeDeviceService;
 import ch.quantasy.tinkerbus.service.device.core.TinkerforgeDeviceServiceFactory;
 import ch.quantasy.tinkerbus.service.stack.content.StackConnectionStateContent;
 import ch.quantasy.tinkerbus.service.stack.content.TinkerforgeStackAddressContent;
+import ch.quantasy.tinkerforge.tinker.core.implementation.TinkerforgeDevice;
 import com.tinkerforge.Device;
 import com.tinkerforge.Device.Identity;
 import com.tinkerforge.NotConnectedException;
@@ -94,7 +95,7 @@ public class TinkerforgeStackService extends ATinkerforgeService<TinkerforgeStac
     public void deviceConnected(Device device) {
 	Identity identity;
 	try {
-	    identity = device.getIdentity();
+	    identity = TinkerforgeDevice.getIdentity(device);
 	    String deviceID = identity.uid + identity.connectedUid;
 	    ATinkerforgeDeviceService deviceService = deviceServices.get(deviceID);
 	    if (deviceService == null) {
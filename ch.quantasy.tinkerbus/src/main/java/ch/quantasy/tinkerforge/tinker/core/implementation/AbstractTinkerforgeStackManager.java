@@ -9,12 +9,19 @@ import com.tinkerforge.IPConnection.EnumerateListener;
 import com.tinkerforge.NotConnectedException;
 import com.tinkerforge.TinkerforgeException;
 import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.UnknownHostException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class tries to give a helping hand in order to represent a Tinkerforge-stack. It gives convenience-methods for
@@ -28,10 +35,54 @@ public abstract class AbstractTinkerforgeStackManager {
     private final TinkerforgeStackAddress stackAddress;
 
     private final IPConnection ipConnection;
-    private final Map<String, Device> deviceMap;
+    /**
+     * Written by the enumeration on the callback thread, read and evicted by any thread
+     */
+    private final ConcurrentMap<String, Device> deviceMap;
 
     private final IPConnectionHandler ipConnectionHandler;
     private final DeviceEnumerationHandler deviceEnumerationHandler;
+    private final EnumerationBarrier enumerationBarrier;
+
+    /**
+     * Maximum time connect waits for the enumeration to complete [ms]
+     */
+    public static final long ENUMERATION_TIMEOUT = 3000;
+
+    /**
+     * Number of stacks that are connected concurrently by {@link #connectInBackground(long)}
+     */
+    public static final int CONNECTION_THREADS = 8;
+    private static final ScheduledExecutorService connectionScheduler = Executors.newScheduledThreadPool(
+	    CONNECTION_THREADS, new ThreadFactory() {
+
+		@Override
+		public Thread newThread(final Runnable runnable) {
+		    final Thread thread = new Thread(runnable, "Tinkerforge-Stack-Connector");
+		    thread.setDaemon(true);
+		    return thread;
+		}
+	    });
+
+    /**
+     * IPConnection.removeDevice(Device), which frees a {@link Device} within the {@link IPConnection}. Released
+     * bindings up to 2.1.2 do not have it, then it is null.
+     */
+    private static final Method removeDevice;
+
+    static {
+	Method method = null;
+	try {
+	    method = IPConnection.class.getMethod("removeDevice", Device.class);
+	} catch (final Exception e) {
+	    // Binding without removeDevice
+	}
+	removeDevice = method;
+    }
+
+    private ScheduledFuture<?> connectionTask;
+    private volatile Exception actualConnectionException;
+    private volatile long connectLatencyInMilliseconds = -1;
 
     /**
      * Creates a representation of a Tinkerforge-Stack. Either at 'localhost' or via a 'Server'-name given in the
@@ -43,9 +94,10 @@ public abstract class AbstractTinkerforgeStackManager {
 	if (stackAddress == null) {
 	    throw new IllegalArgumentException();
 	}
-	this.deviceMap = new HashMap<String, Device>();
+	this.deviceMap = new ConcurrentHashMap<String, Device>();
 	this.stackAddress = stackAddress;
 	this.ipConnection = new IPConnection();
+	this.enumerationBarrier = new EnumerationBarrier();
 	this.ipConnectionHandler = new IPConnectionHandler(this.ipConnection);
 	this.deviceEnumerationHandler = new DeviceEnumerationHandler(this.ipConnection);
     }
@@ -55,16 +107,23 @@ public abstract class AbstractTinkerforgeStackManager {
     }
 
     /**
-     * Connects to the real Tinkerforge-Stack. It then requests the connected {@link Device}s. Therefore it waits for
-     * some time (3-seconds)
+     * Connects to the real Tinkerforge-Stack. It then requests the connected {@link Device}s and waits until the
+     * enumeration is complete (at most {@link #ENUMERATION_TIMEOUT})
      *
      * @throws UnknownHostException
      * @throws IOException
      */
     protected void connect() throws UnknownHostException, IOException {
+	this.establishConnection();
+    }
+
+    private void establishConnection() throws UnknownHostException, IOException {
+	final long start = System.currentTimeMillis();
 	try {
+	    this.enumerationBarrier.reset();
 	    this.ipConnection.connect(stackAddress.hostName, stackAddress.port);
-	    Thread.sleep(3000);
+	    this.enumerationBarrier.await(ENUMERATION_TIMEOUT);
+	    this.connectLatencyInMilliseconds = System.currentTimeMillis() - start;
 	} catch (final AlreadyConnectedException e) {
 	    // So what
 	} catch (final InterruptedException e) {
@@ -72,6 +131,65 @@ public abstract class AbstractTinkerforgeStackManager {
 	}
     }
 
+    /**
+     * Connects to the real Tinkerforge-Stack without blocking the caller. The connection is established by a pool
+     * shared by all stacks, so many stacks are connected concurrently without a thread of their own. A failed attempt
+     * is retried every 'retryPeriodInMilliseconds' until it succeeds or {@link #cancelConnectInBackground()} is
+     * called.
+     *
+     * @param retryPeriodInMilliseconds
+     */
+    protected synchronized void connectInBackground(final long retryPeriodInMilliseconds) {
+	if (this.connectionTask != null) {
+	    return;
+	}
+	this.connectionTask = connectionScheduler.scheduleWithFixedDelay(new Runnable() {
+
+	    @Override
+	    public void run() {
+		try {
+		    AbstractTinkerforgeStackManager.this.establishConnection();
+		    AbstractTinkerforgeStackManager.this.actualConnectionException = null;
+		    AbstractTinkerforgeStackManager.this.cancelConnectInBackground();
+		} catch (final UnknownHostException e) {
+		    AbstractTinkerforgeStackManager.this.actualConnectionException = e;
+		} catch (final IOException e) {
+		    AbstractTinkerforgeStackManager.this.actualConnectionException = e;
+		}
+	    }
+	}, 0, retryPeriodInMilliseconds, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the retries of {@link #connectInBackground(long)}.
+     */
+    protected synchronized void cancelConnectInBackground() {
+	if (this.connectionTask == null) {
+	    return;
+	}
+	this.connectionTask.cancel(false);
+	this.connectionTask = null;
+    }
+
+    /**
+     * Returns the exception of the last failed attempt of {@link #connectInBackground(long)}, null if the last
+     * attempt succeeded.
+     *
+     * @return
+     */
+    public Exception getActualConnectionException() {
+	return this.actualConnectionException;
+    }
+
+    /**
+     * Returns the time the last connect took until the enumeration was complete, -1 if not connected yet.
+     *
+     * @return
+     */
+    public long getConnectLatencyInMilliseconds() {
+	return this.connectLatencyInMilliseconds;
+    }
+
     /**
      * Disconnects from a real Tinkerforge-Stack.
      */
@@ -124,8 +242,12 @@ public abstract class AbstractTinkerforgeStackManager {
 	if (device == null) {
 	    throw new IllegalArgumentException();
 	}
+	if (TinkerforgeDevice.getCachedIdentity(device) != null) {
+	    // The enumeration reports it as connected
+	    return this.isConnected();
+	}
 	try {
-	    device.getIdentity();
+	    TinkerforgeDevice.refreshIdentity(device);
 	    return true;
 	} catch (final TinkerforgeException e) {
 	    e.printStackTrace();
@@ -142,6 +264,42 @@ public abstract class AbstractTinkerforgeStackManager {
 	return new ArrayList<Device>(this.deviceMap.values());
     }
 
+    /**
+     * Forgets the {@link Device} with the given uid, e.g. because it has been removed from the stack for good. Known
+     * devices are otherwise kept and reused when they reconnect, so their listeners survive. If it shows up again, a
+     * new instance is created.
+     *
+     * The {@link Device} is removed from the {@link IPConnection} as well, so it receives no more callbacks and can
+     * be freed. Released bindings up to 2.1.2 cannot remove a {@link Device}: there it stays registered and keeps
+     * receiving callbacks until the {@link IPConnection} is gone, so remove its listeners before evicting it.
+     *
+     * @param uid
+     * @return the forgotten {@link Device} or null if it was not known
+     * @throws IllegalStateException
+     *             if the {@link IPConnection} failed to remove the {@link Device}. It is forgotten by this manager
+     *             anyway.
+     */
+    public Device evictDevice(final String uid) {
+	final Device device = this.deviceMap.remove(uid);
+	if (device == null) {
+	    return null;
+	}
+	TinkerforgeDevice.uncacheIdentity(device);
+	if (AbstractTinkerforgeStackManager.removeDevice != null) {
+	    try {
+		AbstractTinkerforgeStackManager.removeDevice.invoke(this.ipConnection, device);
+	    } catch (final InvocationTargetException e) {
+		if (e.getCause() instanceof RuntimeException) {
+		    throw (RuntimeException) e.getCause();
+		}
+		throw new IllegalStateException("Could not remove " + uid + " from the IPConnection", e.getCause());
+	    } catch (final IllegalAccessException e) {
+		throw new IllegalStateException("Could not remove " + uid + " from the IPConnection", e);
+	    }
+	}
+	return device;
+    }
+
     private class IPConnectionHandler implements ConnectedListener, DisconnectedListener {
 
 	private final IPConnection connection;
@@ -161,6 +319,7 @@ public abstract class AbstractTinkerforgeStackManager {
 	@Override
 	public void connected(final short disconnectReason) {
 	    try {
+		AbstractTinkerforgeStackManager.this.enumerationBarrier.reset();
 		this.connection.enumerate();
 		AbstractTinkerforgeStackManager.this.connected();
 	    } catch (final Exception ex) {
@@ -184,7 +343,21 @@ public abstract class AbstractTinkerforgeStackManager {
 	public void enumerate(final String uid, final String connectedUid, final char position,
 		final short[] hardwareVersion, final short[] firmwareVersion, final int deviceIdentifier,
 		final short enumerationType) {
-	    boolean isNewDevice = this.createDevice(deviceIdentifier, uid);
+	    // A known device is reused, so its listeners survive a reconnect
+	    boolean isNewDevice = (enumerationType != IPConnection.ENUMERATION_TYPE_DISCONNECTED)
+		    && this.createDevice(deviceIdentifier, uid);
+	    final Device knownDevice = AbstractTinkerforgeStackManager.this.deviceMap.get(uid);
+	    if (knownDevice != null) {
+		if (enumerationType == IPConnection.ENUMERATION_TYPE_DISCONNECTED) {
+		    TinkerforgeDevice.uncacheIdentity(knownDevice);
+		} else {
+		    TinkerforgeDevice.cacheIdentity(knownDevice, uid, connectedUid, position, hardwareVersion,
+						    firmwareVersion, deviceIdentifier);
+		}
+	    }
+	    if (enumerationType != IPConnection.ENUMERATION_TYPE_DISCONNECTED) {
+		AbstractTinkerforgeStackManager.this.enumerationBarrier.enumerated();
+	    }
 	    switch (enumerationType) {
 		case IPConnection.ENUMERATION_TYPE_AVAILABLE:
 		    if (isNewDevice) {
@@ -200,9 +373,8 @@ public abstract class AbstractTinkerforgeStackManager {
 		    }
 		    break;
 		case IPConnection.ENUMERATION_TYPE_DISCONNECTED:
-		    if (isNewDevice) {
+		    if (knownDevice == null) {
 			// That is strange!
-			deviceMap.remove(uid);
 			return;
 		    }
 		    AbstractTinkerforgeStackManager.this
@@ -218,23 +390,15 @@ public abstract class AbstractTinkerforgeStackManager {
 	    if (AbstractTinkerforgeStackManager.this.deviceMap.containsKey(uid)) {
 		return false;
 	    }
-	    try {
-		TinkerforgeDevice tinkerforgeDevice = TinkerforgeDevice.getDevice(deviceIdentifier);
-		if (tinkerforgeDevice == null) {
-		    return false;
-		}
-		final Device device = (Device) tinkerforgeDevice.deviceClass
-			.getDeclaredConstructor(String.class, IPConnection.class).newInstance(uid,
-											      AbstractTinkerforgeStackManager.this.ipConnection);
-		device.getIdentity();
-		AbstractTinkerforgeStackManager.this.deviceMap.put(uid, device);
-		return true;
-	    } catch (final TinkerforgeException ex) {
-		ex.printStackTrace();
-	    } catch (final Exception ex) {
-		ex.printStackTrace();
+	    final TinkerforgeDevice tinkerforgeDevice = TinkerforgeDevice.getDevice(deviceIdentifier);
+	    if (tinkerforgeDevice == null) {
+		return false;
 	    }
-	    return false;
+	    final Device device = tinkerforgeDevice.createDevice(uid, AbstractTinkerforgeStackManager.this.ipConnection);
+	    if (device == null) {
+		return false;
+	    }
+	    return AbstractTinkerforgeStackManager.this.deviceMap.putIfAbsent(uid, device) == null;
 	}
 
     }
@@ -51,6 +51,16 @@ import com.tinkerforge.BrickletVoltage;
 import com.tinkerforge.BrickletVoltageCurrent;
 import com.tinkerforge.Device;
 import com.tinkerforge.Device.Identity;
+import com.tinkerforge.IPConnection;
+import com.tinkerforge.NotConnectedException;
+import com.tinkerforge.TimeoutException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * This enum is used as a convenience to map the Tinker-Bricks and Tinker-Bricklets It tries to hide the 'strange' stuff
@@ -82,6 +92,91 @@ public enum TinkerforgeDevice {
 
     public final int identifier;
     public final Class<?> deviceClass;
+    private final Constructor<?> constructor;
+
+    /**
+     * The identities as reported by the enumeration, so they do not have to be requested from the stack again and
+     * again. Only the {@link Device}s of an {@link AbstractTinkerforgeStackManager} have an entry, which is removed
+     * when the manager evicts the {@link Device} or the enumeration reports it as disconnected. The
+     * {@link IPConnection} keeps its {@link Device}s anyway, so a weak map would not free them either.
+     */
+    private static final ConcurrentMap<Device, CachedIdentity> identities =
+	    new ConcurrentHashMap<Device, CachedIdentity>();
+
+    /**
+     * The values of an {@link Identity}, without the reference to its {@link Device}.
+     */
+    private static class CachedIdentity {
+	private final String uid;
+	private final String connectedUid;
+	private final char position;
+	private final short[] hardwareVersion;
+	private final short[] firmwareVersion;
+	private final int deviceIdentifier;
+
+	private CachedIdentity(final String uid, final String connectedUid, final char position,
+		final short[] hardwareVersion, final short[] firmwareVersion, final int deviceIdentifier) {
+	    this.uid = uid;
+	    this.connectedUid = connectedUid;
+	    this.position = position;
+	    this.hardwareVersion = hardwareVersion == null ? null : hardwareVersion.clone();
+	    this.firmwareVersion = firmwareVersion == null ? null : firmwareVersion.clone();
+	    this.deviceIdentifier = deviceIdentifier;
+	}
+
+	private Identity toIdentity(final Device device) {
+	    final Identity identity = device.new Identity();
+	    identity.uid = this.uid;
+	    identity.connectedUid = this.connectedUid;
+	    identity.position = this.position;
+	    identity.hardwareVersion = this.hardwareVersion == null ? null : this.hardwareVersion.clone();
+	    identity.firmwareVersion = this.firmwareVersion == null ? null : this.firmwareVersion.clone();
+	    identity.deviceIdentifier = this.deviceIdentifier;
+	    return identity;
+	}
+    }
+
+    /**
+     * The Base58 decoder of the binding, static base58Decode(String) of {@link IPConnection} or of its base class in
+     * released bindings. It is package-private, so it is looked up once and made accessible. Null if the binding
+     * has none.
+     */
+    private static final Method base58Decode;
+
+    static {
+	Method method = null;
+	for (Class<?> type = IPConnection.class; (type != null) && (method == null); type = type.getSuperclass()) {
+	    try {
+		method = type.getDeclaredMethod("base58Decode", String.class);
+		method.setAccessible(true);
+	    } catch (final Exception e) {
+		// Try the base class
+	    }
+	}
+	base58Decode = method;
+    }
+
+    /**
+     * Lookup tables for getDevice, filled once and only read afterwards.
+     */
+    private static final Map<Class<?>, TinkerforgeDevice> devicesByClass = new HashMap<Class<?>, TinkerforgeDevice>();
+    private static final TinkerforgeDevice[] devicesByIdentifier;
+
+    static {
+	int maximumIdentifier = -1;
+	for (final TinkerforgeDevice tinkerforgeDevice : TinkerforgeDevice.values()) {
+	    TinkerforgeDevice.devicesByClass.put(tinkerforgeDevice.deviceClass, tinkerforgeDevice);
+	    maximumIdentifier = Math.max(maximumIdentifier, tinkerforgeDevice.identifier);
+	}
+	devicesByIdentifier = new TinkerforgeDevice[maximumIdentifier + 1];
+	for (final TinkerforgeDevice tinkerforgeDevice : TinkerforgeDevice.values()) {
+	    // Like a linear search, the first one wins
+	    if ((tinkerforgeDevice.identifier >= 0)
+		    && (TinkerforgeDevice.devicesByIdentifier[tinkerforgeDevice.identifier] == null)) {
+		TinkerforgeDevice.devicesByIdentifier[tinkerforgeDevice.identifier] = tinkerforgeDevice;
+	    }
+	}
+    }
 
     private TinkerforgeDevice(final Class<?> deviceClass) {
 	if (deviceClass == null) {
@@ -95,11 +190,136 @@ public enum TinkerforgeDevice {
 	    // No identifier
 	}
 	this.identifier = internalIdentifier;
+	Constructor<?> internalConstructor = null;
+	try {
+	    internalConstructor = deviceClass.getConstructor(String.class, IPConnection.class);
+	} catch (final Exception e) {
+	    // Not instantiable
+	}
+	this.constructor = internalConstructor;
+    }
+
+    /**
+     * Creates a new {@link Device} of this kind. The constructor is looked up only once, when the enum is loaded.
+     *
+     * @param uid
+     * @param ipConnection
+     * @return the new {@link Device} or null if it cannot be created
+     */
+    public Device createDevice(final String uid, final IPConnection ipConnection) {
+	if (this.constructor == null) {
+	    return null;
+	}
+	try {
+	    return (Device) this.constructor.newInstance(uid, ipConnection);
+	} catch (final Exception e) {
+	    e.printStackTrace();
+	    return null;
+	}
+    }
+
+    /**
+     * Returns the cached {@link Identity} of the {@link Device}. Only if there is none, it is requested from the stack.
+     * The returned {@link Identity} is a copy.
+     *
+     * @param device
+     * @return
+     * @throws TimeoutException
+     * @throws NotConnectedException
+     */
+    public static Identity getIdentity(final Device device) throws TimeoutException, NotConnectedException {
+	final Identity identity = TinkerforgeDevice.getCachedIdentity(device);
+	if (identity != null) {
+	    return identity;
+	}
+	return TinkerforgeDevice.refreshIdentity(device);
+    }
+
+    /**
+     * Returns the cached {@link Identity} of the {@link Device} or null if there is none. Never accesses the stack.
+     *
+     * @param device
+     * @return
+     */
+    public static Identity getCachedIdentity(final Device device) {
+	final CachedIdentity identity = TinkerforgeDevice.identities.get(device);
+	if (identity == null) {
+	    return null;
+	}
+	return identity.toIdentity(device);
+    }
+
+    /**
+     * Requests the {@link Identity} of the {@link Device} from the stack and replaces the cached one, if there is one.
+     *
+     * @param device
+     * @return
+     * @throws TimeoutException
+     * @throws NotConnectedException
+     */
+    public static Identity refreshIdentity(final Device device) throws TimeoutException, NotConnectedException {
+	final Identity identity = device.getIdentity();
+	TinkerforgeDevice.identities.replace(device, new CachedIdentity(identity.uid, identity.connectedUid,
+		identity.position, identity.hardwareVersion, identity.firmwareVersion, identity.deviceIdentifier));
+	return identity;
+    }
+
+    /**
+     * Caches the {@link Identity} as reported by the enumeration to an {@link AbstractTinkerforgeStackManager}.
+     */
+    static void cacheIdentity(final Device device, final String uid, final String connectedUid, final char position,
+	    final short[] hardwareVersion, final short[] firmwareVersion, final int deviceIdentifier) {
+	TinkerforgeDevice.identities.put(device, new CachedIdentity(uid, connectedUid, position, hardwareVersion,
+		firmwareVersion, deviceIdentifier));
+    }
+
+    /**
+     * Forgets the cached {@link Identity}, because the {@link Device} has been disconnected or evicted.
+     */
+    static void uncacheIdentity(final Device device) {
+	TinkerforgeDevice.identities.remove(device);
+    }
+
+    /**
+     * Decodes a Base58 uid into the 32 bit uid of the packets, the same way the {@link Device} constructor of the
+     * binding does. The Base58 digits are decoded by the binding itself.
+     *
+     * @param uid
+     * @return
+     * @throws IllegalArgumentException
+     *             if the uid is not Base58
+     */
+    public static int decodeUid(final String uid) {
+	if (TinkerforgeDevice.base58Decode == null) {
+	    throw new UnsupportedOperationException("Binding without base58Decode");
+	}
+	long value;
+	try {
+	    value = (Long) TinkerforgeDevice.base58Decode.invoke(null, uid);
+	} catch (final InvocationTargetException e) {
+	    if (e.getCause() instanceof RuntimeException) {
+		throw (RuntimeException) e.getCause();
+	    }
+	    throw new IllegalStateException(e.getCause());
+	} catch (final IllegalAccessException e) {
+	    throw new IllegalStateException(e);
+	}
+	if (value > 0xFFFFFFFFL) {
+	    // Convert from 64bit to 32bit
+	    final long value1 = value & 0xFFFFFFFFL;
+	    final long value2 = (value >> 32) & 0xFFFFFFFFL;
+	    value = (value1 & 0x00000FFFL);
+	    value |= (value1 & 0x0F000000L) >> 12;
+	    value |= (value2 & 0x0000003FL) << 16;
+	    value |= (value2 & 0x000F0000L) << 6;
+	    value |= (value2 & 0x3F000000L) << 2;
+	}
+	return (int) value;
     }
 
     public static String toString(final Device device) {
 	try {
-	    return device.getIdentity().toString();
+	    return TinkerforgeDevice.getIdentity(device).toString();
 	} catch (final Exception e) {
 	    return device.toString();
 	}
@@ -109,12 +329,12 @@ public enum TinkerforgeDevice {
 	Identity id1 = null;
 	Identity id2 = null;
 	try {
-	    id1 = device1.getIdentity();
+	    id1 = TinkerforgeDevice.getIdentity(device1);
 	} catch (final Exception ex) {
 
 	}
 	try {
-	    id2 = device2.getIdentity();
+	    id2 = TinkerforgeDevice.getIdentity(device2);
 	} catch (final Exception ex) {
 
 	}
@@ -143,22 +363,14 @@ public enum TinkerforgeDevice {
 	if (device == null) {
 	    return null;
 	}
-	final Class<? extends Device> deviceClass = device.getClass();
-	for (final TinkerforgeDevice tinkerforgeDevice : TinkerforgeDevice.values()) {
-	    if (deviceClass == tinkerforgeDevice.deviceClass) {
-		return tinkerforgeDevice;
-	    }
-	}
-	return null;
+	return TinkerforgeDevice.devicesByClass.get(device.getClass());
     }
 
     public static TinkerforgeDevice getDevice(final int deviceIdentifier) {
-	for (final TinkerforgeDevice tinkerforgeDevice : TinkerforgeDevice.values()) {
-	    if (deviceIdentifier == tinkerforgeDevice.identifier) {
-		return tinkerforgeDevice;
-	    }
+	if ((deviceIdentifier < 0) || (deviceIdentifier >= TinkerforgeDevice.devicesByIdentifier.length)) {
+	    return null;
 	}
-	return null;
+	return TinkerforgeDevice.devicesByIdentifier[deviceIdentifier];
     }
 
 }
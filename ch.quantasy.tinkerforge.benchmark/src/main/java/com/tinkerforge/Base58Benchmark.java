@@ -0,0 +1,53 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the uid conversions done for every device construction and every
+ * enumerate callback.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base58Benchmark {
+	// a bricklet, a brick and a 64 bit uid
+	@Param({"a4b", "6qCyBe", "SZhRnHaJo5"})
+	String uid;
+
+	long value;
+
+	@Setup
+	public void setup() {
+		value = IPConnection.base58Decode(uid);
+	}
+
+	@Benchmark
+	public long decode() {
+		return IPConnection.base58Decode(uid);
+	}
+
+	@Benchmark
+	public String encode() {
+		return IPConnection.base58Encode(value);
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the binding hot paths with the GC profiler, so
+ * every result comes with the allocation rate per operation
+ * (gc.alloc.rate.norm). Takes the usual JMH command line options, e.g. a
+ * benchmark name pattern:
+ *
+ * <pre>
+ * mvn package
+ * java -jar target/benchmarks.jar Base58
+ * </pre>
+ *
+ * JMH 1.12 needs java.io opened on Java 9 and later:
+ * java --add-opens java.base/java.io=ALL-UNNAMED -jar target/benchmarks.jar
+ */
+public class BenchmarkRunner {
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		new Runner(new OptionsBuilder().parent(new CommandLineOptions(args))
+		                               .addProfiler(GCProfiler.class)
+		                               .build()).run();
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of decoding generated callbacks, from the packet to the call of the
+ * listener, as done by the callback thread for every callback.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CallbackDecodingBenchmark {
+	BrickIMU imu;
+	BrickletLEDStrip ledStrip;
+	byte[] allData;
+	byte[] frameRendered;
+
+	@Setup
+	public void setup(final Blackhole blackhole) {
+		IPConnection ipcon = new IPConnection();
+
+		imu = new BrickIMU("6qCyBe", ipcon);
+		imu.addAllDataListener(new BrickIMU.AllDataListener() {
+			public void allData(short accX, short accY, short accZ, short magX, short magY, short magZ,
+			                    short angX, short angY, short angZ, short temperature) {
+				blackhole.consume(accX);
+				blackhole.consume(magY);
+				blackhole.consume(angZ);
+				blackhole.consume(temperature);
+			}
+		});
+
+		ledStrip = new BrickletLEDStrip("a4b", ipcon);
+		ledStrip.addFrameRenderedListener(new BrickletLEDStrip.FrameRenderedListener() {
+			public void frameRendered(int length) {
+				blackhole.consume(length);
+			}
+		});
+
+		allData = ReceiveBenchmark.createPacket(imu.uid, BrickIMU.CALLBACK_ALL_DATA, 28);
+		frameRendered = ReceiveBenchmark.createPacket(ledStrip.uid, BrickletLEDStrip.CALLBACK_FRAME_RENDERED, 10);
+
+		for(int i = 8; i < allData.length; i++) {
+			allData[i] = (byte)i;
+		}
+
+		frameRendered[8] = 50;
+	}
+
+	@Benchmark
+	public void imuAllData() {
+		imu.callbacks[BrickIMU.CALLBACK_ALL_DATA].callback(allData);
+	}
+
+	@Benchmark
+	public void ledStripFrameRendered() {
+		ledStrip.callbacks[BrickletLEDStrip.CALLBACK_FRAME_RENDERED].callback(frameRendered);
+	}
+}
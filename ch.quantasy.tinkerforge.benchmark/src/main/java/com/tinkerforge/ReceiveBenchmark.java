@@ -0,0 +1,126 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost per received packet: framing the byte stream as the receive thread
+ * does, and handing a packet to handleResponse, which looks up the device
+ * and queues the callback for the callback thread.
+ *
+ * handleCallback waits until the callback thread caught up after each
+ * batch, so the callback queue never fills up. Otherwise the benchmark
+ * would mostly measure the overflow policy of a full queue.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReceiveBenchmark {
+	final static int PACKETS = 64;
+
+	IPConnection ipcon;
+	BrickletAmbientLight ambientLight;
+	byte[] stream;
+	byte[] callback;
+	byte[] unknownDevice;
+
+	@Setup
+	public void setup() throws AlreadyConnectedException {
+		ipcon = new IPConnection();
+		ipcon.setCallbackQueueCapacity(1024);
+
+		// a few devices, so the lookup is not trivially the only entry
+		for(int i = 0; i < 32; i++) {
+			new BrickletTemperature(IPConnection.base58Encode(1000 + i), ipcon);
+		}
+
+		ambientLight = new BrickletAmbientLight("a4b", ipcon);
+		ambientLight.addIlluminanceListener(new BrickletAmbientLight.IlluminanceListener() {
+			public void illuminance(int illuminance) {
+			}
+		});
+
+		callback = createPacket(ambientLight.uid, BrickletAmbientLight.CALLBACK_ILLUMINANCE, 10);
+		unknownDevice = createPacket(12345, BrickletAmbientLight.CALLBACK_ILLUMINANCE, 10);
+		stream = new byte[PACKETS * unknownDevice.length];
+
+		for(int i = 0; i < PACKETS; i++) {
+			System.arraycopy(unknownDevice, 0, stream, i * unknownDevice.length, unknownDevice.length);
+		}
+
+		// runs the callback thread without a socket
+		ipcon.startReplay();
+	}
+
+	@TearDown
+	public void tearDown() {
+		ipcon.stopReplay();
+	}
+
+	static byte[] createPacket(long uid, byte functionID, int length) {
+		byte[] packet = new byte[length];
+
+		packet[0] = (byte)uid;
+		packet[1] = (byte)(uid >> 8);
+		packet[2] = (byte)(uid >> 16);
+		packet[3] = (byte)(uid >> 24);
+		packet[4] = (byte)length;
+		packet[5] = functionID;
+
+		return packet;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(PACKETS)
+	public void framing() throws java.io.IOException {
+		PacketFramer framer = new PacketFramer(ipcon);
+		ByteArrayInputStream in = new ByteArrayInputStream(stream);
+
+		while(framer.read(in) > 0) {
+			framer.dispatchPackets();
+		}
+	}
+
+	// receive side and callback thread together, per callback. A device
+	// without listener would not help, its callbacks are queued as well
+	@Benchmark
+	@OperationsPerInvocation(PACKETS)
+	public void handleCallback() {
+		for(int i = 0; i < PACKETS; i++) {
+			byte[] packet = ipcon.packetPool.acquire(callback.length);
+
+			System.arraycopy(callback, 0, packet, 0, callback.length);
+			ipcon.handleResponse(packet);
+		}
+
+		while(ambientLight.callbackQueueDepth.get() > 0) {
+			Thread.yield();
+		}
+	}
+
+	@Benchmark
+	public Device deviceLookup() {
+		return ipcon.devices.get(ambientLight.uid);
+	}
+}
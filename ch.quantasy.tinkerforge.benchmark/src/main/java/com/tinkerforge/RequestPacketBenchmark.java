@@ -0,0 +1,69 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of building a request packet, as done for every getter and setter
+ * call. The packet is returned to the pool like sendRequest does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestPacketBenchmark {
+	IPConnection ipcon;
+	BrickletLEDStrip ledStrip;
+
+	@Setup
+	public void setup() {
+		ipcon = new IPConnection();
+		ledStrip = new BrickletLEDStrip("a4b", ipcon);
+	}
+
+	@Benchmark
+	public byte[] getter() {
+		ByteBuffer request = ipcon.createRequestPacket((byte)8, BrickletLEDStrip.FUNCTION_GET_FRAME_DURATION, ledStrip);
+		byte[] packet = request.array();
+
+		ipcon.requestPacketPool.release(packet);
+
+		return packet;
+	}
+
+	@Benchmark
+	public byte[] setterWithPayload() {
+		ByteBuffer request = ipcon.createRequestPacket((byte)59, BrickletLEDStrip.FUNCTION_SET_RGB_VALUES, ledStrip);
+
+		request.putShort((short)0);
+		request.put((byte)16);
+
+		for(int i = 0; i < 48; i++) {
+			request.put((byte)i);
+		}
+
+		byte[] packet = request.array();
+
+		ipcon.requestPacketPool.release(packet);
+
+		return packet;
+	}
+}
@@ -138,7 +138,7 @@ public class AmbientLightApplication extends AbstractTinkerforgeApplication
     public int hashCode() {
 	if (ambientLightBricklet != null) {
 	    try {
-		return ambientLightBricklet.getIdentity().hashCode();
+		return TinkerforgeDevice.getIdentity(ambientLightBricklet).uid.hashCode();
 	    } catch (Exception e) {
 	    }
 	}
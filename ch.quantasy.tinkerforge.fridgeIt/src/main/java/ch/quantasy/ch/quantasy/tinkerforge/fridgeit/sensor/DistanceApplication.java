@@ -137,7 +137,7 @@ public class DistanceApplication extends AbstractTinkerforgeApplication
     public int hashCode() {
 	if (distanceIRBricklet != null) {
 	    try {
-		return distanceIRBricklet.getIdentity().hashCode();
+		return TinkerforgeDevice.getIdentity(distanceIRBricklet).uid.hashCode();
 	    } catch (Exception e) {
 	    }
 	}
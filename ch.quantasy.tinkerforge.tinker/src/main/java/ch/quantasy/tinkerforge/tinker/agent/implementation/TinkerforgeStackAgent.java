@@ -5,20 +5,14 @@ import ch.quantasy.tinkerforge.tinker.application.definition.TinkerforgeApplicat
 import ch.quantasy.tinkerforge.tinker.core.implementation.AbstractTinkerforgeStackManager;
 import ch.quantasy.tinkerforge.tinker.core.implementation.TinkerforgeStackAddress;
 import com.tinkerforge.Device;
-import java.io.IOException;
-import java.net.UnknownHostException;
 import java.util.HashSet;
 import java.util.Set;
-import java.util.Timer;
-import java.util.TimerTask;
 
 public class TinkerforgeStackAgent extends AbstractTinkerforgeStackManager implements Agent<TinkerforgeApplication> {
 
     public static final int DEFAULT_CONNECTION_TIMEOUT_IN_MILLISECONDS = 1000 * 60;
     private int connectionTimeoutInMilliseconds;
-    private Timer timer;
     private final Set<TinkerforgeApplication> tinkerforgeApplications;
-    private Exception actualConnectionException;
 
     public TinkerforgeStackAgent(final TinkerforgeStackAddress tinkerforgeStackAddress) {
 	super(tinkerforgeStackAddress);
@@ -38,10 +32,6 @@ public class TinkerforgeStackAgent extends AbstractTinkerforgeStackManager imple
 	return new HashSet<TinkerforgeApplication>(this.tinkerforgeApplications);
     }
 
-    public Exception getActualConnectionException() {
-	return this.actualConnectionException;
-    }
-
     /**
      * Connects the application to the stack. If not already done, the connection to the physical stack will be
      * established
@@ -97,33 +87,12 @@ public class TinkerforgeStackAgent extends AbstractTinkerforgeStackManager imple
 
     @Override
     protected synchronized void connect() {
-	if (this.timer != null) {
-	    return;
-	}
-	this.timer = new Timer(true);
-	this.timer.schedule(new TimerTask() {
-
-	    @Override
-	    public void run() {
-		try {
-		    TinkerforgeStackAgent.super.connect();
-		    TinkerforgeStackAgent.this.actualConnectionException = null;
-		    TinkerforgeStackAgent.this.timer.cancel();
-		} catch (final UnknownHostException e) {
-		    TinkerforgeStackAgent.this.actualConnectionException = e;
-		} catch (final IOException e) {
-		    TinkerforgeStackAgent.this.actualConnectionException = e;
-		}
-	    }
-	}, 0, TinkerforgeStackAgent.this.getConnectionTimeoutInMilliseconds());
-
+	super.connectInBackground(this.getConnectionTimeoutInMilliseconds());
     }
 
     @Override
     protected synchronized void disconnect() {
-	if (this.timer != null) {
-	    this.timer.cancel();
-	}
+	super.cancelConnectInBackground();
 	super.disconnect();
     }
 
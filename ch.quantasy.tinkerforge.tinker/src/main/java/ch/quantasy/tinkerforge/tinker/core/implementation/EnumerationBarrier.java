@@ -0,0 +1,63 @@
+package ch.quantasy.tinkerforge.tinker.core.implementation;
+
+/**
+ * Tells when the enumeration of a Tinkerforge-Stack is complete. All devices of a stack answer an enumerate within a
+ * few milliseconds, so the enumeration is regarded as complete as soon as no further device has shown up for a short
+ * quiet period.
+ */
+class EnumerationBarrier {
+
+    /**
+     * Time to wait for the first device of the stack [ms]
+     */
+    static final long FIRST_DEVICE_TIMEOUT = 1000;
+    /**
+     * Time without a new device after which the enumeration is complete [ms]
+     */
+    static final long QUIET_PERIOD = 150;
+
+    private long lastEnumeration;
+    private int deviceCount;
+
+    EnumerationBarrier() {
+	this.reset();
+    }
+
+    /**
+     * Starts a new enumeration, e.g. after (re)connecting.
+     */
+    synchronized void reset() {
+	this.lastEnumeration = System.currentTimeMillis();
+	this.deviceCount = 0;
+	this.notifyAll();
+    }
+
+    /**
+     * Called for every device reported as available or connected.
+     */
+    synchronized void enumerated() {
+	this.lastEnumeration = System.currentTimeMillis();
+	this.deviceCount++;
+	this.notifyAll();
+    }
+
+    /**
+     * Waits until the enumeration is complete, but at most 'timeout' milliseconds.
+     *
+     * @param timeout
+     * @return the number of devices enumerated so far
+     * @throws InterruptedException
+     */
+    synchronized int await(final long timeout) throws InterruptedException {
+	final long deadline = System.currentTimeMillis() + timeout;
+	while (true) {
+	    final long now = System.currentTimeMillis();
+	    final long completion = this.lastEnumeration
+		    + (this.deviceCount == 0 ? FIRST_DEVICE_TIMEOUT : QUIET_PERIOD);
+	    if ((now >= completion) || (now >= deadline)) {
+		return this.deviceCount;
+	    }
+	    this.wait(Math.min(completion, deadline) - now);
+	}
+    }
+}
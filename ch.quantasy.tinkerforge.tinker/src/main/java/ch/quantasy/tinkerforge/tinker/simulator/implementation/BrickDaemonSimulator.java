@@ -0,0 +1,331 @@
+package ch.quantasy.tinkerforge.tinker.simulator.implementation;
+
+import ch.quantasy.tinkerforge.tinker.simulator.implementation.SimulatedDevice.SimulatedCallback;
+import com.tinkerforge.IPConnection;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An in-process Brick Daemon serving a virtual Tinkerforge-Stack of {@link SimulatedDevice}s over TCP. An
+ * {@link IPConnection} (and therefore any stack manager) connects to it like to a real Brick Daemon, e.g. to load
+ * test many stacks without hardware:
+ *
+ * <pre>
+ * BrickDaemonSimulator simulator = new BrickDaemonSimulator(0);
+ * SimulatedDevice light = new SimulatedDevice("a4b", "6qCyBe", 'a', TinkerforgeDevice.AmbientLight);
+ * light.addCallback(BrickletAmbientLight.CALLBACK_ILLUMINANCE, 10, new byte[] { 0x34, 0x12 });
+ * simulator.addDevice(light);
+ * simulator.start();
+ * ipConnection.connect("localhost", simulator.getPort());
+ * </pre>
+ *
+ * Like the Brick Daemon, requests to unknown devices are not answered.
+ */
+public class BrickDaemonSimulator {
+
+    private static final byte FUNCTION_GET_IDENTITY = (byte) 255;
+    private static final byte RESPONSE_EXPECTED = 0x08;
+
+    private final int port;
+    private final Map<Integer, SimulatedDevice> devices;
+    private final Set<Connection> connections;
+    private final Map<SimulatedCallback, ScheduledFuture<?>> callbackTasks;
+    private final AtomicLong requestCount;
+    private final AtomicLong callbackCount;
+    private ServerSocket serverSocket;
+    private ScheduledExecutorService callbackScheduler;
+
+    /**
+     * @param port
+     *            the port to listen on, 0 for any free port (see {@link #getPort()})
+     */
+    public BrickDaemonSimulator(final int port) {
+	if ((port < 0) || (port > 65535)) {
+	    throw new IllegalArgumentException();
+	}
+	this.port = port;
+	this.devices = new ConcurrentHashMap<Integer, SimulatedDevice>();
+	this.connections = new CopyOnWriteArraySet<Connection>();
+	this.callbackTasks = new IdentityHashMap<SimulatedCallback, ScheduledFuture<?>>();
+	this.requestCount = new AtomicLong();
+	this.callbackCount = new AtomicLong();
+    }
+
+    /**
+     * Adds a device to the virtual stack. If the simulator is running, its callbacks start right away. A device
+     * belongs to one simulator only.
+     *
+     * @param device
+     */
+    public synchronized void addDevice(final SimulatedDevice device) {
+	if (device == null) {
+	    throw new IllegalArgumentException();
+	}
+	final List<SimulatedCallback> callbacks = device.attach(this);
+	this.devices.put(device.packetUid, device);
+	if (this.callbackScheduler != null) {
+	    for (final SimulatedCallback callback : callbacks) {
+		this.scheduleCallback(device, callback);
+	    }
+	}
+    }
+
+    /**
+     * Called by {@link SimulatedDevice#addCallback(byte, long, byte[])} for a device of this simulator.
+     */
+    synchronized void callbackAdded(final SimulatedDevice device, final SimulatedCallback callback) {
+	if (this.callbackScheduler != null) {
+	    this.scheduleCallback(device, callback);
+	}
+    }
+
+    public List<SimulatedDevice> getDevices() {
+	return new ArrayList<SimulatedDevice>(this.devices.values());
+    }
+
+    public synchronized void start() throws IOException {
+	if (this.serverSocket != null) {
+	    return;
+	}
+	this.serverSocket = new ServerSocket(this.port);
+	this.callbackScheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+
+	    @Override
+	    public Thread newThread(final Runnable runnable) {
+		final Thread thread = new Thread(runnable, "Brick-Daemon-Simulator-Callbacks");
+		thread.setDaemon(true);
+		return thread;
+	    }
+	});
+	for (final SimulatedDevice device : this.devices.values()) {
+	    for (final SimulatedCallback callback : device.getCallbacks()) {
+		this.scheduleCallback(device, callback);
+	    }
+	}
+	final ServerSocket acceptingSocket = this.serverSocket;
+	final Thread acceptor = new Thread("Brick-Daemon-Simulator") {
+
+	    @Override
+	    public void run() {
+		while (!acceptingSocket.isClosed()) {
+		    try {
+			final Connection connection = new Connection(acceptingSocket.accept());
+			BrickDaemonSimulator.this.connections.add(connection);
+			connection.start();
+		    } catch (final IOException e) {
+			// Closed by stop
+		    }
+		}
+	    }
+	};
+	acceptor.setDaemon(true);
+	acceptor.start();
+    }
+
+    /**
+     * Stops the simulator, all connections are closed.
+     */
+    public synchronized void stop() {
+	if (this.serverSocket == null) {
+	    return;
+	}
+	try {
+	    this.serverSocket.close();
+	} catch (final IOException e) {
+	    // So what
+	}
+	this.serverSocket = null;
+	for (final ScheduledFuture<?> callbackTask : this.callbackTasks.values()) {
+	    callbackTask.cancel(false);
+	}
+	this.callbackTasks.clear();
+	this.callbackScheduler.shutdown();
+	this.callbackScheduler = null;
+	for (final Connection connection : this.connections) {
+	    connection.close();
+	}
+    }
+
+    /**
+     * Returns the port the simulator is listening on.
+     *
+     * @return
+     */
+    public synchronized int getPort() {
+	if (this.serverSocket == null) {
+	    return this.port;
+	}
+	return this.serverSocket.getLocalPort();
+    }
+
+    public int getConnectionCount() {
+	return this.connections.size();
+    }
+
+    public long getRequestCount() {
+	return this.requestCount.get();
+    }
+
+    public long getCallbackCount() {
+	return this.callbackCount.get();
+    }
+
+    // NOTE: Assumes that this is locked. A callback added while the device is added or the simulator is started is
+    // seen twice, but scheduled once
+    private void scheduleCallback(final SimulatedDevice device, final SimulatedCallback callback) {
+	if (this.callbackTasks.containsKey(callback)) {
+	    return;
+	}
+	final byte[] packet = BrickDaemonSimulator.createPacket(device.packetUid, callback.callbackId, (byte) 0,
+		callback.payload);
+	this.callbackTasks.put(callback, this.callbackScheduler.scheduleAtFixedRate(new Runnable() {
+
+	    @Override
+	    public void run() {
+		for (final Connection connection : BrickDaemonSimulator.this.connections) {
+		    connection.send(packet);
+		    BrickDaemonSimulator.this.callbackCount.incrementAndGet();
+		}
+	    }
+	}, callback.periodInMilliseconds, callback.periodInMilliseconds, TimeUnit.MILLISECONDS));
+    }
+
+    private void handleRequest(final Connection connection, final byte[] request) {
+	this.requestCount.incrementAndGet();
+	final int uid = (request[0] & 0xFF) | ((request[1] & 0xFF) << 8) | ((request[2] & 0xFF) << 16)
+		| ((request[3] & 0xFF) << 24);
+	final byte functionId = request[5];
+	final byte options = request[6];
+
+	if (functionId == IPConnection.FUNCTION_ENUMERATE) {
+	    for (final Map.Entry<Integer, SimulatedDevice> entry : this.devices.entrySet()) {
+		connection.send(BrickDaemonSimulator.createPacket(entry.getKey(), IPConnection.CALLBACK_ENUMERATE,
+			(byte) 0, BrickDaemonSimulator.createIdentity(entry.getValue(), true)));
+	    }
+	    return;
+	}
+	if ((options & BrickDaemonSimulator.RESPONSE_EXPECTED) == 0) {
+	    return;
+	}
+	final SimulatedDevice device = this.devices.get(uid);
+	if (device == null) {
+	    return;
+	}
+	final byte[] payload;
+	if (functionId == BrickDaemonSimulator.FUNCTION_GET_IDENTITY) {
+	    payload = BrickDaemonSimulator.createIdentity(device, false);
+	} else {
+	    payload = device.getResponse(functionId);
+	}
+	connection.send(BrickDaemonSimulator.createPacket(uid, functionId, options, payload));
+    }
+
+    private static byte[] createPacket(final int uid, final byte functionId, final byte options, final byte[] payload) {
+	final byte[] packet = new byte[8 + payload.length];
+	packet[0] = (byte) uid;
+	packet[1] = (byte) (uid >> 8);
+	packet[2] = (byte) (uid >> 16);
+	packet[3] = (byte) (uid >> 24);
+	packet[4] = (byte) packet.length;
+	packet[5] = functionId;
+	packet[6] = options;
+	System.arraycopy(payload, 0, packet, 8, payload.length);
+	return packet;
+    }
+
+    private static byte[] createIdentity(final SimulatedDevice device, final boolean enumeration) {
+	final byte[] payload = new byte[enumeration ? 26 : 25];
+	BrickDaemonSimulator.putString(payload, 0, device.uid);
+	BrickDaemonSimulator.putString(payload, 8, device.connectedUid);
+	payload[16] = (byte) device.position;
+	final short[] hardwareVersion = device.getHardwareVersion();
+	final short[] firmwareVersion = device.getFirmwareVersion();
+	for (int i = 0; i < 3; i++) {
+	    payload[17 + i] = (byte) hardwareVersion[i];
+	    payload[20 + i] = (byte) firmwareVersion[i];
+	}
+	payload[23] = (byte) device.tinkerforgeDevice.identifier;
+	payload[24] = (byte) (device.tinkerforgeDevice.identifier >> 8);
+	if (enumeration) {
+	    payload[25] = (byte) IPConnection.ENUMERATION_TYPE_AVAILABLE;
+	}
+	return payload;
+    }
+
+    private static void putString(final byte[] payload, final int offset, final String value) {
+	for (int i = 0; i < value.length(); i++) {
+	    payload[offset + i] = (byte) value.charAt(i);
+	}
+    }
+
+    private class Connection extends Thread {
+
+	private final Socket socket;
+	private final OutputStream out;
+
+	Connection(final Socket socket) throws IOException {
+	    super("Brick-Daemon-Simulator-Connection");
+	    this.setDaemon(true);
+	    this.socket = socket;
+	    this.socket.setTcpNoDelay(true);
+	    this.out = socket.getOutputStream();
+	}
+
+	@Override
+	public void run() {
+	    try {
+		final DataInputStream in = new DataInputStream(this.socket.getInputStream());
+		final byte[] header = new byte[8];
+		while (true) {
+		    in.readFully(header);
+		    final int length = header[4] & 0xFF;
+		    if (length < 8) {
+			break;
+		    }
+		    final byte[] request = new byte[length];
+		    System.arraycopy(header, 0, request, 0, 8);
+		    in.readFully(request, 8, length - 8);
+		    BrickDaemonSimulator.this.handleRequest(this, request);
+		}
+	    } catch (final IOException e) {
+		// Closed
+	    }
+	    this.close();
+	}
+
+	void send(final byte[] packet) {
+	    try {
+		synchronized (this.out) {
+		    this.out.write(packet);
+		}
+	    } catch (final IOException e) {
+		this.close();
+	    }
+	}
+
+	void close() {
+	    BrickDaemonSimulator.this.connections.remove(this);
+	    try {
+		this.socket.close();
+	    } catch (final IOException e) {
+		// So what
+	    }
+	}
+    }
+}
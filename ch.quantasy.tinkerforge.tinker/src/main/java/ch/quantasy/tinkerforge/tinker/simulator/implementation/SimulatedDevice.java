@@ -0,0 +1,162 @@
+package ch.quantasy.tinkerforge.tinker.simulator.implementation;
+
+import ch.quantasy.tinkerforge.tinker.core.implementation.TinkerforgeDevice;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A virtual {@link TinkerforgeDevice} served by a {@link BrickDaemonSimulator}. It is enumerated, answers
+ * getIdentity and answers any other request with the configured response. Callbacks are emitted periodically.
+ */
+public class SimulatedDevice {
+
+    /**
+     * Largest payload of a packet. Responses without a configured payload are this long and zero-filled, so every
+     * getter of the binding finds enough data (and reads zeros).
+     */
+    public static final int MAXIMUM_PAYLOAD_LENGTH = 72;
+
+    public final String uid;
+    public final String connectedUid;
+    public final char position;
+    public final TinkerforgeDevice tinkerforgeDevice;
+    /**
+     * The uid as it is sent in the packets
+     */
+    final int packetUid;
+    private short[] hardwareVersion = new short[] { 1, 0, 0 };
+    private short[] firmwareVersion = new short[] { 2, 0, 0 };
+    private final Map<Byte, byte[]> responses;
+    private final List<SimulatedCallback> callbacks;
+    private BrickDaemonSimulator simulator;
+
+    /**
+     * @param uid
+     *            the uid of the device, e.g. "a4b"
+     * @param connectedUid
+     *            the uid of the brick the device is connected to, "0" for a master brick at the top of the stack
+     * @param position
+     *            'a'-'d' for bricklets, '0'-'8' for bricks
+     * @param tinkerforgeDevice
+     * @throws IllegalArgumentException
+     *             if a uid is not Base58
+     */
+    public SimulatedDevice(final String uid, final String connectedUid, final char position,
+	    final TinkerforgeDevice tinkerforgeDevice) {
+	if ((uid == null) || (connectedUid == null) || (tinkerforgeDevice == null)) {
+	    throw new IllegalArgumentException();
+	}
+	if ((uid.length() > 8) || (connectedUid.length() > 8)) {
+	    throw new IllegalArgumentException();
+	}
+	this.packetUid = TinkerforgeDevice.decodeUid(uid);
+	this.uid = uid;
+	this.connectedUid = connectedUid;
+	this.position = position;
+	this.tinkerforgeDevice = tinkerforgeDevice;
+	this.responses = new HashMap<Byte, byte[]>();
+	this.callbacks = new ArrayList<SimulatedCallback>();
+    }
+
+    public synchronized void setVersions(final short[] hardwareVersion, final short[] firmwareVersion) {
+	if ((hardwareVersion == null) || (hardwareVersion.length != 3) || (firmwareVersion == null)
+		|| (firmwareVersion.length != 3)) {
+	    throw new IllegalArgumentException();
+	}
+	this.hardwareVersion = hardwareVersion.clone();
+	this.firmwareVersion = firmwareVersion.clone();
+    }
+
+    public synchronized short[] getHardwareVersion() {
+	return this.hardwareVersion.clone();
+    }
+
+    public synchronized short[] getFirmwareVersion() {
+	return this.firmwareVersion.clone();
+    }
+
+    /**
+     * Sets the payload the device answers the function with. The payload is little endian, as the binding expects
+     * it, e.g. for BrickletAmbientLight.FUNCTION_GET_ILLUMINANCE two bytes holding the illuminance.
+     *
+     * @param functionId
+     * @param payload
+     */
+    public synchronized void setResponse(final byte functionId, final byte[] payload) {
+	if ((payload == null) || (payload.length > SimulatedDevice.MAXIMUM_PAYLOAD_LENGTH)) {
+	    throw new IllegalArgumentException();
+	}
+	this.responses.put(functionId, payload.clone());
+    }
+
+    synchronized byte[] getResponse(final byte functionId) {
+	final byte[] payload = this.responses.get(functionId);
+	if (payload == null) {
+	    return new byte[SimulatedDevice.MAXIMUM_PAYLOAD_LENGTH];
+	}
+	return payload;
+    }
+
+    /**
+     * Emits the callback every 'periodInMilliseconds' to every connection of the simulator, no matter whether it
+     * has been enabled by the connection. A callback added after the device has been added to a running simulator
+     * starts right away.
+     *
+     * @param callbackId
+     * @param periodInMilliseconds
+     * @param payload
+     *            little endian, e.g. for BrickletAmbientLight.CALLBACK_ILLUMINANCE two bytes holding the illuminance
+     */
+    public void addCallback(final byte callbackId, final long periodInMilliseconds, final byte[] payload) {
+	if ((periodInMilliseconds < 1) || (payload == null)
+		|| (payload.length > SimulatedDevice.MAXIMUM_PAYLOAD_LENGTH)) {
+	    throw new IllegalArgumentException();
+	}
+	final SimulatedCallback callback = new SimulatedCallback(callbackId, periodInMilliseconds, payload.clone());
+	final BrickDaemonSimulator attachedSimulator;
+	synchronized (this) {
+	    this.callbacks.add(callback);
+	    attachedSimulator = this.simulator;
+	}
+	// Not while this is locked, the simulator locks itself before the device
+	if (attachedSimulator != null) {
+	    attachedSimulator.callbackAdded(this, callback);
+	}
+    }
+
+    /**
+     * Hands the device to the simulator and returns the callbacks added so far, the simulator is told about the
+     * ones added later.
+     */
+    synchronized List<SimulatedCallback> attach(final BrickDaemonSimulator simulator) {
+	if ((this.simulator != null) && (this.simulator != simulator)) {
+	    throw new IllegalStateException("Already added to another simulator");
+	}
+	this.simulator = simulator;
+	return new ArrayList<SimulatedCallback>(this.callbacks);
+    }
+
+    synchronized List<SimulatedCallback> getCallbacks() {
+	return new ArrayList<SimulatedCallback>(this.callbacks);
+    }
+
+    static class SimulatedCallback {
+
+	final byte callbackId;
+	final long periodInMilliseconds;
+	final byte[] payload;
+
+	SimulatedCallback(final byte callbackId, final long periodInMilliseconds, final byte[] payload) {
+	    this.callbackId = callbackId;
+	    this.periodInMilliseconds = periodInMilliseconds;
+	    this.payload = payload;
+	}
+    }
+
+    @Override
+    public String toString() {
+	return "SimulatedDevice{" + "uid=" + uid + ", tinkerforgeDevice=" + tinkerforgeDevice + '}';
+    }
+}
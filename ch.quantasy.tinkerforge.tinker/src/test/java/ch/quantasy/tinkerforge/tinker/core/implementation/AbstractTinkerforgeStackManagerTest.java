@@ -0,0 +1,142 @@
+package ch.quantasy.tinkerforge.tinker.core.implementation;
+
+import ch.quantasy.tinkerforge.tinker.simulator.implementation.BrickDaemonSimulator;
+import ch.quantasy.tinkerforge.tinker.simulator.implementation.SimulatedDevice;
+import com.tinkerforge.BrickletAmbientLight;
+import com.tinkerforge.BrickletTemperature;
+import com.tinkerforge.Device;
+import com.tinkerforge.Device.Identity;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link AbstractTinkerforgeStackManager} against a virtual stack of the {@link BrickDaemonSimulator}: the
+ * enumeration creates the {@link Device}s, which then read their values from the simulator.
+ */
+public class AbstractTinkerforgeStackManagerTest {
+
+    private BrickDaemonSimulator simulator;
+    private TestStackManager stackManager;
+
+    public AbstractTinkerforgeStackManagerTest() {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+	this.simulator = new BrickDaemonSimulator(0);
+	final SimulatedDevice light = new SimulatedDevice("a4b", "6qCyBe", 'a', TinkerforgeDevice.AmbientLight);
+	light.setResponse(BrickletAmbientLight.FUNCTION_GET_ILLUMINANCE, new byte[] { 0x34, 0x12 });
+	this.simulator.addDevice(light);
+	final SimulatedDevice temperature = new SimulatedDevice("dXj", "6qCyBe", 'b', TinkerforgeDevice.Temperature);
+	temperature.setResponse(BrickletTemperature.FUNCTION_GET_TEMPERATURE, new byte[] { (byte) 0xF6, 0x08 });
+	this.simulator.addDevice(temperature);
+	this.simulator.start();
+	this.stackManager = new TestStackManager(new TinkerforgeStackAddress("localhost", this.simulator.getPort()));
+    }
+
+    @After
+    public void tearDown() {
+	this.stackManager.disconnect();
+	this.simulator.stop();
+    }
+
+    /**
+     * Test of connect method, of class AbstractTinkerforgeStackManager.
+     */
+    @Test
+    public void testConnectEnumeratesAndReads() throws Exception {
+	System.out.println("connect");
+	this.stackManager.connect();
+	Assert.assertTrue(this.stackManager.isConnected());
+	Assert.assertEquals(2, this.stackManager.getConnectedDeviceList().size());
+	Assert.assertEquals(2, this.stackManager.connectedDevices.size());
+
+	BrickletAmbientLight light = null;
+	BrickletTemperature temperature = null;
+	for (final Device device : this.stackManager.getConnectedDeviceList()) {
+	    if (device instanceof BrickletAmbientLight) {
+		light = (BrickletAmbientLight) device;
+	    } else if (device instanceof BrickletTemperature) {
+		temperature = (BrickletTemperature) device;
+	    }
+	}
+	Assert.assertNotNull(light);
+	Assert.assertNotNull(temperature);
+	Assert.assertEquals(0x1234, light.getIlluminance());
+	Assert.assertEquals(2294, temperature.getTemperature());
+
+	// The identity is known from the enumeration, no request is needed
+	final long requestCount = this.simulator.getRequestCount();
+	final Identity identity = TinkerforgeDevice.getIdentity(light);
+	Assert.assertEquals("a4b", identity.uid);
+	Assert.assertEquals("6qCyBe", identity.connectedUid);
+	Assert.assertEquals('a', identity.position);
+	Assert.assertEquals(BrickletAmbientLight.DEVICE_IDENTIFIER, identity.deviceIdentifier);
+	Assert.assertTrue(this.stackManager.isConnected(light));
+	Assert.assertEquals(requestCount, this.simulator.getRequestCount());
+    }
+
+    /**
+     * Test of evictDevice method, of class AbstractTinkerforgeStackManager.
+     */
+    @Test
+    public void testEvictDevice() throws Exception {
+	System.out.println("evictDevice");
+	this.stackManager.connect();
+	final Device light = this.stackManager.evictDevice("a4b");
+	Assert.assertNotNull(light);
+	Assert.assertNull(TinkerforgeDevice.getCachedIdentity(light));
+	Assert.assertEquals(1, this.stackManager.getConnectedDeviceList().size());
+	Assert.assertNull(this.stackManager.evictDevice("a4b"));
+    }
+
+    /**
+     * Test of decodeUid method, of class TinkerforgeDevice.
+     */
+    @Test
+    public void testDecodeUid() {
+	System.out.println("decodeUid");
+	Assert.assertEquals(0, TinkerforgeDevice.decodeUid("1"));
+	Assert.assertEquals(58, TinkerforgeDevice.decodeUid("21"));
+	try {
+	    TinkerforgeDevice.decodeUid("a0b");
+	    Assert.fail("'0' is not Base58");
+	} catch (final IllegalArgumentException e) {
+	    // Expected
+	}
+    }
+
+    private static class TestStackManager extends AbstractTinkerforgeStackManager {
+
+	private final List<Device> connectedDevices = new CopyOnWriteArrayList<Device>();
+
+	public TestStackManager(final TinkerforgeStackAddress stackAddress) {
+	    super(stackAddress);
+	}
+
+	@Override
+	protected void connected() {
+	}
+
+	@Override
+	protected void disconnected() {
+	}
+
+	@Override
+	protected void deviceConnected(final Device device) {
+	    this.connectedDevices.add(device);
+	}
+
+	@Override
+	protected void deviceReConnected(final Device device) {
+	}
+
+	@Override
+	protected void deviceDisconnected(final Device device) {
+	}
+    }
+}
@@ -0,0 +1,216 @@
+package com.tinkerforge;
+
+import ch.quantasy.tinkerforge.tinker.core.implementation.TinkerforgeDevice;
+import ch.quantasy.tinkerforge.tinker.simulator.implementation.BrickDaemonSimulator;
+import ch.quantasy.tinkerforge.tinker.simulator.implementation.SimulatedDevice;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the pipelined requests of the {@link IPConnection} against the {@link BrickDaemonSimulator}. Each simulated
+ * ambient light answers with an illuminance of its own, so a response that reaches the wrong request is detected.
+ * The simulator does not answer requests to unknown devices, which keeps their requests in flight.
+ */
+public class IPConnectionTest {
+
+    private static final String[] UIDS = { "a4b", "a4c", "a4d", "a4e" };
+    private static final String UNKNOWN_UID = "zzz";
+    private static final int SEQUENCE_NUMBER_COUNT = 15;
+
+    private BrickDaemonSimulator simulator;
+    private IPConnection ipConnection;
+    private BrickletAmbientLight[] lights;
+
+    public IPConnectionTest() {
+    }
+
+    @Before
+    public void setUp() throws Exception {
+	this.simulator = new BrickDaemonSimulator(0);
+	for (int i = 0; i < UIDS.length; i++) {
+	    final SimulatedDevice device = new SimulatedDevice(UIDS[i], "6qCyBe", 'a', TinkerforgeDevice.AmbientLight);
+	    device.setResponse(BrickletAmbientLight.FUNCTION_GET_ILLUMINANCE, IPConnectionTest.illuminance(i));
+	    this.simulator.addDevice(device);
+	}
+	this.simulator.start();
+	this.ipConnection = new IPConnection();
+	this.lights = new BrickletAmbientLight[UIDS.length];
+	for (int i = 0; i < UIDS.length; i++) {
+	    this.lights[i] = new BrickletAmbientLight(UIDS[i], this.ipConnection);
+	}
+	this.ipConnection.connect("localhost", this.simulator.getPort());
+    }
+
+    @After
+    public void tearDown() {
+	try {
+	    this.ipConnection.disconnect();
+	} catch (final NotConnectedException e) {
+	    // Already disconnected by the test
+	}
+	this.simulator.stop();
+    }
+
+    /**
+     * Blocking getters called concurrently from several threads each receive the response of their own device.
+     */
+    @Test
+    public void testConcurrentRequestsReceiveTheirResponse() throws Exception {
+	System.out.println("concurrentRequestsReceiveTheirResponse");
+	final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+	final List<Thread> threads = new ArrayList<Thread>();
+	for (int i = 0; i < 2 * UIDS.length; i++) {
+	    final int index = i % UIDS.length;
+	    threads.add(new Thread() {
+
+		@Override
+		public void run() {
+		    try {
+			for (int j = 0; j < 200; j++) {
+			    Assert.assertEquals(IPConnectionTest.expectedIlluminance(index),
+				    IPConnectionTest.this.lights[index].getIlluminance());
+			}
+		    } catch (final Throwable e) {
+			failure.compareAndSet(null, e);
+		    }
+		}
+	    });
+	}
+	for (final Thread thread : threads) {
+	    thread.start();
+	}
+	for (final Thread thread : threads) {
+	    thread.join();
+	}
+	if (failure.get() != null) {
+	    throw new AssertionError(failure.get());
+	}
+    }
+
+    /**
+     * A request that timed out hands its sequence number back: once all of them timed out, a full window of requests
+     * is answered again.
+     */
+    @Test
+    public void testTimeoutFreesSequenceNumber() throws Exception {
+	System.out.println("timeoutFreesSequenceNumber");
+	this.ipConnection.setTimeout(200);
+	final BrickletAmbientLight unknown = new BrickletAmbientLight(UNKNOWN_UID, this.ipConnection);
+	final List<ResponseFuture<Integer>> futures = new ArrayList<ResponseFuture<Integer>>();
+	for (int i = 0; i < SEQUENCE_NUMBER_COUNT; i++) {
+	    futures.add(unknown.getIlluminanceAsync());
+	}
+	for (final ResponseFuture<Integer> future : futures) {
+	    try {
+		future.get(5, TimeUnit.SECONDS);
+		Assert.fail("The unknown device answered");
+	    } catch (final ExecutionException e) {
+		Assert.assertTrue(e.getCause() instanceof TimeoutException);
+	    }
+	}
+	try {
+	    unknown.getIlluminance();
+	    Assert.fail("The unknown device answered");
+	} catch (final TimeoutException e) {
+	    // Expected
+	}
+	this.assertWindowIsAnswered();
+    }
+
+    /**
+     * A cancelled request hands its sequence number back right away, not only after its timeout.
+     */
+    @Test
+    public void testCancelFreesSequenceNumber() throws Exception {
+	System.out.println("cancelFreesSequenceNumber");
+	this.ipConnection.setTimeout(60000);
+	final BrickletAmbientLight unknown = new BrickletAmbientLight(UNKNOWN_UID, this.ipConnection);
+	final List<ResponseFuture<Integer>> futures = new ArrayList<ResponseFuture<Integer>>();
+	for (int i = 0; i < SEQUENCE_NUMBER_COUNT + 5; i++) {
+	    futures.add(unknown.getIlluminanceAsync());
+	}
+	for (final ResponseFuture<Integer> future : futures) {
+	    Assert.assertTrue(future.cancel(false));
+	    try {
+		future.get();
+		Assert.fail("A cancelled request completed");
+	    } catch (final CancellationException e) {
+		// Expected
+	    }
+	}
+	this.assertWindowIsAnswered();
+    }
+
+    /**
+     * A disconnect fails all requests in flight and all requests waiting for a sequence number.
+     */
+    @Test
+    public void testDisconnectFailsOutstandingRequests() throws Exception {
+	System.out.println("disconnectFailsOutstandingRequests");
+	this.ipConnection.setTimeout(60000);
+	final BrickletAmbientLight unknown = new BrickletAmbientLight(UNKNOWN_UID, this.ipConnection);
+	final List<ResponseFuture<Integer>> futures = new ArrayList<ResponseFuture<Integer>>();
+	for (int i = 0; i < SEQUENCE_NUMBER_COUNT + 5; i++) {
+	    futures.add(unknown.getIlluminanceAsync());
+	}
+	this.ipConnection.disconnect();
+	for (final ResponseFuture<Integer> future : futures) {
+	    try {
+		future.get(5, TimeUnit.SECONDS);
+		Assert.fail("The unknown device answered");
+	    } catch (final ExecutionException e) {
+		Assert.assertTrue(e.getCause() instanceof NotConnectedException);
+	    }
+	}
+    }
+
+    /**
+     * Far more requests than sequence numbers are pipelined, so the sequence numbers wrap around many times while
+     * requests are in flight. Every request still receives the response of its own device.
+     */
+    @Test
+    public void testSequenceNumberWrapAround() throws Exception {
+	System.out.println("sequenceNumberWrapAround");
+	final List<ResponseFuture<Integer>> futures = new ArrayList<ResponseFuture<Integer>>();
+	for (int i = 0; i < 20 * SEQUENCE_NUMBER_COUNT; i++) {
+	    futures.add(this.lights[i % UIDS.length].getIlluminanceAsync());
+	}
+	for (int i = 0; i < futures.size(); i++) {
+	    Assert.assertEquals(Integer.valueOf(IPConnectionTest.expectedIlluminance(i % UIDS.length)),
+		    futures.get(i).get(5, TimeUnit.SECONDS));
+	}
+	for (int i = 0; i < 3 * SEQUENCE_NUMBER_COUNT; i++) {
+	    Assert.assertEquals(IPConnectionTest.expectedIlluminance(i % UIDS.length),
+		    this.lights[i % UIDS.length].getIlluminance());
+	}
+    }
+
+    // A full window of requests is answered well within the timeout, which fails if a sequence number leaked
+    private void assertWindowIsAnswered() throws Exception {
+	final List<ResponseFuture<Integer>> futures = new ArrayList<ResponseFuture<Integer>>();
+	for (int i = 0; i < SEQUENCE_NUMBER_COUNT; i++) {
+	    futures.add(this.lights[i % UIDS.length].getIlluminanceAsync());
+	}
+	for (int i = 0; i < futures.size(); i++) {
+	    Assert.assertEquals(Integer.valueOf(IPConnectionTest.expectedIlluminance(i % UIDS.length)),
+		    futures.get(i).get(1, TimeUnit.SECONDS));
+	}
+    }
+
+    private static int expectedIlluminance(final int index) {
+	return 1000 + index;
+    }
+
+    private static byte[] illuminance(final int index) {
+	final int value = IPConnectionTest.expectedIlluminance(index);
+	return new byte[] { (byte) value, (byte) (value >> 8) };
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+/**
+ * Converts uids between their Base58 strings and their numeric values.
+ * Decoding uses a lookup table and does not allocate. Encoded uids and uids
+ * read from packets are interned in small caches, so the same uid is
+ * always the same String object and a cache hit does not allocate either.
+ */
+class Base58 {
+	private final static String ALPHABET = "123456789abcdefghijkmnopqrstuvwxyzABCDEFGHJKLMNPQRSTUVWXYZ";
+	private final static byte[] DIGITS = new byte[128];
+
+	private static class CachedUid {
+		final long key;
+		final String value;
+
+		CachedUid(long key, String value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+	// Direct mapped, a collision just replaces the entry. An entry is
+	// published with a single reference write and has final fields only,
+	// so no locking is needed
+	private final static CachedUid[] encoded = new CachedUid[256];
+	private final static CachedUid[] received = new CachedUid[256];
+
+	static {
+		java.util.Arrays.fill(DIGITS, (byte)-1);
+
+		for(int i = 0; i < ALPHABET.length(); i++) {
+			DIGITS[ALPHABET.charAt(i)] = (byte)i;
+		}
+	}
+
+	private static int index(long key) {
+		return (int)((key * 0x9E3779B97F4A7C15L) >>> 56);
+	}
+
+	/**
+	 * Decodes a Base58 string into its numeric value. Throws an
+	 * IllegalArgumentException if the string contains a character that is
+	 * not a Base58 digit, like the String based decoder it replaces did.
+	 */
+	static long decode(String value) {
+		long decoded = 0;
+		int length = value.length();
+
+		for(int i = 0; i < length; i++) {
+			char c = value.charAt(i);
+			int digit = c < DIGITS.length ? DIGITS[c] : -1;
+
+			if(digit < 0) {
+				throw new IllegalArgumentException("Invalid Base58 value: " + value);
+			}
+
+			decoded = decoded * 58 + digit;
+		}
+
+		return decoded;
+	}
+
+	static String encode(long value) {
+		int index = index(value);
+		CachedUid cached = encoded[index];
+
+		if(cached != null && cached.key == value) {
+			return cached.value;
+		}
+
+		// 11 digits are enough for any 64 bit value
+		char[] digits = new char[11];
+		int start = digits.length;
+		long remaining = value;
+
+		do {
+			// treats the value as unsigned, like the uids of the bricks
+			long div = (remaining >>> 1) / 29;
+			int mod = (int)(remaining - div * 58);
+
+			digits[--start] = ALPHABET.charAt(mod);
+			remaining = div;
+		} while(remaining != 0);
+
+		String result = new String(digits, start, digits.length - start);
+
+		encoded[index] = new CachedUid(value, result);
+
+		return result;
+	}
+
+	/**
+	 * Reads an 8 character, zero padded uid string from a packet.
+	 */
+	static String uid(byte[] data, int offset) {
+		long key = PacketReader.getLong(data, offset);
+		int index = index(key);
+		CachedUid cached = received[index];
+
+		if(cached != null && cached.key == key) {
+			return cached.value;
+		}
+
+		int length = 0;
+
+		while(length < 8 && data[offset + length] != 0) {
+			++length;
+		}
+
+		char[] chars = new char[length];
+
+		for(int i = 0; i < length; i++) {
+			chars[i] = (char)(data[offset + i] & 0xFF);
+		}
+
+		String result = new String(chars);
+
+		received[index] = new CachedUid(key, result);
+
+		return result;
+	}
+}
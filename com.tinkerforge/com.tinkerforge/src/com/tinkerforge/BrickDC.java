@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -127,6 +126,164 @@ public class BrickDC extends Device {
 		public void currentVelocity(short velocity);
 	}
 
+	private final ResponseDecoder<Short> getVelocityDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short velocity = (pr.getShort());
+
+			return velocity;
+		}
+	};
+
+	private final ResponseDecoder<Short> getCurrentVelocityDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short velocity = (pr.getShort());
+
+			return velocity;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getAccelerationDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int acceleration = IPConnection.unsignedShort(pr.getShort());
+
+			return acceleration;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getPWMFrequencyDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int frequency = IPConnection.unsignedShort(pr.getShort());
+
+			return frequency;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getStackInputVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getExternalInputVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getCurrentConsumptionDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isEnabledDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean enabled = (pr.get()) != 0;
+
+			return enabled;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getMinimumVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Short> getDriveModeDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short mode = IPConnection.unsignedByte(pr.get());
+
+			return mode;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getCurrentVelocityPeriodDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int period = IPConnection.unsignedShort(pr.getShort());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Protocol1BrickletName> getProtocol1BrickletNameDecoder = new ResponseDecoder<Protocol1BrickletName>() {
+		public Protocol1BrickletName decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Protocol1BrickletName obj = new Protocol1BrickletName();
+			obj.protocolVersion = IPConnection.unsignedByte(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.name = pr.string(40);
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChipTemperatureDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short temperature = (pr.getShort());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -168,10 +325,9 @@ public class BrickDC extends Device {
 
 		callbacks[CALLBACK_UNDER_VOLTAGE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(UnderVoltageListener listener: listenerUnderVoltage) {
 					listener.underVoltage(voltage);
@@ -189,10 +345,9 @@ public class BrickDC extends Device {
 
 		callbacks[CALLBACK_VELOCITY_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short velocity = (bb.getShort());
+				short velocity = (pr.getShort());
 
 				for(VelocityReachedListener listener: listenerVelocityReached) {
 					listener.velocityReached(velocity);
@@ -202,10 +357,9 @@ public class BrickDC extends Device {
 
 		callbacks[CALLBACK_CURRENT_VELOCITY] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short velocity = (bb.getShort());
+				short velocity = (pr.getShort());
 
 				for(CurrentVelocityListener listener: listenerCurrentVelocity) {
 					listener.currentVelocity(velocity);
@@ -234,20 +388,41 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the velocity of the motor.
+	 * 
+	 * Sends the request like {@link BrickDC#setVelocity(short)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setVelocityAsync(short velocity) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_VELOCITY, this);
+		bb.putShort(velocity);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the velocity as set by {@link BrickDC#setVelocity(short)}.
 	 */
 	public short getVelocity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VELOCITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVelocityDecoder);
+	}
 
-		short velocity = (bb.getShort());
+	/**
+	 * Returns the velocity as set by {@link BrickDC#setVelocity(short)}.
+	 * 
+	 * Sends the request like {@link BrickDC#getVelocity()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> getVelocityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VELOCITY, this);
 
-		return velocity;
+		return sendRequestAsync(bb.array(), getVelocityDecoder);
 	}
 
 	/**
@@ -258,14 +433,21 @@ public class BrickDC extends Device {
 	public short getCurrentVelocity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_VELOCITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentVelocityDecoder);
+	}
 
-		short velocity = (bb.getShort());
+	/**
+	 * Returns the *current* velocity of the motor.
+	 * 
+	 * Sends the request like {@link BrickDC#getCurrentVelocity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getCurrentVelocityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_VELOCITY, this);
 
-		return velocity;
+		return sendRequestAsync(bb.array(), getCurrentVelocityDecoder);
 	}
 
 	/**
@@ -289,20 +471,42 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the acceleration of the motor.
+	 * 
+	 * Sends the request like {@link BrickDC#setAcceleration(int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAccelerationAsync(int acceleration) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_ACCELERATION, this);
+		bb.putShort((short)acceleration);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the acceleration as set by {@link BrickDC#setAcceleration(int)}.
 	 */
 	public int getAcceleration() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAccelerationDecoder);
+	}
 
-		int acceleration = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the acceleration as set by {@link BrickDC#setAcceleration(int)}.
+	 * 
+	 * Sends the request like {@link BrickDC#getAcceleration()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAccelerationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION, this);
 
-		return acceleration;
+		return sendRequestAsync(bb.array(), getAccelerationDecoder);
 	}
 
 	/**
@@ -324,20 +528,43 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the frequency (in Hz) of the PWM with which the motor is driven.
+	 * 
+	 * Sends the request like {@link BrickDC#setPWMFrequency(int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPWMFrequencyAsync(int frequency) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_PWM_FREQUENCY, this);
+		bb.putShort((short)frequency);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the PWM frequency (in Hz) as set by {@link BrickDC#setPWMFrequency(int)}.
 	 */
 	public int getPWMFrequency() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_PWM_FREQUENCY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPWMFrequencyDecoder);
+	}
 
-		int frequency = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the PWM frequency (in Hz) as set by {@link
+	 * BrickDC#setPWMFrequency(int)}.
+	 * 
+	 * Sends the request like {@link BrickDC#getPWMFrequency()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getPWMFrequencyAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_PWM_FREQUENCY, this);
 
-		return frequency;
+		return sendRequestAsync(bb.array(), getPWMFrequencyDecoder);
 	}
 
 	/**
@@ -356,6 +583,20 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Executes an active full brake.
+	 * 
+	 * Sends the request like {@link BrickDC#fullBrake()}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> fullBrakeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_FULL_BRAKE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the stack input voltage in mV. The stack input voltage is the
 	 * voltage that is supplied via the stack, i.e. it is given by a
@@ -364,14 +605,21 @@ public class BrickDC extends Device {
 	public int getStackInputVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_INPUT_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackInputVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the stack input voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickDC#getStackInputVoltage()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getStackInputVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_INPUT_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getStackInputVoltageDecoder);
 	}
 
 	/**
@@ -391,14 +639,21 @@ public class BrickDC extends Device {
 	public int getExternalInputVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EXTERNAL_INPUT_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getExternalInputVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the external input voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickDC#getExternalInputVoltage()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getExternalInputVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EXTERNAL_INPUT_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getExternalInputVoltageDecoder);
 	}
 
 	/**
@@ -407,14 +662,21 @@ public class BrickDC extends Device {
 	public int getCurrentConsumption() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CONSUMPTION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentConsumptionDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the current consumption of the motor in mA.
+	 * 
+	 * Sends the request like {@link BrickDC#getCurrentConsumption()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentConsumptionAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CONSUMPTION, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getCurrentConsumptionDecoder);
 	}
 
 	/**
@@ -427,6 +689,20 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Enables the driver chip.
+	 * 
+	 * Sends the request like {@link BrickDC#enable()}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> enableAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ENABLE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Disables the driver chip. The configurations are kept (velocity,
 	 * acceleration, etc) but the motor is not driven until it is enabled again.
@@ -437,20 +713,40 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Disables the driver chip.
+	 * 
+	 * Sends the request like {@link BrickDC#disable()}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> disableAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_DISABLE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the driver chip is enabled, *false* otherwise.
 	 */
 	public boolean isEnabled() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ENABLED, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isEnabledDecoder);
+	}
 
-		boolean enabled = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the driver chip is enabled, *false* otherwise.
+	 * 
+	 * Sends the request like {@link BrickDC#isEnabled()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isEnabledAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ENABLED, this);
 
-		return enabled;
+		return sendRequestAsync(bb.array(), isEnabledDecoder);
 	}
 
 	/**
@@ -469,20 +765,44 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the minimum voltage in mV, below which the {@link
+	 * BrickDC.UnderVoltageListener} listener is triggered.
+	 * 
+	 * Sends the request like {@link BrickDC#setMinimumVoltage(int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMinimumVoltageAsync(int voltage) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_MINIMUM_VOLTAGE, this);
+		bb.putShort((short)voltage);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the minimum voltage as set by {@link BrickDC#setMinimumVoltage(int)}
 	 */
 	public int getMinimumVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MINIMUM_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMinimumVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the minimum voltage as set by {@link
+	 * BrickDC#setMinimumVoltage(int)}.
+	 * 
+	 * Sends the request like {@link BrickDC#getMinimumVoltage()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getMinimumVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MINIMUM_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getMinimumVoltageDecoder);
 	}
 
 	/**
@@ -511,20 +831,41 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the drive mode.
+	 * 
+	 * Sends the request like {@link BrickDC#setDriveMode(short)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDriveModeAsync(short mode) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_DRIVE_MODE, this);
+		bb.put((byte)mode);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the drive mode, as set by {@link BrickDC#setDriveMode(short)}.
 	 */
 	public short getDriveMode() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DRIVE_MODE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDriveModeDecoder);
+	}
 
-		short mode = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the drive mode, as set by {@link BrickDC#setDriveMode(short)}.
+	 * 
+	 * Sends the request like {@link BrickDC#getDriveMode()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> getDriveModeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DRIVE_MODE, this);
 
-		return mode;
+		return sendRequestAsync(bb.array(), getDriveModeDecoder);
 	}
 
 	/**
@@ -540,20 +881,44 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets a period in ms with which the {@link
+	 * BrickDC.CurrentVelocityListener} listener is triggered.
+	 * 
+	 * Sends the request like {@link BrickDC#setCurrentVelocityPeriod(int)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentVelocityPeriodAsync(int period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_CURRENT_VELOCITY_PERIOD, this);
+		bb.putShort((short)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickDC#setCurrentVelocityPeriod(int)}.
 	 */
 	public int getCurrentVelocityPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_VELOCITY_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentVelocityPeriodDecoder);
+	}
 
-		int period = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickDC#setCurrentVelocityPeriod(int)}.
+	 * 
+	 * Sends the request like {@link BrickDC#getCurrentVelocityPeriod()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentVelocityPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_VELOCITY_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getCurrentVelocityPeriodDecoder);
 	}
 
 	/**
@@ -569,20 +934,23 @@ public class BrickDC extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Protocol1BrickletName obj = new Protocol1BrickletName();
-		obj.protocolVersion = IPConnection.unsignedByte(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getProtocol1BrickletNameDecoder);
+	}
 
-		obj.name = IPConnection.string(bb, 40);
+	/**
+	 * Returns the firmware and protocol version and the name of the Bricklet
+	 * for a given port.
+	 * 
+	 * Sends the request like {@link BrickDC#getProtocol1BrickletName(char)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Protocol1BrickletName> getProtocol1BrickletNameAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
+		bb.put((byte)port);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getProtocol1BrickletNameDecoder);
 	}
 
 	/**
@@ -598,14 +966,21 @@ public class BrickDC extends Device {
 	public short getChipTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChipTemperatureDecoder);
+	}
 
-		short temperature = (bb.getShort());
+	/**
+	 * Returns the temperature in °C/10 as measured inside the microcontroller.
+	 * 
+	 * Sends the request like {@link BrickDC#getChipTemperature()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChipTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getChipTemperatureDecoder);
 	}
 
 	/**
@@ -624,6 +999,20 @@ public class BrickDC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Calling this function will reset the Brick.
+	 * 
+	 * Sends the request like {@link BrickDC#reset()}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> resetAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_RESET, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Brick is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -638,26 +1027,21 @@ public class BrickDC extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Brick is connected to, the position,
+	 * the hardware and firmware version as well as the device identifier.
+	 * 
+	 * Sends the request like {@link BrickDC#getIdentity()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
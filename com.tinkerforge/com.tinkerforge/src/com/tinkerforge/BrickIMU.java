@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -216,6 +215,274 @@ public class BrickIMU extends Device {
 		public void quaternion(float x, float y, float z, float w);
 	}
 
+	private final ResponseDecoder<Acceleration> getAccelerationDecoder = new ResponseDecoder<Acceleration>() {
+		public Acceleration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Acceleration obj = new Acceleration();
+			obj.x = (pr.getShort());
+			obj.y = (pr.getShort());
+			obj.z = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<MagneticField> getMagneticFieldDecoder = new ResponseDecoder<MagneticField>() {
+		public MagneticField decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			MagneticField obj = new MagneticField();
+			obj.x = (pr.getShort());
+			obj.y = (pr.getShort());
+			obj.z = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<AngularVelocity> getAngularVelocityDecoder = new ResponseDecoder<AngularVelocity>() {
+		public AngularVelocity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AngularVelocity obj = new AngularVelocity();
+			obj.x = (pr.getShort());
+			obj.y = (pr.getShort());
+			obj.z = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<AllData> getAllDataDecoder = new ResponseDecoder<AllData>() {
+		public AllData decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AllData obj = new AllData();
+			obj.accX = (pr.getShort());
+			obj.accY = (pr.getShort());
+			obj.accZ = (pr.getShort());
+			obj.magX = (pr.getShort());
+			obj.magY = (pr.getShort());
+			obj.magZ = (pr.getShort());
+			obj.angX = (pr.getShort());
+			obj.angY = (pr.getShort());
+			obj.angZ = (pr.getShort());
+			obj.temperature = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Orientation> getOrientationDecoder = new ResponseDecoder<Orientation>() {
+		public Orientation decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Orientation obj = new Orientation();
+			obj.roll = (pr.getShort());
+			obj.pitch = (pr.getShort());
+			obj.yaw = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Quaternion> getQuaternionDecoder = new ResponseDecoder<Quaternion>() {
+		public Quaternion decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Quaternion obj = new Quaternion();
+			obj.x = (pr.getFloat());
+			obj.y = (pr.getFloat());
+			obj.z = (pr.getFloat());
+			obj.w = (pr.getFloat());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getIMUTemperatureDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short temperature = (pr.getShort());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> areLedsOnDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean leds = (pr.get()) != 0;
+
+			return leds;
+		}
+	};
+
+	private final ResponseDecoder<Short> getAccelerationRangeDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short range = IPConnection.unsignedByte(pr.get());
+
+			return range;
+		}
+	};
+
+	private final ResponseDecoder<Short> getMagnetometerRangeDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short range = IPConnection.unsignedByte(pr.get());
+
+			return range;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getConvergenceSpeedDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int speed = IPConnection.unsignedShort(pr.getShort());
+
+			return speed;
+		}
+	};
+
+	private final ResponseDecoder<short[]> getCalibrationDecoder = new ResponseDecoder<short[]>() {
+		public short[] decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short[] data = new short[10];
+			for(int i = 0; i < 10; i++) {
+				data[i] = (pr.getShort());
+			}
+
+
+			return data;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAccelerationPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getMagneticFieldPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAngularVelocityPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAllDataPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getOrientationPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getQuaternionPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isOrientationCalculationOnDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean orientationCalculationOn = (pr.get()) != 0;
+
+			return orientationCalculationOn;
+		}
+	};
+
+	private final ResponseDecoder<Protocol1BrickletName> getProtocol1BrickletNameDecoder = new ResponseDecoder<Protocol1BrickletName>() {
+		public Protocol1BrickletName decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Protocol1BrickletName obj = new Protocol1BrickletName();
+			obj.protocolVersion = IPConnection.unsignedByte(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.name = pr.string(40);
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChipTemperatureDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short temperature = (pr.getShort());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -272,12 +539,11 @@ public class BrickIMU extends Device {
 
 		callbacks[CALLBACK_ACCELERATION] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short x = (bb.getShort());
-				short y = (bb.getShort());
-				short z = (bb.getShort());
+				short x = (pr.getShort());
+				short y = (pr.getShort());
+				short z = (pr.getShort());
 
 				for(AccelerationListener listener: listenerAcceleration) {
 					listener.acceleration(x, y, z);
@@ -287,12 +553,11 @@ public class BrickIMU extends Device {
 
 		callbacks[CALLBACK_MAGNETIC_FIELD] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short x = (bb.getShort());
-				short y = (bb.getShort());
-				short z = (bb.getShort());
+				short x = (pr.getShort());
+				short y = (pr.getShort());
+				short z = (pr.getShort());
 
 				for(MagneticFieldListener listener: listenerMagneticField) {
 					listener.magneticField(x, y, z);
@@ -302,12 +567,11 @@ public class BrickIMU extends Device {
 
 		callbacks[CALLBACK_ANGULAR_VELOCITY] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short x = (bb.getShort());
-				short y = (bb.getShort());
-				short z = (bb.getShort());
+				short x = (pr.getShort());
+				short y = (pr.getShort());
+				short z = (pr.getShort());
 
 				for(AngularVelocityListener listener: listenerAngularVelocity) {
 					listener.angularVelocity(x, y, z);
@@ -317,19 +581,18 @@ public class BrickIMU extends Device {
 
 		callbacks[CALLBACK_ALL_DATA] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
-
-				short accX = (bb.getShort());
-				short accY = (bb.getShort());
-				short accZ = (bb.getShort());
-				short magX = (bb.getShort());
-				short magY = (bb.getShort());
-				short magZ = (bb.getShort());
-				short angX = (bb.getShort());
-				short angY = (bb.getShort());
-				short angZ = (bb.getShort());
-				short temperature = (bb.getShort());
+				PacketReader pr = PacketReader.wrap(data);
+
+				short accX = (pr.getShort());
+				short accY = (pr.getShort());
+				short accZ = (pr.getShort());
+				short magX = (pr.getShort());
+				short magY = (pr.getShort());
+				short magZ = (pr.getShort());
+				short angX = (pr.getShort());
+				short angY = (pr.getShort());
+				short angZ = (pr.getShort());
+				short temperature = (pr.getShort());
 
 				for(AllDataListener listener: listenerAllData) {
 					listener.allData(accX, accY, accZ, magX, magY, magZ, angX, angY, angZ, temperature);
@@ -339,12 +602,11 @@ public class BrickIMU extends Device {
 
 		callbacks[CALLBACK_ORIENTATION] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short roll = (bb.getShort());
-				short pitch = (bb.getShort());
-				short yaw = (bb.getShort());
+				short roll = (pr.getShort());
+				short pitch = (pr.getShort());
+				short yaw = (pr.getShort());
 
 				for(OrientationListener listener: listenerOrientation) {
 					listener.orientation(roll, pitch, yaw);
@@ -354,13 +616,12 @@ public class BrickIMU extends Device {
 
 		callbacks[CALLBACK_QUATERNION] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				float x = (bb.getFloat());
-				float y = (bb.getFloat());
-				float z = (bb.getFloat());
-				float w = (bb.getFloat());
+				float x = (pr.getFloat());
+				float y = (pr.getFloat());
+				float z = (pr.getFloat());
+				float w = (pr.getFloat());
 
 				for(QuaternionListener listener: listenerQuaternion) {
 					listener.quaternion(x, y, z, w);
@@ -380,17 +641,22 @@ public class BrickIMU extends Device {
 	public Acceleration getAcceleration() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAccelerationDecoder);
+	}
 
-		Acceleration obj = new Acceleration();
-		obj.x = (bb.getShort());
-		obj.y = (bb.getShort());
-		obj.z = (bb.getShort());
+	/**
+	 * Returns the calibrated acceleration from the accelerometer for the x, y
+	 * and z axis in mG (G/1000, 1G = 9.80605m/s²).
+	 * 
+	 * Sends the request like {@link BrickIMU#getAcceleration()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Acceleration> getAccelerationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAccelerationDecoder);
 	}
 
 	/**
@@ -404,17 +670,22 @@ public class BrickIMU extends Device {
 	public MagneticField getMagneticField() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAGNETIC_FIELD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMagneticFieldDecoder);
+	}
 
-		MagneticField obj = new MagneticField();
-		obj.x = (bb.getShort());
-		obj.y = (bb.getShort());
-		obj.z = (bb.getShort());
+	/**
+	 * Returns the calibrated magnetic field from the magnetometer for the x, y
+	 * and z axis in mG (Milligauss or Nanotesla).
+	 * 
+	 * Sends the request like {@link BrickIMU#getMagneticField()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<MagneticField> getMagneticFieldAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAGNETIC_FIELD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getMagneticFieldDecoder);
 	}
 
 	/**
@@ -429,17 +700,23 @@ public class BrickIMU extends Device {
 	public AngularVelocity getAngularVelocity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANGULAR_VELOCITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAngularVelocityDecoder);
+	}
 
-		AngularVelocity obj = new AngularVelocity();
-		obj.x = (bb.getShort());
-		obj.y = (bb.getShort());
-		obj.z = (bb.getShort());
+	/**
+	 * Returns the calibrated angular velocity from the gyroscope for the x, y
+	 * and z axis in °/17.5s (you have to divide by 17.5 to get the value in
+	 * °/s).
+	 * 
+	 * Sends the request like {@link BrickIMU#getAngularVelocity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<AngularVelocity> getAngularVelocityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANGULAR_VELOCITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAngularVelocityDecoder);
 	}
 
 	/**
@@ -455,24 +732,51 @@ public class BrickIMU extends Device {
 	public AllData getAllData() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA, this);
 
+		return sendRequest(bb.array(), getAllDataDecoder);
+	}
+
+	/**
+	 * Returns the data from {@link BrickIMU#getAcceleration()}, {@link
+	 * BrickIMU#getMagneticField()} and {@link BrickIMU#getAngularVelocity()}
+	 * as well as the temperature of the IMU Brick.
+	 * 
+	 * Sends the request like {@link BrickIMU#getAllData()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<AllData> getAllDataAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA, this);
+
+		return sendRequestAsync(bb.array(), getAllDataDecoder);
+	}
+
+	/**
+	 * Same as {@link BrickIMU#getAllData()}, but writes
+	 * the result into \c into instead of a new object and returns \c into.
+	 * Allows to poll with a high rate without allocating a result object per
+	 * call.
+	 */
+	public AllData getAllData(AllData into) throws TimeoutException, NotConnectedException {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA, this);
+
 		byte[] response = sendRequest(bb.array());
 
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		PacketReader pr = PacketReader.wrap(response);
+
+		into.accX = (pr.getShort());
+		into.accY = (pr.getShort());
+		into.accZ = (pr.getShort());
+		into.magX = (pr.getShort());
+		into.magY = (pr.getShort());
+		into.magZ = (pr.getShort());
+		into.angX = (pr.getShort());
+		into.angY = (pr.getShort());
+		into.angZ = (pr.getShort());
+		into.temperature = (pr.getShort());
 
-		AllData obj = new AllData();
-		obj.accX = (bb.getShort());
-		obj.accY = (bb.getShort());
-		obj.accZ = (bb.getShort());
-		obj.magX = (bb.getShort());
-		obj.magY = (bb.getShort());
-		obj.magZ = (bb.getShort());
-		obj.angX = (bb.getShort());
-		obj.angY = (bb.getShort());
-		obj.angZ = (bb.getShort());
-		obj.temperature = (bb.getShort());
+		ipcon.packetPool.release(response);
 
-		return obj;
+		return into;
 	}
 
 	/**
@@ -492,17 +796,22 @@ public class BrickIMU extends Device {
 	public Orientation getOrientation() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ORIENTATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getOrientationDecoder);
+	}
 
-		Orientation obj = new Orientation();
-		obj.roll = (bb.getShort());
-		obj.pitch = (bb.getShort());
-		obj.yaw = (bb.getShort());
+	/**
+	 * Returns the current orientation (roll, pitch, yaw) of the IMU Brick as
+	 * Euler angles in one-hundredth degree.
+	 * 
+	 * Sends the request like {@link BrickIMU#getOrientation()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Orientation> getOrientationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ORIENTATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getOrientationDecoder);
 	}
 
 	/**
@@ -533,18 +842,22 @@ public class BrickIMU extends Device {
 	public Quaternion getQuaternion() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_QUATERNION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getQuaternionDecoder);
+	}
 
-		Quaternion obj = new Quaternion();
-		obj.x = (bb.getFloat());
-		obj.y = (bb.getFloat());
-		obj.z = (bb.getFloat());
-		obj.w = (bb.getFloat());
+	/**
+	 * Returns the current orientation (x, y, z, w) of the IMU as `quaternions
+	 * <http://en.wikipedia.org/wiki/Quaternions_and_spatial_rotation>`__.
+	 * 
+	 * Sends the request like {@link BrickIMU#getQuaternion()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Quaternion> getQuaternionAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_QUATERNION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getQuaternionDecoder);
 	}
 
 	/**
@@ -554,14 +867,21 @@ public class BrickIMU extends Device {
 	public short getIMUTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IMU_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getIMUTemperatureDecoder);
+	}
 
-		short temperature = (bb.getShort());
+	/**
+	 * Returns the temperature of the IMU Brick.
+	 * 
+	 * Sends the request like {@link BrickIMU#getIMUTemperature()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getIMUTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IMU_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getIMUTemperatureDecoder);
 	}
 
 	/**
@@ -573,6 +893,20 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the orientation and direction LEDs of the IMU Brick on.
+	 * 
+	 * Sends the request like {@link BrickIMU#ledsOn()}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> ledsOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_LEDS_ON, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Turns the orientation and direction LEDs of the IMU Brick off.
 	 */
@@ -582,6 +916,20 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the orientation and direction LEDs of the IMU Brick off.
+	 * 
+	 * Sends the request like {@link BrickIMU#ledsOff()}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> ledsOffAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_LEDS_OFF, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the orientation and direction LEDs of the IMU Brick
 	 * are on, *false* otherwise.
@@ -589,14 +937,21 @@ public class BrickIMU extends Device {
 	public boolean areLedsOn() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ARE_LEDS_ON, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), areLedsOnDecoder);
+	}
 
-		boolean leds = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the orientation and direction LEDs of the IMU Brick
+	 * are on, *false* otherwise.
+	 * 
+	 * Sends the request like {@link BrickIMU#areLedsOn()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> areLedsOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ARE_LEDS_ON, this);
 
-		return leds;
+		return sendRequestAsync(bb.array(), areLedsOnDecoder);
 	}
 
 	/**
@@ -609,20 +964,42 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Not implemented yet.
+	 * 
+	 * Sends the request like {@link BrickIMU#setAccelerationRange(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAccelerationRangeAsync(short range) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_ACCELERATION_RANGE, this);
+		bb.put((byte)range);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Not implemented yet.
 	 */
 	public short getAccelerationRange() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION_RANGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAccelerationRangeDecoder);
+	}
 
-		short range = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Not implemented yet.
+	 * 
+	 * Sends the request like {@link BrickIMU#getAccelerationRange()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getAccelerationRangeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION_RANGE, this);
 
-		return range;
+		return sendRequestAsync(bb.array(), getAccelerationRangeDecoder);
 	}
 
 	/**
@@ -635,20 +1012,42 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Not implemented yet.
+	 * 
+	 * Sends the request like {@link BrickIMU#setMagnetometerRange(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMagnetometerRangeAsync(short range) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_MAGNETOMETER_RANGE, this);
+		bb.put((byte)range);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Not implemented yet.
 	 */
 	public short getMagnetometerRange() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAGNETOMETER_RANGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMagnetometerRangeDecoder);
+	}
 
-		short range = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Not implemented yet.
+	 * 
+	 * Sends the request like {@link BrickIMU#getMagnetometerRange()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getMagnetometerRangeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAGNETOMETER_RANGE, this);
 
-		return range;
+		return sendRequestAsync(bb.array(), getMagnetometerRangeDecoder);
 	}
 
 	/**
@@ -687,20 +1086,43 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the convergence speed of the IMU Brick in °/s.
+	 * 
+	 * Sends the request like {@link BrickIMU#setConvergenceSpeed(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setConvergenceSpeedAsync(int speed) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_CONVERGENCE_SPEED, this);
+		bb.putShort((short)speed);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the convergence speed as set by {@link BrickIMU#setConvergenceSpeed(int)}.
 	 */
 	public int getConvergenceSpeed() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONVERGENCE_SPEED, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getConvergenceSpeedDecoder);
+	}
 
-		int speed = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the convergence speed as set by {@link
+	 * BrickIMU#setConvergenceSpeed(int)}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getConvergenceSpeed()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getConvergenceSpeedAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONVERGENCE_SPEED, this);
 
-		return speed;
+		return sendRequestAsync(bb.array(), getConvergenceSpeedDecoder);
 	}
 
 	/**
@@ -750,6 +1172,24 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * There are several different types that can be calibrated:.
+	 * 
+	 * Sends the request like {@link BrickIMU#setCalibration(short, short[])},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCalibrationAsync(short typ, short[] data) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)29, FUNCTION_SET_CALIBRATION, this);
+		bb.put((byte)typ);
+		for(int i = 0; i < 10; i++) {
+			bb.putShort(data[i]);
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the calibration for a given type as set by {@link BrickIMU#setCalibration(short, short[])}.
 	 */
@@ -757,18 +1197,23 @@ public class BrickIMU extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CALIBRATION, this);
 		bb.put((byte)typ);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		short[] data = new short[10];
-		for(int i = 0; i < 10; i++) {
-			data[i] = (bb.getShort());
-		}
+		return sendRequest(bb.array(), getCalibrationDecoder);
+	}
 
+	/**
+	 * Returns the calibration for a given type as set by {@link
+	 * BrickIMU#setCalibration(short, short[])}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getCalibration(short)}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<short[]> getCalibrationAsync(short typ) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CALIBRATION, this);
+		bb.put((byte)typ);
 
-		return data;
+		return sendRequestAsync(bb.array(), getCalibrationDecoder);
 	}
 
 	/**
@@ -784,20 +1229,44 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickIMU.AccelerationListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link BrickIMU#setAccelerationPeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAccelerationPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ACCELERATION_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickIMU#setAccelerationPeriod(long)}.
 	 */
 	public long getAccelerationPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAccelerationPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickIMU#setAccelerationPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getAccelerationPeriod()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAccelerationPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ACCELERATION_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAccelerationPeriodDecoder);
 	}
 
 	/**
@@ -811,20 +1280,44 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickIMU.MagneticFieldListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link BrickIMU#setMagneticFieldPeriod(long)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMagneticFieldPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_MAGNETIC_FIELD_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickIMU#setMagneticFieldPeriod(long)}.
 	 */
 	public long getMagneticFieldPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAGNETIC_FIELD_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMagneticFieldPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickIMU#setMagneticFieldPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getMagneticFieldPeriod()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getMagneticFieldPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAGNETIC_FIELD_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getMagneticFieldPeriodDecoder);
 	}
 
 	/**
@@ -838,20 +1331,44 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickIMU.AngularVelocityListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link BrickIMU#setAngularVelocityPeriod(long)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAngularVelocityPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ANGULAR_VELOCITY_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickIMU#setAngularVelocityPeriod(long)}.
 	 */
 	public long getAngularVelocityPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANGULAR_VELOCITY_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAngularVelocityPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickIMU#setAngularVelocityPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getAngularVelocityPeriod()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAngularVelocityPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANGULAR_VELOCITY_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAngularVelocityPeriodDecoder);
 	}
 
 	/**
@@ -865,20 +1382,43 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link BrickIMU.AllDataListener}
+	 * listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link BrickIMU#setAllDataPeriod(long)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAllDataPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ALL_DATA_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickIMU#setAllDataPeriod(long)}.
 	 */
 	public long getAllDataPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAllDataPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link BrickIMU#setAllDataPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getAllDataPeriod()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAllDataPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAllDataPeriodDecoder);
 	}
 
 	/**
@@ -892,20 +1432,44 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickIMU.OrientationListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link BrickIMU#setOrientationPeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setOrientationPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ORIENTATION_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickIMU#setOrientationPeriod(long)}.
 	 */
 	public long getOrientationPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ORIENTATION_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getOrientationPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickIMU#setOrientationPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getOrientationPeriod()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getOrientationPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ORIENTATION_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getOrientationPeriodDecoder);
 	}
 
 	/**
@@ -919,20 +1483,43 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link BrickIMU.QuaternionListener}
+	 * listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link BrickIMU#setQuaternionPeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setQuaternionPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_QUATERNION_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickIMU#setQuaternionPeriod(long)}.
 	 */
 	public long getQuaternionPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_QUATERNION_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getQuaternionPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link BrickIMU#setQuaternionPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickIMU#getQuaternionPeriod()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getQuaternionPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_QUATERNION_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getQuaternionPeriodDecoder);
 	}
 
 	/**
@@ -948,6 +1535,20 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the orientation calculation of the IMU Brick on.
+	 * 
+	 * Sends the request like {@link BrickIMU#orientationCalculationOn()}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> orientationCalculationOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ORIENTATION_CALCULATION_ON, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Turns the orientation calculation of the IMU Brick off.
 	 * 
@@ -969,6 +1570,20 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the orientation calculation of the IMU Brick off.
+	 * 
+	 * Sends the request like {@link BrickIMU#orientationCalculationOff()}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> orientationCalculationOffAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ORIENTATION_CALCULATION_OFF, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the orientation calculation of the IMU Brick
 	 * is on, *false* otherwise.
@@ -978,14 +1593,22 @@ public class BrickIMU extends Device {
 	public boolean isOrientationCalculationOn() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ORIENTATION_CALCULATION_ON, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isOrientationCalculationOnDecoder);
+	}
 
-		boolean orientationCalculationOn = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the orientation calculation of the IMU Brick is on,
+	 * *false* otherwise.
+	 * 
+	 * Sends the request like {@link BrickIMU#isOrientationCalculationOn()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isOrientationCalculationOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ORIENTATION_CALCULATION_ON, this);
 
-		return orientationCalculationOn;
+		return sendRequestAsync(bb.array(), isOrientationCalculationOnDecoder);
 	}
 
 	/**
@@ -1001,20 +1624,23 @@ public class BrickIMU extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Protocol1BrickletName obj = new Protocol1BrickletName();
-		obj.protocolVersion = IPConnection.unsignedByte(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getProtocol1BrickletNameDecoder);
+	}
 
-		obj.name = IPConnection.string(bb, 40);
+	/**
+	 * Returns the firmware and protocol version and the name of the Bricklet
+	 * for a given port.
+	 * 
+	 * Sends the request like {@link BrickIMU#getProtocol1BrickletName(char)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Protocol1BrickletName> getProtocol1BrickletNameAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
+		bb.put((byte)port);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getProtocol1BrickletNameDecoder);
 	}
 
 	/**
@@ -1030,14 +1656,21 @@ public class BrickIMU extends Device {
 	public short getChipTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChipTemperatureDecoder);
+	}
 
-		short temperature = (bb.getShort());
+	/**
+	 * Returns the temperature in °C/10 as measured inside the microcontroller.
+	 * 
+	 * Sends the request like {@link BrickIMU#getChipTemperature()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChipTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getChipTemperatureDecoder);
 	}
 
 	/**
@@ -1056,6 +1689,20 @@ public class BrickIMU extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Calling this function will reset the Brick.
+	 * 
+	 * Sends the request like {@link BrickIMU#reset()}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> resetAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_RESET, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Brick is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -1070,26 +1717,21 @@ public class BrickIMU extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Brick is connected to, the position,
+	 * the hardware and firmware version as well as the device identifier.
+	 * 
+	 * Sends the request like {@link BrickIMU#getIdentity()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
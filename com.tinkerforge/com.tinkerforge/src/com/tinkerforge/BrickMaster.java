@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -388,6 +387,528 @@ public class BrickMaster extends Device {
 		public void usbvoltageReached(int voltage);
 	}
 
+	private final ResponseDecoder<Integer> getStackVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getStackCurrentDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int current = IPConnection.unsignedShort(pr.getShort());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Long> getExtensionTypeDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long exttype = IPConnection.unsignedInt(pr.getInt());
+
+			return exttype;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isChibiPresentDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean present = (pr.get()) != 0;
+
+			return present;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChibiAddressDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short address = IPConnection.unsignedByte(pr.get());
+
+			return address;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChibiMasterAddressDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short address = IPConnection.unsignedByte(pr.get());
+
+			return address;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChibiSlaveAddressDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short address = IPConnection.unsignedByte(pr.get());
+
+			return address;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChibiSignalStrengthDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short signalStrength = IPConnection.unsignedByte(pr.get());
+
+			return signalStrength;
+		}
+	};
+
+	private final ResponseDecoder<ChibiErrorLog> getChibiErrorLogDecoder = new ResponseDecoder<ChibiErrorLog>() {
+		public ChibiErrorLog decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			ChibiErrorLog obj = new ChibiErrorLog();
+			obj.underrun = IPConnection.unsignedShort(pr.getShort());
+			obj.crcError = IPConnection.unsignedShort(pr.getShort());
+			obj.noAck = IPConnection.unsignedShort(pr.getShort());
+			obj.overflow = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChibiFrequencyDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short frequency = IPConnection.unsignedByte(pr.get());
+
+			return frequency;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChibiChannelDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short channel = IPConnection.unsignedByte(pr.get());
+
+			return channel;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isRS485PresentDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean present = (pr.get()) != 0;
+
+			return present;
+		}
+	};
+
+	private final ResponseDecoder<Short> getRS485AddressDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short address = IPConnection.unsignedByte(pr.get());
+
+			return address;
+		}
+	};
+
+	private final ResponseDecoder<Short> getRS485SlaveAddressDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short address = IPConnection.unsignedByte(pr.get());
+
+			return address;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getRS485ErrorLogDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int crcError = IPConnection.unsignedShort(pr.getShort());
+
+			return crcError;
+		}
+	};
+
+	private final ResponseDecoder<RS485Configuration> getRS485ConfigurationDecoder = new ResponseDecoder<RS485Configuration>() {
+		public RS485Configuration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			RS485Configuration obj = new RS485Configuration();
+			obj.speed = IPConnection.unsignedInt(pr.getInt());
+			obj.parity = (char)(pr.get());
+			obj.stopbits = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isWifiPresentDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean present = (pr.get()) != 0;
+
+			return present;
+		}
+	};
+
+	private final ResponseDecoder<WifiConfiguration> getWifiConfigurationDecoder = new ResponseDecoder<WifiConfiguration>() {
+		public WifiConfiguration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			WifiConfiguration obj = new WifiConfiguration();
+			obj.ssid = pr.string(32);
+			obj.connection = IPConnection.unsignedByte(pr.get());
+			for(int i = 0; i < 4; i++) {
+				obj.ip[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.subnetMask[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.gateway[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.port = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<WifiEncryption> getWifiEncryptionDecoder = new ResponseDecoder<WifiEncryption>() {
+		public WifiEncryption decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			WifiEncryption obj = new WifiEncryption();
+			obj.encryption = IPConnection.unsignedByte(pr.get());
+			obj.key = pr.string(50);
+			obj.keyIndex = IPConnection.unsignedByte(pr.get());
+			obj.eapOptions = IPConnection.unsignedByte(pr.get());
+			obj.caCertificateLength = IPConnection.unsignedShort(pr.getShort());
+			obj.clientCertificateLength = IPConnection.unsignedShort(pr.getShort());
+			obj.privateKeyLength = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<WifiStatus> getWifiStatusDecoder = new ResponseDecoder<WifiStatus>() {
+		public WifiStatus decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			WifiStatus obj = new WifiStatus();
+			for(int i = 0; i < 6; i++) {
+				obj.macAddress[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 6; i++) {
+				obj.bssid[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.channel = IPConnection.unsignedByte(pr.get());
+			obj.rssi = (pr.getShort());
+			for(int i = 0; i < 4; i++) {
+				obj.ip[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.subnetMask[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.gateway[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.rxCount = IPConnection.unsignedInt(pr.getInt());
+			obj.txCount = IPConnection.unsignedInt(pr.getInt());
+			obj.state = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<WifiCertificate> getWifiCertificateDecoder = new ResponseDecoder<WifiCertificate>() {
+		public WifiCertificate decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			WifiCertificate obj = new WifiCertificate();
+			for(int i = 0; i < 32; i++) {
+				obj.data[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.dataLength = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getWifiPowerModeDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short mode = IPConnection.unsignedByte(pr.get());
+
+			return mode;
+		}
+	};
+
+	private final ResponseDecoder<WifiBufferInfo> getWifiBufferInfoDecoder = new ResponseDecoder<WifiBufferInfo>() {
+		public WifiBufferInfo decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			WifiBufferInfo obj = new WifiBufferInfo();
+			obj.overflow = IPConnection.unsignedInt(pr.getInt());
+			obj.lowWatermark = IPConnection.unsignedShort(pr.getShort());
+			obj.used = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getWifiRegulatoryDomainDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short domain = IPConnection.unsignedByte(pr.get());
+
+			return domain;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getUSBVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<String> getLongWifiKeyDecoder = new ResponseDecoder<String>() {
+		public String decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			String key = pr.string(64);
+
+			return key;
+		}
+	};
+
+	private final ResponseDecoder<String> getWifiHostnameDecoder = new ResponseDecoder<String>() {
+		public String decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			String hostname = pr.string(16);
+
+			return hostname;
+		}
+	};
+
+	private final ResponseDecoder<Long> getStackCurrentCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getStackVoltageCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getUSBVoltageCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<StackCurrentCallbackThreshold> getStackCurrentCallbackThresholdDecoder = new ResponseDecoder<StackCurrentCallbackThreshold>() {
+		public StackCurrentCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			StackCurrentCallbackThreshold obj = new StackCurrentCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<StackVoltageCallbackThreshold> getStackVoltageCallbackThresholdDecoder = new ResponseDecoder<StackVoltageCallbackThreshold>() {
+		public StackVoltageCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			StackVoltageCallbackThreshold obj = new StackVoltageCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<USBVoltageCallbackThreshold> getUSBVoltageCallbackThresholdDecoder = new ResponseDecoder<USBVoltageCallbackThreshold>() {
+		public USBVoltageCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			USBVoltageCallbackThreshold obj = new USBVoltageCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isEthernetPresentDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean present = (pr.get()) != 0;
+
+			return present;
+		}
+	};
+
+	private final ResponseDecoder<EthernetConfiguration> getEthernetConfigurationDecoder = new ResponseDecoder<EthernetConfiguration>() {
+		public EthernetConfiguration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			EthernetConfiguration obj = new EthernetConfiguration();
+			obj.connection = IPConnection.unsignedByte(pr.get());
+			for(int i = 0; i < 4; i++) {
+				obj.ip[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.subnetMask[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.gateway[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.port = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<EthernetStatus> getEthernetStatusDecoder = new ResponseDecoder<EthernetStatus>() {
+		public EthernetStatus decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			EthernetStatus obj = new EthernetStatus();
+			for(int i = 0; i < 6; i++) {
+				obj.macAddress[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.ip[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.subnetMask[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 4; i++) {
+				obj.gateway[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.rxCount = IPConnection.unsignedInt(pr.getInt());
+			obj.txCount = IPConnection.unsignedInt(pr.getInt());
+			obj.hostname = pr.string(32);
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Protocol1BrickletName> getProtocol1BrickletNameDecoder = new ResponseDecoder<Protocol1BrickletName>() {
+		public Protocol1BrickletName decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Protocol1BrickletName obj = new Protocol1BrickletName();
+			obj.protocolVersion = IPConnection.unsignedByte(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.name = pr.string(40);
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChipTemperatureDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short temperature = (pr.getShort());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -475,10 +996,9 @@ public class BrickMaster extends Device {
 
 		callbacks[CALLBACK_STACK_CURRENT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int current = IPConnection.unsignedShort(bb.getShort());
+				int current = IPConnection.unsignedShort(pr.getShort());
 
 				for(StackCurrentListener listener: listenerStackCurrent) {
 					listener.stackCurrent(current);
@@ -488,10 +1008,9 @@ public class BrickMaster extends Device {
 
 		callbacks[CALLBACK_STACK_VOLTAGE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(StackVoltageListener listener: listenerStackVoltage) {
 					listener.stackVoltage(voltage);
@@ -501,10 +1020,9 @@ public class BrickMaster extends Device {
 
 		callbacks[CALLBACK_USB_VOLTAGE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(USBVoltageListener listener: listenerUSBVoltage) {
 					listener.usbvoltage(voltage);
@@ -514,10 +1032,9 @@ public class BrickMaster extends Device {
 
 		callbacks[CALLBACK_STACK_CURRENT_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int current = IPConnection.unsignedShort(bb.getShort());
+				int current = IPConnection.unsignedShort(pr.getShort());
 
 				for(StackCurrentReachedListener listener: listenerStackCurrentReached) {
 					listener.stackCurrentReached(current);
@@ -527,10 +1044,9 @@ public class BrickMaster extends Device {
 
 		callbacks[CALLBACK_STACK_VOLTAGE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(StackVoltageReachedListener listener: listenerStackVoltageReached) {
 					listener.stackVoltageReached(voltage);
@@ -540,10 +1056,9 @@ public class BrickMaster extends Device {
 
 		callbacks[CALLBACK_USB_VOLTAGE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(USBVoltageReachedListener listener: listenerUSBVoltageReached) {
 					listener.usbvoltageReached(voltage);
@@ -560,14 +1075,21 @@ public class BrickMaster extends Device {
 	public int getStackVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the stack voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickMaster#getStackVoltage()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getStackVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getStackVoltageDecoder);
 	}
 
 	/**
@@ -578,14 +1100,21 @@ public class BrickMaster extends Device {
 	public int getStackCurrent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_CURRENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackCurrentDecoder);
+	}
 
-		int current = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the stack current in mA.
+	 * 
+	 * Sends the request like {@link BrickMaster#getStackCurrent()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getStackCurrentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_CURRENT, this);
 
-		return current;
+		return sendRequestAsync(bb.array(), getStackCurrentDecoder);
 	}
 
 	/**
@@ -615,6 +1144,22 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Writes the extension type to the EEPROM of a specified extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setExtensionType(short,
+	 * long)}, but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setExtensionTypeAsync(short extension, long exttype) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_EXTENSION_TYPE, this);
+		bb.put((byte)extension);
+		bb.putInt((int)exttype);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the type for a given extension as set by {@link BrickMaster#setExtensionType(short, long)}.
 	 */
@@ -622,14 +1167,23 @@ public class BrickMaster extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EXTENSION_TYPE, this);
 		bb.put((byte)extension);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getExtensionTypeDecoder);
+	}
 
-		long exttype = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the type for a given extension as set by {@link
+	 * BrickMaster#setExtensionType(short, long)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getExtensionType(short)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getExtensionTypeAsync(short extension) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EXTENSION_TYPE, this);
+		bb.put((byte)extension);
 
-		return exttype;
+		return sendRequestAsync(bb.array(), getExtensionTypeDecoder);
 	}
 
 	/**
@@ -640,14 +1194,22 @@ public class BrickMaster extends Device {
 	public boolean isChibiPresent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_CHIBI_PRESENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isChibiPresentDecoder);
+	}
 
-		boolean present = (bb.get()) != 0;
+	/**
+	 * Returns *true* if a Chibi Extension is available to be used by the
+	 * Master Brick.
+	 * 
+	 * Sends the request like {@link BrickMaster#isChibiPresent()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isChibiPresentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_CHIBI_PRESENT, this);
 
-		return present;
+		return sendRequestAsync(bb.array(), isChibiPresentDecoder);
 	}
 
 	/**
@@ -666,6 +1228,21 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the address (1-255) belonging to the Chibi Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setChibiAddress(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setChibiAddressAsync(short address) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_CHIBI_ADDRESS, this);
+		bb.put((byte)address);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the address as set by {@link BrickMaster#setChibiAddress(short)}.
 	 * 
@@ -674,14 +1251,22 @@ public class BrickMaster extends Device {
 	public short getChibiAddress() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_ADDRESS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChibiAddressDecoder);
+	}
 
-		short address = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the address as set by {@link
+	 * BrickMaster#setChibiAddress(short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChibiAddress()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChibiAddressAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_ADDRESS, this);
 
-		return address;
+		return sendRequestAsync(bb.array(), getChibiAddressDecoder);
 	}
 
 	/**
@@ -701,6 +1286,21 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the address (1-255) of the Chibi Master.
+	 * 
+	 * Sends the request like {@link BrickMaster#setChibiMasterAddress(short)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setChibiMasterAddressAsync(short address) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_CHIBI_MASTER_ADDRESS, this);
+		bb.put((byte)address);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the address as set by {@link BrickMaster#setChibiMasterAddress(short)}.
 	 * 
@@ -709,14 +1309,22 @@ public class BrickMaster extends Device {
 	public short getChibiMasterAddress() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_MASTER_ADDRESS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChibiMasterAddressDecoder);
+	}
 
-		short address = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the address as set by {@link
+	 * BrickMaster#setChibiMasterAddress(short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChibiMasterAddress()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChibiMasterAddressAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_MASTER_ADDRESS, this);
 
-		return address;
+		return sendRequestAsync(bb.array(), getChibiMasterAddressDecoder);
 	}
 
 	/**
@@ -746,6 +1354,22 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets up to 254 slave addresses.
+	 * 
+	 * Sends the request like {@link BrickMaster#setChibiSlaveAddress(short,
+	 * short)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setChibiSlaveAddressAsync(short num, short address) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_CHIBI_SLAVE_ADDRESS, this);
+		bb.put((byte)num);
+		bb.put((byte)address);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the slave address for a given ``num`` as set by
 	 * {@link BrickMaster#setChibiSlaveAddress(short, short)}.
@@ -756,14 +1380,23 @@ public class BrickMaster extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CHIBI_SLAVE_ADDRESS, this);
 		bb.put((byte)num);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChibiSlaveAddressDecoder);
+	}
 
-		short address = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the slave address for a given ``num`` as set by {@link
+	 * BrickMaster#setChibiSlaveAddress(short, short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChibiSlaveAddress(short)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChibiSlaveAddressAsync(short num) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CHIBI_SLAVE_ADDRESS, this);
+		bb.put((byte)num);
 
-		return address;
+		return sendRequestAsync(bb.array(), getChibiSlaveAddressDecoder);
 	}
 
 	/**
@@ -775,14 +1408,21 @@ public class BrickMaster extends Device {
 	public short getChibiSignalStrength() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_SIGNAL_STRENGTH, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChibiSignalStrengthDecoder);
+	}
 
-		short signalStrength = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the signal strength in dBm.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChibiSignalStrength()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChibiSignalStrengthAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_SIGNAL_STRENGTH, this);
 
-		return signalStrength;
+		return sendRequestAsync(bb.array(), getChibiSignalStrengthDecoder);
 	}
 
 	/**
@@ -796,18 +1436,22 @@ public class BrickMaster extends Device {
 	public ChibiErrorLog getChibiErrorLog() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_ERROR_LOG, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChibiErrorLogDecoder);
+	}
 
-		ChibiErrorLog obj = new ChibiErrorLog();
-		obj.underrun = IPConnection.unsignedShort(bb.getShort());
-		obj.crcError = IPConnection.unsignedShort(bb.getShort());
-		obj.noAck = IPConnection.unsignedShort(bb.getShort());
-		obj.overflow = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns underrun, CRC error, no ACK and overflow error counts of the
+	 * Chibi communication.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChibiErrorLog()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<ChibiErrorLog> getChibiErrorLogAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_ERROR_LOG, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getChibiErrorLogDecoder);
 	}
 
 	/**
@@ -835,6 +1479,21 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the Chibi frequency range for the Chibi Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setChibiFrequency(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setChibiFrequencyAsync(short frequency) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_CHIBI_FREQUENCY, this);
+		bb.put((byte)frequency);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the frequency value as set by {@link BrickMaster#setChibiFrequency(short)}.
 	 * 
@@ -843,14 +1502,22 @@ public class BrickMaster extends Device {
 	public short getChibiFrequency() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_FREQUENCY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChibiFrequencyDecoder);
+	}
 
-		short frequency = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the frequency value as set by {@link
+	 * BrickMaster#setChibiFrequency(short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChibiFrequency()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChibiFrequencyAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_FREQUENCY, this);
 
-		return frequency;
+		return sendRequestAsync(bb.array(), getChibiFrequencyDecoder);
 	}
 
 	/**
@@ -870,13 +1537,28 @@ public class BrickMaster extends Device {
 	 * saved in the EEPROM of the Chibi Extension, it does not
 	 * have to be set on every startup.
 	 * 
-	 * .. versionadded:: 1.1.0~(Firmware)
+	 * .. versionadded:: 1.1.0~(Firmware)
+	 */
+	public void setChibiChannel(short channel) throws TimeoutException, NotConnectedException {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_CHIBI_CHANNEL, this);
+		bb.put((byte)channel);
+
+		sendRequest(bb.array());
+	}
+
+	/**
+	 * Sets the channel used by the Chibi Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setChibiChannel(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
 	 */
-	public void setChibiChannel(short channel) throws TimeoutException, NotConnectedException {
+	public ResponseFuture<Void> setChibiChannelAsync(short channel) {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_CHIBI_CHANNEL, this);
 		bb.put((byte)channel);
 
-		sendRequest(bb.array());
+		return sendRequestAsync(bb.array(), null);
 	}
 
 	/**
@@ -887,14 +1569,22 @@ public class BrickMaster extends Device {
 	public short getChibiChannel() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_CHANNEL, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChibiChannelDecoder);
+	}
 
-		short channel = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the channel as set by {@link
+	 * BrickMaster#setChibiChannel(short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChibiChannel()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChibiChannelAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIBI_CHANNEL, this);
 
-		return channel;
+		return sendRequestAsync(bb.array(), getChibiChannelDecoder);
 	}
 
 	/**
@@ -905,14 +1595,22 @@ public class BrickMaster extends Device {
 	public boolean isRS485Present() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_RS485_PRESENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isRS485PresentDecoder);
+	}
 
-		boolean present = (bb.get()) != 0;
+	/**
+	 * Returns *true* if a RS485 Extension is available to be used by the
+	 * Master Brick.
+	 * 
+	 * Sends the request like {@link BrickMaster#isRS485Present()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isRS485PresentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_RS485_PRESENT, this);
 
-		return present;
+		return sendRequestAsync(bb.array(), isRS485PresentDecoder);
 	}
 
 	/**
@@ -934,6 +1632,21 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the address (0-255) belonging to the RS485 Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setRS485Address(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setRS485AddressAsync(short address) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_RS485_ADDRESS, this);
+		bb.put((byte)address);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the address as set by {@link BrickMaster#setRS485Address(short)}.
 	 * 
@@ -942,14 +1655,22 @@ public class BrickMaster extends Device {
 	public short getRS485Address() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RS485_ADDRESS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getRS485AddressDecoder);
+	}
 
-		short address = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the address as set by {@link
+	 * BrickMaster#setRS485Address(short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getRS485Address()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getRS485AddressAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RS485_ADDRESS, this);
 
-		return address;
+		return sendRequestAsync(bb.array(), getRS485AddressDecoder);
 	}
 
 	/**
@@ -979,6 +1700,22 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets up to 255 slave addresses.
+	 * 
+	 * Sends the request like {@link BrickMaster#setRS485SlaveAddress(short,
+	 * short)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setRS485SlaveAddressAsync(short num, short address) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_RS485_SLAVE_ADDRESS, this);
+		bb.put((byte)num);
+		bb.put((byte)address);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the slave address for a given ``num`` as set by
 	 * {@link BrickMaster#setRS485SlaveAddress(short, short)}.
@@ -989,14 +1726,23 @@ public class BrickMaster extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_RS485_SLAVE_ADDRESS, this);
 		bb.put((byte)num);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getRS485SlaveAddressDecoder);
+	}
 
-		short address = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the slave address for a given ``num`` as set by {@link
+	 * BrickMaster#setRS485SlaveAddress(short, short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getRS485SlaveAddress(short)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getRS485SlaveAddressAsync(short num) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_RS485_SLAVE_ADDRESS, this);
+		bb.put((byte)num);
 
-		return address;
+		return sendRequestAsync(bb.array(), getRS485SlaveAddressDecoder);
 	}
 
 	/**
@@ -1010,14 +1756,21 @@ public class BrickMaster extends Device {
 	public int getRS485ErrorLog() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RS485_ERROR_LOG, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getRS485ErrorLogDecoder);
+	}
 
-		int crcError = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns CRC error counts of the RS485 communication.
+	 * 
+	 * Sends the request like {@link BrickMaster#getRS485ErrorLog()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getRS485ErrorLogAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RS485_ERROR_LOG, this);
 
-		return crcError;
+		return sendRequestAsync(bb.array(), getRS485ErrorLogDecoder);
 	}
 
 	/**
@@ -1045,6 +1798,23 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the configuration of the RS485 Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setRS485Configuration(long,
+	 * char, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setRS485ConfigurationAsync(long speed, char parity, short stopbits) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_SET_RS485_CONFIGURATION, this);
+		bb.putInt((int)speed);
+		bb.put((byte)parity);
+		bb.put((byte)stopbits);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the configuration as set by {@link BrickMaster#setRS485Configuration(long, char, short)}.
 	 * 
@@ -1053,17 +1823,22 @@ public class BrickMaster extends Device {
 	public RS485Configuration getRS485Configuration() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RS485_CONFIGURATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getRS485ConfigurationDecoder);
+	}
 
-		RS485Configuration obj = new RS485Configuration();
-		obj.speed = IPConnection.unsignedInt(bb.getInt());
-		obj.parity = (char)(bb.get());
-		obj.stopbits = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the configuration as set by {@link
+	 * BrickMaster#setRS485Configuration(long, char, short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getRS485Configuration()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<RS485Configuration> getRS485ConfigurationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RS485_CONFIGURATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getRS485ConfigurationDecoder);
 	}
 
 	/**
@@ -1074,14 +1849,22 @@ public class BrickMaster extends Device {
 	public boolean isWifiPresent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_WIFI_PRESENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isWifiPresentDecoder);
+	}
 
-		boolean present = (bb.get()) != 0;
+	/**
+	 * Returns *true* if a WIFI Extension is available to be used by the Master
+	 * Brick.
+	 * 
+	 * Sends the request like {@link BrickMaster#isWifiPresent()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isWifiPresentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_WIFI_PRESENT, this);
 
-		return present;
+		return sendRequestAsync(bb.array(), isWifiPresentDecoder);
 	}
 
 	/**
@@ -1144,36 +1927,67 @@ public class BrickMaster extends Device {
 	}
 
 	/**
-	 * Returns the configuration as set by {@link BrickMaster#setWifiConfiguration(String, short, short[], short[], short[], int)}.
+	 * Sets the configuration of the WIFI Extension.
 	 * 
-	 * .. versionadded:: 1.3.0~(Firmware)
+	 * Sends the request like {@link BrickMaster#setWifiConfiguration(String,
+	 * short, short[], short[], short[], int)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
 	 */
-	public WifiConfiguration getWifiConfiguration() throws TimeoutException, NotConnectedException {
-		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_CONFIGURATION, this);
-
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+	public ResponseFuture<Void> setWifiConfigurationAsync(String ssid, short connection, short[] ip, short[] subnetMask, short[] gateway, int port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)55, FUNCTION_SET_WIFI_CONFIGURATION, this);
+		for(int i = 0; i < 32; i++) {
+			try {
+				bb.put((byte)ssid.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
 
-		WifiConfiguration obj = new WifiConfiguration();
-		obj.ssid = IPConnection.string(bb, 32);
-		obj.connection = IPConnection.unsignedByte(bb.get());
+		bb.put((byte)connection);
 		for(int i = 0; i < 4; i++) {
-			obj.ip[i] = IPConnection.unsignedByte(bb.get());
+			bb.put((byte)ip[i]);
 		}
 
 		for(int i = 0; i < 4; i++) {
-			obj.subnetMask[i] = IPConnection.unsignedByte(bb.get());
+			bb.put((byte)subnetMask[i]);
 		}
 
 		for(int i = 0; i < 4; i++) {
-			obj.gateway[i] = IPConnection.unsignedByte(bb.get());
+			bb.put((byte)gateway[i]);
 		}
 
-		obj.port = IPConnection.unsignedShort(bb.getShort());
+		bb.putShort((short)port);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
+	/**
+	 * Returns the configuration as set by {@link BrickMaster#setWifiConfiguration(String, short, short[], short[], short[], int)}.
+	 * 
+	 * .. versionadded:: 1.3.0~(Firmware)
+	 */
+	public WifiConfiguration getWifiConfiguration() throws TimeoutException, NotConnectedException {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_CONFIGURATION, this);
+
+		return sendRequest(bb.array(), getWifiConfigurationDecoder);
+	}
+
+	/**
+	 * Returns the configuration as set by {@link
+	 * BrickMaster#setWifiConfiguration(String, short, short[], short[],
+	 * short[], int)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiConfiguration()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<WifiConfiguration> getWifiConfigurationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_CONFIGURATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getWifiConfigurationDecoder);
 	}
 
 	/**
@@ -1243,6 +2057,35 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the encryption of the WIFI Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setWifiEncryption(short,
+	 * String, short, short, int, int, int)}, but does not wait for the device.
+	 * If a response is expected, see setResponseExpected, the future completes
+	 * once the device acknowledged the request, otherwise as soon as the
+	 * request is sent.
+	 */
+	public ResponseFuture<Void> setWifiEncryptionAsync(short encryption, String key, short keyIndex, short eapOptions, int caCertificateLength, int clientCertificateLength, int privateKeyLength) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)67, FUNCTION_SET_WIFI_ENCRYPTION, this);
+		bb.put((byte)encryption);
+		for(int i = 0; i < 50; i++) {
+			try {
+				bb.put((byte)key.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		bb.put((byte)keyIndex);
+		bb.put((byte)eapOptions);
+		bb.putShort((short)caCertificateLength);
+		bb.putShort((short)clientCertificateLength);
+		bb.putShort((short)privateKeyLength);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the encryption as set by {@link BrickMaster#setWifiEncryption(short, String, short, short, int, int, int)}.
 	 * 
@@ -1251,21 +2094,23 @@ public class BrickMaster extends Device {
 	public WifiEncryption getWifiEncryption() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_ENCRYPTION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getWifiEncryptionDecoder);
+	}
 
-		WifiEncryption obj = new WifiEncryption();
-		obj.encryption = IPConnection.unsignedByte(bb.get());
-		obj.key = IPConnection.string(bb, 50);
-		obj.keyIndex = IPConnection.unsignedByte(bb.get());
-		obj.eapOptions = IPConnection.unsignedByte(bb.get());
-		obj.caCertificateLength = IPConnection.unsignedShort(bb.getShort());
-		obj.clientCertificateLength = IPConnection.unsignedShort(bb.getShort());
-		obj.privateKeyLength = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the encryption as set by {@link
+	 * BrickMaster#setWifiEncryption(short, String, short, short, int, int,
+	 * int)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiEncryption()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<WifiEncryption> getWifiEncryptionAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_ENCRYPTION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getWifiEncryptionDecoder);
 	}
 
 	/**
@@ -1290,39 +2135,21 @@ public class BrickMaster extends Device {
 	public WifiStatus getWifiStatus() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_STATUS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		WifiStatus obj = new WifiStatus();
-		for(int i = 0; i < 6; i++) {
-			obj.macAddress[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 6; i++) {
-			obj.bssid[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		obj.channel = IPConnection.unsignedByte(bb.get());
-		obj.rssi = (bb.getShort());
-		for(int i = 0; i < 4; i++) {
-			obj.ip[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 4; i++) {
-			obj.subnetMask[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 4; i++) {
-			obj.gateway[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getWifiStatusDecoder);
+	}
 
-		obj.rxCount = IPConnection.unsignedInt(bb.getInt());
-		obj.txCount = IPConnection.unsignedInt(bb.getInt());
-		obj.state = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the status of the WIFI Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiStatus()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<WifiStatus> getWifiStatusAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_STATUS, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getWifiStatusDecoder);
 	}
 
 	/**
@@ -1341,6 +2168,20 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Refreshes the WIFI status (see {@link BrickMaster#getWifiStatus()}).
+	 * 
+	 * Sends the request like {@link BrickMaster#refreshWifiStatus()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> refreshWifiStatusAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_REFRESH_WIFI_STATUS, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * This function is used to set the certificate as well as password and username
 	 * for WPA Enterprise. To set the username use index 0xFFFF,
@@ -1375,6 +2216,27 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * This function is used to set the certificate as well as password and
+	 * username for WPA Enterprise.
+	 * 
+	 * Sends the request like {@link BrickMaster#setWifiCertificate(int,
+	 * short[], short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setWifiCertificateAsync(int index, short[] data, short dataLength) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)43, FUNCTION_SET_WIFI_CERTIFICATE, this);
+		bb.putShort((short)index);
+		for(int i = 0; i < 32; i++) {
+			bb.put((byte)data[i]);
+		}
+
+		bb.put((byte)dataLength);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the certificate for a given index as set by {@link BrickMaster#setWifiCertificate(int, short[], short)}.
 	 * 
@@ -1384,19 +2246,23 @@ public class BrickMaster extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_GET_WIFI_CERTIFICATE, this);
 		bb.putShort((short)index);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		WifiCertificate obj = new WifiCertificate();
-		for(int i = 0; i < 32; i++) {
-			obj.data[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getWifiCertificateDecoder);
+	}
 
-		obj.dataLength = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the certificate for a given index as set by {@link
+	 * BrickMaster#setWifiCertificate(int, short[], short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiCertificate(int)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<WifiCertificate> getWifiCertificateAsync(int index) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_GET_WIFI_CERTIFICATE, this);
+		bb.putShort((short)index);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getWifiCertificateDecoder);
 	}
 
 	/**
@@ -1420,6 +2286,21 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the power mode of the WIFI Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setWifiPowerMode(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setWifiPowerModeAsync(short mode) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_WIFI_POWER_MODE, this);
+		bb.put((byte)mode);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the power mode as set by {@link BrickMaster#setWifiPowerMode(short)}.
 	 * 
@@ -1428,14 +2309,22 @@ public class BrickMaster extends Device {
 	public short getWifiPowerMode() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_POWER_MODE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getWifiPowerModeDecoder);
+	}
 
-		short mode = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the power mode as set by {@link
+	 * BrickMaster#setWifiPowerMode(short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiPowerMode()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getWifiPowerModeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_POWER_MODE, this);
 
-		return mode;
+		return sendRequestAsync(bb.array(), getWifiPowerModeDecoder);
 	}
 
 	/**
@@ -1459,17 +2348,21 @@ public class BrickMaster extends Device {
 	public WifiBufferInfo getWifiBufferInfo() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_BUFFER_INFO, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getWifiBufferInfoDecoder);
+	}
 
-		WifiBufferInfo obj = new WifiBufferInfo();
-		obj.overflow = IPConnection.unsignedInt(bb.getInt());
-		obj.lowWatermark = IPConnection.unsignedShort(bb.getShort());
-		obj.used = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns informations about the WIFI receive buffer.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiBufferInfo()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<WifiBufferInfo> getWifiBufferInfoAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_BUFFER_INFO, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getWifiBufferInfoDecoder);
 	}
 
 	/**
@@ -1494,6 +2387,22 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the regulatory domain of the WIFI Extension.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setWifiRegulatoryDomain(short)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setWifiRegulatoryDomainAsync(short domain) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_WIFI_REGULATORY_DOMAIN, this);
+		bb.put((byte)domain);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the regulatory domain as set by {@link BrickMaster#setWifiRegulatoryDomain(short)}.
 	 * 
@@ -1502,14 +2411,22 @@ public class BrickMaster extends Device {
 	public short getWifiRegulatoryDomain() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_REGULATORY_DOMAIN, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getWifiRegulatoryDomainDecoder);
+	}
 
-		short domain = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the regulatory domain as set by {@link
+	 * BrickMaster#setWifiRegulatoryDomain(short)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiRegulatoryDomain()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getWifiRegulatoryDomainAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_REGULATORY_DOMAIN, this);
 
-		return domain;
+		return sendRequestAsync(bb.array(), getWifiRegulatoryDomainDecoder);
 	}
 
 	/**
@@ -1520,28 +2437,58 @@ public class BrickMaster extends Device {
 	public int getUSBVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_USB_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
+		return sendRequest(bb.array(), getUSBVoltageDecoder);
+	}
+
+	/**
+	 * Returns the USB voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickMaster#getUSBVoltage()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getUSBVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_USB_VOLTAGE, this);
+
+		return sendRequestAsync(bb.array(), getUSBVoltageDecoder);
+	}
 
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+	/**
+	 * Sets a long WIFI key (up to 63 chars, at least 8 chars) for WPA encryption.
+	 * This key will be used
+	 * if the key in {@link BrickMaster#setWifiEncryption(short, String, short, short, int, int, int)} is set to "-". In the old protocol,
+	 * a payload of size 63 was not possible, so the maximum key length was 50 chars.
+	 * 
+	 * With the new protocol this is possible, since we didn't want to break API,
+	 * this function was added additionally.
+	 * 
+	 * .. versionadded:: 2.0.2~(Firmware)
+	 */
+	public void setLongWifiKey(String key) throws TimeoutException, NotConnectedException {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)72, FUNCTION_SET_LONG_WIFI_KEY, this);
+		for(int i = 0; i < 64; i++) {
+			try {
+				bb.put((byte)key.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
 
-		return voltage;
+		sendRequest(bb.array());
 	}
 
 	/**
-	 * Sets a long WIFI key (up to 63 chars, at least 8 chars) for WPA encryption.
-	 * This key will be used
-	 * if the key in {@link BrickMaster#setWifiEncryption(short, String, short, short, int, int, int)} is set to "-". In the old protocol,
-	 * a payload of size 63 was not possible, so the maximum key length was 50 chars.
-	 * 
-	 * With the new protocol this is possible, since we didn't want to break API,
-	 * this function was added additionally.
+	 * Sets a long WIFI key (up to 63 chars, at least 8 chars) for WPA
+	 * encryption.
 	 * 
-	 * .. versionadded:: 2.0.2~(Firmware)
+	 * Sends the request like {@link BrickMaster#setLongWifiKey(String)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
 	 */
-	public void setLongWifiKey(String key) throws TimeoutException, NotConnectedException {
+	public ResponseFuture<Void> setLongWifiKeyAsync(String key) {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)72, FUNCTION_SET_LONG_WIFI_KEY, this);
 		for(int i = 0; i < 64; i++) {
 			try {
@@ -1551,8 +2498,7 @@ public class BrickMaster extends Device {
 			}
 		}
 
-
-		sendRequest(bb.array());
+		return sendRequestAsync(bb.array(), null);
 	}
 
 	/**
@@ -1563,14 +2509,22 @@ public class BrickMaster extends Device {
 	public String getLongWifiKey() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_LONG_WIFI_KEY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getLongWifiKeyDecoder);
+	}
 
-		String key = IPConnection.string(bb, 64);
+	/**
+	 * Returns the encryption key as set by {@link
+	 * BrickMaster#setLongWifiKey(String)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getLongWifiKey()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<String> getLongWifiKeyAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_LONG_WIFI_KEY, this);
 
-		return key;
+		return sendRequestAsync(bb.array(), getLongWifiKeyDecoder);
 	}
 
 	/**
@@ -1595,6 +2549,27 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the hostname of the WIFI Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setWifiHostname(String)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setWifiHostnameAsync(String hostname) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)24, FUNCTION_SET_WIFI_HOSTNAME, this);
+		for(int i = 0; i < 16; i++) {
+			try {
+				bb.put((byte)hostname.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the hostname as set by {@link BrickMaster#getWifiHostname()}.
 	 * 
@@ -1605,14 +2580,21 @@ public class BrickMaster extends Device {
 	public String getWifiHostname() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_HOSTNAME, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getWifiHostnameDecoder);
+	}
 
-		String hostname = IPConnection.string(bb, 16);
+	/**
+	 * Returns the hostname as set by {@link BrickMaster#getWifiHostname()}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getWifiHostname()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<String> getWifiHostnameAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIFI_HOSTNAME, this);
 
-		return hostname;
+		return sendRequestAsync(bb.array(), getWifiHostnameDecoder);
 	}
 
 	/**
@@ -1633,6 +2615,23 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickMaster.StackCurrentListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setStackCurrentCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setStackCurrentCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_STACK_CURRENT_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by :func:`SetCurrentCallbackPeriod`.
 	 * 
@@ -1641,14 +2640,21 @@ public class BrickMaster extends Device {
 	public long getStackCurrentCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_CURRENT_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackCurrentCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by :func:`SetCurrentCallbackPeriod`.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#getStackCurrentCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getStackCurrentCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_CURRENT_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getStackCurrentCallbackPeriodDecoder);
 	}
 
 	/**
@@ -1669,6 +2675,23 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickMaster.StackVoltageListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setStackVoltageCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setStackVoltageCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_STACK_VOLTAGE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickMaster#setStackVoltageCallbackPeriod(long)}.
 	 * 
@@ -1677,14 +2700,22 @@ public class BrickMaster extends Device {
 	public long getStackVoltageCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_VOLTAGE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackVoltageCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickMaster#setStackVoltageCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#getStackVoltageCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getStackVoltageCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_VOLTAGE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getStackVoltageCallbackPeriodDecoder);
 	}
 
 	/**
@@ -1705,6 +2736,23 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickMaster.USBVoltageListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setUSBVoltageCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setUSBVoltageCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_USB_VOLTAGE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickMaster#setUSBVoltageCallbackPeriod(long)}.
 	 * 
@@ -1713,14 +2761,22 @@ public class BrickMaster extends Device {
 	public long getUSBVoltageCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_USB_VOLTAGE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getUSBVoltageCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickMaster#setUSBVoltageCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#getUSBVoltageCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getUSBVoltageCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_USB_VOLTAGE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getUSBVoltageCallbackPeriodDecoder);
 	}
 
 	/**
@@ -1751,6 +2807,25 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickMaster.StackCurrentReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setStackCurrentCallbackThreshold(char, int, int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setStackCurrentCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_STACK_CURRENT_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickMaster#setStackCurrentCallbackThreshold(char, int, int)}.
 	 * 
@@ -1759,17 +2834,22 @@ public class BrickMaster extends Device {
 	public StackCurrentCallbackThreshold getStackCurrentCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_CURRENT_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackCurrentCallbackThresholdDecoder);
+	}
 
-		StackCurrentCallbackThreshold obj = new StackCurrentCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickMaster#setStackCurrentCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#getStackCurrentCallbackThreshold()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<StackCurrentCallbackThreshold> getStackCurrentCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_CURRENT_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getStackCurrentCallbackThresholdDecoder);
 	}
 
 	/**
@@ -1800,6 +2880,24 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the :func:`StackStackVoltageReached` listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setStackVoltageCallbackThreshold(char, int, int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setStackVoltageCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_STACK_VOLTAGE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickMaster#setStackVoltageCallbackThreshold(char, int, int)}.
 	 * 
@@ -1808,17 +2906,22 @@ public class BrickMaster extends Device {
 	public StackVoltageCallbackThreshold getStackVoltageCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackVoltageCallbackThresholdDecoder);
+	}
 
-		StackVoltageCallbackThreshold obj = new StackVoltageCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickMaster#setStackVoltageCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#getStackVoltageCallbackThreshold()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<StackVoltageCallbackThreshold> getStackVoltageCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getStackVoltageCallbackThresholdDecoder);
 	}
 
 	/**
@@ -1849,6 +2952,25 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickMaster.USBVoltageReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setUSBVoltageCallbackThreshold(char, int, int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setUSBVoltageCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_USB_VOLTAGE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickMaster#setUSBVoltageCallbackThreshold(char, int, int)}.
 	 * 
@@ -1857,17 +2979,22 @@ public class BrickMaster extends Device {
 	public USBVoltageCallbackThreshold getUSBVoltageCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_USB_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getUSBVoltageCallbackThresholdDecoder);
+	}
 
-		USBVoltageCallbackThreshold obj = new USBVoltageCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickMaster#setUSBVoltageCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#getUSBVoltageCallbackThreshold()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<USBVoltageCallbackThreshold> getUSBVoltageCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_USB_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getUSBVoltageCallbackThresholdDecoder);
 	}
 
 	/**
@@ -1896,6 +3023,21 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listeners.
+	 * 
+	 * Sends the request like {@link BrickMaster#setDebouncePeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickMaster#setDebouncePeriod(long)}.
 	 * 
@@ -1904,14 +3046,22 @@ public class BrickMaster extends Device {
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickMaster#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getDebouncePeriod()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -1923,14 +3073,22 @@ public class BrickMaster extends Device {
 	public boolean isEthernetPresent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ETHERNET_PRESENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isEthernetPresentDecoder);
+	}
 
-		boolean present = (bb.get()) != 0;
+	/**
+	 * Returns *true* if a Ethernet Extension is available to be used by the
+	 * Master Brick.
+	 * 
+	 * Sends the request like {@link BrickMaster#isEthernetPresent()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isEthernetPresentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ETHERNET_PRESENT, this);
 
-		return present;
+		return sendRequestAsync(bb.array(), isEthernetPresentDecoder);
 	}
 
 	/**
@@ -1981,35 +3139,59 @@ public class BrickMaster extends Device {
 	}
 
 	/**
-	 * Returns the configuration as set by {@link BrickMaster#setEthernetConfiguration(short, short[], short[], short[], int)}.
+	 * Sets the configuration of the Ethernet Extension.
 	 * 
-	 * .. versionadded:: 2.1.0~(Firmware)
+	 * Sends the request like {@link
+	 * BrickMaster#setEthernetConfiguration(short, short[], short[], short[],
+	 * int)}, but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
 	 */
-	public EthernetConfiguration getEthernetConfiguration() throws TimeoutException, NotConnectedException {
-		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ETHERNET_CONFIGURATION, this);
-
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		EthernetConfiguration obj = new EthernetConfiguration();
-		obj.connection = IPConnection.unsignedByte(bb.get());
+	public ResponseFuture<Void> setEthernetConfigurationAsync(short connection, short[] ip, short[] subnetMask, short[] gateway, int port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)23, FUNCTION_SET_ETHERNET_CONFIGURATION, this);
+		bb.put((byte)connection);
 		for(int i = 0; i < 4; i++) {
-			obj.ip[i] = IPConnection.unsignedByte(bb.get());
+			bb.put((byte)ip[i]);
 		}
 
 		for(int i = 0; i < 4; i++) {
-			obj.subnetMask[i] = IPConnection.unsignedByte(bb.get());
+			bb.put((byte)subnetMask[i]);
 		}
 
 		for(int i = 0; i < 4; i++) {
-			obj.gateway[i] = IPConnection.unsignedByte(bb.get());
+			bb.put((byte)gateway[i]);
 		}
 
-		obj.port = IPConnection.unsignedShort(bb.getShort());
+		bb.putShort((short)port);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
+	/**
+	 * Returns the configuration as set by {@link BrickMaster#setEthernetConfiguration(short, short[], short[], short[], int)}.
+	 * 
+	 * .. versionadded:: 2.1.0~(Firmware)
+	 */
+	public EthernetConfiguration getEthernetConfiguration() throws TimeoutException, NotConnectedException {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ETHERNET_CONFIGURATION, this);
+
+		return sendRequest(bb.array(), getEthernetConfigurationDecoder);
+	}
+
+	/**
+	 * Returns the configuration as set by {@link
+	 * BrickMaster#setEthernetConfiguration(short, short[], short[], short[],
+	 * int)}.
+	 * 
+	 * Sends the request like {@link BrickMaster#getEthernetConfiguration()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<EthernetConfiguration> getEthernetConfigurationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ETHERNET_CONFIGURATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getEthernetConfigurationDecoder);
 	}
 
 	/**
@@ -2028,33 +3210,21 @@ public class BrickMaster extends Device {
 	public EthernetStatus getEthernetStatus() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ETHERNET_STATUS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		EthernetStatus obj = new EthernetStatus();
-		for(int i = 0; i < 6; i++) {
-			obj.macAddress[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 4; i++) {
-			obj.ip[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 4; i++) {
-			obj.subnetMask[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 4; i++) {
-			obj.gateway[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getEthernetStatusDecoder);
+	}
 
-		obj.rxCount = IPConnection.unsignedInt(bb.getInt());
-		obj.txCount = IPConnection.unsignedInt(bb.getInt());
-		obj.hostname = IPConnection.string(bb, 32);
+	/**
+	 * Returns the status of the Ethernet Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#getEthernetStatus()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<EthernetStatus> getEthernetStatusAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ETHERNET_STATUS, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getEthernetStatusDecoder);
 	}
 
 	/**
@@ -2081,6 +3251,27 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the hostname of the Ethernet Extension.
+	 * 
+	 * Sends the request like {@link BrickMaster#setEthernetHostname(String)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setEthernetHostnameAsync(String hostname) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)40, FUNCTION_SET_ETHERNET_HOSTNAME, this);
+		for(int i = 0; i < 32; i++) {
+			try {
+				bb.put((byte)hostname.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Sets the MAC address of the Ethernet Extension. The Ethernet Extension should
 	 * come configured with a valid MAC address, that is also written on a
@@ -2100,6 +3291,24 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the MAC address of the Ethernet Extension.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#setEthernetMACAddress(short[])}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setEthernetMACAddressAsync(short[] macAddress) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_SET_ETHERNET_MAC_ADDRESS, this);
+		for(int i = 0; i < 6; i++) {
+			bb.put((byte)macAddress[i]);
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the firmware and protocol version and the name of the Bricklet for a
 	 * given port.
@@ -2113,20 +3322,23 @@ public class BrickMaster extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Protocol1BrickletName obj = new Protocol1BrickletName();
-		obj.protocolVersion = IPConnection.unsignedByte(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getProtocol1BrickletNameDecoder);
+	}
 
-		obj.name = IPConnection.string(bb, 40);
+	/**
+	 * Returns the firmware and protocol version and the name of the Bricklet
+	 * for a given port.
+	 * 
+	 * Sends the request like {@link
+	 * BrickMaster#getProtocol1BrickletName(char)}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Protocol1BrickletName> getProtocol1BrickletNameAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
+		bb.put((byte)port);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getProtocol1BrickletNameDecoder);
 	}
 
 	/**
@@ -2142,14 +3354,21 @@ public class BrickMaster extends Device {
 	public short getChipTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChipTemperatureDecoder);
+	}
 
-		short temperature = (bb.getShort());
+	/**
+	 * Returns the temperature in °C/10 as measured inside the microcontroller.
+	 * 
+	 * Sends the request like {@link BrickMaster#getChipTemperature()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChipTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getChipTemperatureDecoder);
 	}
 
 	/**
@@ -2168,6 +3387,20 @@ public class BrickMaster extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Calling this function will reset the Brick.
+	 * 
+	 * Sends the request like {@link BrickMaster#reset()}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> resetAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_RESET, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Brick is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -2182,26 +3415,22 @@ public class BrickMaster extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Brick is connected to, the position,
+	 * the hardware and firmware version as well as the device identifier.
+	 * 
+	 * Sends the request like {@link BrickMaster#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
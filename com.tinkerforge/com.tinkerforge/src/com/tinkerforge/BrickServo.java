@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -138,6 +137,228 @@ public class BrickServo extends Device {
 		public void velocityReached(short servoNum, short velocity);
 	}
 
+	private final ResponseDecoder<Boolean> isEnabledDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean enabled = (pr.get()) != 0;
+
+			return enabled;
+		}
+	};
+
+	private final ResponseDecoder<Short> getPositionDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short position = (pr.getShort());
+
+			return position;
+		}
+	};
+
+	private final ResponseDecoder<Short> getCurrentPositionDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short position = (pr.getShort());
+
+			return position;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getVelocityDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int velocity = IPConnection.unsignedShort(pr.getShort());
+
+			return velocity;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getCurrentVelocityDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int velocity = IPConnection.unsignedShort(pr.getShort());
+
+			return velocity;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getAccelerationDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int acceleration = IPConnection.unsignedShort(pr.getShort());
+
+			return acceleration;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getOutputVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<PulseWidth> getPulseWidthDecoder = new ResponseDecoder<PulseWidth>() {
+		public PulseWidth decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			PulseWidth obj = new PulseWidth();
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Degree> getDegreeDecoder = new ResponseDecoder<Degree>() {
+		public Degree decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Degree obj = new Degree();
+			obj.min = (pr.getShort());
+			obj.max = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getPeriodDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int period = IPConnection.unsignedShort(pr.getShort());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getServoCurrentDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int current = IPConnection.unsignedShort(pr.getShort());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getOverallCurrentDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int current = IPConnection.unsignedShort(pr.getShort());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getStackInputVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getExternalInputVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getMinimumVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Short> isPositionReachedCallbackEnabledDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short enabled = IPConnection.unsignedByte(pr.get());
+
+			return enabled;
+		}
+	};
+
+	private final ResponseDecoder<Short> isVelocityReachedCallbackEnabledDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short enabled = IPConnection.unsignedByte(pr.get());
+
+			return enabled;
+		}
+	};
+
+	private final ResponseDecoder<Protocol1BrickletName> getProtocol1BrickletNameDecoder = new ResponseDecoder<Protocol1BrickletName>() {
+		public Protocol1BrickletName decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Protocol1BrickletName obj = new Protocol1BrickletName();
+			obj.protocolVersion = IPConnection.unsignedByte(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.name = pr.string(40);
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChipTemperatureDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short temperature = (pr.getShort());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -189,10 +410,9 @@ public class BrickServo extends Device {
 
 		callbacks[CALLBACK_UNDER_VOLTAGE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(UnderVoltageListener listener: listenerUnderVoltage) {
 					listener.underVoltage(voltage);
@@ -202,11 +422,10 @@ public class BrickServo extends Device {
 
 		callbacks[CALLBACK_POSITION_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short servoNum = IPConnection.unsignedByte(bb.get());
-				short position = (bb.getShort());
+				short servoNum = IPConnection.unsignedByte(pr.get());
+				short position = (pr.getShort());
 
 				for(PositionReachedListener listener: listenerPositionReached) {
 					listener.positionReached(servoNum, position);
@@ -216,11 +435,10 @@ public class BrickServo extends Device {
 
 		callbacks[CALLBACK_VELOCITY_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short servoNum = IPConnection.unsignedByte(bb.get());
-				short velocity = (bb.getShort());
+				short servoNum = IPConnection.unsignedByte(pr.get());
+				short velocity = (pr.getShort());
 
 				for(VelocityReachedListener listener: listenerVelocityReached) {
 					listener.velocityReached(servoNum, velocity);
@@ -240,6 +458,21 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Enables a servo (0 to 6).
+	 * 
+	 * Sends the request like {@link BrickServo#enable(short)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> enableAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_ENABLE, this);
+		bb.put((byte)servoNum);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Disables a servo (0 to 6). Disabled servos are not driven at all, i.e. a
 	 * disabled servo will not hold its position if a load is applied.
@@ -251,6 +484,21 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Disables a servo (0 to 6).
+	 * 
+	 * Sends the request like {@link BrickServo#disable(short)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> disableAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_DISABLE, this);
+		bb.put((byte)servoNum);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the specified servo is enabled, *false* otherwise.
 	 */
@@ -258,14 +506,22 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_IS_ENABLED, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isEnabledDecoder);
+	}
 
-		boolean enabled = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the specified servo is enabled, *false* otherwise.
+	 * 
+	 * Sends the request like {@link BrickServo#isEnabled(short)}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isEnabledAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_IS_ENABLED, this);
+		bb.put((byte)servoNum);
 
-		return enabled;
+		return sendRequestAsync(bb.array(), isEnabledDecoder);
 	}
 
 	/**
@@ -286,6 +542,22 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the position in °/100 for the specified servo.
+	 * 
+	 * Sends the request like {@link BrickServo#setPosition(short, short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPositionAsync(short servoNum, short position) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_POSITION, this);
+		bb.put((byte)servoNum);
+		bb.putShort(position);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the position of the specified servo as set by {@link BrickServo#setPosition(short, short)}.
 	 */
@@ -293,14 +565,23 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_POSITION, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPositionDecoder);
+	}
 
-		short position = (bb.getShort());
+	/**
+	 * Returns the position of the specified servo as set by {@link
+	 * BrickServo#setPosition(short, short)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getPosition(short)}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getPositionAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_POSITION, this);
+		bb.put((byte)servoNum);
 
-		return position;
+		return sendRequestAsync(bb.array(), getPositionDecoder);
 	}
 
 	/**
@@ -312,14 +593,22 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_POSITION, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentPositionDecoder);
+	}
 
-		short position = (bb.getShort());
+	/**
+	 * Returns the *current* position of the specified servo.
+	 * 
+	 * Sends the request like {@link BrickServo#getCurrentPosition(short)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getCurrentPositionAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_POSITION, this);
+		bb.put((byte)servoNum);
 
-		return position;
+		return sendRequestAsync(bb.array(), getCurrentPositionDecoder);
 	}
 
 	/**
@@ -339,6 +628,22 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the maximum velocity of the specified servo in °/100s.
+	 * 
+	 * Sends the request like {@link BrickServo#setVelocity(short, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setVelocityAsync(short servoNum, int velocity) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_VELOCITY, this);
+		bb.put((byte)servoNum);
+		bb.putShort((short)velocity);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the velocity of the specified servo as set by {@link BrickServo#setVelocity(short, int)}.
 	 */
@@ -346,14 +651,23 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_VELOCITY, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVelocityDecoder);
+	}
 
-		int velocity = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the velocity of the specified servo as set by {@link
+	 * BrickServo#setVelocity(short, int)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getVelocity(short)}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getVelocityAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_VELOCITY, this);
+		bb.put((byte)servoNum);
 
-		return velocity;
+		return sendRequestAsync(bb.array(), getVelocityDecoder);
 	}
 
 	/**
@@ -365,14 +679,22 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_VELOCITY, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentVelocityDecoder);
+	}
 
-		int velocity = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the *current* velocity of the specified servo.
+	 * 
+	 * Sends the request like {@link BrickServo#getCurrentVelocity(short)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentVelocityAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_VELOCITY, this);
+		bb.put((byte)servoNum);
 
-		return velocity;
+		return sendRequestAsync(bb.array(), getCurrentVelocityDecoder);
 	}
 
 	/**
@@ -391,6 +713,22 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the acceleration of the specified servo in °/100s².
+	 * 
+	 * Sends the request like {@link BrickServo#setAcceleration(short, int)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAccelerationAsync(short servoNum, int acceleration) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_ACCELERATION, this);
+		bb.put((byte)servoNum);
+		bb.putShort((short)acceleration);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the acceleration for the specified servo as set by 
 	 * {@link BrickServo#setAcceleration(short, int)}.
@@ -399,14 +737,23 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_ACCELERATION, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAccelerationDecoder);
+	}
 
-		int acceleration = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the acceleration for the specified servo as set by {@link
+	 * BrickServo#setAcceleration(short, int)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getAcceleration(short)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAccelerationAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_ACCELERATION, this);
+		bb.put((byte)servoNum);
 
-		return acceleration;
+		return sendRequestAsync(bb.array(), getAccelerationDecoder);
 	}
 
 	/**
@@ -428,20 +775,43 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the output voltages with which the servos are driven in mV.
+	 * 
+	 * Sends the request like {@link BrickServo#setOutputVoltage(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setOutputVoltageAsync(int voltage) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_OUTPUT_VOLTAGE, this);
+		bb.putShort((short)voltage);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the output voltage as specified by {@link BrickServo#setOutputVoltage(int)}.
 	 */
 	public int getOutputVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_OUTPUT_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getOutputVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the output voltage as specified by {@link
+	 * BrickServo#setOutputVoltage(int)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getOutputVoltage()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getOutputVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_OUTPUT_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getOutputVoltageDecoder);
 	}
 
 	/**
@@ -472,6 +842,23 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the minimum and maximum pulse width of the specified servo in µs.
+	 * 
+	 * Sends the request like {@link BrickServo#setPulseWidth(short, int,
+	 * int)}, but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPulseWidthAsync(short servoNum, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_PULSE_WIDTH, this);
+		bb.put((byte)servoNum);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the minimum and maximum pulse width for the specified servo as set by
 	 * {@link BrickServo#setPulseWidth(short, int, int)}.
@@ -480,16 +867,23 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PULSE_WIDTH, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPulseWidthDecoder);
+	}
 
-		PulseWidth obj = new PulseWidth();
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the minimum and maximum pulse width for the specified servo as
+	 * set by {@link BrickServo#setPulseWidth(short, int, int)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getPulseWidth(short)}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<PulseWidth> getPulseWidthAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PULSE_WIDTH, this);
+		bb.put((byte)servoNum);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getPulseWidthDecoder);
 	}
 
 	/**
@@ -533,6 +927,24 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the minimum and maximum degree for the specified servo (by default
+	 * given as °/100).
+	 * 
+	 * Sends the request like {@link BrickServo#setDegree(short, short,
+	 * short)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDegreeAsync(short servoNum, short min, short max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_DEGREE, this);
+		bb.put((byte)servoNum);
+		bb.putShort(min);
+		bb.putShort(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the minimum and maximum degree for the specified servo as set by
 	 * {@link BrickServo#setDegree(short, short, short)}.
@@ -541,16 +953,23 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_DEGREE, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDegreeDecoder);
+	}
 
-		Degree obj = new Degree();
-		obj.min = (bb.getShort());
-		obj.max = (bb.getShort());
+	/**
+	 * Returns the minimum and maximum degree for the specified servo as set by
+	 * {@link BrickServo#setDegree(short, short, short)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getDegree(short)}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Degree> getDegreeAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_DEGREE, this);
+		bb.put((byte)servoNum);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getDegreeDecoder);
 	}
 
 	/**
@@ -578,6 +997,22 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period of the specified servo in µs.
+	 * 
+	 * Sends the request like {@link BrickServo#setPeriod(short, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPeriodAsync(short servoNum, int period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_PERIOD, this);
+		bb.put((byte)servoNum);
+		bb.putShort((short)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period for the specified servo as set by {@link BrickServo#setPeriod(short, int)}.
 	 */
@@ -585,14 +1020,23 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PERIOD, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPeriodDecoder);
+	}
 
-		int period = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the period for the specified servo as set by {@link
+	 * BrickServo#setPeriod(short, int)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getPeriod(short)}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getPeriodAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PERIOD, this);
+		bb.put((byte)servoNum);
 
-		return period;
+		return sendRequestAsync(bb.array(), getPeriodDecoder);
 	}
 
 	/**
@@ -602,14 +1046,22 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_SERVO_CURRENT, this);
 		bb.put((byte)servoNum);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getServoCurrentDecoder);
+	}
 
-		int current = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the current consumption of the specified servo in mA.
+	 * 
+	 * Sends the request like {@link BrickServo#getServoCurrent(short)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getServoCurrentAsync(short servoNum) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_SERVO_CURRENT, this);
+		bb.put((byte)servoNum);
 
-		return current;
+		return sendRequestAsync(bb.array(), getServoCurrentDecoder);
 	}
 
 	/**
@@ -618,14 +1070,21 @@ public class BrickServo extends Device {
 	public int getOverallCurrent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_OVERALL_CURRENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getOverallCurrentDecoder);
+	}
 
-		int current = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the current consumption of all servos together in mA.
+	 * 
+	 * Sends the request like {@link BrickServo#getOverallCurrent()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getOverallCurrentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_OVERALL_CURRENT, this);
 
-		return current;
+		return sendRequestAsync(bb.array(), getOverallCurrentDecoder);
 	}
 
 	/**
@@ -636,14 +1095,21 @@ public class BrickServo extends Device {
 	public int getStackInputVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_INPUT_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackInputVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the stack input voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickServo#getStackInputVoltage()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getStackInputVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_INPUT_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getStackInputVoltageDecoder);
 	}
 
 	/**
@@ -663,14 +1129,21 @@ public class BrickServo extends Device {
 	public int getExternalInputVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EXTERNAL_INPUT_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getExternalInputVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the external input voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickServo#getExternalInputVoltage()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getExternalInputVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EXTERNAL_INPUT_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getExternalInputVoltageDecoder);
 	}
 
 	/**
@@ -689,20 +1162,44 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the minimum voltage in mV, below which the {@link
+	 * BrickServo.UnderVoltageListener} listener is triggered.
+	 * 
+	 * Sends the request like {@link BrickServo#setMinimumVoltage(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMinimumVoltageAsync(int voltage) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_MINIMUM_VOLTAGE, this);
+		bb.putShort((short)voltage);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the minimum voltage as set by {@link BrickServo#setMinimumVoltage(int)}
 	 */
 	public int getMinimumVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MINIMUM_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMinimumVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the minimum voltage as set by {@link
+	 * BrickServo#setMinimumVoltage(int)}.
+	 * 
+	 * Sends the request like {@link BrickServo#getMinimumVoltage()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getMinimumVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MINIMUM_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getMinimumVoltageDecoder);
 	}
 
 	/**
@@ -718,6 +1215,21 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Enables the {@link BrickServo.PositionReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickServo#enablePositionReachedCallback()}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> enablePositionReachedCallbackAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ENABLE_POSITION_REACHED_CALLBACK, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Disables the {@link BrickServo.PositionReachedListener} listener.
 	 * 
@@ -731,6 +1243,21 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Disables the {@link BrickServo.PositionReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickServo#disablePositionReachedCallback()}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> disablePositionReachedCallbackAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_DISABLE_POSITION_REACHED_CALLBACK, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if {@link BrickServo.PositionReachedListener} listener is enabled, *false* otherwise.
 	 * 
@@ -739,14 +1266,22 @@ public class BrickServo extends Device {
 	public short isPositionReachedCallbackEnabled() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_POSITION_REACHED_CALLBACK_ENABLED, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isPositionReachedCallbackEnabledDecoder);
+	}
 
-		short enabled = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns *true* if {@link BrickServo.PositionReachedListener} listener is
+	 * enabled, *false* otherwise.
+	 * 
+	 * Sends the request like {@link
+	 * BrickServo#isPositionReachedCallbackEnabled()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> isPositionReachedCallbackEnabledAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_POSITION_REACHED_CALLBACK_ENABLED, this);
 
-		return enabled;
+		return sendRequestAsync(bb.array(), isPositionReachedCallbackEnabledDecoder);
 	}
 
 	/**
@@ -762,6 +1297,21 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Enables the {@link BrickServo.VelocityReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickServo#enableVelocityReachedCallback()}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> enableVelocityReachedCallbackAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ENABLE_VELOCITY_REACHED_CALLBACK, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Disables the {@link BrickServo.VelocityReachedListener} listener.
 	 * 
@@ -775,6 +1325,21 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Disables the {@link BrickServo.VelocityReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickServo#disableVelocityReachedCallback()}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> disableVelocityReachedCallbackAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_DISABLE_VELOCITY_REACHED_CALLBACK, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if {@link BrickServo.VelocityReachedListener} listener is enabled, *false* otherwise.
 	 * 
@@ -783,14 +1348,22 @@ public class BrickServo extends Device {
 	public short isVelocityReachedCallbackEnabled() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_VELOCITY_REACHED_CALLBACK_ENABLED, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isVelocityReachedCallbackEnabledDecoder);
+	}
 
-		short enabled = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns *true* if {@link BrickServo.VelocityReachedListener} listener is
+	 * enabled, *false* otherwise.
+	 * 
+	 * Sends the request like {@link
+	 * BrickServo#isVelocityReachedCallbackEnabled()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> isVelocityReachedCallbackEnabledAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_VELOCITY_REACHED_CALLBACK_ENABLED, this);
 
-		return enabled;
+		return sendRequestAsync(bb.array(), isVelocityReachedCallbackEnabledDecoder);
 	}
 
 	/**
@@ -806,20 +1379,23 @@ public class BrickServo extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Protocol1BrickletName obj = new Protocol1BrickletName();
-		obj.protocolVersion = IPConnection.unsignedByte(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getProtocol1BrickletNameDecoder);
+	}
 
-		obj.name = IPConnection.string(bb, 40);
+	/**
+	 * Returns the firmware and protocol version and the name of the Bricklet
+	 * for a given port.
+	 * 
+	 * Sends the request like {@link
+	 * BrickServo#getProtocol1BrickletName(char)}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Protocol1BrickletName> getProtocol1BrickletNameAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
+		bb.put((byte)port);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getProtocol1BrickletNameDecoder);
 	}
 
 	/**
@@ -835,14 +1411,21 @@ public class BrickServo extends Device {
 	public short getChipTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChipTemperatureDecoder);
+	}
 
-		short temperature = (bb.getShort());
+	/**
+	 * Returns the temperature in °C/10 as measured inside the microcontroller.
+	 * 
+	 * Sends the request like {@link BrickServo#getChipTemperature()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChipTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getChipTemperatureDecoder);
 	}
 
 	/**
@@ -861,6 +1444,20 @@ public class BrickServo extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Calling this function will reset the Brick.
+	 * 
+	 * Sends the request like {@link BrickServo#reset()}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> resetAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_RESET, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Brick is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -875,26 +1472,22 @@ public class BrickServo extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Brick is connected to, the position,
+	 * the hardware and firmware version as well as the device identifier.
+	 * 
+	 * Sends the request like {@link BrickServo#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
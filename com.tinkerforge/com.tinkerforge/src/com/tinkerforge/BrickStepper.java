@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -171,6 +170,252 @@ public class BrickStepper extends Device {
 		public void newState(short stateNew, short statePrevious);
 	}
 
+	private final ResponseDecoder<Integer> getMaxVelocityDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int velocity = IPConnection.unsignedShort(pr.getShort());
+
+			return velocity;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getCurrentVelocityDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int velocity = IPConnection.unsignedShort(pr.getShort());
+
+			return velocity;
+		}
+	};
+
+	private final ResponseDecoder<SpeedRamping> getSpeedRampingDecoder = new ResponseDecoder<SpeedRamping>() {
+		public SpeedRamping decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			SpeedRamping obj = new SpeedRamping();
+			obj.acceleration = IPConnection.unsignedShort(pr.getShort());
+			obj.deacceleration = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getCurrentPositionDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int position = (pr.getInt());
+
+			return position;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getTargetPositionDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int position = (pr.getInt());
+
+			return position;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getStepsDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int steps = (pr.getInt());
+
+			return steps;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getRemainingStepsDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int steps = (pr.getInt());
+
+			return steps;
+		}
+	};
+
+	private final ResponseDecoder<Short> getStepModeDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short mode = IPConnection.unsignedByte(pr.get());
+
+			return mode;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getStackInputVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getExternalInputVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getCurrentConsumptionDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int current = IPConnection.unsignedShort(pr.getShort());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getMotorCurrentDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int current = IPConnection.unsignedShort(pr.getShort());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isEnabledDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean enabled = (pr.get()) != 0;
+
+			return enabled;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getDecayDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int decay = IPConnection.unsignedShort(pr.getShort());
+
+			return decay;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getMinimumVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isSyncRectDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean syncRect = (pr.get()) != 0;
+
+			return syncRect;
+		}
+	};
+
+	private final ResponseDecoder<Long> getTimeBaseDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long timeBase = IPConnection.unsignedInt(pr.getInt());
+
+			return timeBase;
+		}
+	};
+
+	private final ResponseDecoder<AllData> getAllDataDecoder = new ResponseDecoder<AllData>() {
+		public AllData decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AllData obj = new AllData();
+			obj.currentVelocity = IPConnection.unsignedShort(pr.getShort());
+			obj.currentPosition = (pr.getInt());
+			obj.remainingSteps = (pr.getInt());
+			obj.stackVoltage = IPConnection.unsignedShort(pr.getShort());
+			obj.externalVoltage = IPConnection.unsignedShort(pr.getShort());
+			obj.currentConsumption = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAllDataPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Protocol1BrickletName> getProtocol1BrickletNameDecoder = new ResponseDecoder<Protocol1BrickletName>() {
+		public Protocol1BrickletName decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Protocol1BrickletName obj = new Protocol1BrickletName();
+			obj.protocolVersion = IPConnection.unsignedByte(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.name = pr.string(40);
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChipTemperatureDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short temperature = (pr.getShort());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -229,10 +474,9 @@ public class BrickStepper extends Device {
 
 		callbacks[CALLBACK_UNDER_VOLTAGE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(UnderVoltageListener listener: listenerUnderVoltage) {
 					listener.underVoltage(voltage);
@@ -242,10 +486,9 @@ public class BrickStepper extends Device {
 
 		callbacks[CALLBACK_POSITION_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int position = (bb.getInt());
+				int position = (pr.getInt());
 
 				for(PositionReachedListener listener: listenerPositionReached) {
 					listener.positionReached(position);
@@ -255,15 +498,14 @@ public class BrickStepper extends Device {
 
 		callbacks[CALLBACK_ALL_DATA] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int currentVelocity = IPConnection.unsignedShort(bb.getShort());
-				int currentPosition = (bb.getInt());
-				int remainingSteps = (bb.getInt());
-				int stackVoltage = IPConnection.unsignedShort(bb.getShort());
-				int externalVoltage = IPConnection.unsignedShort(bb.getShort());
-				int currentConsumption = IPConnection.unsignedShort(bb.getShort());
+				int currentVelocity = IPConnection.unsignedShort(pr.getShort());
+				int currentPosition = (pr.getInt());
+				int remainingSteps = (pr.getInt());
+				int stackVoltage = IPConnection.unsignedShort(pr.getShort());
+				int externalVoltage = IPConnection.unsignedShort(pr.getShort());
+				int currentConsumption = IPConnection.unsignedShort(pr.getShort());
 
 				for(AllDataListener listener: listenerAllData) {
 					listener.allData(currentVelocity, currentPosition, remainingSteps, stackVoltage, externalVoltage, currentConsumption);
@@ -273,11 +515,10 @@ public class BrickStepper extends Device {
 
 		callbacks[CALLBACK_NEW_STATE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short stateNew = IPConnection.unsignedByte(bb.get());
-				short statePrevious = IPConnection.unsignedByte(bb.get());
+				short stateNew = IPConnection.unsignedByte(pr.get());
+				short statePrevious = IPConnection.unsignedByte(pr.get());
 
 				for(NewStateListener listener: listenerNewState) {
 					listener.newState(stateNew, statePrevious);
@@ -300,20 +541,42 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the maximum velocity of the stepper motor in steps per second.
+	 * 
+	 * Sends the request like {@link BrickStepper#setMaxVelocity(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMaxVelocityAsync(int velocity) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_MAX_VELOCITY, this);
+		bb.putShort((short)velocity);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the velocity as set by {@link BrickStepper#setMaxVelocity(int)}.
 	 */
 	public int getMaxVelocity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAX_VELOCITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMaxVelocityDecoder);
+	}
 
-		int velocity = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the velocity as set by {@link BrickStepper#setMaxVelocity(int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getMaxVelocity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getMaxVelocityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MAX_VELOCITY, this);
 
-		return velocity;
+		return sendRequestAsync(bb.array(), getMaxVelocityDecoder);
 	}
 
 	/**
@@ -322,14 +585,21 @@ public class BrickStepper extends Device {
 	public int getCurrentVelocity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_VELOCITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentVelocityDecoder);
+	}
 
-		int velocity = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the *current* velocity of the stepper motor in steps per second.
+	 * 
+	 * Sends the request like {@link BrickStepper#getCurrentVelocity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentVelocityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_VELOCITY, this);
 
-		return velocity;
+		return sendRequestAsync(bb.array(), getCurrentVelocityDecoder);
 	}
 
 	/**
@@ -354,6 +624,22 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the acceleration and deacceleration of the stepper motor.
+	 * 
+	 * Sends the request like {@link BrickStepper#setSpeedRamping(int, int)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSpeedRampingAsync(int acceleration, int deacceleration) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_SPEED_RAMPING, this);
+		bb.putShort((short)acceleration);
+		bb.putShort((short)deacceleration);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the acceleration and deacceleration as set by 
 	 * {@link BrickStepper#setSpeedRamping(int, int)}.
@@ -361,16 +647,22 @@ public class BrickStepper extends Device {
 	public SpeedRamping getSpeedRamping() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SPEED_RAMPING, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getSpeedRampingDecoder);
+	}
 
-		SpeedRamping obj = new SpeedRamping();
-		obj.acceleration = IPConnection.unsignedShort(bb.getShort());
-		obj.deacceleration = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the acceleration and deacceleration as set by {@link
+	 * BrickStepper#setSpeedRamping(int, int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getSpeedRamping()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<SpeedRamping> getSpeedRampingAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SPEED_RAMPING, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getSpeedRampingDecoder);
 	}
 
 	/**
@@ -389,6 +681,20 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Executes an active full brake.
+	 * 
+	 * Sends the request like {@link BrickStepper#fullBrake()}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> fullBrakeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_FULL_BRAKE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Sets the current steps of the internal step counter. This can be used to
 	 * set the current position to 0 when some kind of starting position
@@ -401,6 +707,21 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the current steps of the internal step counter.
+	 * 
+	 * Sends the request like {@link BrickStepper#setCurrentPosition(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentPositionAsync(int position) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_CURRENT_POSITION, this);
+		bb.putInt(position);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current position of the stepper motor in steps. On startup
 	 * the position is 0. The steps are counted with all possible driving
@@ -411,14 +732,21 @@ public class BrickStepper extends Device {
 	public int getCurrentPosition() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_POSITION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentPositionDecoder);
+	}
 
-		int position = (bb.getInt());
+	/**
+	 * Returns the current position of the stepper motor in steps.
+	 * 
+	 * Sends the request like {@link BrickStepper#getCurrentPosition()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentPositionAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_POSITION, this);
 
-		return position;
+		return sendRequestAsync(bb.array(), getCurrentPositionDecoder);
 	}
 
 	/**
@@ -439,20 +767,43 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the target position of the stepper motor in steps.
+	 * 
+	 * Sends the request like {@link BrickStepper#setTargetPosition(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setTargetPositionAsync(int position) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_TARGET_POSITION, this);
+		bb.putInt(position);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the last target position as set by {@link BrickStepper#setTargetPosition(int)}.
 	 */
 	public int getTargetPosition() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TARGET_POSITION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getTargetPositionDecoder);
+	}
 
-		int position = (bb.getInt());
+	/**
+	 * Returns the last target position as set by {@link
+	 * BrickStepper#setTargetPosition(int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getTargetPosition()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getTargetPositionAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TARGET_POSITION, this);
 
-		return position;
+		return sendRequestAsync(bb.array(), getTargetPositionDecoder);
 	}
 
 	/**
@@ -468,20 +819,42 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the number of steps the stepper motor should run.
+	 * 
+	 * Sends the request like {@link BrickStepper#setSteps(int)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setStepsAsync(int steps) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_STEPS, this);
+		bb.putInt(steps);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the last steps as set by {@link BrickStepper#setSteps(int)}.
 	 */
 	public int getSteps() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STEPS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStepsDecoder);
+	}
 
-		int steps = (bb.getInt());
+	/**
+	 * Returns the last steps as set by {@link BrickStepper#setSteps(int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getSteps()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getStepsAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STEPS, this);
 
-		return steps;
+		return sendRequestAsync(bb.array(), getStepsDecoder);
 	}
 
 	/**
@@ -493,14 +866,22 @@ public class BrickStepper extends Device {
 	public int getRemainingSteps() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_REMAINING_STEPS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getRemainingStepsDecoder);
+	}
 
-		int steps = (bb.getInt());
+	/**
+	 * Returns the remaining steps of the last call of {@link
+	 * BrickStepper#setSteps(int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getRemainingSteps()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getRemainingStepsAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_REMAINING_STEPS, this);
 
-		return steps;
+		return sendRequestAsync(bb.array(), getRemainingStepsDecoder);
 	}
 
 	/**
@@ -523,20 +904,42 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the step mode of the stepper motor.
+	 * 
+	 * Sends the request like {@link BrickStepper#setStepMode(short)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setStepModeAsync(short mode) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_STEP_MODE, this);
+		bb.put((byte)mode);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the step mode as set by {@link BrickStepper#setStepMode(short)}.
 	 */
 	public short getStepMode() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STEP_MODE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStepModeDecoder);
+	}
 
-		short mode = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the step mode as set by {@link BrickStepper#setStepMode(short)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getStepMode()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getStepModeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STEP_MODE, this);
 
-		return mode;
+		return sendRequestAsync(bb.array(), getStepModeDecoder);
 	}
 
 	/**
@@ -550,6 +953,21 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Drives the stepper motor forward until {@link
+	 * BrickStepper#driveBackward()} or {@link BrickStepper#stop()} is called.
+	 * 
+	 * Sends the request like {@link BrickStepper#driveForward()}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> driveForwardAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_DRIVE_FORWARD, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Drives the stepper motor backward until {@link BrickStepper#driveForward()} or
 	 * {@link BrickStepper#stop()} is triggered. The velocity, acceleration and deacceleration as
@@ -561,6 +979,22 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Drives the stepper motor backward until {@link
+	 * BrickStepper#driveForward()} or {@link BrickStepper#stop()} is
+	 * triggered.
+	 * 
+	 * Sends the request like {@link BrickStepper#driveBackward()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> driveBackwardAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_DRIVE_BACKWARD, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Stops the stepper motor with the deacceleration as set by 
 	 * {@link BrickStepper#setSpeedRamping(int, int)}.
@@ -571,6 +1005,21 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Stops the stepper motor with the deacceleration as set by {@link
+	 * BrickStepper#setSpeedRamping(int, int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#stop()}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> stopAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_STOP, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the stack input voltage in mV. The stack input voltage is the
 	 * voltage that is supplied via the stack, i.e. it is given by a 
@@ -579,14 +1028,21 @@ public class BrickStepper extends Device {
 	public int getStackInputVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_INPUT_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStackInputVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the stack input voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickStepper#getStackInputVoltage()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getStackInputVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STACK_INPUT_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getStackInputVoltageDecoder);
 	}
 
 	/**
@@ -606,14 +1062,21 @@ public class BrickStepper extends Device {
 	public int getExternalInputVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EXTERNAL_INPUT_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getExternalInputVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the external input voltage in mV.
+	 * 
+	 * Sends the request like {@link BrickStepper#getExternalInputVoltage()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getExternalInputVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EXTERNAL_INPUT_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getExternalInputVoltageDecoder);
 	}
 
 	/**
@@ -622,14 +1085,21 @@ public class BrickStepper extends Device {
 	public int getCurrentConsumption() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CONSUMPTION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentConsumptionDecoder);
+	}
 
-		int current = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the current consumption of the motor in mA.
+	 * 
+	 * Sends the request like {@link BrickStepper#getCurrentConsumption()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentConsumptionAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CONSUMPTION, this);
 
-		return current;
+		return sendRequestAsync(bb.array(), getCurrentConsumptionDecoder);
 	}
 
 	/**
@@ -648,20 +1118,42 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the current in mA with which the motor will be driven.
+	 * 
+	 * Sends the request like {@link BrickStepper#setMotorCurrent(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMotorCurrentAsync(int current) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_MOTOR_CURRENT, this);
+		bb.putShort((short)current);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current as set by {@link BrickStepper#setMotorCurrent(int)}.
 	 */
 	public int getMotorCurrent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MOTOR_CURRENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMotorCurrentDecoder);
+	}
 
-		int current = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the current as set by {@link BrickStepper#setMotorCurrent(int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getMotorCurrent()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getMotorCurrentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MOTOR_CURRENT, this);
 
-		return current;
+		return sendRequestAsync(bb.array(), getMotorCurrentDecoder);
 	}
 
 	/**
@@ -674,6 +1166,20 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Enables the driver chip.
+	 * 
+	 * Sends the request like {@link BrickStepper#enable()}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> enableAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ENABLE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Disables the driver chip. The configurations are kept (maximum velocity,
 	 * acceleration, etc) but the motor is not driven until it is enabled again.
@@ -684,20 +1190,41 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Disables the driver chip.
+	 * 
+	 * Sends the request like {@link BrickStepper#disable()}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> disableAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_DISABLE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the driver chip is enabled, *false* otherwise.
 	 */
 	public boolean isEnabled() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ENABLED, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isEnabledDecoder);
+	}
 
-		boolean enabled = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the driver chip is enabled, *false* otherwise.
+	 * 
+	 * Sends the request like {@link BrickStepper#isEnabled()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isEnabledAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_ENABLED, this);
 
-		return enabled;
+		return sendRequestAsync(bb.array(), isEnabledDecoder);
 	}
 
 	/**
@@ -736,20 +1263,42 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the decay mode of the stepper motor.
+	 * 
+	 * Sends the request like {@link BrickStepper#setDecay(int)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDecayAsync(int decay) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_DECAY, this);
+		bb.putShort((short)decay);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the decay mode as set by {@link BrickStepper#setDecay(int)}.
 	 */
 	public int getDecay() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DECAY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDecayDecoder);
+	}
 
-		int decay = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the decay mode as set by {@link BrickStepper#setDecay(int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getDecay()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getDecayAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DECAY, this);
 
-		return decay;
+		return sendRequestAsync(bb.array(), getDecayDecoder);
 	}
 
 	/**
@@ -768,20 +1317,44 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the minimum voltage in mV, below which the {@link
+	 * BrickStepper.UnderVoltageListener} listener is triggered.
+	 * 
+	 * Sends the request like {@link BrickStepper#setMinimumVoltage(int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMinimumVoltageAsync(int voltage) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_MINIMUM_VOLTAGE, this);
+		bb.putShort((short)voltage);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the minimum voltage as set by {@link BrickStepper#setMinimumVoltage(int)}.
 	 */
 	public int getMinimumVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MINIMUM_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMinimumVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the minimum voltage as set by {@link
+	 * BrickStepper#setMinimumVoltage(int)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getMinimumVoltage()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getMinimumVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MINIMUM_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getMinimumVoltageDecoder);
 	}
 
 	/**
@@ -811,6 +1384,21 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns synchronous rectification on or off (*true* or *false*).
+	 * 
+	 * Sends the request like {@link BrickStepper#setSyncRect(boolean)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSyncRectAsync(boolean syncRect) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_SYNC_RECT, this);
+		bb.put((byte)(syncRect ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if synchronous rectification is enabled, *false* otherwise.
 	 * 
@@ -819,14 +1407,22 @@ public class BrickStepper extends Device {
 	public boolean isSyncRect() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_SYNC_RECT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isSyncRectDecoder);
+	}
 
-		boolean syncRect = (bb.get()) != 0;
+	/**
+	 * Returns *true* if synchronous rectification is enabled, *false*
+	 * otherwise.
+	 * 
+	 * Sends the request like {@link BrickStepper#isSyncRect()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isSyncRectAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_SYNC_RECT, this);
 
-		return syncRect;
+		return sendRequestAsync(bb.array(), isSyncRectDecoder);
 	}
 
 	/**
@@ -848,6 +1444,22 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the time base of the velocity and the acceleration of the stepper
+	 * brick (in seconds).
+	 * 
+	 * Sends the request like {@link BrickStepper#setTimeBase(long)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setTimeBaseAsync(long timeBase) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_TIME_BASE, this);
+		bb.putInt((int)timeBase);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the time base as set by {@link BrickStepper#setTimeBase(long)}.
 	 * 
@@ -856,14 +1468,21 @@ public class BrickStepper extends Device {
 	public long getTimeBase() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TIME_BASE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getTimeBaseDecoder);
+	}
 
-		long timeBase = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the time base as set by {@link BrickStepper#setTimeBase(long)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getTimeBase()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getTimeBaseAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TIME_BASE, this);
 
-		return timeBase;
+		return sendRequestAsync(bb.array(), getTimeBaseDecoder);
 	}
 
 	/**
@@ -878,20 +1497,23 @@ public class BrickStepper extends Device {
 	public AllData getAllData() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAllDataDecoder);
+	}
 
-		AllData obj = new AllData();
-		obj.currentVelocity = IPConnection.unsignedShort(bb.getShort());
-		obj.currentPosition = (bb.getInt());
-		obj.remainingSteps = (bb.getInt());
-		obj.stackVoltage = IPConnection.unsignedShort(bb.getShort());
-		obj.externalVoltage = IPConnection.unsignedShort(bb.getShort());
-		obj.currentConsumption = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the following parameters: The current velocity, the current
+	 * position, the remaining steps, the stack voltage, the external voltage
+	 * and the current consumption of the stepper motor.
+	 * 
+	 * Sends the request like {@link BrickStepper#getAllData()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<AllData> getAllDataAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAllDataDecoder);
 	}
 
 	/**
@@ -907,6 +1529,22 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickStepper.AllDataListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link BrickStepper#setAllDataPeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAllDataPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ALL_DATA_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickStepper#setAllDataPeriod(long)}.
 	 * 
@@ -915,14 +1553,22 @@ public class BrickStepper extends Device {
 	public long getAllDataPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAllDataPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickStepper#setAllDataPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickStepper#getAllDataPeriod()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAllDataPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALL_DATA_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAllDataPeriodDecoder);
 	}
 
 	/**
@@ -938,20 +1584,23 @@ public class BrickStepper extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Protocol1BrickletName obj = new Protocol1BrickletName();
-		obj.protocolVersion = IPConnection.unsignedByte(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getProtocol1BrickletNameDecoder);
+	}
 
-		obj.name = IPConnection.string(bb, 40);
+	/**
+	 * Returns the firmware and protocol version and the name of the Bricklet
+	 * for a given port.
+	 * 
+	 * Sends the request like {@link
+	 * BrickStepper#getProtocol1BrickletName(char)}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Protocol1BrickletName> getProtocol1BrickletNameAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PROTOCOL1_BRICKLET_NAME, this);
+		bb.put((byte)port);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getProtocol1BrickletNameDecoder);
 	}
 
 	/**
@@ -967,14 +1616,21 @@ public class BrickStepper extends Device {
 	public short getChipTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChipTemperatureDecoder);
+	}
 
-		short temperature = (bb.getShort());
+	/**
+	 * Returns the temperature in °C/10 as measured inside the microcontroller.
+	 * 
+	 * Sends the request like {@link BrickStepper#getChipTemperature()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChipTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getChipTemperatureDecoder);
 	}
 
 	/**
@@ -993,6 +1649,20 @@ public class BrickStepper extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Calling this function will reset the Brick.
+	 * 
+	 * Sends the request like {@link BrickStepper#reset()}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> resetAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_RESET, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Brick is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -1007,26 +1677,22 @@ public class BrickStepper extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Brick is connected to, the position,
+	 * the hardware and firmware version as well as the device identifier.
+	 * 
+	 * Sends the request like {@link BrickStepper#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -119,6 +118,104 @@ public class BrickletAmbientLight extends Device {
 		public void analogValueReached(int value);
 	}
 
+	private final ResponseDecoder<Integer> getIlluminanceDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int illuminance = IPConnection.unsignedShort(pr.getShort());
+
+			return illuminance;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getAnalogValueDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int value = IPConnection.unsignedShort(pr.getShort());
+
+			return value;
+		}
+	};
+
+	private final ResponseDecoder<Long> getIlluminanceCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAnalogValueCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<IlluminanceCallbackThreshold> getIlluminanceCallbackThresholdDecoder = new ResponseDecoder<IlluminanceCallbackThreshold>() {
+		public IlluminanceCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			IlluminanceCallbackThreshold obj = new IlluminanceCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getShort());
+			obj.max = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdDecoder = new ResponseDecoder<AnalogValueCallbackThreshold>() {
+		public AnalogValueCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -149,10 +246,9 @@ public class BrickletAmbientLight extends Device {
 
 		callbacks[CALLBACK_ILLUMINANCE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int illuminance = IPConnection.unsignedShort(bb.getShort());
+				int illuminance = IPConnection.unsignedShort(pr.getShort());
 
 				for(IlluminanceListener listener: listenerIlluminance) {
 					listener.illuminance(illuminance);
@@ -162,10 +258,9 @@ public class BrickletAmbientLight extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueListener listener: listenerAnalogValue) {
 					listener.analogValue(value);
@@ -175,10 +270,9 @@ public class BrickletAmbientLight extends Device {
 
 		callbacks[CALLBACK_ILLUMINANCE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int illuminance = IPConnection.unsignedShort(bb.getShort());
+				int illuminance = IPConnection.unsignedShort(pr.getShort());
 
 				for(IlluminanceReachedListener listener: listenerIlluminanceReached) {
 					listener.illuminanceReached(illuminance);
@@ -188,10 +282,9 @@ public class BrickletAmbientLight extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueReachedListener listener: listenerAnalogValueReached) {
 					listener.analogValueReached(value);
@@ -212,14 +305,21 @@ public class BrickletAmbientLight extends Device {
 	public int getIlluminance() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ILLUMINANCE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getIlluminanceDecoder);
+	}
 
-		int illuminance = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the illuminance of the ambient light sensor.
+	 * 
+	 * Sends the request like {@link BrickletAmbientLight#getIlluminance()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getIlluminanceAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ILLUMINANCE, this);
 
-		return illuminance;
+		return sendRequestAsync(bb.array(), getIlluminanceDecoder);
 	}
 
 	/**
@@ -243,14 +343,21 @@ public class BrickletAmbientLight extends Device {
 	public int getAnalogValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueDecoder);
+	}
 
-		int value = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the value as read by a 12-bit analog-to-digital converter.
+	 * 
+	 * Sends the request like {@link BrickletAmbientLight#getAnalogValue()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAnalogValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		return value;
+		return sendRequestAsync(bb.array(), getAnalogValueDecoder);
 	}
 
 	/**
@@ -269,20 +376,46 @@ public class BrickletAmbientLight extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletAmbientLight.IlluminanceListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#setIlluminanceCallbackPeriod(long)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setIlluminanceCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ILLUMINANCE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletAmbientLight#setIlluminanceCallbackPeriod(long)}.
 	 */
 	public long getIlluminanceCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ILLUMINANCE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getIlluminanceCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletAmbientLight#setIlluminanceCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#getIlluminanceCallbackPeriod()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getIlluminanceCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ILLUMINANCE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getIlluminanceCallbackPeriodDecoder);
 	}
 
 	/**
@@ -301,20 +434,46 @@ public class BrickletAmbientLight extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletAmbientLight.AnalogValueListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#setAnalogValueCallbackPeriod(long)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ANALOG_VALUE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletAmbientLight#setAnalogValueCallbackPeriod(long)}.
 	 */
 	public long getAnalogValueCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletAmbientLight#setAnalogValueCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#getAnalogValueCallbackPeriod()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAnalogValueCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackPeriodDecoder);
 	}
 
 	/**
@@ -343,23 +502,49 @@ public class BrickletAmbientLight extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletAmbientLight.IlluminanceReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#setIlluminanceCallbackThreshold(char, short,
+	 * short)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setIlluminanceCallbackThresholdAsync(char option, short min, short max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_ILLUMINANCE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort(min);
+		bb.putShort(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletAmbientLight#setIlluminanceCallbackThreshold(char, short, short)}.
 	 */
 	public IlluminanceCallbackThreshold getIlluminanceCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ILLUMINANCE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getIlluminanceCallbackThresholdDecoder);
+	}
 
-		IlluminanceCallbackThreshold obj = new IlluminanceCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getShort());
-		obj.max = (bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletAmbientLight#setIlluminanceCallbackThreshold(char, short,
+	 * short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#getIlluminanceCallbackThreshold()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<IlluminanceCallbackThreshold> getIlluminanceCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ILLUMINANCE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIlluminanceCallbackThresholdDecoder);
 	}
 
 	/**
@@ -388,23 +573,48 @@ public class BrickletAmbientLight extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletAmbientLight.AnalogValueReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#setAnalogValueCallbackThreshold(char, int, int)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletAmbientLight#setAnalogValueCallbackThreshold(char, int, int)}.
 	 */
 	public AnalogValueCallbackThreshold getAnalogValueCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackThresholdDecoder);
+	}
 
-		AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletAmbientLight#setAnalogValueCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#getAnalogValueCallbackThreshold()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackThresholdDecoder);
 	}
 
 	/**
@@ -429,20 +639,44 @@ public class BrickletAmbientLight extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listeners.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAmbientLight#setDebouncePeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletAmbientLight#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletAmbientLight#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletAmbientLight#getDebouncePeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -459,26 +693,23 @@ public class BrickletAmbientLight extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletAmbientLight#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -129,6 +128,124 @@ public class BrickletAnalogIn extends Device {
 		public void analogValueReached(int value);
 	}
 
+	private final ResponseDecoder<Integer> getVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getAnalogValueDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int value = IPConnection.unsignedShort(pr.getShort());
+
+			return value;
+		}
+	};
+
+	private final ResponseDecoder<Long> getVoltageCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAnalogValueCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<VoltageCallbackThreshold> getVoltageCallbackThresholdDecoder = new ResponseDecoder<VoltageCallbackThreshold>() {
+		public VoltageCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			VoltageCallbackThreshold obj = new VoltageCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getShort());
+			obj.max = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdDecoder = new ResponseDecoder<AnalogValueCallbackThreshold>() {
+		public AnalogValueCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Short> getRangeDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short range = IPConnection.unsignedByte(pr.get());
+
+			return range;
+		}
+	};
+
+	private final ResponseDecoder<Short> getAveragingDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short average = IPConnection.unsignedByte(pr.get());
+
+			return average;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -163,10 +280,9 @@ public class BrickletAnalogIn extends Device {
 
 		callbacks[CALLBACK_VOLTAGE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(VoltageListener listener: listenerVoltage) {
 					listener.voltage(voltage);
@@ -176,10 +292,9 @@ public class BrickletAnalogIn extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueListener listener: listenerAnalogValue) {
 					listener.analogValue(value);
@@ -189,10 +304,9 @@ public class BrickletAnalogIn extends Device {
 
 		callbacks[CALLBACK_VOLTAGE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = IPConnection.unsignedShort(bb.getShort());
+				int voltage = IPConnection.unsignedShort(pr.getShort());
 
 				for(VoltageReachedListener listener: listenerVoltageReached) {
 					listener.voltageReached(voltage);
@@ -202,10 +316,9 @@ public class BrickletAnalogIn extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueReachedListener listener: listenerAnalogValueReached) {
 					listener.analogValueReached(value);
@@ -226,14 +339,21 @@ public class BrickletAnalogIn extends Device {
 	public int getVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the voltage of the sensor.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#getVoltage()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getVoltageDecoder);
 	}
 
 	/**
@@ -253,14 +373,21 @@ public class BrickletAnalogIn extends Device {
 	public int getAnalogValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueDecoder);
+	}
 
-		int value = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the value as read by a 12-bit analog-to-digital converter.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#getAnalogValue()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAnalogValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		return value;
+		return sendRequestAsync(bb.array(), getAnalogValueDecoder);
 	}
 
 	/**
@@ -279,20 +406,45 @@ public class BrickletAnalogIn extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletAnalogIn.VoltageListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#setVoltageCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setVoltageCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_VOLTAGE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletAnalogIn#setVoltageCallbackPeriod(long)}.
 	 */
 	public long getVoltageCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVoltageCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletAnalogIn#setVoltageCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#getVoltageCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getVoltageCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getVoltageCallbackPeriodDecoder);
 	}
 
 	/**
@@ -311,20 +463,46 @@ public class BrickletAnalogIn extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletAnalogIn.AnalogValueListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#setAnalogValueCallbackPeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ANALOG_VALUE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletAnalogIn#setAnalogValueCallbackPeriod(long)}.
 	 */
 	public long getAnalogValueCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletAnalogIn#setAnalogValueCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#getAnalogValueCallbackPeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAnalogValueCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackPeriodDecoder);
 	}
 
 	/**
@@ -353,23 +531,47 @@ public class BrickletAnalogIn extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletAnalogIn.VoltageReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#setVoltageCallbackThreshold(char, short, short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setVoltageCallbackThresholdAsync(char option, short min, short max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_VOLTAGE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort(min);
+		bb.putShort(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletAnalogIn#setVoltageCallbackThreshold(char, short, short)}.
 	 */
 	public VoltageCallbackThreshold getVoltageCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVoltageCallbackThresholdDecoder);
+	}
 
-		VoltageCallbackThreshold obj = new VoltageCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getShort());
-		obj.max = (bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletAnalogIn#setVoltageCallbackThreshold(char, short, short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#getVoltageCallbackThreshold()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<VoltageCallbackThreshold> getVoltageCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getVoltageCallbackThresholdDecoder);
 	}
 
 	/**
@@ -398,23 +600,47 @@ public class BrickletAnalogIn extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletAnalogIn.AnalogValueReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#setAnalogValueCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletAnalogIn#setAnalogValueCallbackThreshold(char, int, int)}.
 	 */
 	public AnalogValueCallbackThreshold getAnalogValueCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackThresholdDecoder);
+	}
 
-		AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletAnalogIn#setAnalogValueCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletAnalogIn#getAnalogValueCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackThresholdDecoder);
 	}
 
 	/**
@@ -439,20 +665,43 @@ public class BrickletAnalogIn extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listeners.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#setDebouncePeriod(long)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletAnalogIn#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletAnalogIn#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#getDebouncePeriod()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -476,6 +725,21 @@ public class BrickletAnalogIn extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the measurement range.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#setRange(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setRangeAsync(short range) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_RANGE, this);
+		bb.put((byte)range);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the measurement range as set by {@link BrickletAnalogIn#setRange(short)}.
 	 * 
@@ -484,14 +748,22 @@ public class BrickletAnalogIn extends Device {
 	public short getRange() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RANGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getRangeDecoder);
+	}
 
-		short range = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the measurement range as set by {@link
+	 * BrickletAnalogIn#setRange(short)}.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#getRange()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getRangeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RANGE, this);
 
-		return range;
+		return sendRequestAsync(bb.array(), getRangeDecoder);
 	}
 
 	/**
@@ -512,6 +784,21 @@ public class BrickletAnalogIn extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Set the length of a averaging for the voltage value.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#setAveraging(short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAveragingAsync(short average) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_AVERAGING, this);
+		bb.put((byte)average);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the averaging configuration as set by {@link BrickletAnalogIn#setAveraging(short)}.
 	 * 
@@ -520,14 +807,22 @@ public class BrickletAnalogIn extends Device {
 	public short getAveraging() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVERAGING, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAveragingDecoder);
+	}
 
-		short average = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the averaging configuration as set by {@link
+	 * BrickletAnalogIn#setAveraging(short)}.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#getAveraging()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getAveragingAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVERAGING, this);
 
-		return average;
+		return sendRequestAsync(bb.array(), getAveragingDecoder);
 	}
 
 	/**
@@ -544,26 +839,23 @@ public class BrickletAnalogIn extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletAnalogIn#getIdentity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -134,6 +133,137 @@ public class BrickletBarometer extends Device {
 		public void altitudeReached(int altitude);
 	}
 
+	private final ResponseDecoder<Integer> getAirPressureDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int airPressure = (pr.getInt());
+
+			return airPressure;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getAltitudeDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int altitude = (pr.getInt());
+
+			return altitude;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAirPressureCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAltitudeCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<AirPressureCallbackThreshold> getAirPressureCallbackThresholdDecoder = new ResponseDecoder<AirPressureCallbackThreshold>() {
+		public AirPressureCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AirPressureCallbackThreshold obj = new AirPressureCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getInt());
+			obj.max = (pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<AltitudeCallbackThreshold> getAltitudeCallbackThresholdDecoder = new ResponseDecoder<AltitudeCallbackThreshold>() {
+		public AltitudeCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AltitudeCallbackThreshold obj = new AltitudeCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getInt());
+			obj.max = (pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Short> getChipTemperatureDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short temperature = (pr.getShort());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getReferenceAirPressureDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int airPressure = (pr.getInt());
+
+			return airPressure;
+		}
+	};
+
+	private final ResponseDecoder<Averaging> getAveragingDecoder = new ResponseDecoder<Averaging>() {
+		public Averaging decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Averaging obj = new Averaging();
+			obj.movingAveragePressure = IPConnection.unsignedByte(pr.get());
+			obj.averagePressure = IPConnection.unsignedByte(pr.get());
+			obj.averageTemperature = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -169,10 +299,9 @@ public class BrickletBarometer extends Device {
 
 		callbacks[CALLBACK_AIR_PRESSURE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int airPressure = (bb.getInt());
+				int airPressure = (pr.getInt());
 
 				for(AirPressureListener listener: listenerAirPressure) {
 					listener.airPressure(airPressure);
@@ -182,10 +311,9 @@ public class BrickletBarometer extends Device {
 
 		callbacks[CALLBACK_ALTITUDE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int altitude = (bb.getInt());
+				int altitude = (pr.getInt());
 
 				for(AltitudeListener listener: listenerAltitude) {
 					listener.altitude(altitude);
@@ -195,10 +323,9 @@ public class BrickletBarometer extends Device {
 
 		callbacks[CALLBACK_AIR_PRESSURE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int airPressure = (bb.getInt());
+				int airPressure = (pr.getInt());
 
 				for(AirPressureReachedListener listener: listenerAirPressureReached) {
 					listener.airPressureReached(airPressure);
@@ -208,10 +335,9 @@ public class BrickletBarometer extends Device {
 
 		callbacks[CALLBACK_ALTITUDE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int altitude = (bb.getInt());
+				int altitude = (pr.getInt());
 
 				for(AltitudeReachedListener listener: listenerAltitudeReached) {
 					listener.altitudeReached(altitude);
@@ -232,14 +358,21 @@ public class BrickletBarometer extends Device {
 	public int getAirPressure() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AIR_PRESSURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAirPressureDecoder);
+	}
 
-		int airPressure = (bb.getInt());
+	/**
+	 * Returns the air pressure of the air pressure sensor.
+	 * 
+	 * Sends the request like {@link BrickletBarometer#getAirPressure()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAirPressureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AIR_PRESSURE, this);
 
-		return airPressure;
+		return sendRequestAsync(bb.array(), getAirPressureDecoder);
 	}
 
 	/**
@@ -254,14 +387,21 @@ public class BrickletBarometer extends Device {
 	public int getAltitude() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAltitudeDecoder);
+	}
 
-		int altitude = (bb.getInt());
+	/**
+	 * Returns the relative altitude of the air pressure sensor.
+	 * 
+	 * Sends the request like {@link BrickletBarometer#getAltitude()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAltitudeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE, this);
 
-		return altitude;
+		return sendRequestAsync(bb.array(), getAltitudeDecoder);
 	}
 
 	/**
@@ -280,20 +420,46 @@ public class BrickletBarometer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletBarometer.AirPressureListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#setAirPressureCallbackPeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAirPressureCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_AIR_PRESSURE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletBarometer#setAirPressureCallbackPeriod(long)}.
 	 */
 	public long getAirPressureCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AIR_PRESSURE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAirPressureCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletBarometer#setAirPressureCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#getAirPressureCallbackPeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAirPressureCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AIR_PRESSURE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAirPressureCallbackPeriodDecoder);
 	}
 
 	/**
@@ -312,20 +478,45 @@ public class BrickletBarometer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletBarometer.AltitudeListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#setAltitudeCallbackPeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAltitudeCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ALTITUDE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletBarometer#setAltitudeCallbackPeriod(long)}.
 	 */
 	public long getAltitudeCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAltitudeCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletBarometer#setAltitudeCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#getAltitudeCallbackPeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAltitudeCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAltitudeCallbackPeriodDecoder);
 	}
 
 	/**
@@ -354,23 +545,47 @@ public class BrickletBarometer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletBarometer.AirPressureReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#setAirPressureCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAirPressureCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_AIR_PRESSURE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putInt(min);
+		bb.putInt(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletBarometer#setAirPressureCallbackThreshold(char, int, int)}.
 	 */
 	public AirPressureCallbackThreshold getAirPressureCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AIR_PRESSURE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAirPressureCallbackThresholdDecoder);
+	}
 
-		AirPressureCallbackThreshold obj = new AirPressureCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getInt());
-		obj.max = (bb.getInt());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletBarometer#setAirPressureCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#getAirPressureCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<AirPressureCallbackThreshold> getAirPressureCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AIR_PRESSURE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAirPressureCallbackThresholdDecoder);
 	}
 
 	/**
@@ -399,23 +614,47 @@ public class BrickletBarometer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletBarometer.AltitudeReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#setAltitudeCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAltitudeCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_ALTITUDE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putInt(min);
+		bb.putInt(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletBarometer#setAltitudeCallbackThreshold(char, int, int)}.
 	 */
 	public AltitudeCallbackThreshold getAltitudeCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAltitudeCallbackThresholdDecoder);
+	}
 
-		AltitudeCallbackThreshold obj = new AltitudeCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getInt());
-		obj.max = (bb.getInt());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletBarometer#setAltitudeCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#getAltitudeCallbackThreshold()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<AltitudeCallbackThreshold> getAltitudeCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAltitudeCallbackThresholdDecoder);
 	}
 
 	/**
@@ -440,20 +679,44 @@ public class BrickletBarometer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listeners.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#setDebouncePeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletBarometer#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletBarometer#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletBarometer#getDebouncePeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -478,6 +741,23 @@ public class BrickletBarometer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the reference air pressure in mbar/1000 for the altitude
+	 * calculation.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#setReferenceAirPressure(int)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setReferenceAirPressureAsync(int airPressure) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_REFERENCE_AIR_PRESSURE, this);
+		bb.putInt(airPressure);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the temperature of the air pressure sensor. The value
 	 * has a range of -4000 to 8500 and is given in °C/100, i.e. a value
@@ -490,14 +770,21 @@ public class BrickletBarometer extends Device {
 	public short getChipTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getChipTemperatureDecoder);
+	}
 
-		short temperature = (bb.getShort());
+	/**
+	 * Returns the temperature of the air pressure sensor.
+	 * 
+	 * Sends the request like {@link BrickletBarometer#getChipTemperature()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getChipTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CHIP_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getChipTemperatureDecoder);
 	}
 
 	/**
@@ -508,14 +795,22 @@ public class BrickletBarometer extends Device {
 	public int getReferenceAirPressure() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_REFERENCE_AIR_PRESSURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getReferenceAirPressureDecoder);
+	}
 
-		int airPressure = (bb.getInt());
+	/**
+	 * Returns the reference air pressure as set by {@link
+	 * BrickletBarometer#setReferenceAirPressure(int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletBarometer#getReferenceAirPressure()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getReferenceAirPressureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_REFERENCE_AIR_PRESSURE, this);
 
-		return airPressure;
+		return sendRequestAsync(bb.array(), getReferenceAirPressureDecoder);
 	}
 
 	/**
@@ -549,6 +844,23 @@ public class BrickletBarometer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the different averaging parameters.
+	 * 
+	 * Sends the request like {@link BrickletBarometer#setAveraging(short,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAveragingAsync(short movingAveragePressure, short averagePressure, short averageTemperature) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_AVERAGING, this);
+		bb.put((byte)movingAveragePressure);
+		bb.put((byte)averagePressure);
+		bb.put((byte)averageTemperature);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the averaging configuration as set by {@link BrickletBarometer#setAveraging(short, short, short)}.
 	 * 
@@ -557,17 +869,22 @@ public class BrickletBarometer extends Device {
 	public Averaging getAveraging() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVERAGING, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAveragingDecoder);
+	}
 
-		Averaging obj = new Averaging();
-		obj.movingAveragePressure = IPConnection.unsignedByte(bb.get());
-		obj.averagePressure = IPConnection.unsignedByte(bb.get());
-		obj.averageTemperature = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the averaging configuration as set by {@link
+	 * BrickletBarometer#setAveraging(short, short, short)}.
+	 * 
+	 * Sends the request like {@link BrickletBarometer#getAveraging()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Averaging> getAveragingAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVERAGING, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAveragingDecoder);
 	}
 
 	/**
@@ -584,26 +901,23 @@ public class BrickletBarometer extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletBarometer#getIdentity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -131,6 +130,114 @@ public class BrickletCurrent12 extends Device {
 		public void overCurrent();
 	}
 
+	private final ResponseDecoder<Short> getCurrentDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short current = (pr.getShort());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isOverCurrentDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean over = (pr.get()) != 0;
+
+			return over;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getAnalogValueDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int value = IPConnection.unsignedShort(pr.getShort());
+
+			return value;
+		}
+	};
+
+	private final ResponseDecoder<Long> getCurrentCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAnalogValueCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<CurrentCallbackThreshold> getCurrentCallbackThresholdDecoder = new ResponseDecoder<CurrentCallbackThreshold>() {
+		public CurrentCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			CurrentCallbackThreshold obj = new CurrentCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getShort());
+			obj.max = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdDecoder = new ResponseDecoder<AnalogValueCallbackThreshold>() {
+		public AnalogValueCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -164,10 +271,9 @@ public class BrickletCurrent12 extends Device {
 
 		callbacks[CALLBACK_CURRENT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short current = (bb.getShort());
+				short current = (pr.getShort());
 
 				for(CurrentListener listener: listenerCurrent) {
 					listener.current(current);
@@ -177,10 +283,9 @@ public class BrickletCurrent12 extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueListener listener: listenerAnalogValue) {
 					listener.analogValue(value);
@@ -190,10 +295,9 @@ public class BrickletCurrent12 extends Device {
 
 		callbacks[CALLBACK_CURRENT_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short current = (bb.getShort());
+				short current = (pr.getShort());
 
 				for(CurrentReachedListener listener: listenerCurrentReached) {
 					listener.currentReached(current);
@@ -203,10 +307,9 @@ public class BrickletCurrent12 extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueReachedListener listener: listenerAnalogValueReached) {
 					listener.analogValueReached(value);
@@ -234,14 +337,21 @@ public class BrickletCurrent12 extends Device {
 	public short getCurrent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentDecoder);
+	}
 
-		short current = (bb.getShort());
+	/**
+	 * Returns the current of the sensor.
+	 * 
+	 * Sends the request like {@link BrickletCurrent12#getCurrent()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getCurrentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT, this);
 
-		return current;
+		return sendRequestAsync(bb.array(), getCurrentDecoder);
 	}
 
 	/**
@@ -263,6 +373,20 @@ public class BrickletCurrent12 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Calibrates the 0 value of the sensor.
+	 * 
+	 * Sends the request like {@link BrickletCurrent12#calibrate()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> calibrateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_CALIBRATE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if more than 12.5A were measured.
 	 * 
@@ -272,14 +396,21 @@ public class BrickletCurrent12 extends Device {
 	public boolean isOverCurrent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_OVER_CURRENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isOverCurrentDecoder);
+	}
 
-		boolean over = (bb.get()) != 0;
+	/**
+	 * Returns *true* if more than 12.5A were measured.
+	 * 
+	 * Sends the request like {@link BrickletCurrent12#isOverCurrent()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isOverCurrentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_OVER_CURRENT, this);
 
-		return over;
+		return sendRequestAsync(bb.array(), isOverCurrentDecoder);
 	}
 
 	/**
@@ -299,14 +430,21 @@ public class BrickletCurrent12 extends Device {
 	public int getAnalogValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueDecoder);
+	}
 
-		int value = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the value as read by a 12-bit analog-to-digital converter.
+	 * 
+	 * Sends the request like {@link BrickletCurrent12#getAnalogValue()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAnalogValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		return value;
+		return sendRequestAsync(bb.array(), getAnalogValueDecoder);
 	}
 
 	/**
@@ -325,20 +463,45 @@ public class BrickletCurrent12 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletCurrent12.CurrentListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#setCurrentCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_CURRENT_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletCurrent12#setCurrentCallbackPeriod(long)}.
 	 */
 	public long getCurrentCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletCurrent12#setCurrentCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#getCurrentCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getCurrentCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getCurrentCallbackPeriodDecoder);
 	}
 
 	/**
@@ -357,20 +520,46 @@ public class BrickletCurrent12 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletCurrent12.AnalogValueListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#setAnalogValueCallbackPeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ANALOG_VALUE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletCurrent12#setAnalogValueCallbackPeriod(long)}.
 	 */
 	public long getAnalogValueCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletCurrent12#setAnalogValueCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#getAnalogValueCallbackPeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAnalogValueCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackPeriodDecoder);
 	}
 
 	/**
@@ -399,23 +588,47 @@ public class BrickletCurrent12 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletCurrent12.CurrentReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#setCurrentCallbackThreshold(char, short, short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentCallbackThresholdAsync(char option, short min, short max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_CURRENT_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort(min);
+		bb.putShort(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletCurrent12#setCurrentCallbackThreshold(char, short, short)}.
 	 */
 	public CurrentCallbackThreshold getCurrentCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentCallbackThresholdDecoder);
+	}
 
-		CurrentCallbackThreshold obj = new CurrentCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getShort());
-		obj.max = (bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletCurrent12#setCurrentCallbackThreshold(char, short, short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#getCurrentCallbackThreshold()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<CurrentCallbackThreshold> getCurrentCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getCurrentCallbackThresholdDecoder);
 	}
 
 	/**
@@ -444,23 +657,47 @@ public class BrickletCurrent12 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletCurrent12.AnalogValueReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#setAnalogValueCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletCurrent12#setAnalogValueCallbackThreshold(char, int, int)}.
 	 */
 	public AnalogValueCallbackThreshold getAnalogValueCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackThresholdDecoder);
+	}
 
-		AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletCurrent12#setAnalogValueCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#getAnalogValueCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackThresholdDecoder);
 	}
 
 	/**
@@ -485,20 +722,44 @@ public class BrickletCurrent12 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listeners.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletCurrent12#setDebouncePeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletCurrent12#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletCurrent12#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletCurrent12#getDebouncePeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -515,26 +776,23 @@ public class BrickletCurrent12 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletCurrent12#getIdentity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
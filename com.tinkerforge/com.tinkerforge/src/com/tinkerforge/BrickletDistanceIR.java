@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -121,6 +120,114 @@ public class BrickletDistanceIR extends Device {
 		public void analogValueReached(int value);
 	}
 
+	private final ResponseDecoder<Integer> getDistanceDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int distance = IPConnection.unsignedShort(pr.getShort());
+
+			return distance;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getAnalogValueDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int value = IPConnection.unsignedShort(pr.getShort());
+
+			return value;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getSamplingPointDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int distance = IPConnection.unsignedShort(pr.getShort());
+
+			return distance;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDistanceCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAnalogValueCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<DistanceCallbackThreshold> getDistanceCallbackThresholdDecoder = new ResponseDecoder<DistanceCallbackThreshold>() {
+		public DistanceCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			DistanceCallbackThreshold obj = new DistanceCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getShort());
+			obj.max = (pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdDecoder = new ResponseDecoder<AnalogValueCallbackThreshold>() {
+		public AnalogValueCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -153,10 +260,9 @@ public class BrickletDistanceIR extends Device {
 
 		callbacks[CALLBACK_DISTANCE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int distance = IPConnection.unsignedShort(bb.getShort());
+				int distance = IPConnection.unsignedShort(pr.getShort());
 
 				for(DistanceListener listener: listenerDistance) {
 					listener.distance(distance);
@@ -166,10 +272,9 @@ public class BrickletDistanceIR extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueListener listener: listenerAnalogValue) {
 					listener.analogValue(value);
@@ -179,10 +284,9 @@ public class BrickletDistanceIR extends Device {
 
 		callbacks[CALLBACK_DISTANCE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int distance = IPConnection.unsignedShort(bb.getShort());
+				int distance = IPConnection.unsignedShort(pr.getShort());
 
 				for(DistanceReachedListener listener: listenerDistanceReached) {
 					listener.distanceReached(distance);
@@ -192,10 +296,9 @@ public class BrickletDistanceIR extends Device {
 
 		callbacks[CALLBACK_ANALOG_VALUE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int value = IPConnection.unsignedShort(bb.getShort());
+				int value = IPConnection.unsignedShort(pr.getShort());
 
 				for(AnalogValueReachedListener listener: listenerAnalogValueReached) {
 					listener.analogValueReached(value);
@@ -216,14 +319,21 @@ public class BrickletDistanceIR extends Device {
 	public int getDistance() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DISTANCE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDistanceDecoder);
+	}
 
-		int distance = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the distance measured by the sensor.
+	 * 
+	 * Sends the request like {@link BrickletDistanceIR#getDistance()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getDistanceAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DISTANCE, this);
 
-		return distance;
+		return sendRequestAsync(bb.array(), getDistanceDecoder);
 	}
 
 	/**
@@ -243,14 +353,21 @@ public class BrickletDistanceIR extends Device {
 	public int getAnalogValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueDecoder);
+	}
 
-		int value = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the value as read by a 12-bit analog-to-digital converter.
+	 * 
+	 * Sends the request like {@link BrickletDistanceIR#getAnalogValue()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getAnalogValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE, this);
 
-		return value;
+		return sendRequestAsync(bb.array(), getAnalogValueDecoder);
 	}
 
 	/**
@@ -281,6 +398,22 @@ public class BrickletDistanceIR extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets a sampling point value to a specific position of the lookup table.
+	 * 
+	 * Sends the request like {@link BrickletDistanceIR#setSamplingPoint(short,
+	 * int)}, but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSamplingPointAsync(short position, int distance) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_SAMPLING_POINT, this);
+		bb.put((byte)position);
+		bb.putShort((short)distance);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the distance to a sampling point position as set by
 	 * {@link BrickletDistanceIR#setSamplingPoint(short, int)}.
@@ -289,14 +422,23 @@ public class BrickletDistanceIR extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_SAMPLING_POINT, this);
 		bb.put((byte)position);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getSamplingPointDecoder);
+	}
 
-		int distance = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the distance to a sampling point position as set by {@link
+	 * BrickletDistanceIR#setSamplingPoint(short, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#getSamplingPoint(short)}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getSamplingPointAsync(short position) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_SAMPLING_POINT, this);
+		bb.put((byte)position);
 
-		return distance;
+		return sendRequestAsync(bb.array(), getSamplingPointDecoder);
 	}
 
 	/**
@@ -315,20 +457,45 @@ public class BrickletDistanceIR extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletDistanceIR.DistanceListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#setDistanceCallbackPeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDistanceCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DISTANCE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletDistanceIR#setDistanceCallbackPeriod(long)}.
 	 */
 	public long getDistanceCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DISTANCE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDistanceCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletDistanceIR#setDistanceCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#getDistanceCallbackPeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDistanceCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DISTANCE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getDistanceCallbackPeriodDecoder);
 	}
 
 	/**
@@ -347,20 +514,46 @@ public class BrickletDistanceIR extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletDistanceIR.AnalogValueListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#setAnalogValueCallbackPeriod(long)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ANALOG_VALUE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletDistanceIR#setAnalogValueCallbackPeriod(long)}.
 	 */
 	public long getAnalogValueCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletDistanceIR#setAnalogValueCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#getAnalogValueCallbackPeriod()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAnalogValueCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackPeriodDecoder);
 	}
 
 	/**
@@ -389,23 +582,47 @@ public class BrickletDistanceIR extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletDistanceIR.DistanceReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#setDistanceCallbackThreshold(char, short, short)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDistanceCallbackThresholdAsync(char option, short min, short max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_DISTANCE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort(min);
+		bb.putShort(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletDistanceIR#setDistanceCallbackThreshold(char, short, short)}.
 	 */
 	public DistanceCallbackThreshold getDistanceCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DISTANCE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDistanceCallbackThresholdDecoder);
+	}
 
-		DistanceCallbackThreshold obj = new DistanceCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getShort());
-		obj.max = (bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletDistanceIR#setDistanceCallbackThreshold(char, short, short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#getDistanceCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<DistanceCallbackThreshold> getDistanceCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DISTANCE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getDistanceCallbackThresholdDecoder);
 	}
 
 	/**
@@ -434,23 +651,47 @@ public class BrickletDistanceIR extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletDistanceIR.AnalogValueReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#setAnalogValueCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setAnalogValueCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletDistanceIR#setAnalogValueCallbackThreshold(char, int, int)}.
 	 */
 	public AnalogValueCallbackThreshold getAnalogValueCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAnalogValueCallbackThresholdDecoder);
+	}
 
-		AnalogValueCallbackThreshold obj = new AnalogValueCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletDistanceIR#setAnalogValueCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#getAnalogValueCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<AnalogValueCallbackThreshold> getAnalogValueCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ANALOG_VALUE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAnalogValueCallbackThresholdDecoder);
 	}
 
 	/**
@@ -475,20 +716,44 @@ public class BrickletDistanceIR extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listeners.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDistanceIR#setDebouncePeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletDistanceIR#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletDistanceIR#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletDistanceIR#getDebouncePeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -505,26 +770,23 @@ public class BrickletDistanceIR extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletDistanceIR#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -77,6 +76,52 @@ public class BrickletDualButton extends Device {
 		public void stateChanged(short buttonL, short buttonR, short ledL, short ledR);
 	}
 
+	private final ResponseDecoder<LEDState> getLEDStateDecoder = new ResponseDecoder<LEDState>() {
+		public LEDState decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			LEDState obj = new LEDState();
+			obj.ledL = IPConnection.unsignedByte(pr.get());
+			obj.ledR = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<ButtonState> getButtonStateDecoder = new ResponseDecoder<ButtonState>() {
+		public ButtonState decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			ButtonState obj = new ButtonState();
+			obj.buttonL = IPConnection.unsignedByte(pr.get());
+			obj.buttonR = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -96,13 +141,12 @@ public class BrickletDualButton extends Device {
 
 		callbacks[CALLBACK_STATE_CHANGED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short buttonL = IPConnection.unsignedByte(bb.get());
-				short buttonR = IPConnection.unsignedByte(bb.get());
-				short ledL = IPConnection.unsignedByte(bb.get());
-				short ledR = IPConnection.unsignedByte(bb.get());
+				short buttonL = IPConnection.unsignedByte(pr.get());
+				short buttonR = IPConnection.unsignedByte(pr.get());
+				short ledL = IPConnection.unsignedByte(pr.get());
+				short ledR = IPConnection.unsignedByte(pr.get());
 
 				for(StateChangedListener listener: listenerStateChanged) {
 					listener.stateChanged(buttonL, buttonR, ledL, ledR);
@@ -135,22 +179,44 @@ public class BrickletDualButton extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the state of the LEDs.
+	 * 
+	 * Sends the request like {@link BrickletDualButton#setLEDState(short,
+	 * short)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setLEDStateAsync(short ledL, short ledR) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_LED_STATE, this);
+		bb.put((byte)ledL);
+		bb.put((byte)ledR);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current state of the LEDs, as set by {@link BrickletDualButton#setLEDState(short, short)}.
 	 */
 	public LEDState getLEDState() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_LED_STATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getLEDStateDecoder);
+	}
 
-		LEDState obj = new LEDState();
-		obj.ledL = IPConnection.unsignedByte(bb.get());
-		obj.ledR = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the current state of the LEDs, as set by {@link
+	 * BrickletDualButton#setLEDState(short, short)}.
+	 * 
+	 * Sends the request like {@link BrickletDualButton#getLEDState()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<LEDState> getLEDStateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_LED_STATE, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getLEDStateDecoder);
 	}
 
 	/**
@@ -162,16 +228,21 @@ public class BrickletDualButton extends Device {
 	public ButtonState getButtonState() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_BUTTON_STATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getButtonStateDecoder);
+	}
 
-		ButtonState obj = new ButtonState();
-		obj.buttonL = IPConnection.unsignedByte(bb.get());
-		obj.buttonR = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the current state for both buttons.
+	 * 
+	 * Sends the request like {@link BrickletDualButton#getButtonState()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<ButtonState> getButtonStateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_BUTTON_STATE, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getButtonStateDecoder);
 	}
 
 	/**
@@ -189,6 +260,23 @@ public class BrickletDualButton extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the state of the selected LED (0 or 1).
+	 * 
+	 * Sends the request like {@link
+	 * BrickletDualButton#setSelectedLEDState(short, short)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSelectedLEDStateAsync(short led, short state) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_SELECTED_LED_STATE, this);
+		bb.put((byte)led);
+		bb.put((byte)state);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Bricklet is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -203,26 +291,23 @@ public class BrickletDualButton extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletDualButton#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
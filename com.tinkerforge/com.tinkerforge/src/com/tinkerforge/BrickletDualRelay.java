@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -64,6 +63,53 @@ public class BrickletDualRelay extends Device {
 		public void monoflopDone(short relay, boolean state);
 	}
 
+	private final ResponseDecoder<State> getStateDecoder = new ResponseDecoder<State>() {
+		public State decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			State obj = new State();
+			obj.relay1 = (pr.get()) != 0;
+			obj.relay2 = (pr.get()) != 0;
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Monoflop> getMonoflopDecoder = new ResponseDecoder<Monoflop>() {
+		public Monoflop decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Monoflop obj = new Monoflop();
+			obj.state = (pr.get()) != 0;
+			obj.time = IPConnection.unsignedInt(pr.getInt());
+			obj.timeRemaining = IPConnection.unsignedInt(pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -84,11 +130,10 @@ public class BrickletDualRelay extends Device {
 
 		callbacks[CALLBACK_MONOFLOP_DONE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short relay = IPConnection.unsignedByte(bb.get());
-				boolean state = (bb.get()) != 0;
+				short relay = IPConnection.unsignedByte(pr.get());
+				boolean state = (pr.get()) != 0;
 
 				for(MonoflopDoneListener listener: listenerMonoflopDone) {
 					listener.monoflopDone(relay, state);
@@ -117,22 +162,43 @@ public class BrickletDualRelay extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the state of the relays, *true* means on and *false* means off.
+	 * 
+	 * Sends the request like {@link BrickletDualRelay#setState(boolean,
+	 * boolean)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setStateAsync(boolean relay1, boolean relay2) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_STATE, this);
+		bb.put((byte)(relay1 ? 1 : 0));
+		bb.put((byte)(relay2 ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the state of the relays, *true* means on and *false* means off.
 	 */
 	public State getState() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStateDecoder);
+	}
 
-		State obj = new State();
-		obj.relay1 = (bb.get()) != 0;
-		obj.relay2 = (bb.get()) != 0;
+	/**
+	 * Returns the state of the relays, *true* means on and *false* means off.
+	 * 
+	 * Sends the request like {@link BrickletDualRelay#getState()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<State> getStateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STATE, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getStateDecoder);
 	}
 
 	/**
@@ -161,6 +227,23 @@ public class BrickletDualRelay extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * The first parameter can be 1 or 2 (relay 1 or relay 2).
+	 * 
+	 * Sends the request like {@link BrickletDualRelay#setMonoflop(short,
+	 * boolean, long)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMonoflopAsync(short relay, boolean state, long time) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_SET_MONOFLOP, this);
+		bb.put((byte)relay);
+		bb.put((byte)(state ? 1 : 0));
+		bb.putInt((int)time);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns (for the given relay) the current state and the time as set by 
 	 * {@link BrickletDualRelay#setMonoflop(short, boolean, long)} as well as the remaining time until the state flips.
@@ -174,17 +257,24 @@ public class BrickletDualRelay extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_MONOFLOP, this);
 		bb.put((byte)relay);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMonoflopDecoder);
+	}
 
-		Monoflop obj = new Monoflop();
-		obj.state = (bb.get()) != 0;
-		obj.time = IPConnection.unsignedInt(bb.getInt());
-		obj.timeRemaining = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns (for the given relay) the current state and the time as set by
+	 * {@link BrickletDualRelay#setMonoflop(short, boolean, long)} as well as
+	 * the remaining time until the state flips.
+	 * 
+	 * Sends the request like {@link BrickletDualRelay#getMonoflop(short)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Monoflop> getMonoflopAsync(short relay) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_MONOFLOP, this);
+		bb.put((byte)relay);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getMonoflopDecoder);
 	}
 
 	/**
@@ -202,6 +292,23 @@ public class BrickletDualRelay extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the state of the selected relay (1 or 2), *true* means on and
+	 * *false* means off.
+	 * 
+	 * Sends the request like {@link BrickletDualRelay#setSelectedState(short,
+	 * boolean)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSelectedStateAsync(short relay, boolean state) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_SELECTED_STATE, this);
+		bb.put((byte)relay);
+		bb.put((byte)(state ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Bricklet is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -216,26 +323,23 @@ public class BrickletDualRelay extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletDualRelay#getIdentity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
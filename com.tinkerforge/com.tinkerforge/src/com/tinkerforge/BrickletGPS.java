@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -174,6 +173,145 @@ public class BrickletGPS extends Device {
 		public void dateTime(long date, long time);
 	}
 
+	private final ResponseDecoder<Coordinates> getCoordinatesDecoder = new ResponseDecoder<Coordinates>() {
+		public Coordinates decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Coordinates obj = new Coordinates();
+			obj.latitude = IPConnection.unsignedInt(pr.getInt());
+			obj.ns = (char)(pr.get());
+			obj.longitude = IPConnection.unsignedInt(pr.getInt());
+			obj.ew = (char)(pr.get());
+			obj.pdop = IPConnection.unsignedShort(pr.getShort());
+			obj.hdop = IPConnection.unsignedShort(pr.getShort());
+			obj.vdop = IPConnection.unsignedShort(pr.getShort());
+			obj.epe = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Status> getStatusDecoder = new ResponseDecoder<Status>() {
+		public Status decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Status obj = new Status();
+			obj.fix = IPConnection.unsignedByte(pr.get());
+			obj.satellitesView = IPConnection.unsignedByte(pr.get());
+			obj.satellitesUsed = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Altitude> getAltitudeDecoder = new ResponseDecoder<Altitude>() {
+		public Altitude decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Altitude obj = new Altitude();
+			obj.altitude = IPConnection.unsignedInt(pr.getInt());
+			obj.geoidalSeparation = IPConnection.unsignedInt(pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Motion> getMotionDecoder = new ResponseDecoder<Motion>() {
+		public Motion decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Motion obj = new Motion();
+			obj.course = IPConnection.unsignedInt(pr.getInt());
+			obj.speed = IPConnection.unsignedInt(pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<DateTime> getDateTimeDecoder = new ResponseDecoder<DateTime>() {
+		public DateTime decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			DateTime obj = new DateTime();
+			obj.date = IPConnection.unsignedInt(pr.getInt());
+			obj.time = IPConnection.unsignedInt(pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getCoordinatesCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getStatusCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getAltitudeCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getMotionCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDateTimeCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -209,17 +347,16 @@ public class BrickletGPS extends Device {
 
 		callbacks[CALLBACK_COORDINATES] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
-
-				long latitude = IPConnection.unsignedInt(bb.getInt());
-				char ns = (char)(bb.get());
-				long longitude = IPConnection.unsignedInt(bb.getInt());
-				char ew = (char)(bb.get());
-				int pdop = IPConnection.unsignedShort(bb.getShort());
-				int hdop = IPConnection.unsignedShort(bb.getShort());
-				int vdop = IPConnection.unsignedShort(bb.getShort());
-				int epe = IPConnection.unsignedShort(bb.getShort());
+				PacketReader pr = PacketReader.wrap(data);
+
+				long latitude = IPConnection.unsignedInt(pr.getInt());
+				char ns = (char)(pr.get());
+				long longitude = IPConnection.unsignedInt(pr.getInt());
+				char ew = (char)(pr.get());
+				int pdop = IPConnection.unsignedShort(pr.getShort());
+				int hdop = IPConnection.unsignedShort(pr.getShort());
+				int vdop = IPConnection.unsignedShort(pr.getShort());
+				int epe = IPConnection.unsignedShort(pr.getShort());
 
 				for(CoordinatesListener listener: listenerCoordinates) {
 					listener.coordinates(latitude, ns, longitude, ew, pdop, hdop, vdop, epe);
@@ -229,12 +366,11 @@ public class BrickletGPS extends Device {
 
 		callbacks[CALLBACK_STATUS] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short fix = IPConnection.unsignedByte(bb.get());
-				short satellitesView = IPConnection.unsignedByte(bb.get());
-				short satellitesUsed = IPConnection.unsignedByte(bb.get());
+				short fix = IPConnection.unsignedByte(pr.get());
+				short satellitesView = IPConnection.unsignedByte(pr.get());
+				short satellitesUsed = IPConnection.unsignedByte(pr.get());
 
 				for(StatusListener listener: listenerStatus) {
 					listener.status(fix, satellitesView, satellitesUsed);
@@ -244,11 +380,10 @@ public class BrickletGPS extends Device {
 
 		callbacks[CALLBACK_ALTITUDE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				long altitude = IPConnection.unsignedInt(bb.getInt());
-				long geoidalSeparation = IPConnection.unsignedInt(bb.getInt());
+				long altitude = IPConnection.unsignedInt(pr.getInt());
+				long geoidalSeparation = IPConnection.unsignedInt(pr.getInt());
 
 				for(AltitudeListener listener: listenerAltitude) {
 					listener.altitude(altitude, geoidalSeparation);
@@ -258,11 +393,10 @@ public class BrickletGPS extends Device {
 
 		callbacks[CALLBACK_MOTION] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				long course = IPConnection.unsignedInt(bb.getInt());
-				long speed = IPConnection.unsignedInt(bb.getInt());
+				long course = IPConnection.unsignedInt(pr.getInt());
+				long speed = IPConnection.unsignedInt(pr.getInt());
 
 				for(MotionListener listener: listenerMotion) {
 					listener.motion(course, speed);
@@ -272,11 +406,10 @@ public class BrickletGPS extends Device {
 
 		callbacks[CALLBACK_DATE_TIME] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				long date = IPConnection.unsignedInt(bb.getInt());
-				long time = IPConnection.unsignedInt(bb.getInt());
+				long date = IPConnection.unsignedInt(pr.getInt());
+				long time = IPConnection.unsignedInt(pr.getInt());
 
 				for(DateTimeListener listener: listenerDateTime) {
 					listener.dateTime(date, time);
@@ -308,22 +441,48 @@ public class BrickletGPS extends Device {
 	public Coordinates getCoordinates() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_COORDINATES, this);
 
+		return sendRequest(bb.array(), getCoordinatesDecoder);
+	}
+
+	/**
+	 * Returns the GPS coordinates.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getCoordinates()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Coordinates> getCoordinatesAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_COORDINATES, this);
+
+		return sendRequestAsync(bb.array(), getCoordinatesDecoder);
+	}
+
+	/**
+	 * Same as {@link BrickletGPS#getCoordinates()}, but writes
+	 * the result into \c into instead of a new object and returns \c into.
+	 * Allows to poll with a high rate without allocating a result object per
+	 * call.
+	 */
+	public Coordinates getCoordinates(Coordinates into) throws TimeoutException, NotConnectedException {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_COORDINATES, this);
+
 		byte[] response = sendRequest(bb.array());
 
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		PacketReader pr = PacketReader.wrap(response);
 
-		Coordinates obj = new Coordinates();
-		obj.latitude = IPConnection.unsignedInt(bb.getInt());
-		obj.ns = (char)(bb.get());
-		obj.longitude = IPConnection.unsignedInt(bb.getInt());
-		obj.ew = (char)(bb.get());
-		obj.pdop = IPConnection.unsignedShort(bb.getShort());
-		obj.hdop = IPConnection.unsignedShort(bb.getShort());
-		obj.vdop = IPConnection.unsignedShort(bb.getShort());
-		obj.epe = IPConnection.unsignedShort(bb.getShort());
+		into.latitude = IPConnection.unsignedInt(pr.getInt());
+		into.ns = (char)(pr.get());
+		into.longitude = IPConnection.unsignedInt(pr.getInt());
+		into.ew = (char)(pr.get());
+		into.pdop = IPConnection.unsignedShort(pr.getShort());
+		into.hdop = IPConnection.unsignedShort(pr.getShort());
+		into.vdop = IPConnection.unsignedShort(pr.getShort());
+		into.epe = IPConnection.unsignedShort(pr.getShort());
 
-		return obj;
+		ipcon.packetPool.release(response);
+
+		return into;
 	}
 
 	/**
@@ -346,17 +505,22 @@ public class BrickletGPS extends Device {
 	public Status getStatus() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STATUS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStatusDecoder);
+	}
 
-		Status obj = new Status();
-		obj.fix = IPConnection.unsignedByte(bb.get());
-		obj.satellitesView = IPConnection.unsignedByte(bb.get());
-		obj.satellitesUsed = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the current fix status, the number of satellites that are in
+	 * view and the number of satellites that are currently used.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getStatus()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Status> getStatusAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STATUS, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getStatusDecoder);
 	}
 
 	/**
@@ -370,16 +534,21 @@ public class BrickletGPS extends Device {
 	public Altitude getAltitude() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAltitudeDecoder);
+	}
 
-		Altitude obj = new Altitude();
-		obj.altitude = IPConnection.unsignedInt(bb.getInt());
-		obj.geoidalSeparation = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the current altitude and corresponding geoidal separation.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getAltitude()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Altitude> getAltitudeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getAltitudeDecoder);
 	}
 
 	/**
@@ -396,16 +565,21 @@ public class BrickletGPS extends Device {
 	public Motion getMotion() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MOTION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMotionDecoder);
+	}
 
-		Motion obj = new Motion();
-		obj.course = IPConnection.unsignedInt(bb.getInt());
-		obj.speed = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the current course and speed.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getMotion()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Motion> getMotionAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MOTION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getMotionDecoder);
 	}
 
 	/**
@@ -417,16 +591,21 @@ public class BrickletGPS extends Device {
 	public DateTime getDateTime() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DATE_TIME, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDateTimeDecoder);
+	}
 
-		DateTime obj = new DateTime();
-		obj.date = IPConnection.unsignedInt(bb.getInt());
-		obj.time = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the current date and time.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getDateTime()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<DateTime> getDateTimeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DATE_TIME, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getDateTimeDecoder);
 	}
 
 	/**
@@ -448,6 +627,21 @@ public class BrickletGPS extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Restarts the GPS Bricklet, the following restart types are available:.
+	 * 
+	 * Sends the request like {@link BrickletGPS#restart(short)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> restartAsync(short restartType) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_RESTART, this);
+		bb.put((byte)restartType);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Sets the period in ms with which the {@link BrickletGPS.CoordinatesListener} listener is triggered
 	 * periodically. A value of 0 turns the listener off.
@@ -464,20 +658,45 @@ public class BrickletGPS extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletGPS.CoordinatesListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletGPS#setCoordinatesCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCoordinatesCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_COORDINATES_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletGPS#setCoordinatesCallbackPeriod(long)}.
 	 */
 	public long getCoordinatesCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_COORDINATES_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCoordinatesCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletGPS#setCoordinatesCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletGPS#getCoordinatesCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getCoordinatesCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_COORDINATES_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getCoordinatesCallbackPeriodDecoder);
 	}
 
 	/**
@@ -496,20 +715,45 @@ public class BrickletGPS extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link BrickletGPS.StatusListener}
+	 * listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletGPS#setStatusCallbackPeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setStatusCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_STATUS_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletGPS#setStatusCallbackPeriod(long)}.
 	 */
 	public long getStatusCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STATUS_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getStatusCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletGPS#setStatusCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getStatusCallbackPeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getStatusCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_STATUS_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getStatusCallbackPeriodDecoder);
 	}
 
 	/**
@@ -528,20 +772,45 @@ public class BrickletGPS extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletGPS.AltitudeListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletGPS#setAltitudeCallbackPeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setAltitudeCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_ALTITUDE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletGPS#setAltitudeCallbackPeriod(long)}.
 	 */
 	public long getAltitudeCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAltitudeCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletGPS#setAltitudeCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getAltitudeCallbackPeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getAltitudeCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ALTITUDE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getAltitudeCallbackPeriodDecoder);
 	}
 
 	/**
@@ -560,20 +829,45 @@ public class BrickletGPS extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link BrickletGPS.MotionListener}
+	 * listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletGPS#setMotionCallbackPeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setMotionCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_MOTION_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletGPS#setMotionCallbackPeriod(long)}.
 	 */
 	public long getMotionCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MOTION_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMotionCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletGPS#setMotionCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getMotionCallbackPeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getMotionCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_MOTION_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getMotionCallbackPeriodDecoder);
 	}
 
 	/**
@@ -592,20 +886,45 @@ public class BrickletGPS extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletGPS.DateTimeListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletGPS#setDateTimeCallbackPeriod(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setDateTimeCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DATE_TIME_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletGPS#setDateTimeCallbackPeriod(long)}.
 	 */
 	public long getDateTimeCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DATE_TIME_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDateTimeCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletGPS#setDateTimeCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getDateTimeCallbackPeriod()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDateTimeCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DATE_TIME_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getDateTimeCallbackPeriodDecoder);
 	}
 
 	/**
@@ -622,26 +941,23 @@ public class BrickletGPS extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletGPS#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
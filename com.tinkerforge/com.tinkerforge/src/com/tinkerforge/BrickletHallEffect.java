@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -70,6 +69,92 @@ public class BrickletHallEffect extends Device {
 		public void edgeCount(long count, boolean value);
 	}
 
+	private final ResponseDecoder<Boolean> getValueDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean value = (pr.get()) != 0;
+
+			return value;
+		}
+	};
+
+	private final ResponseDecoder<Long> getEdgeCountDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long count = IPConnection.unsignedInt(pr.getInt());
+
+			return count;
+		}
+	};
+
+	private final ResponseDecoder<EdgeCountConfig> getEdgeCountConfigDecoder = new ResponseDecoder<EdgeCountConfig>() {
+		public EdgeCountConfig decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			EdgeCountConfig obj = new EdgeCountConfig();
+			obj.edgeType = IPConnection.unsignedByte(pr.get());
+			obj.debounce = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getEdgeInterruptDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long edges = IPConnection.unsignedInt(pr.getInt());
+
+			return edges;
+		}
+	};
+
+	private final ResponseDecoder<Long> getEdgeCountCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<EdgeInterrupt> edgeInterruptDecoder = new ResponseDecoder<EdgeInterrupt>() {
+		public EdgeInterrupt decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			EdgeInterrupt obj = new EdgeInterrupt();
+			obj.count = IPConnection.unsignedInt(pr.getInt());
+			obj.value = (pr.get()) != 0;
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -94,11 +179,10 @@ public class BrickletHallEffect extends Device {
 
 		callbacks[CALLBACK_EDGE_COUNT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				long count = IPConnection.unsignedInt(bb.getInt());
-				boolean value = (bb.get()) != 0;
+				long count = IPConnection.unsignedInt(pr.getInt());
+				boolean value = (pr.get()) != 0;
 
 				for(EdgeCountListener listener: listenerEdgeCount) {
 					listener.edgeCount(count, value);
@@ -113,14 +197,22 @@ public class BrickletHallEffect extends Device {
 	public boolean getValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getValueDecoder);
+	}
 
-		boolean value = (bb.get()) != 0;
+	/**
+	 * Returns *true* if a magnetic field of 35 Gauss (3.5mT) or greater is
+	 * detected.
+	 * 
+	 * Sends the request like {@link BrickletHallEffect#getValue()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> getValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		return value;
+		return sendRequestAsync(bb.array(), getValueDecoder);
 	}
 
 	/**
@@ -135,14 +227,22 @@ public class BrickletHallEffect extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT, this);
 		bb.put((byte)(resetCounter ? 1 : 0));
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountDecoder);
+	}
 
-		long count = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the current value of the edge counter.
+	 * 
+	 * Sends the request like {@link BrickletHallEffect#getEdgeCount(boolean)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getEdgeCountAsync(boolean resetCounter) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT, this);
+		bb.put((byte)(resetCounter ? 1 : 0));
 
-		return count;
+		return sendRequestAsync(bb.array(), getEdgeCountDecoder);
 	}
 
 	/**
@@ -174,22 +274,46 @@ public class BrickletHallEffect extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * The edge type parameter configures if rising edges, falling edges or
+	 * both are counted.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletHallEffect#setEdgeCountConfig(short, short)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setEdgeCountConfigAsync(short edgeType, short debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_EDGE_COUNT_CONFIG, this);
+		bb.put((byte)edgeType);
+		bb.put((byte)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the edge type and debounce time as set by {@link BrickletHallEffect#setEdgeCountConfig(short, short)}.
 	 */
 	public EdgeCountConfig getEdgeCountConfig() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountConfigDecoder);
+	}
 
-		EdgeCountConfig obj = new EdgeCountConfig();
-		obj.edgeType = IPConnection.unsignedByte(bb.get());
-		obj.debounce = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the edge type and debounce time as set by {@link
+	 * BrickletHallEffect#setEdgeCountConfig(short, short)}.
+	 * 
+	 * Sends the request like {@link BrickletHallEffect#getEdgeCountConfig()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<EdgeCountConfig> getEdgeCountConfigAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getEdgeCountConfigDecoder);
 	}
 
 	/**
@@ -208,20 +332,44 @@ public class BrickletHallEffect extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the number of edges until an interrupt is invoked.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletHallEffect#setEdgeInterrupt(long)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setEdgeInterruptAsync(long edges) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_EDGE_INTERRUPT, this);
+		bb.putInt((int)edges);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the edges as set by {@link BrickletHallEffect#setEdgeInterrupt(long)}.
 	 */
 	public long getEdgeInterrupt() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EDGE_INTERRUPT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeInterruptDecoder);
+	}
 
-		long edges = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the edges as set by {@link
+	 * BrickletHallEffect#setEdgeInterrupt(long)}.
+	 * 
+	 * Sends the request like {@link BrickletHallEffect#getEdgeInterrupt()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getEdgeInterruptAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EDGE_INTERRUPT, this);
 
-		return edges;
+		return sendRequestAsync(bb.array(), getEdgeInterruptDecoder);
 	}
 
 	/**
@@ -240,20 +388,46 @@ public class BrickletHallEffect extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletHallEffect.EdgeCountListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletHallEffect#setEdgeCountCallbackPeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setEdgeCountCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_EDGE_COUNT_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletHallEffect#setEdgeCountCallbackPeriod(long)}.
 	 */
 	public long getEdgeCountCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EDGE_COUNT_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletHallEffect#setEdgeCountCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletHallEffect#getEdgeCountCallbackPeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getEdgeCountCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_EDGE_COUNT_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getEdgeCountCallbackPeriodDecoder);
 	}
 
 	/**
@@ -264,16 +438,22 @@ public class BrickletHallEffect extends Device {
 	public EdgeInterrupt edgeInterrupt() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_EDGE_INTERRUPT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), edgeInterruptDecoder);
+	}
 
-		EdgeInterrupt obj = new EdgeInterrupt();
-		obj.count = IPConnection.unsignedInt(bb.getInt());
-		obj.value = (bb.get()) != 0;
+	/**
+	 * This listener is triggered every n-th count, as configured with {@link
+	 * BrickletHallEffect#setEdgeInterrupt(long)}.
+	 * 
+	 * Sends the request like {@link BrickletHallEffect#edgeInterrupt()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<EdgeInterrupt> edgeInterruptAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_EDGE_INTERRUPT, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), edgeInterruptDecoder);
 	}
 
 	/**
@@ -290,26 +470,23 @@ public class BrickletHallEffect extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletHallEffect#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -111,6 +110,105 @@ public class BrickletIO16 extends Device {
 		public void monoflopDone(char port, short selectionMask, short valueMask);
 	}
 
+	private final ResponseDecoder<Short> getPortDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short valueMask = IPConnection.unsignedByte(pr.get());
+
+			return valueMask;
+		}
+	};
+
+	private final ResponseDecoder<PortConfiguration> getPortConfigurationDecoder = new ResponseDecoder<PortConfiguration>() {
+		public PortConfiguration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			PortConfiguration obj = new PortConfiguration();
+			obj.directionMask = IPConnection.unsignedByte(pr.get());
+			obj.valueMask = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Short> getPortInterruptDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short interruptMask = IPConnection.unsignedByte(pr.get());
+
+			return interruptMask;
+		}
+	};
+
+	private final ResponseDecoder<PortMonoflop> getPortMonoflopDecoder = new ResponseDecoder<PortMonoflop>() {
+		public PortMonoflop decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			PortMonoflop obj = new PortMonoflop();
+			obj.value = IPConnection.unsignedByte(pr.get());
+			obj.time = IPConnection.unsignedInt(pr.getInt());
+			obj.timeRemaining = IPConnection.unsignedInt(pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getEdgeCountDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long count = IPConnection.unsignedInt(pr.getInt());
+
+			return count;
+		}
+	};
+
+	private final ResponseDecoder<EdgeCountConfig> getEdgeCountConfigDecoder = new ResponseDecoder<EdgeCountConfig>() {
+		public EdgeCountConfig decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			EdgeCountConfig obj = new EdgeCountConfig();
+			obj.edgeType = IPConnection.unsignedByte(pr.get());
+			obj.debounce = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -141,12 +239,11 @@ public class BrickletIO16 extends Device {
 
 		callbacks[CALLBACK_INTERRUPT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				char port = (char)(bb.get());
-				short interruptMask = IPConnection.unsignedByte(bb.get());
-				short valueMask = IPConnection.unsignedByte(bb.get());
+				char port = (char)(pr.get());
+				short interruptMask = IPConnection.unsignedByte(pr.get());
+				short valueMask = IPConnection.unsignedByte(pr.get());
 
 				for(InterruptListener listener: listenerInterrupt) {
 					listener.interrupt(port, interruptMask, valueMask);
@@ -156,12 +253,11 @@ public class BrickletIO16 extends Device {
 
 		callbacks[CALLBACK_MONOFLOP_DONE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				char port = (char)(bb.get());
-				short selectionMask = IPConnection.unsignedByte(bb.get());
-				short valueMask = IPConnection.unsignedByte(bb.get());
+				char port = (char)(pr.get());
+				short selectionMask = IPConnection.unsignedByte(pr.get());
+				short valueMask = IPConnection.unsignedByte(pr.get());
 
 				for(MonoflopDoneListener listener: listenerMonoflopDone) {
 					listener.monoflopDone(port, selectionMask, valueMask);
@@ -189,6 +285,23 @@ public class BrickletIO16 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the output value (high or low) for a port ("a" or "b") with a
+	 * bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIO16#setPort(char, short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPortAsync(char port, short valueMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_PORT, this);
+		bb.put((byte)port);
+		bb.put((byte)valueMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns a bitmask of the values that are currently measured on the
 	 * specified port. This function works if the pin is configured to input
@@ -198,14 +311,23 @@ public class BrickletIO16 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PORT, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPortDecoder);
+	}
 
-		short valueMask = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns a bitmask of the values that are currently measured on the
+	 * specified port.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getPort(char)}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getPortAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PORT, this);
+		bb.put((byte)port);
 
-		return valueMask;
+		return sendRequestAsync(bb.array(), getPortDecoder);
 	}
 
 	/**
@@ -235,6 +357,25 @@ public class BrickletIO16 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures the value and direction of a specified port.
+	 * 
+	 * Sends the request like {@link BrickletIO16#setPortConfiguration(char,
+	 * short, char, boolean)}, but does not wait for the device. If a response
+	 * is expected, see setResponseExpected, the future completes once the
+	 * device acknowledged the request, otherwise as soon as the request is
+	 * sent.
+	 */
+	public ResponseFuture<Void> setPortConfigurationAsync(char port, short selectionMask, char direction, boolean value) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_PORT_CONFIGURATION, this);
+		bb.put((byte)port);
+		bb.put((byte)selectionMask);
+		bb.put((byte)direction);
+		bb.put((byte)(value ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns a direction bitmask and a value bitmask for the specified port.
 	 * 
@@ -250,16 +391,22 @@ public class BrickletIO16 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PORT_CONFIGURATION, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPortConfigurationDecoder);
+	}
 
-		PortConfiguration obj = new PortConfiguration();
-		obj.directionMask = IPConnection.unsignedByte(bb.get());
-		obj.valueMask = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns a direction bitmask and a value bitmask for the specified port.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getPortConfiguration(char)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<PortConfiguration> getPortConfigurationAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PORT_CONFIGURATION, this);
+		bb.put((byte)port);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getPortConfigurationDecoder);
 	}
 
 	/**
@@ -278,20 +425,44 @@ public class BrickletIO16 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the debounce period of the {@link BrickletIO16.InterruptListener}
+	 * listener in ms.
+	 * 
+	 * Sends the request like {@link BrickletIO16#setDebouncePeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletIO16#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletIO16#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getDebouncePeriod()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -312,6 +483,22 @@ public class BrickletIO16 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the pins on which an interrupt is activated with a bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIO16#setPortInterrupt(char,
+	 * short)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPortInterruptAsync(char port, short interruptMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_PORT_INTERRUPT, this);
+		bb.put((byte)port);
+		bb.put((byte)interruptMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the interrupt bitmask for the specified port as set by
 	 * {@link BrickletIO16#setPortInterrupt(char, short)}.
@@ -320,14 +507,23 @@ public class BrickletIO16 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PORT_INTERRUPT, this);
 		bb.put((byte)port);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPortInterruptDecoder);
+	}
 
-		short interruptMask = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the interrupt bitmask for the specified port as set by {@link
+	 * BrickletIO16#setPortInterrupt(char, short)}.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getPortInterrupt(char)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getPortInterruptAsync(char port) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_PORT_INTERRUPT, this);
+		bb.put((byte)port);
 
-		return interruptMask;
+		return sendRequestAsync(bb.array(), getPortInterruptDecoder);
 	}
 
 	/**
@@ -363,6 +559,25 @@ public class BrickletIO16 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures a monoflop of the pins specified by the second parameter as 8
+	 * bit long bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIO16#setPortMonoflop(char, short,
+	 * short, long)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPortMonoflopAsync(char port, short selectionMask, short valueMask, long time) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)15, FUNCTION_SET_PORT_MONOFLOP, this);
+		bb.put((byte)port);
+		bb.put((byte)selectionMask);
+		bb.put((byte)valueMask);
+		bb.putInt((int)time);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns (for the given pin) the current value and the time as set by
 	 * {@link BrickletIO16#setPortMonoflop(char, short, short, long)} as well as the remaining time until the value flips.
@@ -377,17 +592,25 @@ public class BrickletIO16 extends Device {
 		bb.put((byte)port);
 		bb.put((byte)pin);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPortMonoflopDecoder);
+	}
 
-		PortMonoflop obj = new PortMonoflop();
-		obj.value = IPConnection.unsignedByte(bb.get());
-		obj.time = IPConnection.unsignedInt(bb.getInt());
-		obj.timeRemaining = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns (for the given pin) the current value and the time as set by
+	 * {@link BrickletIO16#setPortMonoflop(char, short, short, long)} as well
+	 * as the remaining time until the value flips.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getPortMonoflop(char,
+	 * short)}, but does not wait for the response. The future completes with
+	 * the result once the response arrives, or fails with a TimeoutException
+	 * or a NotConnectedException.
+	 */
+	public ResponseFuture<PortMonoflop> getPortMonoflopAsync(char port, short pin) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_GET_PORT_MONOFLOP, this);
+		bb.put((byte)port);
+		bb.put((byte)pin);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getPortMonoflopDecoder);
 	}
 
 	/**
@@ -413,6 +636,24 @@ public class BrickletIO16 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the output value (high or low) for a port ("a" or "b" with a
+	 * bitmask, according to the selection mask.
+	 * 
+	 * Sends the request like {@link BrickletIO16#setSelectedValues(char,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSelectedValuesAsync(char port, short selectionMask, short valueMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_SELECTED_VALUES, this);
+		bb.put((byte)port);
+		bb.put((byte)selectionMask);
+		bb.put((byte)valueMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current value of the edge counter for the selected pin on port A.
 	 * You can configure the edges that are counted with {@link BrickletIO16#setEdgeCountConfig(short, short, short)}.
@@ -427,14 +668,24 @@ public class BrickletIO16 extends Device {
 		bb.put((byte)pin);
 		bb.put((byte)(resetCounter ? 1 : 0));
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountDecoder);
+	}
 
-		long count = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the current value of the edge counter for the selected pin on
+	 * port A.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getEdgeCount(short,
+	 * boolean)}, but does not wait for the response. The future completes with
+	 * the result once the response arrives, or fails with a TimeoutException
+	 * or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getEdgeCountAsync(short pin, boolean resetCounter) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_GET_EDGE_COUNT, this);
+		bb.put((byte)pin);
+		bb.put((byte)(resetCounter ? 1 : 0));
 
-		return count;
+		return sendRequestAsync(bb.array(), getEdgeCountDecoder);
 	}
 
 	/**
@@ -466,6 +717,23 @@ public class BrickletIO16 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures the edge counter for the selected pin of port A.
+	 * 
+	 * Sends the request like {@link BrickletIO16#setEdgeCountConfig(short,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setEdgeCountConfigAsync(short pin, short edgeType, short debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_EDGE_COUNT_CONFIG, this);
+		bb.put((byte)pin);
+		bb.put((byte)edgeType);
+		bb.put((byte)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the edge type and debounce time for the selected pin of port A as set by
 	 * {@link BrickletIO16#setEdgeCountConfig(short, short, short)}.
@@ -476,16 +744,23 @@ public class BrickletIO16 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
 		bb.put((byte)pin);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountConfigDecoder);
+	}
 
-		EdgeCountConfig obj = new EdgeCountConfig();
-		obj.edgeType = IPConnection.unsignedByte(bb.get());
-		obj.debounce = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the edge type and debounce time for the selected pin of port A
+	 * as set by {@link BrickletIO16#setEdgeCountConfig(short, short, short)}.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getEdgeCountConfig(short)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<EdgeCountConfig> getEdgeCountConfigAsync(short pin) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
+		bb.put((byte)pin);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getEdgeCountConfigDecoder);
 	}
 
 	/**
@@ -502,26 +777,23 @@ public class BrickletIO16 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletIO16#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
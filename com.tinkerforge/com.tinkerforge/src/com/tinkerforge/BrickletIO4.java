@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -108,6 +107,105 @@ public class BrickletIO4 extends Device {
 		public void monoflopDone(short selectionMask, short valueMask);
 	}
 
+	private final ResponseDecoder<Short> getValueDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short valueMask = IPConnection.unsignedByte(pr.get());
+
+			return valueMask;
+		}
+	};
+
+	private final ResponseDecoder<Configuration> getConfigurationDecoder = new ResponseDecoder<Configuration>() {
+		public Configuration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Configuration obj = new Configuration();
+			obj.directionMask = IPConnection.unsignedByte(pr.get());
+			obj.valueMask = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Short> getInterruptDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short interruptMask = IPConnection.unsignedByte(pr.get());
+
+			return interruptMask;
+		}
+	};
+
+	private final ResponseDecoder<Monoflop> getMonoflopDecoder = new ResponseDecoder<Monoflop>() {
+		public Monoflop decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Monoflop obj = new Monoflop();
+			obj.value = IPConnection.unsignedByte(pr.get());
+			obj.time = IPConnection.unsignedInt(pr.getInt());
+			obj.timeRemaining = IPConnection.unsignedInt(pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getEdgeCountDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long count = IPConnection.unsignedInt(pr.getInt());
+
+			return count;
+		}
+	};
+
+	private final ResponseDecoder<EdgeCountConfig> getEdgeCountConfigDecoder = new ResponseDecoder<EdgeCountConfig>() {
+		public EdgeCountConfig decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			EdgeCountConfig obj = new EdgeCountConfig();
+			obj.edgeType = IPConnection.unsignedByte(pr.get());
+			obj.debounce = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -138,11 +236,10 @@ public class BrickletIO4 extends Device {
 
 		callbacks[CALLBACK_INTERRUPT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short interruptMask = IPConnection.unsignedByte(bb.get());
-				short valueMask = IPConnection.unsignedByte(bb.get());
+				short interruptMask = IPConnection.unsignedByte(pr.get());
+				short valueMask = IPConnection.unsignedByte(pr.get());
 
 				for(InterruptListener listener: listenerInterrupt) {
 					listener.interrupt(interruptMask, valueMask);
@@ -152,11 +249,10 @@ public class BrickletIO4 extends Device {
 
 		callbacks[CALLBACK_MONOFLOP_DONE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short selectionMask = IPConnection.unsignedByte(bb.get());
-				short valueMask = IPConnection.unsignedByte(bb.get());
+				short selectionMask = IPConnection.unsignedByte(pr.get());
+				short valueMask = IPConnection.unsignedByte(pr.get());
 
 				for(MonoflopDoneListener listener: listenerMonoflopDone) {
 					listener.monoflopDone(selectionMask, valueMask);
@@ -183,6 +279,21 @@ public class BrickletIO4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the output value (high or low) with a bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIO4#setValue(short)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setValueAsync(short valueMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_VALUE, this);
+		bb.put((byte)valueMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns a bitmask of the values that are currently measured.
 	 * This function works if the pin is configured to input
@@ -191,14 +302,20 @@ public class BrickletIO4 extends Device {
 	public short getValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getValueDecoder);
+	}
 
-		short valueMask = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns a bitmask of the values that are currently measured.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getValue()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> getValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		return valueMask;
+		return sendRequestAsync(bb.array(), getValueDecoder);
 	}
 
 	/**
@@ -227,6 +344,23 @@ public class BrickletIO4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures the value and direction of the specified pins.
+	 * 
+	 * Sends the request like {@link BrickletIO4#setConfiguration(short, char,
+	 * boolean)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setConfigurationAsync(short selectionMask, char direction, boolean value) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_CONFIGURATION, this);
+		bb.put((byte)selectionMask);
+		bb.put((byte)direction);
+		bb.put((byte)(value ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns a value bitmask and a direction bitmask.
 	 * 
@@ -241,16 +375,21 @@ public class BrickletIO4 extends Device {
 	public Configuration getConfiguration() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIGURATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getConfigurationDecoder);
+	}
 
-		Configuration obj = new Configuration();
-		obj.directionMask = IPConnection.unsignedByte(bb.get());
-		obj.valueMask = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns a value bitmask and a direction bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getConfiguration()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Configuration> getConfigurationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIGURATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getConfigurationDecoder);
 	}
 
 	/**
@@ -269,20 +408,44 @@ public class BrickletIO4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the debounce period of the {@link BrickletIO4.InterruptListener}
+	 * listener in ms.
+	 * 
+	 * Sends the request like {@link BrickletIO4#setDebouncePeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletIO4#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletIO4#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getDebouncePeriod()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -302,20 +465,43 @@ public class BrickletIO4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the pins on which an interrupt is activated with a bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIO4#setInterrupt(short)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setInterruptAsync(short interruptMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_INTERRUPT, this);
+		bb.put((byte)interruptMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the interrupt bitmask as set by {@link BrickletIO4#setInterrupt(short)}.
 	 */
 	public short getInterrupt() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_INTERRUPT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getInterruptDecoder);
+	}
 
-		short interruptMask = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the interrupt bitmask as set by {@link
+	 * BrickletIO4#setInterrupt(short)}.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getInterrupt()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getInterruptAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_INTERRUPT, this);
 
-		return interruptMask;
+		return sendRequestAsync(bb.array(), getInterruptDecoder);
 	}
 
 	/**
@@ -350,6 +536,24 @@ public class BrickletIO4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures a monoflop of the pins specified by the first parameter as 4
+	 * bit long bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIO4#setMonoflop(short, short,
+	 * long)}, but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMonoflopAsync(short selectionMask, short valueMask, long time) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_SET_MONOFLOP, this);
+		bb.put((byte)selectionMask);
+		bb.put((byte)valueMask);
+		bb.putInt((int)time);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns (for the given pin) the current value and the time as set by
 	 * {@link BrickletIO4#setMonoflop(short, short, long)} as well as the remaining time until the value flips.
@@ -363,17 +567,24 @@ public class BrickletIO4 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_MONOFLOP, this);
 		bb.put((byte)pin);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMonoflopDecoder);
+	}
 
-		Monoflop obj = new Monoflop();
-		obj.value = IPConnection.unsignedByte(bb.get());
-		obj.time = IPConnection.unsignedInt(bb.getInt());
-		obj.timeRemaining = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns (for the given pin) the current value and the time as set by
+	 * {@link BrickletIO4#setMonoflop(short, short, long)} as well as the
+	 * remaining time until the value flips.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getMonoflop(short)}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Monoflop> getMonoflopAsync(short pin) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_MONOFLOP, this);
+		bb.put((byte)pin);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getMonoflopDecoder);
 	}
 
 	/**
@@ -398,6 +609,23 @@ public class BrickletIO4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the output value (high or low) with a bitmask, according to the
+	 * selection mask.
+	 * 
+	 * Sends the request like {@link BrickletIO4#setSelectedValues(short,
+	 * short)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSelectedValuesAsync(short selectionMask, short valueMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_SELECTED_VALUES, this);
+		bb.put((byte)selectionMask);
+		bb.put((byte)valueMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current value of the edge counter for the selected pin. You can
 	 * configure the edges that are counted with {@link BrickletIO4#setEdgeCountConfig(short, short, short)}.
@@ -412,14 +640,23 @@ public class BrickletIO4 extends Device {
 		bb.put((byte)pin);
 		bb.put((byte)(resetCounter ? 1 : 0));
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountDecoder);
+	}
 
-		long count = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the current value of the edge counter for the selected pin.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getEdgeCount(short, boolean)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getEdgeCountAsync(short pin, boolean resetCounter) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_GET_EDGE_COUNT, this);
+		bb.put((byte)pin);
+		bb.put((byte)(resetCounter ? 1 : 0));
 
-		return count;
+		return sendRequestAsync(bb.array(), getEdgeCountDecoder);
 	}
 
 	/**
@@ -450,6 +687,23 @@ public class BrickletIO4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures the edge counter for the selected pins.
+	 * 
+	 * Sends the request like {@link BrickletIO4#setEdgeCountConfig(short,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setEdgeCountConfigAsync(short selectionMask, short edgeType, short debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_EDGE_COUNT_CONFIG, this);
+		bb.put((byte)selectionMask);
+		bb.put((byte)edgeType);
+		bb.put((byte)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the edge type and debounce time for the selected pin as set by
 	 * {@link BrickletIO4#setEdgeCountConfig(short, short, short)}.
@@ -460,16 +714,23 @@ public class BrickletIO4 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
 		bb.put((byte)pin);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountConfigDecoder);
+	}
 
-		EdgeCountConfig obj = new EdgeCountConfig();
-		obj.edgeType = IPConnection.unsignedByte(bb.get());
-		obj.debounce = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the edge type and debounce time for the selected pin as set by
+	 * {@link BrickletIO4#setEdgeCountConfig(short, short, short)}.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getEdgeCountConfig(short)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<EdgeCountConfig> getEdgeCountConfigAsync(short pin) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
+		bb.put((byte)pin);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getEdgeCountConfigDecoder);
 	}
 
 	/**
@@ -486,26 +747,23 @@ public class BrickletIO4 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletIO4#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
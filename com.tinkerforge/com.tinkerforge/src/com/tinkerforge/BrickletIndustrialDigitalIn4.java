@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -70,6 +69,104 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 		public void interrupt(int interruptMask, int valueMask);
 	}
 
+	private final ResponseDecoder<Integer> getValueDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int valueMask = IPConnection.unsignedShort(pr.getShort());
+
+			return valueMask;
+		}
+	};
+
+	private final ResponseDecoder<char[]> getGroupDecoder = new ResponseDecoder<char[]>() {
+		public char[] decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			char[] group = new char[4];
+			for(int i = 0; i < 4; i++) {
+				group[i] = (char)(pr.get());
+			}
+
+
+			return group;
+		}
+	};
+
+	private final ResponseDecoder<Short> getAvailableForGroupDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short available = IPConnection.unsignedByte(pr.get());
+
+			return available;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getInterruptDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int interruptMask = IPConnection.unsignedShort(pr.getShort());
+
+			return interruptMask;
+		}
+	};
+
+	private final ResponseDecoder<Long> getEdgeCountDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long count = IPConnection.unsignedInt(pr.getInt());
+
+			return count;
+		}
+	};
+
+	private final ResponseDecoder<EdgeCountConfig> getEdgeCountConfigDecoder = new ResponseDecoder<EdgeCountConfig>() {
+		public EdgeCountConfig decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			EdgeCountConfig obj = new EdgeCountConfig();
+			obj.edgeType = IPConnection.unsignedByte(pr.get());
+			obj.debounce = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -96,11 +193,10 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 
 		callbacks[CALLBACK_INTERRUPT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int interruptMask = IPConnection.unsignedShort(bb.getShort());
-				int valueMask = IPConnection.unsignedShort(bb.getShort());
+				int interruptMask = IPConnection.unsignedShort(pr.getShort());
+				int valueMask = IPConnection.unsignedShort(pr.getShort());
 
 				for(InterruptListener listener: listenerInterrupt) {
 					listener.interrupt(interruptMask, valueMask);
@@ -126,14 +222,21 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 	public int getValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getValueDecoder);
+	}
 
-		int valueMask = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the input value with a bitmask.
+	 * 
+	 * Sends the request like {@link BrickletIndustrialDigitalIn4#getValue()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		return valueMask;
+		return sendRequestAsync(bb.array(), getValueDecoder);
 	}
 
 	/**
@@ -166,24 +269,46 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets a group of Digital In 4 Bricklets that should work together.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#setGroup(char[])}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setGroupAsync(char[] group) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_GROUP, this);
+		for(int i = 0; i < 4; i++) {
+			bb.put((byte)group[i]);
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the group as set by {@link BrickletIndustrialDigitalIn4#setGroup(char[])}
 	 */
 	public char[] getGroup() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_GROUP, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		char[] group = new char[4];
-		for(int i = 0; i < 4; i++) {
-			group[i] = (char)(bb.get());
-		}
+		return sendRequest(bb.array(), getGroupDecoder);
+	}
 
+	/**
+	 * Returns the group as set by {@link
+	 * BrickletIndustrialDigitalIn4#setGroup(char[])}.
+	 * 
+	 * Sends the request like {@link BrickletIndustrialDigitalIn4#getGroup()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<char[]> getGroupAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_GROUP, this);
 
-		return group;
+		return sendRequestAsync(bb.array(), getGroupDecoder);
 	}
 
 	/**
@@ -194,14 +319,21 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 	public short getAvailableForGroup() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVAILABLE_FOR_GROUP, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAvailableForGroupDecoder);
+	}
 
-		short available = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns a bitmask of ports that are available for grouping.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#getAvailableForGroup()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> getAvailableForGroupAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVAILABLE_FOR_GROUP, this);
 
-		return available;
+		return sendRequestAsync(bb.array(), getAvailableForGroupDecoder);
 	}
 
 	/**
@@ -220,20 +352,45 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the debounce period of the {@link
+	 * BrickletIndustrialDigitalIn4.InterruptListener} listener in ms.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#setDebouncePeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletIndustrialDigitalIn4#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletIndustrialDigitalIn4#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#getDebouncePeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -255,20 +412,44 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the pins on which an interrupt is activated with a bitmask.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#setInterrupt(int)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setInterruptAsync(int interruptMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_INTERRUPT, this);
+		bb.putShort((short)interruptMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the interrupt bitmask as set by {@link BrickletIndustrialDigitalIn4#setInterrupt(int)}.
 	 */
 	public int getInterrupt() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_INTERRUPT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getInterruptDecoder);
+	}
 
-		int interruptMask = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the interrupt bitmask as set by {@link
+	 * BrickletIndustrialDigitalIn4#setInterrupt(int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#getInterrupt()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getInterruptAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_INTERRUPT, this);
 
-		return interruptMask;
+		return sendRequestAsync(bb.array(), getInterruptDecoder);
 	}
 
 	/**
@@ -285,14 +466,24 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 		bb.put((byte)pin);
 		bb.put((byte)(resetCounter ? 1 : 0));
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountDecoder);
+	}
 
-		long count = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the current value of the edge counter for the selected pin.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#getEdgeCount(short, boolean)}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getEdgeCountAsync(short pin, boolean resetCounter) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_GET_EDGE_COUNT, this);
+		bb.put((byte)pin);
+		bb.put((byte)(resetCounter ? 1 : 0));
 
-		return count;
+		return sendRequestAsync(bb.array(), getEdgeCountDecoder);
 	}
 
 	/**
@@ -323,6 +514,24 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures the edge counter for the selected pins.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#setEdgeCountConfig(int, short, short)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setEdgeCountConfigAsync(int selectionMask, short edgeType, short debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_EDGE_COUNT_CONFIG, this);
+		bb.putShort((short)selectionMask);
+		bb.put((byte)edgeType);
+		bb.put((byte)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the edge type and debounce time for the selected pin as set by
 	 * {@link BrickletIndustrialDigitalIn4#setEdgeCountConfig(int, short, short)}.
@@ -333,16 +542,25 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
 		bb.put((byte)pin);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getEdgeCountConfigDecoder);
+	}
 
-		EdgeCountConfig obj = new EdgeCountConfig();
-		obj.edgeType = IPConnection.unsignedByte(bb.get());
-		obj.debounce = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the edge type and debounce time for the selected pin as set by
+	 * {@link BrickletIndustrialDigitalIn4#setEdgeCountConfig(int, short,
+	 * short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#getEdgeCountConfig(short)}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<EdgeCountConfig> getEdgeCountConfigAsync(short pin) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_EDGE_COUNT_CONFIG, this);
+		bb.put((byte)pin);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getEdgeCountConfigDecoder);
 	}
 
 	/**
@@ -359,26 +577,23 @@ public class BrickletIndustrialDigitalIn4 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalIn4#getIdentity()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -56,6 +55,75 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 		public void monoflopDone(int selectionMask, int valueMask);
 	}
 
+	private final ResponseDecoder<Integer> getValueDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int valueMask = IPConnection.unsignedShort(pr.getShort());
+
+			return valueMask;
+		}
+	};
+
+	private final ResponseDecoder<Monoflop> getMonoflopDecoder = new ResponseDecoder<Monoflop>() {
+		public Monoflop decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Monoflop obj = new Monoflop();
+			obj.value = IPConnection.unsignedShort(pr.getShort());
+			obj.time = IPConnection.unsignedInt(pr.getInt());
+			obj.timeRemaining = IPConnection.unsignedInt(pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<char[]> getGroupDecoder = new ResponseDecoder<char[]>() {
+		public char[] decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			char[] group = new char[4];
+			for(int i = 0; i < 4; i++) {
+				group[i] = (char)(pr.get());
+			}
+
+
+			return group;
+		}
+	};
+
+	private final ResponseDecoder<Short> getAvailableForGroupDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short available = IPConnection.unsignedByte(pr.get());
+
+			return available;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -79,11 +147,10 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 
 		callbacks[CALLBACK_MONOFLOP_DONE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int selectionMask = IPConnection.unsignedShort(bb.getShort());
-				int valueMask = IPConnection.unsignedShort(bb.getShort());
+				int selectionMask = IPConnection.unsignedShort(pr.getShort());
+				int valueMask = IPConnection.unsignedShort(pr.getShort());
 
 				for(MonoflopDoneListener listener: listenerMonoflopDone) {
 					listener.monoflopDone(selectionMask, valueMask);
@@ -114,20 +181,44 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the output value with a bitmask.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalOut4#setValue(int)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setValueAsync(int valueMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_VALUE, this);
+		bb.putShort((short)valueMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the bitmask as set by {@link BrickletIndustrialDigitalOut4#setValue(int)}.
 	 */
 	public int getValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getValueDecoder);
+	}
 
-		int valueMask = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the bitmask as set by {@link
+	 * BrickletIndustrialDigitalOut4#setValue(int)}.
+	 * 
+	 * Sends the request like {@link BrickletIndustrialDigitalOut4#getValue()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VALUE, this);
 
-		return valueMask;
+		return sendRequestAsync(bb.array(), getValueDecoder);
 	}
 
 	/**
@@ -159,6 +250,25 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures a monoflop of the pins specified by the first parameter
+	 * bitmask.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalOut4#setMonoflop(int, int, long)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setMonoflopAsync(int selectionMask, int valueMask, long time) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)16, FUNCTION_SET_MONOFLOP, this);
+		bb.putShort((short)selectionMask);
+		bb.putShort((short)valueMask);
+		bb.putInt((int)time);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns (for the given pin) the current value and the time as set by
 	 * {@link BrickletIndustrialDigitalOut4#setMonoflop(int, int, long)} as well as the remaining time until the value flips.
@@ -170,17 +280,24 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_MONOFLOP, this);
 		bb.put((byte)pin);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getMonoflopDecoder);
+	}
 
-		Monoflop obj = new Monoflop();
-		obj.value = IPConnection.unsignedShort(bb.getShort());
-		obj.time = IPConnection.unsignedInt(bb.getInt());
-		obj.timeRemaining = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns (for the given pin) the current value and the time as set by
+	 * {@link BrickletIndustrialDigitalOut4#setMonoflop(int, int, long)} as
+	 * well as the remaining time until the value flips.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalOut4#getMonoflop(short)}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Monoflop> getMonoflopAsync(short pin) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_MONOFLOP, this);
+		bb.put((byte)pin);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getMonoflopDecoder);
 	}
 
 	/**
@@ -210,24 +327,46 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets a group of Digital Out 4 Bricklets that should work together.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalOut4#setGroup(char[])}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setGroupAsync(char[] group) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_GROUP, this);
+		for(int i = 0; i < 4; i++) {
+			bb.put((byte)group[i]);
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the group as set by {@link BrickletIndustrialDigitalOut4#setGroup(char[])}
 	 */
 	public char[] getGroup() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_GROUP, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		char[] group = new char[4];
-		for(int i = 0; i < 4; i++) {
-			group[i] = (char)(bb.get());
-		}
+		return sendRequest(bb.array(), getGroupDecoder);
+	}
 
+	/**
+	 * Returns the group as set by {@link
+	 * BrickletIndustrialDigitalOut4#setGroup(char[])}.
+	 * 
+	 * Sends the request like {@link BrickletIndustrialDigitalOut4#getGroup()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<char[]> getGroupAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_GROUP, this);
 
-		return group;
+		return sendRequestAsync(bb.array(), getGroupDecoder);
 	}
 
 	/**
@@ -238,14 +377,21 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 	public short getAvailableForGroup() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVAILABLE_FOR_GROUP, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getAvailableForGroupDecoder);
+	}
 
-		short available = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns a bitmask of ports that are available for grouping.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalOut4#getAvailableForGroup()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> getAvailableForGroupAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_AVAILABLE_FOR_GROUP, this);
 
-		return available;
+		return sendRequestAsync(bb.array(), getAvailableForGroupDecoder);
 	}
 
 	/**
@@ -273,6 +419,23 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the output value with a bitmask, according to the selection mask.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalOut4#setSelectedValues(int, int)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSelectedValuesAsync(int selectionMask, int valueMask) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_SELECTED_VALUES, this);
+		bb.putShort((short)selectionMask);
+		bb.putShort((short)valueMask);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Bricklet is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -287,26 +450,23 @@ public class BrickletIndustrialDigitalOut4 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDigitalOut4#getIdentity()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -83,6 +82,81 @@ public class BrickletIndustrialDual020mA extends Device {
 		public void currentReached(short sensor, int current);
 	}
 
+	private final ResponseDecoder<Integer> getCurrentDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int current = (pr.getInt());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Long> getCurrentCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<CurrentCallbackThreshold> getCurrentCallbackThresholdDecoder = new ResponseDecoder<CurrentCallbackThreshold>() {
+		public CurrentCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			CurrentCallbackThreshold obj = new CurrentCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getInt());
+			obj.max = (pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Short> getSampleRateDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short rate = IPConnection.unsignedByte(pr.get());
+
+			return rate;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -108,11 +182,10 @@ public class BrickletIndustrialDual020mA extends Device {
 
 		callbacks[CALLBACK_CURRENT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short sensor = IPConnection.unsignedByte(bb.get());
-				int current = (bb.getInt());
+				short sensor = IPConnection.unsignedByte(pr.get());
+				int current = (pr.getInt());
 
 				for(CurrentListener listener: listenerCurrent) {
 					listener.current(sensor, current);
@@ -122,11 +195,10 @@ public class BrickletIndustrialDual020mA extends Device {
 
 		callbacks[CALLBACK_CURRENT_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short sensor = IPConnection.unsignedByte(bb.get());
-				int current = (bb.getInt());
+				short sensor = IPConnection.unsignedByte(pr.get());
+				int current = (pr.getInt());
 
 				for(CurrentReachedListener listener: listenerCurrentReached) {
 					listener.currentReached(sensor, current);
@@ -154,14 +226,22 @@ public class BrickletIndustrialDual020mA extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT, this);
 		bb.put((byte)sensor);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentDecoder);
+	}
 
-		int current = (bb.getInt());
+	/**
+	 * Returns the current of the specified sensor (0 or 1).
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#getCurrent(short)}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentAsync(short sensor) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT, this);
+		bb.put((byte)sensor);
 
-		return current;
+		return sendRequestAsync(bb.array(), getCurrentDecoder);
 	}
 
 	/**
@@ -181,6 +261,25 @@ public class BrickletIndustrialDual020mA extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletIndustrialDual020mA.CurrentListener} listener is triggered
+	 * periodically for the given sensor.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#setCurrentCallbackPeriod(short, long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentCallbackPeriodAsync(short sensor, long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_CURRENT_CALLBACK_PERIOD, this);
+		bb.put((byte)sensor);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletIndustrialDual020mA#setCurrentCallbackPeriod(short, long)}.
 	 */
@@ -188,14 +287,24 @@ public class BrickletIndustrialDual020mA extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_CALLBACK_PERIOD, this);
 		bb.put((byte)sensor);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletIndustrialDual020mA#setCurrentCallbackPeriod(short, long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#getCurrentCallbackPeriod(short)}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getCurrentCallbackPeriodAsync(short sensor) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_CALLBACK_PERIOD, this);
+		bb.put((byte)sensor);
 
-		return period;
+		return sendRequestAsync(bb.array(), getCurrentCallbackPeriodDecoder);
 	}
 
 	/**
@@ -226,6 +335,27 @@ public class BrickletIndustrialDual020mA extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletIndustrialDual020mA.CurrentReachedListener} listener for the
+	 * given sensor.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#setCurrentCallbackThreshold(short, char,
+	 * int, int)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentCallbackThresholdAsync(short sensor, char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)18, FUNCTION_SET_CURRENT_CALLBACK_THRESHOLD, this);
+		bb.put((byte)sensor);
+		bb.put((byte)option);
+		bb.putInt(min);
+		bb.putInt(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletIndustrialDual020mA#setCurrentCallbackThreshold(short, char, int, int)}.
 	 */
@@ -233,17 +363,25 @@ public class BrickletIndustrialDual020mA extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_CALLBACK_THRESHOLD, this);
 		bb.put((byte)sensor);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentCallbackThresholdDecoder);
+	}
 
-		CurrentCallbackThreshold obj = new CurrentCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getInt());
-		obj.max = (bb.getInt());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletIndustrialDual020mA#setCurrentCallbackThreshold(short, char,
+	 * int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#getCurrentCallbackThreshold(short)}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<CurrentCallbackThreshold> getCurrentCallbackThresholdAsync(short sensor) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CURRENT_CALLBACK_THRESHOLD, this);
+		bb.put((byte)sensor);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getCurrentCallbackThresholdDecoder);
 	}
 
 	/**
@@ -266,20 +404,44 @@ public class BrickletIndustrialDual020mA extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#setDebouncePeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletIndustrialDual020mA#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletIndustrialDual020mA#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#getDebouncePeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -304,20 +466,44 @@ public class BrickletIndustrialDual020mA extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the sample rate to either 240, 60, 15 or 4 samples per second.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#setSampleRate(short)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSampleRateAsync(short rate) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_SAMPLE_RATE, this);
+		bb.put((byte)rate);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the sample rate as set by {@link BrickletIndustrialDual020mA#setSampleRate(short)}.
 	 */
 	public short getSampleRate() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SAMPLE_RATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getSampleRateDecoder);
+	}
 
-		short rate = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the sample rate as set by {@link
+	 * BrickletIndustrialDual020mA#setSampleRate(short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#getSampleRate()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> getSampleRateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SAMPLE_RATE, this);
 
-		return rate;
+		return sendRequestAsync(bb.array(), getSampleRateDecoder);
 	}
 
 	/**
@@ -334,26 +520,23 @@ public class BrickletIndustrialDual020mA extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletIndustrialDual020mA#getIdentity()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
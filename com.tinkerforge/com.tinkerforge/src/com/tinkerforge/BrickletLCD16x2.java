@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -65,6 +64,74 @@ public class BrickletLCD16x2 extends Device {
 		public void buttonReleased(short button);
 	}
 
+	private final ResponseDecoder<Boolean> isBacklightOnDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean backlight = (pr.get()) != 0;
+
+			return backlight;
+		}
+	};
+
+	private final ResponseDecoder<Config> getConfigDecoder = new ResponseDecoder<Config>() {
+		public Config decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Config obj = new Config();
+			obj.cursor = (pr.get()) != 0;
+			obj.blinking = (pr.get()) != 0;
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isButtonPressedDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean pressed = (pr.get()) != 0;
+
+			return pressed;
+		}
+	};
+
+	private final ResponseDecoder<short[]> getCustomCharacterDecoder = new ResponseDecoder<short[]>() {
+		public short[] decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short[] character = new short[8];
+			for(int i = 0; i < 8; i++) {
+				character[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+
+			return character;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -91,10 +158,9 @@ public class BrickletLCD16x2 extends Device {
 
 		callbacks[CALLBACK_BUTTON_PRESSED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short button = IPConnection.unsignedByte(bb.get());
+				short button = IPConnection.unsignedByte(pr.get());
 
 				for(ButtonPressedListener listener: listenerButtonPressed) {
 					listener.buttonPressed(button);
@@ -104,10 +170,9 @@ public class BrickletLCD16x2 extends Device {
 
 		callbacks[CALLBACK_BUTTON_RELEASED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short button = IPConnection.unsignedByte(bb.get());
+				short button = IPConnection.unsignedByte(pr.get());
 
 				for(ButtonReleasedListener listener: listenerButtonReleased) {
 					listener.buttonReleased(button);
@@ -145,6 +210,30 @@ public class BrickletLCD16x2 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Writes text to a specific line (0 to 1) with a specific position (0 to
+	 * 15).
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#writeLine(short, short,
+	 * String)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> writeLineAsync(short line, short position, String text) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)26, FUNCTION_WRITE_LINE, this);
+		bb.put((byte)line);
+		bb.put((byte)position);
+		for(int i = 0; i < 16; i++) {
+			try {
+				bb.put((byte)text.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Deletes all characters from the display.
 	 */
@@ -154,6 +243,20 @@ public class BrickletLCD16x2 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Deletes all characters from the display.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#clearDisplay()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> clearDisplayAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_CLEAR_DISPLAY, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Turns the backlight on.
 	 */
@@ -163,6 +266,20 @@ public class BrickletLCD16x2 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the backlight on.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#backlightOn()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> backlightOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_BACKLIGHT_ON, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Turns the backlight off.
 	 */
@@ -172,20 +289,41 @@ public class BrickletLCD16x2 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the backlight off.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#backlightOff()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> backlightOffAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_BACKLIGHT_OFF, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the backlight is on and *false* otherwise.
 	 */
 	public boolean isBacklightOn() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_BACKLIGHT_ON, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isBacklightOnDecoder);
+	}
 
-		boolean backlight = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the backlight is on and *false* otherwise.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#isBacklightOn()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isBacklightOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_BACKLIGHT_ON, this);
 
-		return backlight;
+		return sendRequestAsync(bb.array(), isBacklightOnDecoder);
 	}
 
 	/**
@@ -204,22 +342,45 @@ public class BrickletLCD16x2 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures if the cursor (shown as "_") should be visible and if it
+	 * should be blinking (shown as a blinking block).
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#setConfig(boolean,
+	 * boolean)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setConfigAsync(boolean cursor, boolean blinking) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_CONFIG, this);
+		bb.put((byte)(cursor ? 1 : 0));
+		bb.put((byte)(blinking ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the configuration as set by {@link BrickletLCD16x2#setConfig(boolean, boolean)}.
 	 */
 	public Config getConfig() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIG, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getConfigDecoder);
+	}
 
-		Config obj = new Config();
-		obj.cursor = (bb.get()) != 0;
-		obj.blinking = (bb.get()) != 0;
+	/**
+	 * Returns the configuration as set by {@link
+	 * BrickletLCD16x2#setConfig(boolean, boolean)}.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#getConfig()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Config> getConfigAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIG, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getConfigDecoder);
 	}
 
 	/**
@@ -231,14 +392,22 @@ public class BrickletLCD16x2 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_IS_BUTTON_PRESSED, this);
 		bb.put((byte)button);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isButtonPressedDecoder);
+	}
 
-		boolean pressed = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the button (0 to 2) is pressed.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#isButtonPressed(short)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isButtonPressedAsync(short button) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_IS_BUTTON_PRESSED, this);
+		bb.put((byte)button);
 
-		return pressed;
+		return sendRequestAsync(bb.array(), isButtonPressedDecoder);
 	}
 
 	/**
@@ -278,6 +447,24 @@ public class BrickletLCD16x2 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * The LCD 16x2 Bricklet can store up to 8 custom characters.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#setCustomCharacter(short,
+	 * short[])}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCustomCharacterAsync(short index, short[] character) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_CUSTOM_CHARACTER, this);
+		bb.put((byte)index);
+		for(int i = 0; i < 8; i++) {
+			bb.put((byte)character[i]);
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the custom character for a given index, as set with
 	 * {@link BrickletLCD16x2#setCustomCharacter(short, short[])}.
@@ -288,18 +475,23 @@ public class BrickletLCD16x2 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CUSTOM_CHARACTER, this);
 		bb.put((byte)index);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		short[] character = new short[8];
-		for(int i = 0; i < 8; i++) {
-			character[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getCustomCharacterDecoder);
+	}
 
+	/**
+	 * Returns the custom character for a given index, as set with {@link
+	 * BrickletLCD16x2#setCustomCharacter(short, short[])}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletLCD16x2#getCustomCharacter(short)}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<short[]> getCustomCharacterAsync(short index) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CUSTOM_CHARACTER, this);
+		bb.put((byte)index);
 
-		return character;
+		return sendRequestAsync(bb.array(), getCustomCharacterDecoder);
 	}
 
 	/**
@@ -316,26 +508,23 @@ public class BrickletLCD16x2 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletLCD16x2#getIdentity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -69,6 +68,94 @@ public class BrickletLCD20x4 extends Device {
 		public void buttonReleased(short button);
 	}
 
+	private final ResponseDecoder<Boolean> isBacklightOnDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean backlight = (pr.get()) != 0;
+
+			return backlight;
+		}
+	};
+
+	private final ResponseDecoder<Config> getConfigDecoder = new ResponseDecoder<Config>() {
+		public Config decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Config obj = new Config();
+			obj.cursor = (pr.get()) != 0;
+			obj.blinking = (pr.get()) != 0;
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isButtonPressedDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean pressed = (pr.get()) != 0;
+
+			return pressed;
+		}
+	};
+
+	private final ResponseDecoder<short[]> getCustomCharacterDecoder = new ResponseDecoder<short[]>() {
+		public short[] decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short[] character = new short[8];
+			for(int i = 0; i < 8; i++) {
+				character[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+
+			return character;
+		}
+	};
+
+	private final ResponseDecoder<String> getDefaultTextDecoder = new ResponseDecoder<String>() {
+		public String decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			String text = pr.string(20);
+
+			return text;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getDefaultTextCounterDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int counter = (pr.getInt());
+
+			return counter;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -99,10 +186,9 @@ public class BrickletLCD20x4 extends Device {
 
 		callbacks[CALLBACK_BUTTON_PRESSED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short button = IPConnection.unsignedByte(bb.get());
+				short button = IPConnection.unsignedByte(pr.get());
 
 				for(ButtonPressedListener listener: listenerButtonPressed) {
 					listener.buttonPressed(button);
@@ -112,10 +198,9 @@ public class BrickletLCD20x4 extends Device {
 
 		callbacks[CALLBACK_BUTTON_RELEASED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short button = IPConnection.unsignedByte(bb.get());
+				short button = IPConnection.unsignedByte(pr.get());
 
 				for(ButtonReleasedListener listener: listenerButtonReleased) {
 					listener.buttonReleased(button);
@@ -153,6 +238,30 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Writes text to a specific line (0 to 3) with a specific position (0 to
+	 * 19).
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#writeLine(short, short,
+	 * String)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> writeLineAsync(short line, short position, String text) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)30, FUNCTION_WRITE_LINE, this);
+		bb.put((byte)line);
+		bb.put((byte)position);
+		for(int i = 0; i < 20; i++) {
+			try {
+				bb.put((byte)text.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Deletes all characters from the display.
 	 */
@@ -162,6 +271,20 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Deletes all characters from the display.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#clearDisplay()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> clearDisplayAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_CLEAR_DISPLAY, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Turns the backlight on.
 	 */
@@ -171,6 +294,20 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the backlight on.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#backlightOn()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> backlightOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_BACKLIGHT_ON, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Turns the backlight off.
 	 */
@@ -180,20 +317,41 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Turns the backlight off.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#backlightOff()}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> backlightOffAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_BACKLIGHT_OFF, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the backlight is on and *false* otherwise.
 	 */
 	public boolean isBacklightOn() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_BACKLIGHT_ON, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isBacklightOnDecoder);
+	}
 
-		boolean backlight = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the backlight is on and *false* otherwise.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#isBacklightOn()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isBacklightOnAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_BACKLIGHT_ON, this);
 
-		return backlight;
+		return sendRequestAsync(bb.array(), isBacklightOnDecoder);
 	}
 
 	/**
@@ -212,22 +370,45 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Configures if the cursor (shown as "_") should be visible and if it
+	 * should be blinking (shown as a blinking block).
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#setConfig(boolean,
+	 * boolean)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setConfigAsync(boolean cursor, boolean blinking) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_CONFIG, this);
+		bb.put((byte)(cursor ? 1 : 0));
+		bb.put((byte)(blinking ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the configuration as set by {@link BrickletLCD20x4#setConfig(boolean, boolean)}.
 	 */
 	public Config getConfig() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIG, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getConfigDecoder);
+	}
 
-		Config obj = new Config();
-		obj.cursor = (bb.get()) != 0;
-		obj.blinking = (bb.get()) != 0;
+	/**
+	 * Returns the configuration as set by {@link
+	 * BrickletLCD20x4#setConfig(boolean, boolean)}.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#getConfig()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Config> getConfigAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIG, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getConfigDecoder);
 	}
 
 	/**
@@ -240,14 +421,23 @@ public class BrickletLCD20x4 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_IS_BUTTON_PRESSED, this);
 		bb.put((byte)button);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isButtonPressedDecoder);
+	}
 
-		boolean pressed = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the button (0 to 2 or 0 to 3 with hardware version >=
+	 * 1.2) is pressed.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#isButtonPressed(short)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isButtonPressedAsync(short button) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_IS_BUTTON_PRESSED, this);
+		bb.put((byte)button);
 
-		return pressed;
+		return sendRequestAsync(bb.array(), isButtonPressedDecoder);
 	}
 
 	/**
@@ -287,6 +477,24 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * The LCD 20x4 Bricklet can store up to 8 custom characters.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#setCustomCharacter(short,
+	 * short[])}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCustomCharacterAsync(short index, short[] character) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_CUSTOM_CHARACTER, this);
+		bb.put((byte)index);
+		for(int i = 0; i < 8; i++) {
+			bb.put((byte)character[i]);
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the custom character for a given index, as set with
 	 * {@link BrickletLCD20x4#setCustomCharacter(short, short[])}.
@@ -297,18 +505,23 @@ public class BrickletLCD20x4 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CUSTOM_CHARACTER, this);
 		bb.put((byte)index);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		short[] character = new short[8];
-		for(int i = 0; i < 8; i++) {
-			character[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getCustomCharacterDecoder);
+	}
 
+	/**
+	 * Returns the custom character for a given index, as set with {@link
+	 * BrickletLCD20x4#setCustomCharacter(short, short[])}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletLCD20x4#getCustomCharacter(short)}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<short[]> getCustomCharacterAsync(short index) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_CUSTOM_CHARACTER, this);
+		bb.put((byte)index);
 
-		return character;
+		return sendRequestAsync(bb.array(), getCustomCharacterDecoder);
 	}
 
 	/**
@@ -335,6 +548,29 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the default text for lines 0-3. The max number of characters per
+	 * line is 20.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#setDefaultText(short,
+	 * String)}, but does not wait for the device. If a response is expected,
+	 * see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDefaultTextAsync(short line, String text) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)29, FUNCTION_SET_DEFAULT_TEXT, this);
+		bb.put((byte)line);
+		for(int i = 0; i < 20; i++) {
+			try {
+				bb.put((byte)text.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the default text for a given line (0-3) as set by
 	 * {@link BrickletLCD20x4#setDefaultText(short, String)}.
@@ -345,14 +581,23 @@ public class BrickletLCD20x4 extends Device {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_DEFAULT_TEXT, this);
 		bb.put((byte)line);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDefaultTextDecoder);
+	}
 
-		String text = IPConnection.string(bb, 20);
+	/**
+	 * Returns the default text for a given line (0-3) as set by {@link
+	 * BrickletLCD20x4#setDefaultText(short, String)}.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#getDefaultText(short)},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<String> getDefaultTextAsync(short line) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_GET_DEFAULT_TEXT, this);
+		bb.put((byte)line);
 
-		return text;
+		return sendRequestAsync(bb.array(), getDefaultTextDecoder);
 	}
 
 	/**
@@ -381,6 +626,22 @@ public class BrickletLCD20x4 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the default text counter in ms.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletLCD20x4#setDefaultTextCounter(int)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setDefaultTextCounterAsync(int counter) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEFAULT_TEXT_COUNTER, this);
+		bb.putInt(counter);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current value of the default text counter.
 	 * 
@@ -389,14 +650,21 @@ public class BrickletLCD20x4 extends Device {
 	public int getDefaultTextCounter() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEFAULT_TEXT_COUNTER, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDefaultTextCounterDecoder);
+	}
 
-		int counter = (bb.getInt());
+	/**
+	 * Returns the current value of the default text counter.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#getDefaultTextCounter()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getDefaultTextCounterAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEFAULT_TEXT_COUNTER, this);
 
-		return counter;
+		return sendRequestAsync(bb.array(), getDefaultTextCounterDecoder);
 	}
 
 	/**
@@ -413,26 +681,23 @@ public class BrickletLCD20x4 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletLCD20x4#getIdentity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -59,6 +58,80 @@ public class BrickletLEDStrip extends Device {
 		public void frameRendered(int length);
 	}
 
+	private final ResponseDecoder<RGBValues> getRGBValuesDecoder = new ResponseDecoder<RGBValues>() {
+		public RGBValues decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			RGBValues obj = new RGBValues();
+			for(int i = 0; i < 16; i++) {
+				obj.r[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 16; i++) {
+				obj.g[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 16; i++) {
+				obj.b[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getFrameDurationDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int duration = IPConnection.unsignedShort(pr.getShort());
+
+			return duration;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getSupplyVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = IPConnection.unsignedShort(pr.getShort());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Long> getClockFrequencyDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long frequency = IPConnection.unsignedInt(pr.getInt());
+
+			return frequency;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -81,10 +154,9 @@ public class BrickletLEDStrip extends Device {
 
 		callbacks[CALLBACK_FRAME_RENDERED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int length = IPConnection.unsignedShort(bb.getShort());
+				int length = IPConnection.unsignedShort(pr.getShort());
 
 				for(FrameRenderedListener listener: listenerFrameRendered) {
 					listener.frameRendered(length);
@@ -151,6 +223,35 @@ public class BrickletLEDStrip extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the *rgb* values for the LEDs with the given *length* starting from
+	 * *index*.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#setRGBValues(int, short,
+	 * short[], short[], short[])}, but does not wait for the device. If a
+	 * response is expected, see setResponseExpected, the future completes once
+	 * the device acknowledged the request, otherwise as soon as the request is
+	 * sent.
+	 */
+	public ResponseFuture<Void> setRGBValuesAsync(int index, short length, short[] r, short[] g, short[] b) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)59, FUNCTION_SET_RGB_VALUES, this);
+		bb.putShort((short)index);
+		bb.put((byte)length);
+		for(int i = 0; i < 16; i++) {
+			bb.put((byte)r[i]);
+		}
+
+		for(int i = 0; i < 16; i++) {
+			bb.put((byte)g[i]);
+		}
+
+		for(int i = 0; i < 16; i++) {
+			bb.put((byte)b[i]);
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the rgb with the given *length* starting from the
 	 * given *index*.
@@ -162,26 +263,55 @@ public class BrickletLEDStrip extends Device {
 		bb.putShort((short)index);
 		bb.put((byte)length);
 
+		return sendRequest(bb.array(), getRGBValuesDecoder);
+	}
+
+	/**
+	 * Returns the rgb with the given *length* starting from the given *index*.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#getRGBValues(int,
+	 * short)}, but does not wait for the response. The future completes with
+	 * the result once the response arrives, or fails with a TimeoutException
+	 * or a NotConnectedException.
+	 */
+	public ResponseFuture<RGBValues> getRGBValuesAsync(int index, short length) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_GET_RGB_VALUES, this);
+		bb.putShort((short)index);
+		bb.put((byte)length);
+
+		return sendRequestAsync(bb.array(), getRGBValuesDecoder);
+	}
+
+	/**
+	 * Same as {@link BrickletLEDStrip#getRGBValues(int, short)}, but writes
+	 * the result into \c into instead of a new object and returns \c into.
+	 * Allows to poll with a high rate without allocating a result object per
+	 * call.
+	 */
+	public RGBValues getRGBValues(int index, short length, RGBValues into) throws TimeoutException, NotConnectedException {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_GET_RGB_VALUES, this);
+		bb.putShort((short)index);
+		bb.put((byte)length);
+
 		byte[] response = sendRequest(bb.array());
 
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		PacketReader pr = PacketReader.wrap(response);
 
-		RGBValues obj = new RGBValues();
 		for(int i = 0; i < 16; i++) {
-			obj.r[i] = IPConnection.unsignedByte(bb.get());
+			into.r[i] = IPConnection.unsignedByte(pr.get());
 		}
 
 		for(int i = 0; i < 16; i++) {
-			obj.g[i] = IPConnection.unsignedByte(bb.get());
+			into.g[i] = IPConnection.unsignedByte(pr.get());
 		}
 
 		for(int i = 0; i < 16; i++) {
-			obj.b[i] = IPConnection.unsignedByte(bb.get());
+			into.b[i] = IPConnection.unsignedByte(pr.get());
 		}
 
+		ipcon.packetPool.release(response);
 
-		return obj;
+		return into;
 	}
 
 	/**
@@ -201,20 +331,43 @@ public class BrickletLEDStrip extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the frame duration in ms.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#setFrameDuration(int)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setFrameDurationAsync(int duration) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_FRAME_DURATION, this);
+		bb.putShort((short)duration);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the frame duration as set by {@link BrickletLEDStrip#setFrameDuration(int)}.
 	 */
 	public int getFrameDuration() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_FRAME_DURATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getFrameDurationDecoder);
+	}
 
-		int duration = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the frame duration as set by {@link
+	 * BrickletLEDStrip#setFrameDuration(int)}.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#getFrameDuration()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getFrameDurationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_FRAME_DURATION, this);
 
-		return duration;
+		return sendRequestAsync(bb.array(), getFrameDurationDecoder);
 	}
 
 	/**
@@ -223,14 +376,21 @@ public class BrickletLEDStrip extends Device {
 	public int getSupplyVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SUPPLY_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getSupplyVoltageDecoder);
+	}
 
-		int voltage = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the current supply voltage of the LEDs.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#getSupplyVoltage()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getSupplyVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SUPPLY_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getSupplyVoltageDecoder);
 	}
 
 	/**
@@ -262,6 +422,21 @@ public class BrickletLEDStrip extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the frequency of the clock in Hz.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#setClockFrequency(long)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setClockFrequencyAsync(long frequency) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_CLOCK_FREQUENCY, this);
+		bb.putInt((int)frequency);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the currently used clock frequency.
 	 * 
@@ -270,14 +445,21 @@ public class BrickletLEDStrip extends Device {
 	public long getClockFrequency() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CLOCK_FREQUENCY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getClockFrequencyDecoder);
+	}
 
-		long frequency = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the currently used clock frequency.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#getClockFrequency()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getClockFrequencyAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CLOCK_FREQUENCY, this);
 
-		return frequency;
+		return sendRequestAsync(bb.array(), getClockFrequencyDecoder);
 	}
 
 	/**
@@ -294,26 +476,23 @@ public class BrickletLEDStrip extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletLEDStrip#getIdentity()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
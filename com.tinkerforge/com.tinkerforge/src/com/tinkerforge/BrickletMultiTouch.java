@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -44,6 +43,58 @@ public class BrickletMultiTouch extends Device {
 		public void touchState(int state);
 	}
 
+	private final ResponseDecoder<Integer> getTouchStateDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int state = IPConnection.unsignedShort(pr.getShort());
+
+			return state;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getElectrodeConfigDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int enabledElectrodes = IPConnection.unsignedShort(pr.getShort());
+
+			return enabledElectrodes;
+		}
+	};
+
+	private final ResponseDecoder<Short> getElectrodeSensitivityDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short sensitivity = IPConnection.unsignedByte(pr.get());
+
+			return sensitivity;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -65,10 +116,9 @@ public class BrickletMultiTouch extends Device {
 
 		callbacks[CALLBACK_TOUCH_STATE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int state = IPConnection.unsignedShort(bb.getShort());
+				int state = IPConnection.unsignedShort(pr.getShort());
 
 				for(TouchStateListener listener: listenerTouchState) {
 					listener.touchState(state);
@@ -100,14 +150,21 @@ public class BrickletMultiTouch extends Device {
 	public int getTouchState() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TOUCH_STATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getTouchStateDecoder);
+	}
 
-		int state = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the current touch state.
+	 * 
+	 * Sends the request like {@link BrickletMultiTouch#getTouchState()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getTouchStateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TOUCH_STATE, this);
 
-		return state;
+		return sendRequestAsync(bb.array(), getTouchStateDecoder);
 	}
 
 	/**
@@ -120,6 +177,20 @@ public class BrickletMultiTouch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Recalibrates the electrodes.
+	 * 
+	 * Sends the request like {@link BrickletMultiTouch#recalibrate()}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> recalibrateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_RECALIBRATE, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Enables/disables electrodes with a bitfield (see {@link BrickletMultiTouch#getTouchState()}).
 	 * 
@@ -143,20 +214,45 @@ public class BrickletMultiTouch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Enables/disables electrodes with a bitfield (see {@link
+	 * BrickletMultiTouch#getTouchState()}).
+	 * 
+	 * Sends the request like {@link
+	 * BrickletMultiTouch#setElectrodeConfig(int)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setElectrodeConfigAsync(int enabledElectrodes) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)10, FUNCTION_SET_ELECTRODE_CONFIG, this);
+		bb.putShort((short)enabledElectrodes);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the electrode configuration, as set by {@link BrickletMultiTouch#setElectrodeConfig(int)}.
 	 */
 	public int getElectrodeConfig() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ELECTRODE_CONFIG, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getElectrodeConfigDecoder);
+	}
 
-		int enabledElectrodes = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the electrode configuration, as set by {@link
+	 * BrickletMultiTouch#setElectrodeConfig(int)}.
+	 * 
+	 * Sends the request like {@link BrickletMultiTouch#getElectrodeConfig()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getElectrodeConfigAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ELECTRODE_CONFIG, this);
 
-		return enabledElectrodes;
+		return sendRequestAsync(bb.array(), getElectrodeConfigDecoder);
 	}
 
 	/**
@@ -181,20 +277,44 @@ public class BrickletMultiTouch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the sensitivity of the electrodes.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletMultiTouch#setElectrodeSensitivity(short)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setElectrodeSensitivityAsync(short sensitivity) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_ELECTRODE_SENSITIVITY, this);
+		bb.put((byte)sensitivity);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current sensitivity, as set by {@link BrickletMultiTouch#setElectrodeSensitivity(short)}.
 	 */
 	public short getElectrodeSensitivity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ELECTRODE_SENSITIVITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getElectrodeSensitivityDecoder);
+	}
 
-		short sensitivity = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the current sensitivity, as set by {@link
+	 * BrickletMultiTouch#setElectrodeSensitivity(short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletMultiTouch#getElectrodeSensitivity()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Short> getElectrodeSensitivityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_ELECTRODE_SENSITIVITY, this);
 
-		return sensitivity;
+		return sendRequestAsync(bb.array(), getElectrodeSensitivityDecoder);
 	}
 
 	/**
@@ -211,26 +331,23 @@ public class BrickletMultiTouch extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletMultiTouch#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -129,6 +128,134 @@ public class BrickletPTC extends Device {
 		public void resistanceReached(int resistance);
 	}
 
+	private final ResponseDecoder<Integer> getTemperatureDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int temperature = (pr.getInt());
+
+			return temperature;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getResistanceDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int resistance = IPConnection.unsignedShort(pr.getShort());
+
+			return resistance;
+		}
+	};
+
+	private final ResponseDecoder<Long> getTemperatureCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getResistanceCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<TemperatureCallbackThreshold> getTemperatureCallbackThresholdDecoder = new ResponseDecoder<TemperatureCallbackThreshold>() {
+		public TemperatureCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			TemperatureCallbackThreshold obj = new TemperatureCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getInt());
+			obj.max = (pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<ResistanceCallbackThreshold> getResistanceCallbackThresholdDecoder = new ResponseDecoder<ResistanceCallbackThreshold>() {
+		public ResistanceCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			ResistanceCallbackThreshold obj = new ResistanceCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = IPConnection.unsignedShort(pr.getShort());
+			obj.max = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Short> getNoiseRejectionFilterDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short filter = IPConnection.unsignedByte(pr.get());
+
+			return filter;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isSensorConnectedDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean connected = (pr.get()) != 0;
+
+			return connected;
+		}
+	};
+
+	private final ResponseDecoder<Short> getWireModeDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short mode = IPConnection.unsignedByte(pr.get());
+
+			return mode;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -164,10 +291,9 @@ public class BrickletPTC extends Device {
 
 		callbacks[CALLBACK_TEMPERATURE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int temperature = (bb.getInt());
+				int temperature = (pr.getInt());
 
 				for(TemperatureListener listener: listenerTemperature) {
 					listener.temperature(temperature);
@@ -177,10 +303,9 @@ public class BrickletPTC extends Device {
 
 		callbacks[CALLBACK_TEMPERATURE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int temperature = (bb.getInt());
+				int temperature = (pr.getInt());
 
 				for(TemperatureReachedListener listener: listenerTemperatureReached) {
 					listener.temperatureReached(temperature);
@@ -190,10 +315,9 @@ public class BrickletPTC extends Device {
 
 		callbacks[CALLBACK_RESISTANCE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int resistance = IPConnection.unsignedShort(bb.getShort());
+				int resistance = IPConnection.unsignedShort(pr.getShort());
 
 				for(ResistanceListener listener: listenerResistance) {
 					listener.resistance(resistance);
@@ -203,10 +327,9 @@ public class BrickletPTC extends Device {
 
 		callbacks[CALLBACK_RESISTANCE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int resistance = IPConnection.unsignedShort(bb.getShort());
+				int resistance = IPConnection.unsignedShort(pr.getShort());
 
 				for(ResistanceReachedListener listener: listenerResistanceReached) {
 					listener.resistanceReached(resistance);
@@ -227,14 +350,21 @@ public class BrickletPTC extends Device {
 	public int getTemperature() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TEMPERATURE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getTemperatureDecoder);
+	}
 
-		int temperature = (bb.getInt());
+	/**
+	 * Returns the temperature of connected sensor.
+	 * 
+	 * Sends the request like {@link BrickletPTC#getTemperature()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getTemperatureAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TEMPERATURE, this);
 
-		return temperature;
+		return sendRequestAsync(bb.array(), getTemperatureDecoder);
 	}
 
 	/**
@@ -252,14 +382,21 @@ public class BrickletPTC extends Device {
 	public int getResistance() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RESISTANCE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getResistanceDecoder);
+	}
 
-		int resistance = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the value as measured by the MAX31865 precision delta-sigma ADC.
+	 * 
+	 * Sends the request like {@link BrickletPTC#getResistance()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getResistanceAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RESISTANCE, this);
 
-		return resistance;
+		return sendRequestAsync(bb.array(), getResistanceDecoder);
 	}
 
 	/**
@@ -278,20 +415,45 @@ public class BrickletPTC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletPTC.TemperatureListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#setTemperatureCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setTemperatureCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_TEMPERATURE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletPTC#setTemperatureCallbackPeriod(long)}.
 	 */
 	public long getTemperatureCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TEMPERATURE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getTemperatureCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletPTC#setTemperatureCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#getTemperatureCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getTemperatureCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TEMPERATURE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getTemperatureCallbackPeriodDecoder);
 	}
 
 	/**
@@ -310,20 +472,45 @@ public class BrickletPTC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletPTC.ResistanceListener} listener is triggered periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#setResistanceCallbackPeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setResistanceCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_RESISTANCE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletPTC#setResistanceCallbackPeriod(long)}.
 	 */
 	public long getResistanceCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RESISTANCE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getResistanceCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletPTC#setResistanceCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#getResistanceCallbackPeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getResistanceCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RESISTANCE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getResistanceCallbackPeriodDecoder);
 	}
 
 	/**
@@ -352,23 +539,47 @@ public class BrickletPTC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletPTC.TemperatureReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#setTemperatureCallbackThreshold(char, int, int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setTemperatureCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_TEMPERATURE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putInt(min);
+		bb.putInt(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletPTC#setTemperatureCallbackThreshold(char, int, int)}.
 	 */
 	public TemperatureCallbackThreshold getTemperatureCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TEMPERATURE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getTemperatureCallbackThresholdDecoder);
+	}
 
-		TemperatureCallbackThreshold obj = new TemperatureCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getInt());
-		obj.max = (bb.getInt());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletPTC#setTemperatureCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#getTemperatureCallbackThreshold()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<TemperatureCallbackThreshold> getTemperatureCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TEMPERATURE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getTemperatureCallbackThresholdDecoder);
 	}
 
 	/**
@@ -397,23 +608,47 @@ public class BrickletPTC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletPTC.ResistanceReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#setResistanceCallbackThreshold(char, int, int)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setResistanceCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)13, FUNCTION_SET_RESISTANCE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putShort((short)min);
+		bb.putShort((short)max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletPTC#setResistanceCallbackThreshold(char, int, int)}.
 	 */
 	public ResistanceCallbackThreshold getResistanceCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RESISTANCE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getResistanceCallbackThresholdDecoder);
+	}
 
-		ResistanceCallbackThreshold obj = new ResistanceCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = IPConnection.unsignedShort(bb.getShort());
-		obj.max = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletPTC#setResistanceCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#getResistanceCallbackThreshold()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<ResistanceCallbackThreshold> getResistanceCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_RESISTANCE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getResistanceCallbackThresholdDecoder);
 	}
 
 	/**
@@ -438,20 +673,43 @@ public class BrickletPTC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listener.
+	 * 
+	 * Sends the request like {@link BrickletPTC#setDebouncePeriod(long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletPTC#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletPTC#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link BrickletPTC#getDebouncePeriod()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -469,6 +727,22 @@ public class BrickletPTC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the noise rejection filter to either 50Hz (0) or 60Hz (1).
+	 * 
+	 * Sends the request like {@link
+	 * BrickletPTC#setNoiseRejectionFilter(short)}, but does not wait for the
+	 * device. If a response is expected, see setResponseExpected, the future
+	 * completes once the device acknowledged the request, otherwise as soon as
+	 * the request is sent.
+	 */
+	public ResponseFuture<Void> setNoiseRejectionFilterAsync(short filter) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_NOISE_REJECTION_FILTER, this);
+		bb.put((byte)filter);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the noise rejection filter option as set by 
 	 * {@link BrickletPTC#setNoiseRejectionFilter(short)}
@@ -476,14 +750,22 @@ public class BrickletPTC extends Device {
 	public short getNoiseRejectionFilter() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_NOISE_REJECTION_FILTER, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getNoiseRejectionFilterDecoder);
+	}
 
-		short filter = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the noise rejection filter option as set by {@link
+	 * BrickletPTC#setNoiseRejectionFilter(short)}.
+	 * 
+	 * Sends the request like {@link BrickletPTC#getNoiseRejectionFilter()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getNoiseRejectionFilterAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_NOISE_REJECTION_FILTER, this);
 
-		return filter;
+		return sendRequestAsync(bb.array(), getNoiseRejectionFilterDecoder);
 	}
 
 	/**
@@ -496,14 +778,21 @@ public class BrickletPTC extends Device {
 	public boolean isSensorConnected() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_SENSOR_CONNECTED, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isSensorConnectedDecoder);
+	}
 
-		boolean connected = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the sensor is connected correctly.
+	 * 
+	 * Sends the request like {@link BrickletPTC#isSensorConnected()}, but does
+	 * not wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isSensorConnectedAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_SENSOR_CONNECTED, this);
 
-		return connected;
+		return sendRequestAsync(bb.array(), isSensorConnectedDecoder);
 	}
 
 	/**
@@ -520,20 +809,42 @@ public class BrickletPTC extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the wire mode of the sensor.
+	 * 
+	 * Sends the request like {@link BrickletPTC#setWireMode(short)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setWireModeAsync(short mode) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_WIRE_MODE, this);
+		bb.put((byte)mode);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the wire mode as set by {@link BrickletPTC#setWireMode(short)}
 	 */
 	public short getWireMode() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIRE_MODE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getWireModeDecoder);
+	}
 
-		short mode = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the wire mode as set by {@link BrickletPTC#setWireMode(short)}.
+	 * 
+	 * Sends the request like {@link BrickletPTC#getWireMode()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getWireModeAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_WIRE_MODE, this);
 
-		return mode;
+		return sendRequestAsync(bb.array(), getWireModeDecoder);
 	}
 
 	/**
@@ -550,26 +861,23 @@ public class BrickletPTC extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletPTC#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
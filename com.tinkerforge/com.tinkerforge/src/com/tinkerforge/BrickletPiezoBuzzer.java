@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -47,6 +46,28 @@ public class BrickletPiezoBuzzer extends Device {
 		public void morseCodeFinished();
 	}
 
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -91,6 +112,21 @@ public class BrickletPiezoBuzzer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Beeps with the duration in ms.
+	 * 
+	 * Sends the request like {@link BrickletPiezoBuzzer#beep(long)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> beepAsync(long duration) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_BEEP, this);
+		bb.putInt((int)duration);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Sets morse code that will be played by the piezo buzzer. The morse code
 	 * is given as a string consisting of "." (dot), "-" (minus) and " " (space)
@@ -116,6 +152,27 @@ public class BrickletPiezoBuzzer extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets morse code that will be played by the piezo buzzer.
+	 * 
+	 * Sends the request like {@link BrickletPiezoBuzzer#morseCode(String)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> morseCodeAsync(String morse) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)68, FUNCTION_MORSE_CODE, this);
+		for(int i = 0; i < 60; i++) {
+			try {
+				bb.put((byte)morse.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Bricklet is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -130,26 +187,23 @@ public class BrickletPiezoBuzzer extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletPiezoBuzzer#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -48,6 +47,38 @@ public class BrickletPiezoSpeaker extends Device {
 		public void morseCodeFinished();
 	}
 
+	private final ResponseDecoder<Boolean> calibrateDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean calibration = (pr.get()) != 0;
+
+			return calibration;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -101,6 +132,22 @@ public class BrickletPiezoSpeaker extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Beeps with the given frequency for the duration in ms.
+	 * 
+	 * Sends the request like {@link BrickletPiezoSpeaker#beep(long, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> beepAsync(long duration, int frequency) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_BEEP, this);
+		bb.putInt((int)duration);
+		bb.putShort((short)frequency);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Sets morse code that will be played by the piezo buzzer. The morse code
 	 * is given as a string consisting of "." (dot), "-" (minus) and " " (space)
@@ -128,6 +175,29 @@ public class BrickletPiezoSpeaker extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets morse code that will be played by the piezo buzzer.
+	 * 
+	 * Sends the request like {@link BrickletPiezoSpeaker#morseCode(String,
+	 * int)}, but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> morseCodeAsync(String morse, int frequency) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)70, FUNCTION_MORSE_CODE, this);
+		for(int i = 0; i < 60; i++) {
+			try {
+				bb.put((byte)morse.charAt(i));
+			} catch(Exception e) {
+				bb.put((byte)0);
+			}
+		}
+
+		bb.putShort((short)frequency);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * The Piezo Speaker Bricklet can play 512 different tones. This function
 	 * plays each tone and measures the exact frequency back. The result is a
@@ -142,14 +212,21 @@ public class BrickletPiezoSpeaker extends Device {
 	public boolean calibrate() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_CALIBRATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), calibrateDecoder);
+	}
 
-		boolean calibration = (bb.get()) != 0;
+	/**
+	 * The Piezo Speaker Bricklet can play 512 different tones.
+	 * 
+	 * Sends the request like {@link BrickletPiezoSpeaker#calibrate()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> calibrateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_CALIBRATE, this);
 
-		return calibration;
+		return sendRequestAsync(bb.array(), calibrateDecoder);
 	}
 
 	/**
@@ -166,26 +243,23 @@ public class BrickletPiezoSpeaker extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletPiezoSpeaker#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -48,6 +47,48 @@ public class BrickletRemoteSwitch extends Device {
 		public void switchingDone();
 	}
 
+	private final ResponseDecoder<Short> getSwitchingStateDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short state = IPConnection.unsignedByte(pr.get());
+
+			return state;
+		}
+	};
+
+	private final ResponseDecoder<Short> getRepeatsDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short repeats = IPConnection.unsignedByte(pr.get());
+
+			return repeats;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -90,6 +131,24 @@ public class BrickletRemoteSwitch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * This function is deprecated, use {@link
+	 * BrickletRemoteSwitch#switchSocketA(short, short, short)} instead.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#switchSocket(short,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> switchSocketAsync(short houseCode, short receiverCode, short switchTo) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SWITCH_SOCKET, this);
+		bb.put((byte)houseCode);
+		bb.put((byte)receiverCode);
+		bb.put((byte)switchTo);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the current switching state. If the current state is busy, the
 	 * Bricklet is currently sending a code to switch a socket. It will not
@@ -101,14 +160,21 @@ public class BrickletRemoteSwitch extends Device {
 	public short getSwitchingState() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SWITCHING_STATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getSwitchingStateDecoder);
+	}
 
-		short state = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the current switching state.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#getSwitchingState()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getSwitchingStateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SWITCHING_STATE, this);
 
-		return state;
+		return sendRequestAsync(bb.array(), getSwitchingStateDecoder);
 	}
 
 	/**
@@ -128,20 +194,45 @@ public class BrickletRemoteSwitch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the number of times the code is send when of the {@link
+	 * BrickletRemoteSwitch#switchSocket(short, short, short)} functions is
+	 * called.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#setRepeats(short)},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setRepeatsAsync(short repeats) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)9, FUNCTION_SET_REPEATS, this);
+		bb.put((byte)repeats);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the number of repeats as set by {@link BrickletRemoteSwitch#setRepeats(short)}.
 	 */
 	public short getRepeats() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_REPEATS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getRepeatsDecoder);
+	}
 
-		short repeats = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the number of repeats as set by {@link
+	 * BrickletRemoteSwitch#setRepeats(short)}.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#getRepeats()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getRepeatsAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_REPEATS, this);
 
-		return repeats;
+		return sendRequestAsync(bb.array(), getRepeatsDecoder);
 	}
 
 	/**
@@ -164,6 +255,24 @@ public class BrickletRemoteSwitch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * To switch a type A socket you have to give the house code, receiver code
+	 * and the state (on or off) you want to switch to.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#switchSocketA(short,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> switchSocketAAsync(short houseCode, short receiverCode, short switchTo) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SWITCH_SOCKET_A, this);
+		bb.put((byte)houseCode);
+		bb.put((byte)receiverCode);
+		bb.put((byte)switchTo);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * To switch a type B socket you have to give the address, unit and the state
 	 * (on or off) you want to switch to.
@@ -186,6 +295,24 @@ public class BrickletRemoteSwitch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * To switch a type B socket you have to give the address, unit and the
+	 * state (on or off) you want to switch to.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#switchSocketB(long,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> switchSocketBAsync(long address, short unit, short switchTo) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_SWITCH_SOCKET_B, this);
+		bb.putInt((int)address);
+		bb.put((byte)unit);
+		bb.put((byte)switchTo);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * To control a type B dimmer you have to give the address, unit and the
 	 * dim value you want to set the dimmer to.
@@ -207,6 +334,24 @@ public class BrickletRemoteSwitch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * To control a type B dimmer you have to give the address, unit and the
+	 * dim value you want to set the dimmer to.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#dimSocketB(long,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> dimSocketBAsync(long address, short unit, short dimValue) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_DIM_SOCKET_B, this);
+		bb.putInt((int)address);
+		bb.put((byte)unit);
+		bb.put((byte)dimValue);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * To switch a type C socket you have to give the system code, device code and the
 	 * state (on or off) you want to switch to.
@@ -228,6 +373,24 @@ public class BrickletRemoteSwitch extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * To switch a type C socket you have to give the system code, device code
+	 * and the state (on or off) you want to switch to.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#switchSocketC(char,
+	 * short, short)}, but does not wait for the device. If a response is
+	 * expected, see setResponseExpected, the future completes once the device
+	 * acknowledged the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> switchSocketCAsync(char systemCode, short deviceCode, short switchTo) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SWITCH_SOCKET_C, this);
+		bb.put((byte)systemCode);
+		bb.put((byte)deviceCode);
+		bb.put((byte)switchTo);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the UID, the UID where the Bricklet is connected to, 
 	 * the position, the hardware and firmware version as well as the
@@ -242,26 +405,23 @@ public class BrickletRemoteSwitch extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletRemoteSwitch#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
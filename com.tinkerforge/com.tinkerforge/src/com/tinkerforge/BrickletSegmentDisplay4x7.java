@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -50,6 +49,54 @@ public class BrickletSegmentDisplay4x7 extends Device {
 		public void counterFinished();
 	}
 
+	private final ResponseDecoder<Segments> getSegmentsDecoder = new ResponseDecoder<Segments>() {
+		public Segments decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Segments obj = new Segments();
+			for(int i = 0; i < 4; i++) {
+				obj.segments[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.brightness = IPConnection.unsignedByte(pr.get());
+			obj.colon = (pr.get()) != 0;
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getCounterValueDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int value = IPConnection.unsignedShort(pr.getShort());
+
+			return value;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -103,6 +150,27 @@ public class BrickletSegmentDisplay4x7 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * The 7-segment display can be set with bitmaps.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletSegmentDisplay4x7#setSegments(short[], short, boolean)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setSegmentsAsync(short[] segments, short brightness, boolean colon) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)14, FUNCTION_SET_SEGMENTS, this);
+		for(int i = 0; i < 4; i++) {
+			bb.put((byte)segments[i]);
+		}
+
+		bb.put((byte)brightness);
+		bb.put((byte)(colon ? 1 : 0));
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the segment, brightness and color data as set by 
 	 * {@link BrickletSegmentDisplay4x7#setSegments(short[], short, boolean)}.
@@ -110,20 +178,22 @@ public class BrickletSegmentDisplay4x7 extends Device {
 	public Segments getSegments() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SEGMENTS, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Segments obj = new Segments();
-		for(int i = 0; i < 4; i++) {
-			obj.segments[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getSegmentsDecoder);
+	}
 
-		obj.brightness = IPConnection.unsignedByte(bb.get());
-		obj.colon = (bb.get()) != 0;
+	/**
+	 * Returns the segment, brightness and color data as set by {@link
+	 * BrickletSegmentDisplay4x7#setSegments(short[], short, boolean)}.
+	 * 
+	 * Sends the request like {@link BrickletSegmentDisplay4x7#getSegments()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Segments> getSegmentsAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_SEGMENTS, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getSegmentsDecoder);
 	}
 
 	/**
@@ -150,6 +220,26 @@ public class BrickletSegmentDisplay4x7 extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Starts a counter with the *from* value that counts to the *to* value
+	 * with the each step incremented by *increment*.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletSegmentDisplay4x7#startCounter(short, short, short, long)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> startCounterAsync(short valueFrom, short valueTo, short increment, long length) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)18, FUNCTION_START_COUNTER, this);
+		bb.putShort(valueFrom);
+		bb.putShort(valueTo);
+		bb.putShort(increment);
+		bb.putInt((int)length);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the counter value that is currently shown on the display.
 	 * 
@@ -158,14 +248,21 @@ public class BrickletSegmentDisplay4x7 extends Device {
 	public int getCounterValue() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_COUNTER_VALUE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCounterValueDecoder);
+	}
 
-		int value = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the counter value that is currently shown on the display.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletSegmentDisplay4x7#getCounterValue()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCounterValueAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_COUNTER_VALUE, this);
 
-		return value;
+		return sendRequestAsync(bb.array(), getCounterValueDecoder);
 	}
 
 	/**
@@ -182,26 +279,23 @@ public class BrickletSegmentDisplay4x7 extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletSegmentDisplay4x7#getIdentity()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
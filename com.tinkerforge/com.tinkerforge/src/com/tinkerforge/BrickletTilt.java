@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -45,6 +44,48 @@ public class BrickletTilt extends Device {
 		public void tiltState(short state);
 	}
 
+	private final ResponseDecoder<Short> getTiltStateDecoder = new ResponseDecoder<Short>() {
+		public Short decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			short state = IPConnection.unsignedByte(pr.get());
+
+			return state;
+		}
+	};
+
+	private final ResponseDecoder<Boolean> isTiltStateCallbackEnabledDecoder = new ResponseDecoder<Boolean>() {
+		public Boolean decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			boolean enabled = (pr.get()) != 0;
+
+			return enabled;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -64,10 +105,9 @@ public class BrickletTilt extends Device {
 
 		callbacks[CALLBACK_TILT_STATE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				short state = IPConnection.unsignedByte(bb.get());
+				short state = IPConnection.unsignedByte(pr.get());
 
 				for(TiltStateListener listener: listenerTiltState) {
 					listener.tiltState(state);
@@ -92,14 +132,21 @@ public class BrickletTilt extends Device {
 	public short getTiltState() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TILT_STATE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getTiltStateDecoder);
+	}
 
-		short state = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the current tilt state.
+	 * 
+	 * Sends the request like {@link BrickletTilt#getTiltState()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Short> getTiltStateAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_TILT_STATE, this);
 
-		return state;
+		return sendRequestAsync(bb.array(), getTiltStateDecoder);
 	}
 
 	/**
@@ -111,6 +158,20 @@ public class BrickletTilt extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Enables the {@link BrickletTilt.TiltStateListener} listener.
+	 * 
+	 * Sends the request like {@link BrickletTilt#enableTiltStateCallback()},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> enableTiltStateCallbackAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_ENABLE_TILT_STATE_CALLBACK, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Disables the {@link BrickletTilt.TiltStateListener} listener.
 	 */
@@ -120,20 +181,42 @@ public class BrickletTilt extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Disables the {@link BrickletTilt.TiltStateListener} listener.
+	 * 
+	 * Sends the request like {@link BrickletTilt#disableTiltStateCallback()},
+	 * but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> disableTiltStateCallbackAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_DISABLE_TILT_STATE_CALLBACK, this);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns *true* if the {@link BrickletTilt.TiltStateListener} listener is enabled.
 	 */
 	public boolean isTiltStateCallbackEnabled() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_TILT_STATE_CALLBACK_ENABLED, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), isTiltStateCallbackEnabledDecoder);
+	}
 
-		boolean enabled = (bb.get()) != 0;
+	/**
+	 * Returns *true* if the {@link BrickletTilt.TiltStateListener} listener is
+	 * enabled.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletTilt#isTiltStateCallbackEnabled()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Boolean> isTiltStateCallbackEnabledAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_IS_TILT_STATE_CALLBACK_ENABLED, this);
 
-		return enabled;
+		return sendRequestAsync(bb.array(), isTiltStateCallbackEnabledDecoder);
 	}
 
 	/**
@@ -150,26 +233,23 @@ public class BrickletTilt extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletTilt#getIdentity()}, but does not
+	 * wait for the response. The future completes with the result once the
+	 * response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
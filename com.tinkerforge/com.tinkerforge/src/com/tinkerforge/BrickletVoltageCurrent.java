@@ -11,7 +11,6 @@
 package com.tinkerforge;
 
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -193,6 +192,162 @@ public class BrickletVoltageCurrent extends Device {
 		public void powerReached(int power);
 	}
 
+	private final ResponseDecoder<Integer> getCurrentDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int current = (pr.getInt());
+
+			return current;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getVoltageDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int voltage = (pr.getInt());
+
+			return voltage;
+		}
+	};
+
+	private final ResponseDecoder<Integer> getPowerDecoder = new ResponseDecoder<Integer>() {
+		public Integer decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			int power = (pr.getInt());
+
+			return power;
+		}
+	};
+
+	private final ResponseDecoder<Configuration> getConfigurationDecoder = new ResponseDecoder<Configuration>() {
+		public Configuration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Configuration obj = new Configuration();
+			obj.averaging = IPConnection.unsignedByte(pr.get());
+			obj.voltageConversionTime = IPConnection.unsignedByte(pr.get());
+			obj.currentConversionTime = IPConnection.unsignedByte(pr.get());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Calibration> getCalibrationDecoder = new ResponseDecoder<Calibration>() {
+		public Calibration decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Calibration obj = new Calibration();
+			obj.gainMultiplier = IPConnection.unsignedShort(pr.getShort());
+			obj.gainDivisor = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getCurrentCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getVoltageCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<Long> getPowerCallbackPeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long period = IPConnection.unsignedInt(pr.getInt());
+
+			return period;
+		}
+	};
+
+	private final ResponseDecoder<CurrentCallbackThreshold> getCurrentCallbackThresholdDecoder = new ResponseDecoder<CurrentCallbackThreshold>() {
+		public CurrentCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			CurrentCallbackThreshold obj = new CurrentCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getInt());
+			obj.max = (pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<VoltageCallbackThreshold> getVoltageCallbackThresholdDecoder = new ResponseDecoder<VoltageCallbackThreshold>() {
+		public VoltageCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			VoltageCallbackThreshold obj = new VoltageCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getInt());
+			obj.max = (pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<PowerCallbackThreshold> getPowerCallbackThresholdDecoder = new ResponseDecoder<PowerCallbackThreshold>() {
+		public PowerCallbackThreshold decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			PowerCallbackThreshold obj = new PowerCallbackThreshold();
+			obj.option = (char)(pr.get());
+			obj.min = (pr.getInt());
+			obj.max = (pr.getInt());
+
+			return obj;
+		}
+	};
+
+	private final ResponseDecoder<Long> getDebouncePeriodDecoder = new ResponseDecoder<Long>() {
+		public Long decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			long debounce = IPConnection.unsignedInt(pr.getInt());
+
+			return debounce;
+		}
+	};
+
+	private final ResponseDecoder<Identity> getIdentityDecoder = new ResponseDecoder<Identity>() {
+		public Identity decode(byte[] response) {
+			PacketReader pr = PacketReader.wrap(response);
+
+			Identity obj = new Identity();
+			obj.uid = pr.uid();
+			obj.connectedUid = pr.uid();
+			obj.position = (char)(pr.get());
+			for(int i = 0; i < 3; i++) {
+				obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			for(int i = 0; i < 3; i++) {
+				obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+			}
+
+			obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+			return obj;
+		}
+	};
+
 	/**
 	 * Creates an object with the unique device ID \c uid. and adds it to
 	 * the IP Connection \c ipcon.
@@ -234,10 +389,9 @@ public class BrickletVoltageCurrent extends Device {
 
 		callbacks[CALLBACK_CURRENT] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int current = (bb.getInt());
+				int current = (pr.getInt());
 
 				for(CurrentListener listener: listenerCurrent) {
 					listener.current(current);
@@ -247,10 +401,9 @@ public class BrickletVoltageCurrent extends Device {
 
 		callbacks[CALLBACK_VOLTAGE] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = (bb.getInt());
+				int voltage = (pr.getInt());
 
 				for(VoltageListener listener: listenerVoltage) {
 					listener.voltage(voltage);
@@ -260,10 +413,9 @@ public class BrickletVoltageCurrent extends Device {
 
 		callbacks[CALLBACK_POWER] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int power = (bb.getInt());
+				int power = (pr.getInt());
 
 				for(PowerListener listener: listenerPower) {
 					listener.power(power);
@@ -273,10 +425,9 @@ public class BrickletVoltageCurrent extends Device {
 
 		callbacks[CALLBACK_CURRENT_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int current = (bb.getInt());
+				int current = (pr.getInt());
 
 				for(CurrentReachedListener listener: listenerCurrentReached) {
 					listener.currentReached(current);
@@ -286,10 +437,9 @@ public class BrickletVoltageCurrent extends Device {
 
 		callbacks[CALLBACK_VOLTAGE_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int voltage = (bb.getInt());
+				int voltage = (pr.getInt());
 
 				for(VoltageReachedListener listener: listenerVoltageReached) {
 					listener.voltageReached(voltage);
@@ -299,10 +449,9 @@ public class BrickletVoltageCurrent extends Device {
 
 		callbacks[CALLBACK_POWER_REACHED] = new CallbackListener() {
 			public void callback(byte[] data) {
-				ByteBuffer bb = ByteBuffer.wrap(data, 8, data.length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
+				PacketReader pr = PacketReader.wrap(data);
 
-				int power = (bb.getInt());
+				int power = (pr.getInt());
 
 				for(PowerReachedListener listener: listenerPowerReached) {
 					listener.powerReached(power);
@@ -322,14 +471,21 @@ public class BrickletVoltageCurrent extends Device {
 	public int getCurrent() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentDecoder);
+	}
 
-		int current = (bb.getInt());
+	/**
+	 * Returns the current.
+	 * 
+	 * Sends the request like {@link BrickletVoltageCurrent#getCurrent()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getCurrentAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT, this);
 
-		return current;
+		return sendRequestAsync(bb.array(), getCurrentDecoder);
 	}
 
 	/**
@@ -343,14 +499,21 @@ public class BrickletVoltageCurrent extends Device {
 	public int getVoltage() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVoltageDecoder);
+	}
 
-		int voltage = (bb.getInt());
+	/**
+	 * Returns the voltage.
+	 * 
+	 * Sends the request like {@link BrickletVoltageCurrent#getVoltage()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getVoltageAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE, this);
 
-		return voltage;
+		return sendRequestAsync(bb.array(), getVoltageDecoder);
 	}
 
 	/**
@@ -364,14 +527,21 @@ public class BrickletVoltageCurrent extends Device {
 	public int getPower() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_POWER, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPowerDecoder);
+	}
 
-		int power = (bb.getInt());
+	/**
+	 * Returns the power.
+	 * 
+	 * Sends the request like {@link BrickletVoltageCurrent#getPower()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Integer> getPowerAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_POWER, this);
 
-		return power;
+		return sendRequestAsync(bb.array(), getPowerDecoder);
 	}
 
 	/**
@@ -421,23 +591,46 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the configuration of the Voltage/Current Bricklet.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setConfiguration(short, short, short)}, but does
+	 * not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setConfigurationAsync(short averaging, short voltageConversionTime, short currentConversionTime) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)11, FUNCTION_SET_CONFIGURATION, this);
+		bb.put((byte)averaging);
+		bb.put((byte)voltageConversionTime);
+		bb.put((byte)currentConversionTime);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the configuration as set by {@link BrickletVoltageCurrent#setConfiguration(short, short, short)}.
 	 */
 	public Configuration getConfiguration() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIGURATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getConfigurationDecoder);
+	}
 
-		Configuration obj = new Configuration();
-		obj.averaging = IPConnection.unsignedByte(bb.get());
-		obj.voltageConversionTime = IPConnection.unsignedByte(bb.get());
-		obj.currentConversionTime = IPConnection.unsignedByte(bb.get());
+	/**
+	 * Returns the configuration as set by {@link
+	 * BrickletVoltageCurrent#setConfiguration(short, short, short)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getConfiguration()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Configuration> getConfigurationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CONFIGURATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getConfigurationDecoder);
 	}
 
 	/**
@@ -457,22 +650,46 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Since the shunt resistor that is used to measure the current is not
+	 * perfectly precise, it needs to be calibrated by a multiplier and divisor
+	 * if a very precise reading is needed.
+	 * 
+	 * Sends the request like {@link BrickletVoltageCurrent#setCalibration(int,
+	 * int)}, but does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCalibrationAsync(int gainMultiplier, int gainDivisor) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_CALIBRATION, this);
+		bb.putShort((short)gainMultiplier);
+		bb.putShort((short)gainDivisor);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the calibration as set by {@link BrickletVoltageCurrent#setCalibration(int, int)}.
 	 */
 	public Calibration getCalibration() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CALIBRATION, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCalibrationDecoder);
+	}
 
-		Calibration obj = new Calibration();
-		obj.gainMultiplier = IPConnection.unsignedShort(bb.getShort());
-		obj.gainDivisor = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the calibration as set by {@link
+	 * BrickletVoltageCurrent#setCalibration(int, int)}.
+	 * 
+	 * Sends the request like {@link BrickletVoltageCurrent#getCalibration()},
+	 * but does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Calibration> getCalibrationAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CALIBRATION, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getCalibrationDecoder);
 	}
 
 	/**
@@ -491,20 +708,46 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletVoltageCurrent.CurrentListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setCurrentCallbackPeriod(long)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_CURRENT_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletVoltageCurrent#setCurrentCallbackPeriod(long)}.
 	 */
 	public long getCurrentCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletVoltageCurrent#setCurrentCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getCurrentCallbackPeriod()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getCurrentCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getCurrentCallbackPeriodDecoder);
 	}
 
 	/**
@@ -523,20 +766,46 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletVoltageCurrent.VoltageListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setVoltageCallbackPeriod(long)}, but does not
+	 * wait for the device. If a response is expected, see setResponseExpected,
+	 * the future completes once the device acknowledged the request, otherwise
+	 * as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setVoltageCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_VOLTAGE_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletVoltageCurrent#setVoltageCallbackPeriod(long)}.
 	 */
 	public long getVoltageCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVoltageCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletVoltageCurrent#setVoltageCallbackPeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getVoltageCallbackPeriod()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getVoltageCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getVoltageCallbackPeriodDecoder);
 	}
 
 	/**
@@ -555,20 +824,46 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the {@link
+	 * BrickletVoltageCurrent.PowerListener} listener is triggered
+	 * periodically.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setPowerCallbackPeriod(long)}, but does not wait
+	 * for the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPowerCallbackPeriodAsync(long period) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_POWER_CALLBACK_PERIOD, this);
+		bb.putInt((int)period);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the period as set by {@link BrickletVoltageCurrent#getPowerCallbackPeriod()}.
 	 */
 	public long getPowerCallbackPeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_POWER_CALLBACK_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPowerCallbackPeriodDecoder);
+	}
 
-		long period = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the period as set by {@link
+	 * BrickletVoltageCurrent#getPowerCallbackPeriod()}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getPowerCallbackPeriod()}, but does not wait for
+	 * the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getPowerCallbackPeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_POWER_CALLBACK_PERIOD, this);
 
-		return period;
+		return sendRequestAsync(bb.array(), getPowerCallbackPeriodDecoder);
 	}
 
 	/**
@@ -597,23 +892,47 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletVoltageCurrent.CurrentReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setCurrentCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setCurrentCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_CURRENT_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putInt(min);
+		bb.putInt(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletVoltageCurrent#setCurrentCallbackThreshold(char, int, int)}.
 	 */
 	public CurrentCallbackThreshold getCurrentCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getCurrentCallbackThresholdDecoder);
+	}
 
-		CurrentCallbackThreshold obj = new CurrentCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getInt());
-		obj.max = (bb.getInt());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletVoltageCurrent#setCurrentCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getCurrentCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<CurrentCallbackThreshold> getCurrentCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_CURRENT_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getCurrentCallbackThresholdDecoder);
 	}
 
 	/**
@@ -642,23 +961,47 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletVoltageCurrent.VoltageReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setVoltageCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setVoltageCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_VOLTAGE_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putInt(min);
+		bb.putInt(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletVoltageCurrent#setVoltageCallbackThreshold(char, int, int)}.
 	 */
 	public VoltageCallbackThreshold getVoltageCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getVoltageCallbackThresholdDecoder);
+	}
 
-		VoltageCallbackThreshold obj = new VoltageCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getInt());
-		obj.max = (bb.getInt());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletVoltageCurrent#setVoltageCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getVoltageCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<VoltageCallbackThreshold> getVoltageCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_VOLTAGE_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getVoltageCallbackThresholdDecoder);
 	}
 
 	/**
@@ -687,23 +1030,47 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the thresholds for the {@link
+	 * BrickletVoltageCurrent.PowerReachedListener} listener.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setPowerCallbackThreshold(char, int, int)}, but
+	 * does not wait for the device. If a response is expected, see
+	 * setResponseExpected, the future completes once the device acknowledged
+	 * the request, otherwise as soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setPowerCallbackThresholdAsync(char option, int min, int max) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)17, FUNCTION_SET_POWER_CALLBACK_THRESHOLD, this);
+		bb.put((byte)option);
+		bb.putInt(min);
+		bb.putInt(max);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the threshold as set by {@link BrickletVoltageCurrent#setPowerCallbackThreshold(char, int, int)}.
 	 */
 	public PowerCallbackThreshold getPowerCallbackThreshold() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_POWER_CALLBACK_THRESHOLD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getPowerCallbackThresholdDecoder);
+	}
 
-		PowerCallbackThreshold obj = new PowerCallbackThreshold();
-		obj.option = (char)(bb.get());
-		obj.min = (bb.getInt());
-		obj.max = (bb.getInt());
+	/**
+	 * Returns the threshold as set by {@link
+	 * BrickletVoltageCurrent#setPowerCallbackThreshold(char, int, int)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getPowerCallbackThreshold()}, but does not wait
+	 * for the response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<PowerCallbackThreshold> getPowerCallbackThresholdAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_POWER_CALLBACK_THRESHOLD, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getPowerCallbackThresholdDecoder);
 	}
 
 	/**
@@ -730,20 +1097,44 @@ public class BrickletVoltageCurrent extends Device {
 		sendRequest(bb.array());
 	}
 
+	/**
+	 * Sets the period in ms with which the threshold listeners.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#setDebouncePeriod(long)}, but does not wait for
+	 * the device. If a response is expected, see setResponseExpected, the
+	 * future completes once the device acknowledged the request, otherwise as
+	 * soon as the request is sent.
+	 */
+	public ResponseFuture<Void> setDebouncePeriodAsync(long debounce) {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)12, FUNCTION_SET_DEBOUNCE_PERIOD, this);
+		bb.putInt((int)debounce);
+
+		return sendRequestAsync(bb.array(), null);
+	}
+
 	/**
 	 * Returns the debounce period as set by {@link BrickletVoltageCurrent#setDebouncePeriod(long)}.
 	 */
 	public long getDebouncePeriod() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
+		return sendRequest(bb.array(), getDebouncePeriodDecoder);
+	}
 
-		long debounce = IPConnection.unsignedInt(bb.getInt());
+	/**
+	 * Returns the debounce period as set by {@link
+	 * BrickletVoltageCurrent#setDebouncePeriod(long)}.
+	 * 
+	 * Sends the request like {@link
+	 * BrickletVoltageCurrent#getDebouncePeriod()}, but does not wait for the
+	 * response. The future completes with the result once the response
+	 * arrives, or fails with a TimeoutException or a NotConnectedException.
+	 */
+	public ResponseFuture<Long> getDebouncePeriodAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_DEBOUNCE_PERIOD, this);
 
-		return debounce;
+		return sendRequestAsync(bb.array(), getDebouncePeriodDecoder);
 	}
 
 	/**
@@ -760,26 +1151,23 @@ public class BrickletVoltageCurrent extends Device {
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		byte[] response = sendRequest(bb.array());
-
-		bb = ByteBuffer.wrap(response, 8, response.length - 8);
-		bb.order(ByteOrder.LITTLE_ENDIAN);
-
-		Identity obj = new Identity();
-		obj.uid = IPConnection.string(bb, 8);
-		obj.connectedUid = IPConnection.string(bb, 8);
-		obj.position = (char)(bb.get());
-		for(int i = 0; i < 3; i++) {
-			obj.hardwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
-
-		for(int i = 0; i < 3; i++) {
-			obj.firmwareVersion[i] = IPConnection.unsignedByte(bb.get());
-		}
+		return sendRequest(bb.array(), getIdentityDecoder);
+	}
 
-		obj.deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
+	/**
+	 * Returns the UID, the UID where the Bricklet is connected to, the
+	 * position, the hardware and firmware version as well as the device
+	 * identifier.
+	 * 
+	 * Sends the request like {@link BrickletVoltageCurrent#getIdentity()}, but
+	 * does not wait for the response. The future completes with the result
+	 * once the response arrives, or fails with a TimeoutException or a
+	 * NotConnectedException.
+	 */
+	public ResponseFuture<Identity> getIdentityAsync() {
+		ByteBuffer bb = ipcon.createRequestPacket((byte)8, FUNCTION_GET_IDENTITY, this);
 
-		return obj;
+		return sendRequestAsync(bb.array(), getIdentityDecoder);
 	}
 
 	/**
@@ -9,19 +9,20 @@
 package com.tinkerforge;
 
 import java.util.Arrays;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class Device {
 	long uid = (long)0;
 	short[] apiVersion = new short[3];
 	byte[] responseExpected = new byte[256];
-	byte expectedResponseFunctionID = 0; // protected by requestMutex
-	byte expectedResponseSequenceNumber = 0; // protected by requestMutex
-	private Object requestMutex = new Object();
-	LinkedBlockingQueue<byte[]> responseQueue = new LinkedBlockingQueue<byte[]>();
 	IPConnection ipcon = null;
 	CallbackListener[] callbacks = new CallbackListener[256];
+	volatile Identity identity = null; // as reported by the last enumerate callback
+	AtomicInteger callbackQueueDepth = new AtomicInteger();
+	byte[] callbackOverflowPolicy = new byte[256];
+	boolean[] callbackConflation = new boolean[256];
+	// newest queued packet per callback, protected by the CallbackQueue of this device
+	IPConnection.CallbackQueueObject[] queuedCallbacks = new IPConnection.CallbackQueueObject[256];
 
 	final static byte RESPONSE_EXPECTED_FLAG_INVALID_FUNCTION_ID = 0;
 	final static byte RESPONSE_EXPECTED_FLAG_ALWAYS_TRUE = 1;
@@ -29,6 +30,8 @@ public abstract class Device {
 	final static byte RESPONSE_EXPECTED_FLAG_TRUE = 3;
 	final static byte RESPONSE_EXPECTED_FLAG_FALSE = 4;
 
+	final static byte CALLBACK_OVERFLOW_POLICY_CONNECTION = -1;
+
 	public class Identity {
 		public String uid;
 		public String connectedUid;
@@ -49,9 +52,15 @@ public abstract class Device {
 		public void callback(byte data[]);
 	}
 
+	interface ResponseDecoder<T> {
+		public T decode(byte[] response);
+	}
+
 	/**
 	 * Creates the device object with the unique device ID \c uid and adds
 	 * it to the IPConnection \c ipcon.
+	 *
+	 * Throws an IllegalArgumentException if \c uid is not a Base58 string.
 	 */
 	public Device(String uid, IPConnection ipcon) {
 		long uidTmp = IPConnection.base58Decode(uid);
@@ -77,13 +86,73 @@ public abstract class Device {
 		responseExpected[IPConnection.unsignedByte(IPConnection.FUNCTION_ENUMERATE)] = RESPONSE_EXPECTED_FLAG_ALWAYS_FALSE;
 		responseExpected[IPConnection.unsignedByte(IPConnection.CALLBACK_ENUMERATE)] = RESPONSE_EXPECTED_FLAG_ALWAYS_FALSE;
 
-		ipcon.devices.put(this.uid, this); // FIXME: use weakref here
+		Arrays.fill(callbackOverflowPolicy, CALLBACK_OVERFLOW_POLICY_CONNECTION);
+
+		ipcon.devices.put(this.uid, this);
 	}
 
 	public Identity getIdentity() throws TimeoutException, NotConnectedException {
 		return null;
 	}
 
+	/**
+	 * Returns the identity of this device without a round trip to the
+	 * device. The identity is taken from the last enumerate callback of this
+	 * device, see IPConnection.enumerate. Only if no enumerate callback was
+	 * received for this device yet, or the last one reported it as
+	 * disconnected, the identity is requested with getIdentity and cached.
+	 *
+	 * The returned object is shared and must not be modified.
+	 */
+	public Identity getCachedIdentity() throws TimeoutException, NotConnectedException {
+		Identity cached = identity;
+
+		if(cached != null) {
+			return cached;
+		}
+
+		return refreshIdentity();
+	}
+
+	/**
+	 * Requests the identity with getIdentity and replaces the cached
+	 * identity returned by getCachedIdentity.
+	 */
+	public Identity refreshIdentity() throws TimeoutException, NotConnectedException {
+		Identity fresh = getIdentity();
+
+		identity = fresh;
+
+		return fresh;
+	}
+
+	// Called by the receive thread for every enumerate callback of this device
+	void updateIdentity(byte[] packet) {
+		PacketReader pr = PacketReader.wrap(packet);
+
+		Identity obj = new Identity();
+		obj.uid = pr.uid();
+		obj.connectedUid = pr.uid();
+		obj.position = (char)(pr.get());
+		for(int i = 0; i < 3; i++) {
+			obj.hardwareVersion[i] = IPConnection.unsignedByte(pr.get());
+		}
+
+		for(int i = 0; i < 3; i++) {
+			obj.firmwareVersion[i] = IPConnection.unsignedByte(pr.get());
+		}
+
+		obj.deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+
+		short enumerationType = IPConnection.unsignedByte(pr.get());
+
+		if(enumerationType == IPConnection.ENUMERATION_TYPE_DISCONNECTED) {
+			identity = null;
+		} else {
+			identity = obj;
+		}
+	}
+
 	/**
 	 * Returns the API version (major, minor, revision) of the bindings for
 	 * this device.
@@ -92,6 +161,85 @@ public abstract class Device {
 		return apiVersion;
 	}
 
+	/**
+	 * Returns the number of received callbacks of this device that are
+	 * queued but not yet passed to the callback listeners. A growing value
+	 * indicates that the callback listeners are too slow for the configured
+	 * callback periods.
+	 */
+	public int getCallbackQueueDepth() {
+		return callbackQueueDepth.get();
+	}
+
+	/**
+	 * Sets the overflow policy for the callback specified by the
+	 * \c callbackId parameter. It decides what happens to this callback if
+	 * it arrives while the callback queue is full, see
+	 * IPConnection.setCallbackQueueCapacity.
+	 *
+	 * By default the policy of the IP Connection is used.
+	 */
+	public void setCallbackOverflowPolicy(byte callbackId, byte policy) {
+		if(callbacks[IPConnection.unsignedByte(callbackId)] == null) {
+			throw new IllegalArgumentException("Invalid callback ID " + callbackId);
+		}
+
+		IPConnection.checkCallbackOverflowPolicy(policy);
+
+		callbackOverflowPolicy[IPConnection.unsignedByte(callbackId)] = policy;
+	}
+
+	/**
+	 * Returns the overflow policy for the callback specified by the
+	 * \c callbackId parameter, as set by setCallbackOverflowPolicy or
+	 * the policy of the IP Connection.
+	 */
+	public byte getCallbackOverflowPolicy(byte callbackId) {
+		if(callbacks[IPConnection.unsignedByte(callbackId)] == null) {
+			throw new IllegalArgumentException("Invalid callback ID " + callbackId);
+		}
+
+		byte policy = callbackOverflowPolicy[IPConnection.unsignedByte(callbackId)];
+
+		if(policy == CALLBACK_OVERFLOW_POLICY_CONNECTION) {
+			return ipcon.getCallbackOverflowPolicy();
+		}
+
+		return policy;
+	}
+
+	/**
+	 * Enables or disables conflation for the callback specified by the
+	 * \c callbackId parameter. If enabled, a received callback overwrites
+	 * the queued callback of the same type that was not passed to the
+	 * listeners yet. A slow listener then always gets the newest value and
+	 * skips the values it could not keep up with, and at most one callback
+	 * of this type is queued. This is useful for value callbacks such as
+	 * BrickletAmbientLight.CALLBACK_ILLUMINANCE, but not for callbacks
+	 * that report events.
+	 *
+	 * By default conflation is disabled.
+	 */
+	public void setCallbackConflation(byte callbackId, boolean conflation) {
+		if(callbacks[IPConnection.unsignedByte(callbackId)] == null) {
+			throw new IllegalArgumentException("Invalid callback ID " + callbackId);
+		}
+
+		callbackConflation[IPConnection.unsignedByte(callbackId)] = conflation;
+	}
+
+	/**
+	 * Returns *true* if conflation is enabled for the callback specified by
+	 * the \c callbackId parameter, *false* otherwise.
+	 */
+	public boolean getCallbackConflation(byte callbackId) {
+		if(callbacks[IPConnection.unsignedByte(callbackId)] == null) {
+			throw new IllegalArgumentException("Invalid callback ID " + callbackId);
+		}
+
+		return callbackConflation[IPConnection.unsignedByte(callbackId)];
+	}
+
 	/**
 	 * Returns the response expected flag for the function specified by the
 	 * \c functionId parameter. It is *true* if the function is expected to
@@ -177,54 +325,68 @@ public abstract class Device {
 		if (IPConnection.getResponseExpectedFromData(request)) {
 			byte functionID = IPConnection.getFunctionIDFromData(request);
 
-			synchronized(requestMutex) {
-				expectedResponseFunctionID = functionID;
-				expectedResponseSequenceNumber = IPConnection.getSequenceNumberFromData(request);
-
-				try {
-					ipcon.sendRequest(request);
-
-					while(true) {
-						response = null;
-
-						try {
-							response = responseQueue.poll(ipcon.responseTimeout, TimeUnit.MILLISECONDS);
-						} catch (InterruptedException e) {
-							e.printStackTrace();
-						}
-
-						if(response == null) {
-							throw new TimeoutException("Did not receive response in time for function ID " + functionID);
-						}
-
-						if(expectedResponseFunctionID == IPConnection.getFunctionIDFromData(response) &&
-						   expectedResponseSequenceNumber == IPConnection.getSequenceNumberFromData(response)) {
-							// ignore old responses that arrived after the timeout expired, but before setting
-							// expectedResponseFunctionID and expectedResponseSequenceNumber back to 0
-							break;
-						}
-					}
-				} finally {
-					expectedResponseFunctionID = 0;
-					expectedResponseSequenceNumber = 0;
-				}
+			// the request gets its own sequence number, so multiple requests
+			// to this device (and other devices) can be in flight in parallel
+			IPConnection.PendingResponse pendingResponse = ipcon.acquirePendingResponse(uid, request);
+			int timeout = ipcon.getResponseTimeout(functionID);
+
+			boolean aborted = false;
+
+			try {
+				ipcon.sendRequest(request);
+
+				response = pendingResponse.await(timeout);
+				aborted = pendingResponse.isAborted();
+			} finally {
+				ipcon.releasePendingResponse(pendingResponse);
 			}
 
-			byte errorCode = IPConnection.getErrorCodeFromData(response);
-			switch(errorCode) {
-				case 0:
-					break;
-				case 1:
-					throw new UnsupportedOperationException("Got invalid parameter for function ID " + functionID);
-				case 2:
-					throw new UnsupportedOperationException("Function ID " + functionID + " is not supported");
-				default:
-					throw new UnsupportedOperationException("Function ID " + functionID + " returned an unknown error");
+			if(response == null && aborted) {
+				// the connection was lost, the request might not have reached the device
+				throw new NotConnectedException();
+			}
+
+			if(response == null) {
+				ipcon.recordResponseTimeout(functionID, timeout);
+
+				throw new TimeoutException("Did not receive response in time for function ID " + functionID);
 			}
+
+			checkErrorCode(response);
 		} else {
 			ipcon.sendRequest(request);
 		}
 
 		return response;
 	}
+
+	// The blocking and the asynchronous version of a getter share one
+	// decoder, so the response is decoded the same way by both
+	<T> T sendRequest(byte[] request, ResponseDecoder<T> decoder) throws TimeoutException, NotConnectedException {
+		return decoder.decode(sendRequest(request));
+	}
+
+	<T> ResponseFuture<T> sendRequestAsync(byte[] request, ResponseDecoder<T> decoder) {
+		ResponseFuture<T> future = new ResponseFuture<T>(decoder);
+
+		ipcon.sendRequestAsync(uid, request, future);
+
+		return future;
+	}
+
+	static void checkErrorCode(byte[] response) {
+		byte functionID = IPConnection.getFunctionIDFromData(response);
+		byte errorCode = IPConnection.getErrorCodeFromData(response);
+
+		switch(errorCode) {
+			case 0:
+				break;
+			case 1:
+				throw new UnsupportedOperationException("Got invalid parameter for function ID " + functionID);
+			case 2:
+				throw new UnsupportedOperationException("Function ID " + functionID + " is not supported");
+			default:
+				throw new UnsupportedOperationException("Function ID " + functionID + " returned an unknown error");
+		}
+	}
 }
@@ -0,0 +1,49 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+/**
+ * Host and port of a Brick Daemon or a WIFI/Ethernet Extension, see
+ * IPConnection.connect(List).
+ */
+public class Endpoint {
+	public final String host;
+	public final int port;
+
+	public Endpoint(String host, int port) {
+		if(host == null) {
+			throw new IllegalArgumentException("Host cannot be null");
+		}
+
+		if(port < 1 || port > 65535) {
+			throw new IllegalArgumentException("Port has to be in [1..65535]");
+		}
+
+		this.host = host;
+		this.port = port;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if(!(other instanceof Endpoint)) {
+			return false;
+		}
+
+		Endpoint endpoint = (Endpoint)other;
+
+		return host.equals(endpoint.host) && port == endpoint.port;
+	}
+
+	@Override
+	public int hashCode() {
+		return host.hashCode() * 31 + port;
+	}
+
+	@Override
+	public String toString() {
+		return host + ":" + port;
+	}
+}
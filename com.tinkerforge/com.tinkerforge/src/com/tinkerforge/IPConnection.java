@@ -8,16 +8,456 @@
 
 package com.tinkerforge;
 
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.Hashtable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.Iterator;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+// Maps uids to devices with open addressing on primitive keys. Lookups are
+// lock-free and do not box the uid, because they happen for every received
+// packet. Updates are rare (device creation) and copy the table.
+//
+// The devices are referenced strongly on purpose: a device object that the
+// user does not reference anymore still has to deliver its callbacks. Use
+// IPConnection.removeDevice to drop a device explicitly.
+class DeviceTable {
+	static class Table {
+		final long[] uids;
+		final Device[] devices;
+		final int size;
+
+		Table(int capacity, int size) {
+			this.uids = new long[capacity];
+			this.devices = new Device[capacity];
+			this.size = size;
+		}
+	}
+
+	private volatile Table table = new Table(16, 0);
+
+	private static int index(long uid, int mask) {
+		return (int)((uid * 0x9E3779B97F4A7C15L) >>> 40) & mask;
+	}
+
+	Device get(long uid) {
+		Table current = table;
+		int mask = current.uids.length - 1;
+		int i = index(uid, mask);
+
+		while(true) {
+			Device device = current.devices[i];
+
+			if(device == null) {
+				return null;
+			}
+
+			if(current.uids[i] == uid) {
+				return device;
+			}
+
+			i = (i + 1) & mask;
+		}
+	}
+
+	synchronized void put(long uid, Device device) {
+		rebuild(uid, device);
+	}
+
+	// Removes the device only if it is still the one registered for its uid
+	synchronized boolean remove(long uid, Device device) {
+		if(get(uid) != device) {
+			return false;
+		}
+
+		rebuild(uid, null);
+
+		return true;
+	}
+
+	int size() {
+		return table.size;
+	}
+
+	// NOTE: Assumes that this is locked
+	private void rebuild(long uid, Device device) {
+		Table current = table;
+		int size = 0;
+
+		for(int i = 0; i < current.devices.length; i++) {
+			if(current.devices[i] != null && current.uids[i] != uid) {
+				++size;
+			}
+		}
+
+		if(device != null) {
+			++size;
+		}
+
+		// keep the load factor below 0.5, so probe sequences stay short
+		int capacity = 16;
+
+		while(size * 2 > capacity) {
+			capacity *= 2;
+		}
+
+		Table next = new Table(capacity, size);
+
+		for(int i = 0; i < current.devices.length; i++) {
+			if(current.devices[i] != null && current.uids[i] != uid) {
+				insert(next, current.uids[i], current.devices[i]);
+			}
+		}
+
+		if(device != null) {
+			insert(next, uid, device);
+		}
+
+		table = next;
+	}
+
+	private static void insert(Table target, long uid, Device device) {
+		int mask = target.uids.length - 1;
+		int i = index(uid, mask);
+
+		while(target.devices[i] != null) {
+			i = (i + 1) & mask;
+		}
+
+		target.uids[i] = uid;
+		target.devices[i] = device;
+	}
+}
+
+// Log-linear histogram of the response latencies of one function ID in
+// microseconds, with 4 buckets per power of two (at most 25% error). The
+// counts are halved once they add up to DECAY_COUNT, so the percentiles
+// follow changes of the latency instead of averaging over the whole life
+// of the connection.
+class LatencyHistogram {
+	final static int SUB_BUCKETS = 4;
+	final static int BUCKETS = 40 * SUB_BUCKETS;
+	final static int DECAY_COUNT = 1024;
+	final static int ADAPTIVE_MINIMUM_COUNT = 32;
+	final static int ADAPTIVE_FACTOR = 4;
+	final static int ADAPTIVE_MINIMUM_TIMEOUT = 50; // in milliseconds
+
+	private final int[] counts = new int[BUCKETS];
+	private int total = 0;
+	private int adaptiveTimeout = 0; // in milliseconds, 0 until there are enough samples
+
+	synchronized void record(long latency) {
+		++counts[bucket(latency)];
+		++total;
+
+		if(total >= DECAY_COUNT) {
+			total = 0;
+
+			for(int i = 0; i < BUCKETS; i++) {
+				counts[i] >>= 1;
+				total += counts[i];
+			}
+		}
+
+		if(total >= ADAPTIVE_MINIMUM_COUNT) {
+			long timeout = (percentile(99) * ADAPTIVE_FACTOR + 999) / 1000;
+
+			adaptiveTimeout = (int)Math.min(Math.max(timeout, ADAPTIVE_MINIMUM_TIMEOUT), Integer.MAX_VALUE);
+		}
+	}
+
+	synchronized int getAdaptiveTimeout() {
+		return adaptiveTimeout;
+	}
+
+	// Returns the upper bound of the bucket that contains the given
+	// percentile, -1 if there are no samples
+	synchronized long percentile(double percentile) {
+		if(total == 0) {
+			return -1;
+		}
+
+		long target = Math.max(1, (long)Math.ceil(total * percentile / 100));
+		long count = 0;
+
+		for(int i = 0; i < BUCKETS; i++) {
+			count += counts[i];
+
+			if(count >= target) {
+				return upperBound(i);
+			}
+		}
+
+		return upperBound(BUCKETS - 1);
+	}
+
+	static int bucket(long latency) {
+		if(latency < SUB_BUCKETS) {
+			return (int)Math.max(latency, 0);
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(latency);
+		int subBucket = (int)(latency >> (exponent - 2)) & (SUB_BUCKETS - 1);
+
+		return Math.min((exponent - 1) * SUB_BUCKETS + subBucket, BUCKETS - 1);
+	}
+
+	static long upperBound(int bucket) {
+		if(bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+
+		int exponent = bucket / SUB_BUCKETS + 1;
+		long lowerBound = (long)(SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - 2);
+
+		return lowerBound + (1L << (exponent - 2)) - 1;
+	}
+}
+
+// Recycles packet arrays, so receiving callbacks does not allocate in steady
+// state. Arrays have the exact packet length, because the decoding code uses
+// the array length as packet length.
+class PacketPool {
+	private final static int MAX_FREE_PER_LENGTH = 32;
+
+	private byte[][][] free = new byte[256][][];
+	private int[] freeCount = new int[256];
+
+	synchronized byte[] acquire(int length) {
+		int count = freeCount[length];
+
+		if(count == 0) {
+			return new byte[length];
+		}
+
+		byte[][] stack = free[length];
+		byte[] packet = stack[--count];
+
+		stack[count] = null;
+		freeCount[length] = count;
+
+		return packet;
+	}
+
+	// NOTE: The caller must not use the packet anymore after releasing it
+	synchronized void release(byte[] packet) {
+		if(packet == null || packet.length >= free.length) {
+			return;
+		}
+
+		int length = packet.length;
+		int count = freeCount[length];
+
+		if(count == MAX_FREE_PER_LENGTH) {
+			return;
+		}
+
+		if(free[length] == null) {
+			free[length] = new byte[MAX_FREE_PER_LENGTH][];
+		}
+
+		free[length][count] = packet;
+		freeCount[length] = count + 1;
+	}
+}
+
+// Recycles request packets. The generated code only passes the backing array
+// on to sendRequest, so the buffers are looked up by array identity when
+// they are released.
+class RequestPacketPool {
+	private final static int MAX_FREE_PER_LENGTH = 16;
+	private final static int MAX_TRACKED = 1024;
+
+	private ByteBuffer[][] free = new ByteBuffer[256][];
+	private int[] freeCount = new int[256];
+	private IdentityHashMap<byte[], ByteBuffer> tracked = new IdentityHashMap<byte[], ByteBuffer>();
+
+	synchronized ByteBuffer acquire(int length) {
+		int count = freeCount[length];
+
+		if(count == 0) {
+			ByteBuffer buffer = ByteBuffer.allocate(length);
+
+			buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+			// requests that never get released (e.g. due to a timeout while
+			// waiting for a sequence number) must not fill up the pool
+			if(tracked.size() < MAX_TRACKED) {
+				tracked.put(buffer.array(), buffer);
+			}
+
+			return buffer;
+		}
+
+		ByteBuffer[] stack = free[length];
+		ByteBuffer buffer = stack[--count];
+
+		stack[count] = null;
+		freeCount[length] = count;
+
+		Arrays.fill(buffer.array(), (byte)0);
+		buffer.clear();
+
+		return buffer;
+	}
+
+	// NOTE: The caller must not use the request anymore after releasing it
+	synchronized void release(byte[] request) {
+		ByteBuffer buffer = tracked.get(request);
+
+		if(buffer == null) {
+			return;
+		}
+
+		int length = request.length;
+		int count = freeCount[length];
+
+		if(free[length] == null) {
+			free[length] = new ByteBuffer[MAX_FREE_PER_LENGTH];
+		}
+
+		ByteBuffer[] stack = free[length];
+
+		for(int i = 0; i < count; i++) {
+			if(stack[i] == buffer) {
+				// already released
+				return;
+			}
+		}
+
+		if(count == MAX_FREE_PER_LENGTH) {
+			tracked.remove(request);
+			return;
+		}
+
+		stack[count] = buffer;
+		freeCount[length] = count + 1;
+	}
+}
+
+// Splits the received byte stream into packets, shared by the blocking
+// ReceiveThread and the SelectorThread. The pending data is kept in a ring
+// buffer, so consuming a packet does not move the remaining bytes.
+class PacketFramer {
+	private final static int CAPACITY = 8192; // has to be a power of two
+	private final static int MASK = CAPACITY - 1;
+
+	IPConnection ipcon = null;
+	byte[] pendingData = new byte[CAPACITY];
+	ByteBuffer pendingBuffer = ByteBuffer.wrap(pendingData);
+	int pendingStart = 0;
+	int pendingLength = 0;
+
+	PacketFramer(IPConnection ipcon) {
+		this.ipcon = ipcon;
+	}
+
+	// Returns the number of bytes that can be written at the end of the
+	// pending data without wrapping around
+	private int writableLength() {
+		int end = (pendingStart + pendingLength) & MASK;
+
+		if(pendingLength == CAPACITY) {
+			return 0;
+		}
+
+		if(end >= pendingStart) {
+			return CAPACITY - end;
+		}
+
+		return pendingStart - end;
+	}
+
+	int read(InputStream in) throws java.io.IOException {
+		int end = (pendingStart + pendingLength) & MASK;
+		int length = in.read(pendingData, end, writableLength());
+
+		if(length > 0) {
+			pendingLength += length;
+		}
+
+		return length;
+	}
+
+	int read(SocketChannel channel) throws java.io.IOException {
+		int end = (pendingStart + pendingLength) & MASK;
+
+		pendingBuffer.clear();
+		pendingBuffer.position(end);
+		pendingBuffer.limit(end + writableLength());
+
+		int length = channel.read(pendingBuffer);
+
+		if(length > 0) {
+			pendingLength += length;
+		}
+
+		return length;
+	}
+
+	void dispatchPackets() {
+		while(ipcon.receiveFlag) {
+			if(pendingLength < 8) {
+				// Wait for complete header
+				break;
+			}
+
+			int length = pendingData[(pendingStart + 4) & MASK] & 0xFF;
+
+			if(pendingLength < length) {
+				// Wait for complete packet
+				break;
+			}
+
+			byte[] packet = ipcon.packetPool.acquire(length);
+			int firstLength = Math.min(length, CAPACITY - pendingStart);
+
+			System.arraycopy(pendingData, pendingStart, packet, 0, firstLength);
+			System.arraycopy(pendingData, 0, packet, firstLength, length - firstLength);
+
+			pendingStart = (pendingStart + length) & MASK;
+			pendingLength -= length;
+
+			PacketRecorder recorder = ipcon.packetRecorder;
+
+			if(recorder != null) {
+				recorder.record(packet);
+			}
+
+			ipcon.handleResponse(packet);
+		}
+
+		if(pendingLength == 0) {
+			// keep reads contiguous as long as possible
+			pendingStart = 0;
+		}
+	}
+}
 
 class ReceiveThread extends Thread {
 	IPConnection ipcon = null;
@@ -31,16 +471,14 @@ class ReceiveThread extends Thread {
 
 	@Override
 	public void run() {
-		byte[] pendingData = new byte[8192];
-		int pendingLength = 0;
+		PacketFramer framer = new PacketFramer(ipcon);
 		long socketID = ipcon.socketID;
 
 		while(ipcon.receiveFlag) {
 			int length;
 
 			try {
-				length = ipcon.in.read(pendingData, pendingLength,
-				                       pendingData.length - pendingLength);
+				length = framer.read(ipcon.in);
 			} catch(java.net.SocketException e) {
 				if(ipcon.receiveFlag) {
 					ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR,
@@ -62,30 +500,352 @@ class ReceiveThread extends Thread {
 				return;
 			}
 
-			pendingLength += length;
+			framer.dispatchPackets();
+		}
+	}
+}
 
-			while(ipcon.receiveFlag) {
-				if(pendingLength < 8) {
-					// Wait for complete header
-					break;
+// Multiplexes the sockets of all IP Connections that use the selector
+// transport, so the number of receive threads does not grow with the
+// number of connections. Also sends the disconnect probes for them.
+class SelectorThread extends Thread {
+	private static SelectorThread[] group = null;
+	private static int groupSize = 1;
+	private static int nextIndex = 0;
+
+	private Selector selector;
+	private ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<Runnable>();
+
+	static class Registration {
+		final IPConnection ipcon;
+		final SocketChannel channel;
+		final long socketID;
+		final PacketFramer framer;
+
+		Registration(IPConnection ipcon, SocketChannel channel, long socketID) {
+			this.ipcon = ipcon;
+			this.channel = channel;
+			this.socketID = socketID;
+			this.framer = new PacketFramer(ipcon);
+		}
+	}
+
+	SelectorThread(int index) throws java.io.IOException {
+		super("Brickd-Selector-" + index);
+
+		setDaemon(true);
+		selector = Selector.open();
+	}
+
+	static synchronized void setGroupSize(int size) {
+		if(size < 1) {
+			throw new IllegalArgumentException("Selector thread count has to be at least 1");
+		}
+
+		if(group != null) {
+			throw new IllegalStateException("Selector threads are already running");
+		}
+
+		groupSize = size;
+	}
+
+	static synchronized SelectorThread next() throws java.io.IOException {
+		if(group == null) {
+			SelectorThread[] threads = new SelectorThread[groupSize];
+
+			for(int i = 0; i < groupSize; i++) {
+				threads[i] = new SelectorThread(i);
+				threads[i].start();
+			}
+
+			group = threads;
+		}
+
+		SelectorThread thread = group[nextIndex];
+		nextIndex = (nextIndex + 1) % group.length;
+
+		return thread;
+	}
+
+	void register(IPConnection ipcon, SocketChannel channel, long socketID) {
+		final Registration registration = new Registration(ipcon, channel, socketID);
+
+		execute(new Runnable() {
+			public void run() {
+				try {
+					registration.channel.register(selector, SelectionKey.OP_READ, registration);
+				} catch(java.io.IOException e) {
+					registration.ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR,
+					                                          registration.socketID, false);
+				} catch(RuntimeException e) {
+					// e.g. the channel was closed in the meantime
+					registration.ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR,
+					                                          registration.socketID, false);
 				}
+			}
+		});
+	}
 
-				length = IPConnection.getLengthFromData(pendingData);
+	// Waits until the selector no longer dispatches packets for the channel,
+	// this is the counterpart to joining the ReceiveThread
+	void unregister(final SocketChannel channel) {
+		final CountDownLatch latch = new CountDownLatch(1);
 
-				if(pendingLength < length) {
-					// Wait for complete packet
-					break;
+		execute(new Runnable() {
+			public void run() {
+				SelectionKey key = channel.keyFor(selector);
+
+				if(key != null) {
+					key.cancel();
 				}
 
-				byte[] packet = new byte[length];
+				latch.countDown();
+			}
+		});
 
-				System.arraycopy(pendingData, 0, packet, 0, length);
-				System.arraycopy(pendingData, length, pendingData, 0, pendingLength - length);
-				pendingLength -= length;
-				ipcon.handleResponse(packet);
+		if(Thread.currentThread() == this) {
+			return;
+		}
+
+		try {
+			latch.await();
+		} catch(InterruptedException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void execute(Runnable task) {
+		tasks.add(task);
+		selector.wakeup();
+	}
+
+	@Override
+	public void run() {
+		while(true) {
+			try {
+				selector.select();
+			} catch(java.io.IOException e) {
+				e.printStackTrace();
+				continue;
+			}
+
+			Runnable task;
+
+			// the thread is shared by many connections, an error must not
+			// stop it
+			while((task = tasks.poll()) != null) {
+				try {
+					task.run();
+				} catch(RuntimeException e) {
+					e.printStackTrace();
+				}
+			}
+
+			Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+
+			while(iterator.hasNext()) {
+				SelectionKey key = iterator.next();
+				iterator.remove();
+
+				try {
+					if(key.isValid() && key.isReadable()) {
+						receive(key, (Registration)key.attachment());
+					}
+				} catch(RuntimeException e) {
+					e.printStackTrace();
+					fail(key, (Registration)key.attachment());
+				}
 			}
 		}
 	}
+
+	// Drops a channel whose packets cannot be handled anymore, the other
+	// channels of this thread are not affected
+	private void fail(SelectionKey key, Registration registration) {
+		key.cancel();
+
+		try {
+			if(registration.ipcon.receiveFlag) {
+				registration.ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR,
+				                                          registration.socketID, false);
+			}
+		} catch(RuntimeException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void receive(SelectionKey key, Registration registration) {
+		IPConnection ipcon = registration.ipcon;
+		int length;
+
+		try {
+			length = registration.framer.read(registration.channel);
+		} catch(java.io.IOException e) {
+			key.cancel();
+
+			if(ipcon.receiveFlag) {
+				ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR,
+				                             registration.socketID, false);
+			}
+			return;
+		}
+
+		if(length < 0) {
+			key.cancel();
+
+			if(ipcon.receiveFlag) {
+				ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_SHUTDOWN,
+				                             registration.socketID, false);
+			}
+			return;
+		}
+
+		registration.framer.dispatchPackets();
+	}
+}
+
+// FIFO between the receiver and a callback thread. Device callbacks count
+// against the capacity set by setCallbackQueueCapacity, the overflow policy
+// of the callback decides what happens to a callback that arrives while the
+// queue is full. Meta callbacks and response notifications are always
+// accepted, they must not get lost.
+class CallbackQueue {
+	IPConnection ipcon = null;
+	LinkedList<IPConnection.CallbackQueueObject> queue = new LinkedList<IPConnection.CallbackQueueObject>();
+	int packetCount = 0; // number of queued device callbacks
+
+	CallbackQueue(IPConnection ipcon) {
+		this.ipcon = ipcon;
+	}
+
+	synchronized void put(IPConnection.CallbackQueueObject cqo) {
+		queue.add(cqo);
+		notifyAll();
+	}
+
+	// NOTE: the caller already counted the callback in the queue depth of the device
+	synchronized void putPacket(IPConnection.CallbackQueueObject cqo) throws InterruptedException {
+		Device device = cqo.device;
+		int functionID = IPConnection.unsignedByte(IPConnection.getFunctionIDFromData(cqo.packet));
+		int capacity = ipcon.callbackQueueCapacity;
+
+		if(device.callbackConflation[functionID] && conflate(cqo, functionID)) {
+			return;
+		}
+
+		if(capacity > 0 && packetCount >= capacity) {
+			byte policy = device.callbackOverflowPolicy[functionID];
+
+			if(policy == Device.CALLBACK_OVERFLOW_POLICY_CONNECTION) {
+				policy = ipcon.callbackOverflowPolicy;
+			}
+
+			switch(policy) {
+				case IPConnection.CALLBACK_OVERFLOW_POLICY_CONFLATE:
+					if(conflate(cqo, functionID)) {
+						return;
+					}
+
+					// nothing to conflate with, make room like drop-oldest
+					removeOldestPacket();
+					break;
+
+				case IPConnection.CALLBACK_OVERFLOW_POLICY_DROP_OLDEST:
+					removeOldestPacket();
+					break;
+
+				case IPConnection.CALLBACK_OVERFLOW_POLICY_DROP_NEWEST:
+					drop(cqo);
+					return;
+
+				case IPConnection.CALLBACK_OVERFLOW_POLICY_BLOCK:
+					// stop waiting on disconnect, otherwise a disconnect
+					// from a callback listener would deadlock
+					while(packetCount >= capacity && capacity > 0 && ipcon.receiveFlag) {
+						wait(100);
+						capacity = ipcon.callbackQueueCapacity;
+					}
+
+					if(capacity > 0 && packetCount >= capacity) {
+						drop(cqo);
+						return;
+					}
+
+					break;
+			}
+		}
+
+		queue.add(cqo);
+		++packetCount;
+		device.queuedCallbacks[functionID] = cqo;
+		notifyAll();
+	}
+
+	synchronized IPConnection.CallbackQueueObject take() throws InterruptedException {
+		while(queue.isEmpty()) {
+			wait();
+		}
+
+		IPConnection.CallbackQueueObject cqo = queue.removeFirst();
+
+		if(cqo.device != null) {
+			dequeued(cqo);
+			notifyAll();
+		}
+
+		return cqo;
+	}
+
+	// Overwrites the newest queued packet of the same callback in place,
+	// returns false if there is none
+	// NOTE: Assumes that this is locked
+	private boolean conflate(IPConnection.CallbackQueueObject cqo, int functionID) {
+		IPConnection.CallbackQueueObject queued = cqo.device.queuedCallbacks[functionID];
+
+		if(queued == null) {
+			return false;
+		}
+
+		ipcon.packetPool.release(queued.packet);
+		queued.packet = cqo.packet;
+		cqo.device.callbackQueueDepth.decrementAndGet();
+		ipcon.conflatedCallbacks.incrementAndGet();
+
+		return true;
+	}
+
+	// NOTE: Assumes that this is locked
+	private void removeOldestPacket() {
+		Iterator<IPConnection.CallbackQueueObject> iterator = queue.iterator();
+
+		while(iterator.hasNext()) {
+			IPConnection.CallbackQueueObject cqo = iterator.next();
+
+			if(cqo.device != null) {
+				iterator.remove();
+				dequeued(cqo);
+				drop(cqo);
+				return;
+			}
+		}
+	}
+
+	// NOTE: Assumes that this is locked
+	private void dequeued(IPConnection.CallbackQueueObject cqo) {
+		int functionID = IPConnection.unsignedByte(IPConnection.getFunctionIDFromData(cqo.packet));
+
+		--packetCount;
+
+		if(cqo.device.queuedCallbacks[functionID] == cqo) {
+			cqo.device.queuedCallbacks[functionID] = null;
+		}
+	}
+
+	private void drop(IPConnection.CallbackQueueObject cqo) {
+		cqo.device.callbackQueueDepth.decrementAndGet();
+		ipcon.packetPool.release(cqo.packet);
+		ipcon.droppedCallbacks.incrementAndGet();
+	}
 }
 
 class CallbackThreadRestarter implements Thread.UncaughtExceptionHandler {
@@ -100,28 +860,36 @@ class CallbackThreadRestarter implements Thread.UncaughtExceptionHandler {
 		System.err.print("Exception in thread \"" + thread.getName() + "\" ");
 		exception.printStackTrace();
 
-		ipcon.callbackThread = new CallbackThread(ipcon, ((CallbackThread)thread).callbackQueue);
+		ipcon.callbackThread = new CallbackThread(ipcon, ((CallbackThread)thread).callbackQueue,
+		                                          ((CallbackThread)thread).dispatcher);
 		ipcon.callbackThread.start();
 	}
 }
 
 class CallbackThread extends Thread {
 	IPConnection ipcon = null;
-	LinkedBlockingQueue<IPConnection.CallbackQueueObject> callbackQueue = null;
+	CallbackQueue callbackQueue = null;
+	CallbackDispatcher dispatcher = null; // null if device callbacks are dispatched here
 	Object mutex = new Object();
 	boolean packetDispatchAllowed = false;
 
 	CallbackThread(IPConnection ipcon,
-	               LinkedBlockingQueue<IPConnection.CallbackQueueObject> callbackQueue) {
+	               CallbackQueue callbackQueue,
+	               CallbackDispatcher dispatcher) {
 		super("Callback-Processor");
 
 		setDaemon(true);
 		this.ipcon = ipcon;
 		this.callbackQueue = callbackQueue;
+		this.dispatcher = dispatcher;
 		this.setUncaughtExceptionHandler(new CallbackThreadRestarter(ipcon));
 	}
 
 	void setPacketDispatchAllowed(boolean allowed) {
+		if (dispatcher != null) {
+			dispatcher.packetDispatchAllowed = allowed;
+		}
+
 		if (allowed) {
 			packetDispatchAllowed = true;
 		} else {
@@ -155,13 +923,8 @@ class CallbackThread extends Thread {
 						// don't close the socket if it got disconnected or
 						// reconnected in the meantime
 						if (ipcon.socket != null && ipcon.socketID == cqo.socketID) {
-							ipcon.disconnectProbeThread.shutdown();
-							try {
-								ipcon.disconnectProbeThread.join();
-							} catch(InterruptedException e) {
-								e.printStackTrace();
-							}
-
+							ipcon.stopDisconnectProbe();
+							ipcon.stopEndpointRanking();
 							ipcon.closeSocket();
 						}
 					}
@@ -180,70 +943,80 @@ class CallbackThread extends Thread {
 				if(cqo.parameter != IPConnection.DISCONNECT_REASON_REQUEST &&
 				   ipcon.autoReconnect && ipcon.autoReconnectAllowed) {
 					ipcon.autoReconnectPending = true;
-					boolean retry = true;
-
-					while(retry) {
-						retry = false;
-
-						synchronized(ipcon.socketMutex) {
-							if(ipcon.autoReconnectAllowed && ipcon.socket == null) {
-								try {
-									ipcon.connectUnlocked(true);
-								} catch(Exception e) {
-									retry = true;
-								}
-							} else {
-								ipcon.autoReconnectPending = true;
-							}
-						}
+					ipcon.autoReconnectAttempt = 0;
 
-						if(retry) {
-							try {
-								Thread.sleep(100);
-							} catch(InterruptedException e) {
-								e.printStackTrace();
-							}
-						}
-					}
+					autoReconnect();
 				}
 
 				break;
 		}
 	}
 
+	// Tries to reconnect once, the next attempt is scheduled with backoff
+	// instead of sleeping here, so the callback thread stays responsive.
+	// Several endpoints are ranked first. The probes run on the worker,
+	// which queues the attempt again once the ranking is stored
+	void autoReconnect() {
+		boolean retry = false;
+
+		synchronized(ipcon.socketMutex) {
+			if(ipcon.autoReconnectAllowed && ipcon.socket == null) {
+				List<Endpoint> endpoints = ipcon.endpoints;
+
+				if(ipcon.rankedEndpoints == null && endpoints != null && endpoints.size() > 1) {
+					rankThenReconnect(endpoints);
+				} else {
+					try {
+						ipcon.connectUnlocked(true);
+					} catch(Exception e) {
+						retry = true;
+					}
+				}
+			} else {
+				ipcon.autoReconnectPending = true;
+			}
+		}
+
+		if(retry) {
+			ipcon.scheduleAutoReconnect();
+		}
+	}
+
+	// NOTE: Assumes that socketMutex is locked
+	private void rankThenReconnect(final List<Endpoint> endpoints) {
+		final CallbackQueue queue = callbackQueue;
+
+		IPConnection.getWorker().execute(new Runnable() {
+			public void run() {
+				// measured without the lock, a connect or disconnect call
+				// must not wait for the probes
+				List<Endpoint> ranked = ipcon.rankEndpoints(endpoints);
+
+				synchronized(ipcon.socketMutex) {
+					// a connect call in the meantime brings its own ranking
+					if(ipcon.endpoints == endpoints && ipcon.socket == null) {
+						ipcon.rankedEndpoints = ranked;
+					}
+				}
+
+				queue.put(new IPConnection.CallbackQueueObject(IPConnection.QUEUE_RECONNECT, (byte)0, (short)0, 0, null));
+			}
+		});
+	}
+
 	void dispatchPacket(IPConnection.CallbackQueueObject cqo) {
 		byte functionID = IPConnection.getFunctionIDFromData(cqo.packet);
 
 		if(functionID == IPConnection.CALLBACK_ENUMERATE) {
 			if(!ipcon.listenerEnumerate.isEmpty()) {
-				int length = IPConnection.getLengthFromData(cqo.packet);
-				ByteBuffer bb = ByteBuffer.wrap(cqo.packet, 8, length - 8);
-				bb.order(ByteOrder.LITTLE_ENDIAN);
-				String uid_str = "";
-				for(int i = 0; i < 8; i++) {
-					char c = (char)bb.get();
-					if(c != '\0') {
-						uid_str += c;
-					}
-				}
-				String connectedUid_str = "";
-				for(int i = 0; i < 8; i++) {
-					char c = (char)bb.get();
-					if(c != '\0') {
-						connectedUid_str += c;
-					}
-				}
-				char position = (char)bb.get();
-				short[] hardwareVersion = new short[3];
-				hardwareVersion[0] = IPConnection.unsignedByte(bb.get());
-				hardwareVersion[1] = IPConnection.unsignedByte(bb.get());
-				hardwareVersion[2] = IPConnection.unsignedByte(bb.get());
-				short[] firmwareVersion = new short[3];
-				firmwareVersion[0] = IPConnection.unsignedByte(bb.get());
-				firmwareVersion[1] = IPConnection.unsignedByte(bb.get());
-				firmwareVersion[2] = IPConnection.unsignedByte(bb.get());
-				int deviceIdentifier = IPConnection.unsignedShort(bb.getShort());
-				short enumerationType = IPConnection.unsignedByte(bb.get());
+				PacketReader pr = PacketReader.wrap(cqo.packet);
+				String uid_str = pr.uid();
+				String connectedUid_str = pr.uid();
+				char position = (char)pr.get();
+				short[] hardwareVersion = pr.version();
+				short[] firmwareVersion = pr.version();
+				int deviceIdentifier = IPConnection.unsignedShort(pr.getShort());
+				short enumerationType = IPConnection.unsignedByte(pr.get());
 
 				for(IPConnection.EnumerateListener listener: ipcon.listenerEnumerate) {
 					listener.enumerate(uid_str, connectedUid_str, position,
@@ -252,11 +1025,16 @@ class CallbackThread extends Thread {
 				}
 			}
 		} else {
-			long uid = IPConnection.getUIDFromData(cqo.packet);
-			Device device = ipcon.devices.get(uid);
-			if(device.callbacks[functionID] != null) {
-				device.callbacks[functionID].callback(cqo.packet);
-			}
+			dispatchDeviceCallback(cqo);
+		}
+	}
+
+	static void dispatchDeviceCallback(IPConnection.CallbackQueueObject cqo) {
+		byte functionID = IPConnection.getFunctionIDFromData(cqo.packet);
+		Device.CallbackListener listener = cqo.device.callbacks[IPConnection.unsignedByte(functionID)];
+
+		if(listener != null) {
+			listener.callback(cqo.packet);
 		}
 	}
 
@@ -288,79 +1066,336 @@ class CallbackThread extends Thread {
 
 					case IPConnection.QUEUE_PACKET:
 						// don't dispatch callbacks when the receive thread isn't running
-						if (packetDispatchAllowed) {
-							dispatchPacket(cqo);
+						try {
+							if (packetDispatchAllowed) {
+								dispatchPacket(cqo);
+							}
+						} finally {
+							if (cqo.device != null) {
+								cqo.device.callbackQueueDepth.decrementAndGet();
+							}
+
+							ipcon.packetPool.release(cqo.packet);
 						}
 
 						break;
+
+					case IPConnection.QUEUE_RESPONSE:
+						cqo.future.notifyListeners();
+						break;
+
+					case IPConnection.QUEUE_RECONNECT:
+						autoReconnect();
+						break;
 				}
 			}
 		}
 	}
 }
 
-// NOTE: the disconnect probe thread is not allowed to hold the socketMutex at any
-//       time because it is created and joined while the socketMutex is locked
-class DisconnectProbeThread extends Thread {
+// Dispatches device callbacks on a fixed number of threads instead of the
+// single callback thread. The callbacks of a device always go to the same
+// thread, so their order is preserved, but a slow listener of one device
+// only stalls the devices that share its thread. Meta callbacks, the
+// enumerate callback and response listeners stay on the callback thread.
+class CallbackDispatcher {
+	class Worker extends Thread {
+		CallbackQueue queue = null;
+
+		Worker(int index) {
+			super("Callback-Dispatcher-" + index);
+
+			setDaemon(true);
+			this.queue = new CallbackQueue(ipcon);
+		}
+
+		@Override
+		public void run() {
+			while(true) {
+				IPConnection.CallbackQueueObject cqo = null;
+				try {
+					cqo = queue.take();
+				} catch(InterruptedException e) {
+					e.printStackTrace();
+					continue;
+				}
+
+				if(cqo.kind == IPConnection.QUEUE_EXIT) {
+					return;
+				}
+
+				try {
+					// don't dispatch callbacks when the receive thread isn't running
+					if(packetDispatchAllowed) {
+						CallbackThread.dispatchDeviceCallback(cqo);
+					}
+				} catch(Throwable e) {
+					System.err.print("Exception in thread \"" + getName() + "\" ");
+					e.printStackTrace();
+				} finally {
+					cqo.device.callbackQueueDepth.decrementAndGet();
+					ipcon.packetPool.release(cqo.packet);
+				}
+			}
+		}
+	}
+
 	IPConnection ipcon = null;
-	byte[] request = null;
-	LinkedBlockingQueue<Boolean> queue = new LinkedBlockingQueue<Boolean>();
+	Worker[] workers = null;
+	volatile boolean packetDispatchAllowed = false;
+
+	CallbackDispatcher(IPConnection ipcon, int threadCount) {
+		this.ipcon = ipcon;
+		this.workers = new Worker[threadCount];
+
+		for(int i = 0; i < threadCount; i++) {
+			workers[i] = new Worker(i);
+			workers[i].start();
+		}
+	}
+
+	void put(IPConnection.CallbackQueueObject cqo) throws InterruptedException {
+		long uid = cqo.device.uid;
+		int index = (int)((uid ^ (uid >>> 32)) & 0x7FFFFFFF) % workers.length;
+
+		workers[index].queue.putPacket(cqo);
+	}
+
+	void shutdown() {
+		boolean isWorker = false;
+
+		for(Worker worker: workers) {
+			worker.queue.put(new IPConnection.CallbackQueueObject(IPConnection.QUEUE_EXIT, (byte)0,
+			                                                      (short)0, 0, null));
+
+			isWorker |= Thread.currentThread() == worker;
+		}
+
+		if(isWorker) {
+			return;
+		}
+
+		for(Worker worker: workers) {
+			try {
+				worker.join();
+			} catch(InterruptedException e) {
+				e.printStackTrace();
+			}
+		}
+	}
+}
+
+// Runs the writes of a connection one after the other on the shared worker,
+// like a thread of its own would, but without keeping one per connection
+class SerialExecutor implements Executor {
+	private final ArrayDeque<Runnable> tasks = new ArrayDeque<Runnable>();
+	private boolean running = false;
+
+	private final Runnable drain = new Runnable() {
+		public void run() {
+			while(true) {
+				Runnable task;
+
+				synchronized(tasks) {
+					task = tasks.poll();
+
+					if(task == null) {
+						running = false;
+						return;
+					}
+				}
+
+				try {
+					task.run();
+				} catch(RuntimeException e) {
+					e.printStackTrace();
+				}
+			}
+		}
+	};
+
+	public void execute(Runnable task) {
+		synchronized(tasks) {
+			tasks.add(task);
+
+			if(running) {
+				return;
+			}
 
+			running = true;
+		}
+
+		IPConnection.getWorker().execute(drain);
+	}
+}
+
+// Sends a disconnect probe if nothing was received since the last run, a
+// broken connection is then detected by the failing write. Is timed by the
+// shared scheduler instead of a thread per connection, the write itself runs
+// on the writer of the connection. It is cancelled but never waited for, so
+// unlike a thread it may lock the socketMutex.
+class DisconnectProbe implements Runnable {
 	final static byte FUNCTION_DISCONNECT_PROBE = (byte)128;
 	final static int DISCONNECT_PROBE_INTERVAL = 5000;
 
-	DisconnectProbeThread(IPConnection ipcon) {
-		super("Disconnect-Prober");
+	IPConnection ipcon = null;
+	long socketID = 0;
+	ScheduledFuture<?> future = null;
+	volatile boolean cancelled = false;
+	volatile boolean probing = false;
+
+	private final Runnable probe = new Runnable() {
+		public void run() {
+			try {
+				probe();
+			} finally {
+				probing = false;
+			}
+		}
+	};
+
+	DisconnectProbe(IPConnection ipcon, long socketID) {
+		this.ipcon = ipcon;
+		this.socketID = socketID;
+	}
+
+	void start(int interval) {
+		future = IPConnection.getScheduler().scheduleWithFixedDelay(this, interval, interval,
+		                                                            TimeUnit.MILLISECONDS);
+	}
+
+	void cancel() {
+		cancelled = true;
+		future.cancel(false);
+	}
+
+	@Override
+	public void run() {
+		if(cancelled) {
+			return;
+		}
+
+		if(!ipcon.disconnectProbeFlag) {
+			ipcon.disconnectProbeFlag = true;
+			return;
+		}
+
+		// a probe that is still being written is enough
+		if(!probing) {
+			probing = true;
+			ipcon.executeWrite(probe);
+		}
+	}
+
+	private void probe() {
+		if(cancelled) {
+			return;
+		}
+
+		try {
+			ipcon.write(ipcon.disconnectProbeRequest);
+		} catch(java.io.IOException e) {
+			synchronized(ipcon.socketMutex) {
+				// don't report a connection that got closed or replaced in the meantime
+				if(!cancelled && ipcon.socket != null && ipcon.socketID == socketID) {
+					cancel();
+					ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR,
+					                             socketID, false);
+				}
+			}
+		}
+	}
+}
+
+// Measures the endpoints of a connection from time to time, see
+// IPConnection.setEndpointRankingInterval. The shared scheduler only hands
+// the measurement to a worker thread, it waits for the probes up to the
+// probe timeout
+class EndpointRanking implements Runnable {
+	IPConnection ipcon = null;
+	long socketID = 0;
+	List<Endpoint> endpoints = null;
+	ScheduledFuture<?> future = null;
+	volatile boolean cancelled = false;
+	volatile boolean ranking = false;
+
+	private final Runnable rank = new Runnable() {
+		public void run() {
+			try {
+				rank();
+			} finally {
+				ranking = false;
+			}
+		}
+	};
+
+	EndpointRanking(IPConnection ipcon, long socketID, List<Endpoint> endpoints) {
+		this.ipcon = ipcon;
+		this.socketID = socketID;
+		this.endpoints = endpoints;
+	}
+
+	void start(int interval) {
+		future = IPConnection.getScheduler().scheduleWithFixedDelay(this, interval, interval,
+		                                                            TimeUnit.MILLISECONDS);
+	}
+
+	void cancel() {
+		cancelled = true;
+		future.cancel(false);
+	}
+
+	@Override
+	public void run() {
+		if(cancelled) {
+			return;
+		}
 
-		setDaemon(true);
-		this.ipcon = ipcon;
-		this.request = ipcon.createRequestPacket((byte)8, FUNCTION_DISCONNECT_PROBE, null).array();
+		if(!ranking) {
+			ranking = true;
+			IPConnection.getWorker().execute(rank);
+		}
 	}
 
-	void shutdown() {
-		try {
-			queue.put(new Boolean(true));
-		} catch(InterruptedException e) {
-			e.printStackTrace();
+	private void rank() {
+		if(cancelled || !ipcon.autoReconnect) {
+			return;
 		}
-	}
 
-	@Override
-	public void run() {
-		Boolean item = null;
+		long[] latencies = IPConnection.probeEndpoints(endpoints, ipcon.getEndpointProbeTimeout());
 
-		while (true) {
-			try {
-				item = queue.poll(DISCONNECT_PROBE_INTERVAL, TimeUnit.MILLISECONDS);
-			} catch (InterruptedException e) {
-				e.printStackTrace();
+		synchronized(ipcon.socketMutex) {
+			// don't switch a connection that got closed or replaced in the meantime
+			if(cancelled || ipcon.socket == null || ipcon.socketID != socketID || !ipcon.autoReconnect) {
+				return;
 			}
 
-			if (item != null) {
-				break;
+			int current = endpoints.indexOf(ipcon.getCurrentEndpoint());
+			long fastest = Long.MAX_VALUE;
+
+			for(long latency: latencies) {
+				fastest = Math.min(fastest, latency);
 			}
 
-			if (ipcon.disconnectProbeFlag) {
-				try {
-					synchronized(ipcon.socketSendMutex) {
-						ipcon.out.write(request);
-					}
-				} catch(java.net.SocketException e) {
-					ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR,
-					                             ipcon.socketID, false);
-					break;
-				} catch(Exception e) {
-					e.printStackTrace();
-				}
-			} else {
-				ipcon.disconnectProbeFlag = true;
+			// only an endpoint that is more than twice and at least 1 ms
+			// faster is worth the reconnect, smaller differences are noise.
+			// An endpoint that did not answer the probe is left to the
+			// disconnect probe
+			if(current < 0 || latencies[current] == Long.MAX_VALUE ||
+			   fastest * 2 >= latencies[current] ||
+			   latencies[current] - fastest < TimeUnit.MILLISECONDS.toNanos(1)) {
+				return;
 			}
+
+			cancel();
+
+			// the auto-reconnect ranks the endpoints again and takes the fastest
+			ipcon.handleDisconnectByPeer(IPConnection.DISCONNECT_REASON_ERROR, socketID, true);
 		}
 	}
 }
 
 public class IPConnection {
-	private final static String BASE58 = "123456789abcdefghijkmnopqrstuvwxyzABCDEFGHJKLMNPQRSTUVWXYZ";
 
 	public final static byte FUNCTION_ENUMERATE = (byte)254;
 	public final static byte CALLBACK_ENUMERATE = (byte)253;
@@ -389,31 +1424,89 @@ public class IPConnection {
 	public final static short CONNECTION_STATE_CONNECTED = 1;
 	public final static short CONNECTION_STATE_PENDING = 2; // auto-reconnect in process
 
+	// overflow policies for device callbacks, see setCallbackQueueCapacity
+	public final static byte CALLBACK_OVERFLOW_POLICY_BLOCK = 0;
+	public final static byte CALLBACK_OVERFLOW_POLICY_DROP_OLDEST = 1;
+	public final static byte CALLBACK_OVERFLOW_POLICY_DROP_NEWEST = 2;
+	public final static byte CALLBACK_OVERFLOW_POLICY_CONFLATE = 3;
+
 	final static int QUEUE_EXIT = 0;
 	final static int QUEUE_META = 1;
 	final static int QUEUE_PACKET = 2;
+	final static int QUEUE_RESPONSE = 3;
+	final static int QUEUE_RECONNECT = 4;
 
 	int responseTimeout = 2500;
+	boolean adaptiveTimeout = false;
+	private AtomicReferenceArray<LatencyHistogram> latencyHistograms = new AtomicReferenceArray<LatencyHistogram>(256);
 
-	Hashtable<Long, Device> devices = new Hashtable<Long, Device>();
-	LinkedBlockingQueue<CallbackQueueObject> callbackQueue = null;
+	DeviceTable devices = new DeviceTable();
+	PacketPool packetPool = new PacketPool();
+	CallbackQueue callbackQueue = null;
+	int callbackQueueCapacity = 0; // per callback thread, 0 is unbounded
+	byte callbackOverflowPolicy = CALLBACK_OVERFLOW_POLICY_DROP_OLDEST;
+	AtomicLong droppedCallbacks = new AtomicLong();
+	AtomicLong conflatedCallbacks = new AtomicLong();
 
 	Object socketMutex = new Object();
 	Object socketSendMutex = new Object();
+
+	// Requests are appended to writeBuffer. The thread that finds no other
+	// thread writing swaps the buffers and writes everything appended so far
+	// with a single socket write, protected by socketSendMutex. The callers
+	// whose requests went into that write wait for its writeResult
+	private final static int WRITE_BUFFER_SIZE = 8192;
+	private byte[] writeBuffer = new byte[WRITE_BUFFER_SIZE];
+	private byte[] flushBuffer = new byte[WRITE_BUFFER_SIZE];
+	private WriteResult writeResult = new WriteResult();
+	private int writeLength = 0;
+	private boolean writing = false;
+	private int writeBatchingWindow = 0; // in microseconds, 0 disables batching
+	private int writeBatchingSize = WRITE_BUFFER_SIZE;
+	private boolean batchFlushScheduled = false;
+
+	// Runs the writes that are due on the shared scheduler, so a socket whose
+	// send buffer is full blocks this connection only and not the timing of
+	// all the others
+	private final SerialExecutor writer = new SerialExecutor();
+
+	RequestPacketPool requestPacketPool = new RequestPacketPool();
 	private Object sequenceNumberMutex = new Object();
 
 	private String host;
 	private int port;
+	volatile List<Endpoint> endpoints = null; // null if connected to a single host and port
+	List<Endpoint> rankedEndpoints = null; // the endpoints in the order the next connect tries them
+	private Endpoint currentEndpoint = null;
+	private volatile int connectTimeout = 5000;
+	private volatile int endpointProbeTimeout = 1000;
+	private volatile int endpointRankingInterval = 60000;
+	private EndpointRanking endpointRanking = null;
 
 	private final static int SEQUENCE_NUMBER_POS = 4;
+	private final static int SEQUENCE_NUMBER_COUNT = 15;
 	private int nextSequenceNumber = 0;
 
+	// one slot per sequence number (index 0 is reserved for callbacks), so
+	// up to 15 requests can be in flight on this connection at the same time
+	private PendingResponse[] pendingResponses = new PendingResponse[SEQUENCE_NUMBER_COUNT + 1];
+	private Semaphore pendingResponsePermits = new Semaphore(SEQUENCE_NUMBER_COUNT, true);
+	// async requests waiting for a free sequence number, protected by sequenceNumberMutex
+	private LinkedList<QueuedRequest> queuedRequests = new LinkedList<QueuedRequest>();
+
+	private static ScheduledExecutorService scheduler = null;
+	private static ThreadPoolExecutor worker = null;
+
 	boolean receiveFlag = false;
 
 	boolean autoReconnect = true;
 	boolean autoReconnectAllowed = false;
 	boolean autoReconnectPending = false;
+	boolean selectorTransport = false;
+	volatile PacketRecorder packetRecorder = null;
 	Socket socket = null;
+	SocketChannel channel = null; // only set for the selector transport
+	SelectorThread selectorThread = null;
 	long socketID = 0;
 	OutputStream out = null;
 	InputStream in = null;
@@ -422,23 +1515,172 @@ public class IPConnection {
 	List<DisconnectedListener> listenerDisconnected = new CopyOnWriteArrayList<DisconnectedListener>();
 	ReceiveThread receiveThread = null;
 	CallbackThread callbackThread = null;
-	DisconnectProbeThread disconnectProbeThread = null;
+	CallbackDispatcher callbackDispatcher = null;
+	int callbackThreadCount = 0; // 0 dispatches device callbacks on the callback thread
+	DisconnectProbe disconnectProbe = null;
+	int disconnectProbeInterval = DisconnectProbe.DISCONNECT_PROBE_INTERVAL;
 	boolean disconnectProbeFlag = false;
+	int autoReconnectBackoffMinimum = 100;
+	int autoReconnectBackoffMaximum = 5000;
+	int autoReconnectAttempt = 0; // only used by the callback thread
+	Random autoReconnectRandom = new Random();
+	byte[] disconnectProbeRequest = null;
 
 	static class CallbackQueueObject {
 		final int kind;
 		final byte functionID;
 		final short parameter;
 		final long socketID;
-		final byte[] packet;
+		byte[] packet; // replaced by a newer packet on conflation, protected by the CallbackQueue
+		final ResponseFuture<?> future;
+		final Device device;
 
 		public CallbackQueueObject(int kind, byte functionID, short parameter,
 		                           long socketID, byte[] packet) {
+			this(kind, functionID, parameter, socketID, packet, null, null);
+		}
+
+		public CallbackQueueObject(int kind, byte functionID, short parameter,
+		                           long socketID, byte[] packet, ResponseFuture<?> future) {
+			this(kind, functionID, parameter, socketID, packet, future, null);
+		}
+
+		public CallbackQueueObject(Device device, byte[] packet) {
+			this(QUEUE_PACKET, (byte)0, (short)0, 0, packet, null, device);
+		}
+
+		private CallbackQueueObject(int kind, byte functionID, short parameter,
+		                            long socketID, byte[] packet, ResponseFuture<?> future,
+		                            Device device) {
 			this.kind = kind;
 			this.functionID = functionID;
 			this.parameter = parameter;
 			this.socketID = socketID;
 			this.packet = packet;
+			this.future = future;
+			this.device = device;
+		}
+	}
+
+	// Outcome of one socket write of the coalesced requests, protected by
+	// socketSendMutex
+	static class WriteResult {
+		boolean done = false;
+		java.io.IOException error = null;
+	}
+
+	static class QueuedRequest {
+		final long uid;
+		final byte[] request;
+		final ResponseFuture<?> future;
+
+		QueuedRequest(long uid, byte[] request, ResponseFuture<?> future) {
+			this.uid = uid;
+			this.request = request;
+			this.future = future;
+		}
+	}
+
+	// NOTE: uid, functionID and inUse are protected by sequenceNumberMutex and
+	//       the slot itself, response is protected by the slot only
+	static class PendingResponse {
+		final byte sequenceNumber;
+		long uid = 0;
+		byte functionID = 0;
+		boolean inUse = false;
+		byte[] response = null;
+		ResponseFuture<?> future = null; // null for blocking requests
+		ResponseFuture<?> completedFuture = null; // only used by the receive thread
+		long startTime = 0;
+		long completedLatency = 0; // in microseconds, only used by the receive thread
+		boolean aborted = false;
+
+		PendingResponse(byte sequenceNumber) {
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		synchronized boolean claim(long uid, byte functionID, ResponseFuture<?> future) {
+			if(inUse) {
+				return false;
+			}
+
+			this.uid = uid;
+			this.functionID = functionID;
+			this.inUse = true;
+			this.response = null;
+			this.future = future;
+			this.startTime = System.nanoTime();
+			this.aborted = false;
+
+			return true;
+		}
+
+		// Returns true if the packet completed the request. For async requests
+		// the slot stays claimed until the receive thread releases it, so the
+		// future can be read safely afterwards
+		synchronized boolean complete(long uid, byte functionID, byte[] packet) {
+			// ignore old responses that arrived after the timeout expired and
+			// responses for a different request using the same sequence number
+			if(inUse && response == null && this.uid == uid && this.functionID == functionID) {
+				response = packet;
+				completedFuture = future;
+				completedLatency = (System.nanoTime() - startTime) / 1000;
+				notifyAll();
+
+				return true;
+			}
+
+			return false;
+		}
+
+		// Returns true if the async request was still waiting for its response.
+		// Only returns true once per request, so a timeout and an abort cannot
+		// both release the slot
+		synchronized boolean expire(ResponseFuture<?> future) {
+			if(inUse && response == null && future != null && this.future == future) {
+				this.future = null;
+				return true;
+			}
+
+			return false;
+		}
+
+		// Wakes up a blocking request, its connection was lost
+		synchronized void abort() {
+			if(inUse && response == null && future == null) {
+				aborted = true;
+				notifyAll();
+			}
+		}
+
+		synchronized boolean isAborted() {
+			return aborted;
+		}
+
+		synchronized byte[] await(int timeout) {
+			long deadline = System.currentTimeMillis() + timeout;
+
+			while(response == null && !aborted) {
+				long remaining = deadline - System.currentTimeMillis();
+
+				if(remaining <= 0) {
+					break;
+				}
+
+				try {
+					wait(remaining);
+				} catch(InterruptedException e) {
+					e.printStackTrace();
+				}
+			}
+
+			return response;
+		}
+
+		synchronized void release() {
+			inUse = false;
+			response = null;
+			future = null;
 		}
 	}
 
@@ -461,6 +1703,11 @@ public class IPConnection {
 	 * devices. It is also required for the constructor of Bricks and Bricklets.
 	 */
 	public IPConnection() {
+		for(int i = 1; i <= SEQUENCE_NUMBER_COUNT; i++) {
+			pendingResponses[i] = new PendingResponse((byte)i);
+		}
+
+		disconnectProbeRequest = createRequestPacket((byte)8, DisconnectProbe.FUNCTION_DISCONNECT_PROBE, null).array();
 	}
 
 	/**
@@ -484,50 +1731,333 @@ public class IPConnection {
 
 			this.host = host;
 			this.port = port;
+			this.endpoints = null;
+
+			connectUnlocked(false);
+		}
+	}
+
+	/**
+	 * Creates a TCP/IP connection to one of the given endpoints, e.g. a
+	 * Brick Daemon the stack is attached to by USB and the WIFI/Ethernet
+	 * Extension of the same stack.
+	 *
+	 * Before connecting, the round trip time to each endpoint is measured by
+	 * opening a TCP connection to all of them at the same time, which takes
+	 * the endpoint probe timeout at most. The fastest reachable endpoint is
+	 * used, the others are tried in order of their round trip time,
+	 * unreachable ones last. A single endpoint is not measured. With
+	 * auto-reconnect enabled, a lost connection is reestablished the same
+	 * way, so it fails over to another endpoint if the used one died. The
+	 * devices and their listeners stay the same.
+	 *
+	 * With auto-reconnect enabled, the endpoints are measured again from
+	 * time to time, see setEndpointRankingInterval, and the connection
+	 * moves to an endpoint that became more than twice and at least 1 ms
+	 * faster than the used one.
+	 *
+	 * Requests in flight when the connection is lost are not repeated over
+	 * the new connection, they fail with a NotConnectedException instead,
+	 * as it is unknown whether they reached the device.
+	 */
+	public void connect(List<Endpoint> endpoints) throws java.net.UnknownHostException,
+	                                                     java.io.IOException,
+	                                                     AlreadyConnectedException {
+		if(endpoints == null || endpoints.isEmpty()) {
+			throw new IllegalArgumentException("At least one endpoint is required");
+		}
+
+		List<Endpoint> endpointsTmp = new ArrayList<Endpoint>(endpoints);
+		// measured before locking, a connect or disconnect call must not
+		// wait for the probes
+		List<Endpoint> ranked = rankEndpoints(endpointsTmp);
+
+		synchronized(socketMutex) {
+			if (socket != null) {
+				throw new AlreadyConnectedException("Already connected to " + this.host + ":" + this.port);
+			}
+
+			this.endpoints = endpointsTmp;
+			this.rankedEndpoints = ranked;
 
 			connectUnlocked(false);
 		}
 	}
 
+	/**
+	 * Returns the endpoint the IP Connection is connected to, \c null if
+	 * it is not connected.
+	 */
+	public Endpoint getCurrentEndpoint() {
+		synchronized(socketMutex) {
+			return socket != null ? currentEndpoint : null;
+		}
+	}
+
+	/**
+	 * Sets how long to wait in milliseconds for the Brick Daemon or the
+	 * WIFI/Ethernet Extension to accept the connection. connect throws an
+	 * IOException if it takes longer, so an unreachable host does not block
+	 * connect, disconnect and auto-reconnect for minutes.
+	 *
+	 * Default value is 5000.
+	 */
+	public void setConnectTimeout(int timeout) {
+		if(timeout < 1) {
+			throw new IllegalArgumentException("Connect timeout has to be positive");
+		}
+
+		connectTimeout = timeout;
+	}
+
+	/**
+	 * Returns the connect timeout as set by setConnectTimeout.
+	 */
+	public int getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	/**
+	 * Sets how long to wait in milliseconds for an endpoint to accept a
+	 * connection when measuring its round trip time, see connect(List).
+	 * Endpoints that take longer count as unreachable.
+	 *
+	 * Default value is 1000.
+	 */
+	public void setEndpointProbeTimeout(int timeout) {
+		if(timeout < 1) {
+			throw new IllegalArgumentException("Endpoint probe timeout has to be positive");
+		}
+
+		endpointProbeTimeout = timeout;
+	}
+
+	/**
+	 * Returns the endpoint probe timeout as set by setEndpointProbeTimeout.
+	 */
+	public int getEndpointProbeTimeout() {
+		return endpointProbeTimeout;
+	}
+
+	/**
+	 * Sets the interval in milliseconds at which the endpoints given to
+	 * connect(List) are measured again while connected. If another
+	 * endpoint is more than twice and at least 1 ms faster than the used
+	 * one, the connection is closed and auto-reconnect connects to the
+	 * fastest endpoint. This fails the requests in flight like any other
+	 * lost connection. Without auto-reconnect the endpoints are not
+	 * measured again.
+	 *
+	 * Every measurement opens a TCP connection to each endpoint. 0 turns
+	 * the measuring off. A new interval is used from the next connect on.
+	 *
+	 * Default value is 60000.
+	 */
+	public void setEndpointRankingInterval(int interval) {
+		if(interval < 0) {
+			throw new IllegalArgumentException("Endpoint ranking interval cannot be negative");
+		}
+
+		endpointRankingInterval = interval;
+	}
+
+	/**
+	 * Returns the endpoint ranking interval as set by
+	 * setEndpointRankingInterval.
+	 */
+	public int getEndpointRankingInterval() {
+		return endpointRankingInterval;
+	}
+
 	// NOTE: Assumes that socketMutex is locked
-	void connectUnlocked(boolean isAutoReconnect) throws java.net.UnknownHostException,
-	                                                     java.io.IOException {
-		if(callbackThread == null) {
-			callbackQueue = new LinkedBlockingQueue<CallbackQueueObject>();
-			callbackThread = new CallbackThread(this, callbackQueue);
-			callbackThread.start();
+	private void connectTransport() throws java.net.UnknownHostException,
+	                                       java.io.IOException {
+		if(endpoints == null) {
+			if(selectorTransport) {
+				connectChannel();
+			} else {
+				connectSocket();
+			}
+
+			currentEndpoint = new Endpoint(host, port);
+			return;
+		}
+
+		java.io.IOException failure = null;
+		List<Endpoint> ranked = rankedEndpoints != null ? rankedEndpoints : endpoints;
+
+		rankedEndpoints = null;
+
+		for(Endpoint endpoint: ranked) {
+			host = endpoint.host;
+			port = endpoint.port;
+
+			try {
+				if(selectorTransport) {
+					connectChannel();
+				} else {
+					connectSocket();
+				}
+
+				currentEndpoint = endpoint;
+				return;
+			} catch(java.io.IOException e) {
+				failure = e;
+			}
+		}
+
+		throw failure;
+	}
+
+	// Orders the endpoints by the time it takes to open a TCP connection to
+	// them, which is about one round trip. Unreachable endpoints go last,
+	// they might be back by the time they are tried. A single endpoint is
+	// not probed, there is nothing to choose from
+	// NOTE: Must not be called with socketMutex locked
+	List<Endpoint> rankEndpoints(List<Endpoint> endpoints) {
+		if(endpoints == null || endpoints.size() < 2) {
+			return endpoints;
+		}
+
+		final long[] latencies = probeEndpoints(endpoints, endpointProbeTimeout);
+		Integer[] order = new Integer[latencies.length];
+
+		for(int i = 0; i < order.length; i++) {
+			order[i] = i;
+		}
+
+		// stable, endpoints that are equally fast keep their order
+		Arrays.sort(order, new java.util.Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return Long.valueOf(latencies[a]).compareTo(latencies[b]);
+			}
+		});
+
+		List<Endpoint> ranked = new ArrayList<Endpoint>(order.length);
+
+		for(Integer i: order) {
+			ranked.add(endpoints.get(i));
 		}
 
+		return ranked;
+	}
+
+	// Opens a TCP connection to all endpoints at the same time and returns
+	// the time each one took to accept it in nanoseconds, Long.MAX_VALUE for
+	// the endpoints that did not accept it within the timeout. The probes
+	// are closed right away
+	static long[] probeEndpoints(List<Endpoint> endpoints, int timeout) {
+		long[] latencies = new long[endpoints.size()];
+		long[] starts = new long[latencies.length];
+		SocketChannel[] probes = new SocketChannel[latencies.length];
+		Selector selector = null;
+
+		Arrays.fill(latencies, Long.MAX_VALUE);
+
 		try {
-			socket = new Socket(host, port);
-			socket.setTcpNoDelay(true);
-			in = socket.getInputStream();
-			out = socket.getOutputStream();
-			out.flush();
-		} catch(java.net.UnknownHostException e) {
-			socket = null;
-			in = null;
-			out = null;
-			throw(e);
+			selector = Selector.open();
+
+			long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+			int pending = 0;
+
+			for(int i = 0; i < probes.length; i++) {
+				Endpoint endpoint = endpoints.get(i);
+				InetSocketAddress address = new InetSocketAddress(endpoint.host, endpoint.port);
+
+				if(address.isUnresolved()) {
+					continue;
+				}
+
+				try {
+					probes[i] = SocketChannel.open();
+					probes[i].configureBlocking(false);
+					starts[i] = System.nanoTime();
+
+					if(probes[i].connect(address)) {
+						latencies[i] = System.nanoTime() - starts[i];
+					} else {
+						probes[i].register(selector, SelectionKey.OP_CONNECT, i);
+						++pending;
+					}
+				} catch(java.io.IOException e) {
+					// unreachable
+				}
+			}
+
+			while(pending > 0) {
+				long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+				if(remaining <= 0) {
+					break;
+				}
+
+				selector.select(remaining);
+
+				Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+				while(keys.hasNext()) {
+					SelectionKey key = keys.next();
+					int i = (Integer)key.attachment();
+
+					keys.remove();
+					key.cancel();
+					--pending;
+
+					try {
+						if(probes[i].finishConnect()) {
+							latencies[i] = System.nanoTime() - starts[i];
+						}
+					} catch(java.io.IOException e) {
+						// unreachable
+					}
+				}
+			}
 		} catch(java.io.IOException e) {
-			socket = null;
-			in = null;
-			out = null;
-			throw(e);
+			// no selector, all endpoints count as unreachable
+		} finally {
+			for(SocketChannel probe: probes) {
+				if(probe != null) {
+					try {
+						probe.close();
+					} catch(java.io.IOException e) {
+					}
+				}
+			}
+
+			if(selector != null) {
+				try {
+					selector.close();
+				} catch(java.io.IOException e) {
+				}
+			}
 		}
 
-		++socketID;
+		return latencies;
+	}
+
+	// NOTE: Assumes that socketMutex is locked
+	void connectUnlocked(boolean isAutoReconnect) throws java.net.UnknownHostException,
+	                                                     java.io.IOException {
+		startCallbackThread();
+		connectTransport();
 
-		// create disconnect probe thread
+		++socketID;
 		disconnectProbeFlag = true;
-		disconnectProbeThread = new DisconnectProbeThread(this);
-		disconnectProbeThread.start();
 
 		callbackThread.setPacketDispatchAllowed(true);
 
 		receiveFlag = true;
-		receiveThread = new ReceiveThread(this);
-		receiveThread.start();
+
+		if(selectorTransport) {
+			selectorThread = SelectorThread.next();
+			selectorThread.register(this, channel, socketID);
+		} else {
+			receiveThread = new ReceiveThread(this);
+			receiveThread.start();
+		}
+
+		startDisconnectProbe();
+		startEndpointRanking();
 
 		autoReconnectAllowed = false;
 		autoReconnectPending = false;
@@ -537,11 +2067,77 @@ public class IPConnection {
 			connectReason = CONNECT_REASON_AUTO_RECONNECT;
 		}
 
-		try {
-			callbackQueue.put(new CallbackQueueObject(QUEUE_META, CALLBACK_CONNECTED,
-			                                          connectReason, 0, null));
-		} catch(InterruptedException e) {
-			e.printStackTrace();
+		callbackQueue.put(new CallbackQueueObject(QUEUE_META, CALLBACK_CONNECTED,
+		                                          connectReason, 0, null));
+	}
+
+	// NOTE: Assumes that socketMutex is locked
+	private void startCallbackThread() {
+		if(callbackThread == null) {
+			if(callbackThreadCount > 0) {
+				callbackDispatcher = new CallbackDispatcher(this, callbackThreadCount);
+			}
+
+			callbackQueue = new CallbackQueue(this);
+			callbackThread = new CallbackThread(this, callbackQueue, callbackDispatcher);
+			callbackThread.start();
+		}
+	}
+
+	// Prepares a replay by a PacketReplayer, the packets are handled like
+	// received ones, but there is no socket
+	void startReplay() throws AlreadyConnectedException {
+		synchronized(socketMutex) {
+			if(socket != null || receiveFlag || autoReconnectPending) {
+				throw new AlreadyConnectedException("Already connected to " + host + ":" + port);
+			}
+
+			// a replayed packet must not be taken for the response to a
+			// request of this IP Connection
+			synchronized(sequenceNumberMutex) {
+				if(pendingResponsePermits.availablePermits() < SEQUENCE_NUMBER_COUNT || !queuedRequests.isEmpty()) {
+					throw new IllegalStateException("Cannot replay while responses are pending");
+				}
+			}
+
+			startCallbackThread();
+			callbackThread.setPacketDispatchAllowed(true);
+
+			receiveFlag = true;
+		}
+	}
+
+	// Ends a replay after all replayed callbacks were dispatched
+	void stopReplay() {
+		CallbackThread callbackThreadTmp = null;
+		CallbackDispatcher callbackDispatcherTmp = null;
+		CallbackQueue callbackQueueTmp = null;
+
+		synchronized(socketMutex) {
+			receiveFlag = false;
+
+			callbackThreadTmp = callbackThread;
+			callbackDispatcherTmp = callbackDispatcher;
+			callbackQueueTmp = callbackQueue;
+
+			callbackThread = null;
+			callbackDispatcher = null;
+			callbackQueue = null;
+		}
+
+		if(callbackDispatcherTmp != null) {
+			callbackDispatcherTmp.shutdown();
+		}
+
+		callbackQueueTmp.put(new CallbackQueueObject(QUEUE_EXIT, (byte)0,
+		                                             (short)0, 0, null));
+
+		if(Thread.currentThread() != callbackThreadTmp) {
+			try {
+				callbackThreadTmp.join();
+			} catch(InterruptedException e) {
+				e.printStackTrace();
+			}
 		}
 	}
 
@@ -551,7 +2147,8 @@ public class IPConnection {
 	 */
 	public void disconnect() throws NotConnectedException {
 		CallbackThread callbackThreadTmp = null;
-		LinkedBlockingQueue<CallbackQueueObject> callbackQueueTmp = null;
+		CallbackDispatcher callbackDispatcherTmp = null;
+		CallbackQueue callbackQueueTmp = null;
 
 		synchronized(socketMutex) {
 			autoReconnectAllowed = false;
@@ -567,25 +2164,22 @@ public class IPConnection {
 			}
 
 			callbackThreadTmp = callbackThread;
+			callbackDispatcherTmp = callbackDispatcher;
 			callbackQueueTmp = callbackQueue;
 
 			callbackThread = null;
+			callbackDispatcher = null;
 			callbackQueue = null;
 		}
 
-		try {
-			callbackQueueTmp.put(new CallbackQueueObject(QUEUE_META, CALLBACK_DISCONNECTED,
-			                                             DISCONNECT_REASON_REQUEST, 0, null));
-		} catch(InterruptedException e) {
-			e.printStackTrace();
+		if(callbackDispatcherTmp != null) {
+			callbackDispatcherTmp.shutdown();
 		}
 
-		try {
-			callbackQueueTmp.put(new CallbackQueueObject(QUEUE_EXIT, (byte)0,
-			                                             (short)0, 0, null));
-		} catch(InterruptedException e) {
-			e.printStackTrace();
-		}
+		callbackQueueTmp.put(new CallbackQueueObject(QUEUE_META, CALLBACK_DISCONNECTED,
+		                                             DISCONNECT_REASON_REQUEST, 0, null));
+		callbackQueueTmp.put(new CallbackQueueObject(QUEUE_EXIT, (byte)0,
+		                                             (short)0, 0, null));
 
 		if(Thread.currentThread() != callbackThreadTmp) {
 			try {
@@ -596,14 +2190,123 @@ public class IPConnection {
 		}
 	}
 
-	void disconnectUnlocked() {
-		disconnectProbeThread.shutdown();
+	private void connectSocket() throws java.net.UnknownHostException,
+	                                    java.io.IOException {
+		Socket newSocket = new Socket();
+
 		try {
-			disconnectProbeThread.join();
-		} catch(InterruptedException e) {
-			e.printStackTrace();
+			newSocket.connect(new InetSocketAddress(host, port), connectTimeout);
+			newSocket.setTcpNoDelay(true);
+			in = newSocket.getInputStream();
+			out = newSocket.getOutputStream();
+			out.flush();
+		} catch(java.io.IOException e) {
+			newSocket.close();
+			in = null;
+			out = null;
+			throw(e);
+		}
+
+		socket = newSocket;
+	}
+
+	private void connectChannel() throws java.net.UnknownHostException,
+	                                     java.io.IOException {
+		InetSocketAddress address = new InetSocketAddress(host, port);
+
+		if(address.isUnresolved()) {
+			throw new java.net.UnknownHostException(host);
+		}
+
+		SocketChannel newChannel = SocketChannel.open();
+
+		try {
+			// a blocking channel connects through its socket to honor the timeout
+			newChannel.socket().connect(address, connectTimeout);
+			newChannel.socket().setTcpNoDelay(true);
+			newChannel.configureBlocking(false);
+		} catch(java.io.IOException e) {
+			newChannel.close();
+			throw(e);
+		}
+
+		channel = newChannel;
+		socket = newChannel.socket();
+	}
+
+	// NOTE: Assumes that socketMutex is locked
+	private void startDisconnectProbe() {
+		disconnectProbe = new DisconnectProbe(this, socketID);
+		disconnectProbe.start(disconnectProbeInterval);
+	}
+
+	// NOTE: Assumes that socketMutex is locked
+	private void startEndpointRanking() {
+		List<Endpoint> endpointsTmp = endpoints;
+
+		if(endpointsTmp == null || endpointsTmp.size() < 2 || endpointRankingInterval == 0) {
+			return;
+		}
+
+		endpointRanking = new EndpointRanking(this, socketID, endpointsTmp);
+		endpointRanking.start(endpointRankingInterval);
+	}
+
+	// NOTE: Assumes that socketMutex is locked
+	void stopEndpointRanking() {
+		if(endpointRanking == null) {
+			return;
+		}
+
+		endpointRanking.cancel();
+		endpointRanking = null;
+	}
+
+	// NOTE: Assumes that socketMutex is locked
+	void stopDisconnectProbe() {
+		if(disconnectProbe == null) {
+			return;
+		}
+
+		disconnectProbe.cancel();
+		disconnectProbe = null;
+	}
+
+	// Schedules the next auto-reconnect attempt. The delay doubles with
+	// every failed attempt up to the maximum, and a random part of up to
+	// half of it keeps many connections from reconnecting in lockstep
+	// after a Brick Daemon restart.
+	// NOTE: Only called by the callback thread
+	void scheduleAutoReconnect() {
+		long delay = autoReconnectBackoffMinimum;
+
+		for(int i = 0; i < autoReconnectAttempt && delay < autoReconnectBackoffMaximum; i++) {
+			delay *= 2;
+		}
+
+		delay = Math.min(delay, autoReconnectBackoffMaximum);
+		delay -= (long)(autoReconnectRandom.nextDouble() * delay / 2);
+
+		++autoReconnectAttempt;
+
+		final CallbackQueue queue = callbackQueue;
+
+		if(queue == null) {
+			return;
 		}
 
+		getScheduler().schedule(new Runnable() {
+			public void run() {
+				queue.put(new CallbackQueueObject(QUEUE_RECONNECT, (byte)0, (short)0, 0, null));
+			}
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	void disconnectUnlocked() {
+		stopDisconnectProbe();
+		stopEndpointRanking();
+		abortPendingResponses();
+
 		// stop dispatching packet callbacks before ending the receive
 		// thread to avoid timeout exceptions due to callback functions
 		// trying to call getters
@@ -611,6 +2314,11 @@ public class IPConnection {
 
 		receiveFlag = false;
 
+		if(selectorThread != null) {
+			selectorThread.unregister(channel);
+			selectorThread = null;
+		}
+
 		closeSocket();
 
 		if(receiveThread != null) {
@@ -667,6 +2375,228 @@ public class IPConnection {
 		return autoReconnect;
 	}
 
+	/**
+	 * Sets the delays in milliseconds between auto-reconnect attempts. The
+	 * first attempt is made right away, then the delay starts at \c minimum
+	 * and doubles with every failed attempt up to \c maximum. A random part
+	 * of up to half of the delay is subtracted, so that many connections to
+	 * a restarted Brick Daemon do not reconnect all at once.
+	 *
+	 * Default values are 100 and 5000.
+	 */
+	public void setAutoReconnectBackoff(int minimum, int maximum) {
+		if(minimum < 1 || maximum < minimum) {
+			throw new IllegalArgumentException("Backoff minimum has to be positive and at most maximum");
+		}
+
+		autoReconnectBackoffMinimum = minimum;
+		autoReconnectBackoffMaximum = maximum;
+	}
+
+	/**
+	 * Returns the minimum delay as set by setAutoReconnectBackoff.
+	 */
+	public int getAutoReconnectBackoffMinimum() {
+		return autoReconnectBackoffMinimum;
+	}
+
+	/**
+	 * Returns the maximum delay as set by setAutoReconnectBackoff.
+	 */
+	public int getAutoReconnectBackoffMaximum() {
+		return autoReconnectBackoffMaximum;
+	}
+
+	/**
+	 * Sets the interval in milliseconds in which an idle connection is
+	 * probed. A broken connection is detected by the failing probe, so a
+	 * shorter interval detects a lost connection faster, at the cost of a
+	 * small packet per interval. The probes of all IP Connections run on one
+	 * shared thread.
+	 *
+	 * Default value is 5000.
+	 */
+	public void setDisconnectProbeInterval(int interval) {
+		if(interval < 1) {
+			throw new IllegalArgumentException("Disconnect probe interval has to be positive");
+		}
+
+		synchronized(socketMutex) {
+			disconnectProbeInterval = interval;
+
+			if(disconnectProbe != null) {
+				stopDisconnectProbe();
+				startDisconnectProbe();
+			}
+		}
+	}
+
+	/**
+	 * Returns the disconnect probe interval as set by setDisconnectProbeInterval.
+	 */
+	public int getDisconnectProbeInterval() {
+		return disconnectProbeInterval;
+	}
+
+	/**
+	 * Enables or disables the selector transport. If enabled, the socket is
+	 * served by a small group of selector threads shared by all IP
+	 * Connections instead of a receive thread per connection. The change
+	 * takes effect on the next connect.
+	 *
+	 * Default value is *false*.
+	 */
+	public void setSelectorTransport(boolean selectorTransport) {
+		this.selectorTransport = selectorTransport;
+	}
+
+	/**
+	 * Returns *true* if the selector transport is enabled, *false* otherwise.
+	 */
+	public boolean getSelectorTransport() {
+		return selectorTransport;
+	}
+
+	/**
+	 * Sets a recorder that records every packet received from now on, e.g.
+	 * to replay a session later with a PacketReplayer. Set to \c null to
+	 * stop recording, the recorder has to be closed by the caller.
+	 *
+	 * Default value is \c null.
+	 */
+	public void setPacketRecorder(PacketRecorder packetRecorder) {
+		this.packetRecorder = packetRecorder;
+	}
+
+	/**
+	 * Returns the recorder as set by setPacketRecorder.
+	 */
+	public PacketRecorder getPacketRecorder() {
+		return packetRecorder;
+	}
+
+	/**
+	 * Sets the number of selector threads shared by all IP Connections that
+	 * use the selector transport. Can only be called before the first such
+	 * connection is established.
+	 *
+	 * Default value is 1.
+	 */
+	public static void setSelectorThreadCount(int count) {
+		SelectorThread.setGroupSize(count);
+	}
+
+	/**
+	 * Sets the number of threads that call the callback listeners of the
+	 * devices. The callbacks of a device are always called from the same
+	 * thread and in the order they were received, but callbacks of different
+	 * devices can be called in parallel. This keeps a slow callback listener
+	 * from delaying the callbacks of all other devices. A \c count of 0 calls
+	 * all callback listeners from the single callback thread. Takes effect
+	 * with the next call of connect().
+	 *
+	 * The connected, disconnected and enumerate callbacks are always called
+	 * from the callback thread.
+	 *
+	 * Default value is 0.
+	 */
+	public void setCallbackThreadCount(int count) {
+		if(count < 0) {
+			throw new IllegalArgumentException("Callback thread count cannot be negative");
+		}
+
+		synchronized(socketMutex) {
+			callbackThreadCount = count;
+		}
+	}
+
+	/**
+	 * Returns the number of callback threads as set by setCallbackThreadCount.
+	 */
+	public int getCallbackThreadCount() {
+		return callbackThreadCount;
+	}
+
+	/**
+	 * Limits the number of received device callbacks that can be queued for
+	 * a callback thread. If listeners cannot keep up with the callback
+	 * periods the queue would otherwise grow without limit. The overflow
+	 * policy of a callback decides what happens to it if it arrives while
+	 * the queue is full:
+	 *
+	 * - CALLBACK_OVERFLOW_POLICY_BLOCK: the receiver waits for room in the
+	 *   queue. This also delays responses to getters and, with the selector
+	 *   transport, all connections that share the selector thread.
+	 * - CALLBACK_OVERFLOW_POLICY_DROP_OLDEST: the oldest queued device
+	 *   callback is dropped.
+	 * - CALLBACK_OVERFLOW_POLICY_DROP_NEWEST: the arriving callback is dropped.
+	 * - CALLBACK_OVERFLOW_POLICY_CONFLATE: the arriving callback overwrites the
+	 *   newest queued callback with the same function ID of the same device.
+	 *   If there is none, the oldest queued device callback is dropped.
+	 *
+	 * The policy is set per connection with setCallbackOverflowPolicy and
+	 * can be overridden per callback with Device.setCallbackOverflowPolicy.
+	 * A \c capacity of 0 disables the limit.
+	 *
+	 * Default capacity is 0.
+	 */
+	public void setCallbackQueueCapacity(int capacity) {
+		if(capacity < 0) {
+			throw new IllegalArgumentException("Callback queue capacity cannot be negative");
+		}
+
+		callbackQueueCapacity = capacity;
+	}
+
+	/**
+	 * Returns the callback queue capacity as set by setCallbackQueueCapacity.
+	 */
+	public int getCallbackQueueCapacity() {
+		return callbackQueueCapacity;
+	}
+
+	/**
+	 * Sets the overflow policy for all callbacks of this connection that do
+	 * not have their own policy, see setCallbackQueueCapacity.
+	 *
+	 * Default policy is CALLBACK_OVERFLOW_POLICY_DROP_OLDEST.
+	 */
+	public void setCallbackOverflowPolicy(byte policy) {
+		checkCallbackOverflowPolicy(policy);
+
+		callbackOverflowPolicy = policy;
+	}
+
+	/**
+	 * Returns the overflow policy as set by setCallbackOverflowPolicy.
+	 */
+	public byte getCallbackOverflowPolicy() {
+		return callbackOverflowPolicy;
+	}
+
+	/**
+	 * Returns the number of device callbacks dropped because the callback
+	 * queue was full.
+	 */
+	public long getDroppedCallbackCount() {
+		return droppedCallbacks.get();
+	}
+
+	/**
+	 * Returns the number of device callbacks that overwrote a queued
+	 * callback, because the callback queue was full or because conflation
+	 * is enabled for the callback, see Device.setCallbackConflation.
+	 */
+	public long getConflatedCallbackCount() {
+		return conflatedCallbacks.get();
+	}
+
+	static void checkCallbackOverflowPolicy(byte policy) {
+		if(policy < CALLBACK_OVERFLOW_POLICY_BLOCK || policy > CALLBACK_OVERFLOW_POLICY_CONFLATE) {
+			throw new IllegalArgumentException("Invalid callback overflow policy " + policy);
+		}
+	}
+
 	/**
 	 * Sets the timeout in milliseconds for getters and for setters for which the
 	 * response expected flag is activated.
@@ -688,6 +2618,98 @@ public class IPConnection {
 		return responseTimeout;
 	}
 
+	/**
+	 * Enables or disables adaptive timeouts. If enabled, the timeout for a
+	 * request is derived from the response latencies observed on this
+	 * connection for its function ID: four times the 99th percentile, but at
+	 * least 50ms and at most the timeout set by setTimeout. Until enough
+	 * responses were observed for a function ID, the timeout set by
+	 * setTimeout is used. A timed out request counts with its timeout as
+	 * latency, so the timeout grows quickly if the connection gets slower.
+	 *
+	 * This detects failures within tens of milliseconds on fast connections
+	 * such as USB, without false timeouts on slow WIFI connections.
+	 *
+	 * Default is disabled.
+	 */
+	public void setAdaptiveTimeout(boolean adaptiveTimeout) {
+		this.adaptiveTimeout = adaptiveTimeout;
+	}
+
+	/**
+	 * Returns *true* if adaptive timeouts are enabled, *false* otherwise.
+	 */
+	public boolean getAdaptiveTimeout() {
+		return adaptiveTimeout;
+	}
+
+	/**
+	 * Returns the response latency in microseconds below which the given
+	 * \c percentile (e.g. 50 or 99) of the recent requests with the function
+	 * ID \c functionId got their response, or -1 if there was no such request
+	 * yet. The latency is measured from sending the request to receiving
+	 * its response, the result is accurate to 25%.
+	 */
+	public long getResponseLatency(byte functionId, double percentile) {
+		if(percentile <= 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile has to be greater than 0 and at most 100");
+		}
+
+		LatencyHistogram histogram = latencyHistograms.get(unsignedByte(functionId));
+
+		if(histogram == null) {
+			return -1;
+		}
+
+		return histogram.percentile(percentile);
+	}
+
+	/**
+	 * Enables or disables write batching. If enabled, requests are not
+	 * written to the socket immediately but collected for up to \c window
+	 * microseconds or until \c size bytes are pending, and then written
+	 * with a single socket write. This reduces the packet rate for bursts
+	 * of setter calls, e.g. to a WIFI/Ethernet Extension. Call flush() to
+	 * write the collected requests immediately. A \c window of 0 disables
+	 * write batching.
+	 *
+	 * A request held back by write batching counts as sent. If the
+	 * connection is lost before it is written, the request is lost without
+	 * an error for its caller. Use getters or response expected setters if
+	 * that is not acceptable, their missing responses are reported.
+	 *
+	 * Default is disabled.
+	 */
+	public void setWriteBatching(int window, int size) {
+		if(window < 0) {
+			throw new IllegalArgumentException("Write batching window cannot be negative");
+		}
+
+		if(size < 1 || size > WRITE_BUFFER_SIZE) {
+			throw new IllegalArgumentException("Write batching size has to be between 1 and " + WRITE_BUFFER_SIZE);
+		}
+
+		synchronized(socketSendMutex) {
+			writeBatchingWindow = window;
+			writeBatchingSize = size;
+		}
+	}
+
+	/**
+	 * Returns the write batching window in microseconds as set by
+	 * setWriteBatching, 0 if write batching is disabled.
+	 */
+	public int getWriteBatchingWindow() {
+		return writeBatchingWindow;
+	}
+
+	/**
+	 * Returns the write batching size in bytes as set by setWriteBatching.
+	 */
+	public int getWriteBatchingSize() {
+		return writeBatchingSize;
+	}
+
 	/**
 	 * Broadcasts an enumerate request. All devices will respond with an enumerate
 	 * callback.
@@ -698,6 +2720,20 @@ public class IPConnection {
 		sendRequest(request.array());
 	}
 
+	/**
+	 * Detaches a device from the IP Connection. The IP Connection keeps
+	 * every device it was created for, so its callbacks are delivered even
+	 * if the user does not reference it anymore. A device that is not used
+	 * anymore, e.g. because it was unplugged, has to be removed to be freed.
+	 * It does not receive callbacks or responses afterwards.
+	 *
+	 * Returns *true* if the device was removed, *false* if it was removed
+	 * already or replaced by another device with the same UID.
+	 */
+	public boolean removeDevice(Device device) {
+		return devices.remove(device.uid, device);
+	}
+
 	/**
 	 * Adds a Enumerate listener.
 	 */
@@ -779,6 +2815,8 @@ public class IPConnection {
 		}
 	}
 
+	// NOTE: Takes ownership of the packet, it is either handed on or returned
+	//       to the packet pool
 	void handleResponse(byte[] packet) {
 		byte functionID = getFunctionIDFromData(packet);
 		short sequenceNumber = unsignedByte(getSequenceNumberFromData(packet));
@@ -792,53 +2830,75 @@ public class IPConnection {
 
 		long uid = getUIDFromData(packet);
 
-		if(!devices.containsKey(uid)) {
-			// Message for an unknown device, ignoring it
-			return;
-		}
+		if(sequenceNumber != 0) {
+			PendingResponse pendingResponse = pendingResponses[sequenceNumber];
 
-		Device device = devices.get(uid);
+			if(!pendingResponse.complete(uid, functionID, packet)) {
+				// Response seems to be OK, but can't be handled
+				packetPool.release(packet);
+				return;
+			}
 
-		if(sequenceNumber == 0) {
-			if(device.callbacks[functionID] != null) {
-				try {
-					callbackQueue.put(new CallbackQueueObject(QUEUE_PACKET, (byte)0,
-					                                          (short)0, 0, packet));
-				} catch(InterruptedException e) {
-					e.printStackTrace();
+			getLatencyHistogram(functionID).record(pendingResponse.completedLatency);
+
+			ResponseFuture<?> future = pendingResponse.completedFuture;
+
+			// otherwise the packet is owned by the blocking request now
+			if(future != null) {
+				pendingResponse.completedFuture = null;
+				releasePendingResponse(pendingResponse);
+
+				if(future.complete(packet)) {
+					notifyResponseListeners(future);
 				}
+
+				packetPool.release(packet);
 			}
 
 			return;
 		}
 
-		if(functionID == device.expectedResponseFunctionID &&
-		   sequenceNumber == device.expectedResponseSequenceNumber) {
+		Device device = devices.get(uid);
+
+		if(device == null) {
+			// Message for an unknown device, ignoring it
+			packetPool.release(packet);
+			return;
+		}
+
+		if(device.callbacks[functionID] != null) {
+			CallbackQueueObject cqo = new CallbackQueueObject(device, packet);
+
+			device.callbackQueueDepth.incrementAndGet();
+
 			try {
-				device.responseQueue.put(packet);
+				if(callbackDispatcher != null) {
+					callbackDispatcher.put(cqo);
+				} else {
+					callbackQueue.putPacket(cqo);
+				}
 			} catch(InterruptedException e) {
+				device.callbackQueueDepth.decrementAndGet();
+				packetPool.release(packet);
 				e.printStackTrace();
 			}
-			return;
+		} else {
+			packetPool.release(packet);
 		}
-
-		// Response seems to be OK, but can't be handled
 	}
 
 	// NOTE: Assumes that socketMutex is locked, if disconnectImmediately is true
 	void handleDisconnectByPeer(short disconnectReason, long socketID, boolean disconnectImmediately) {
 		autoReconnectAllowed = true;
 
+		abortPendingResponses();
+
 		if(disconnectImmediately) {
 			disconnectUnlocked();
 		}
 
-		try {
-			callbackQueue.put(new CallbackQueueObject(QUEUE_META, CALLBACK_DISCONNECTED,
-			                                          disconnectReason, socketID, null));
-		} catch(InterruptedException e) {
-			e.printStackTrace();
-		}
+		callbackQueue.put(new CallbackQueueObject(QUEUE_META, CALLBACK_DISCONNECTED,
+		                                          disconnectReason, socketID, null));
 	}
 
 	// NOTE: Assumes that socketMutex is locked
@@ -857,9 +2917,15 @@ public class IPConnection {
 			} catch(java.io.IOException e) {
 				e.printStackTrace();
 			}
-		}
-
-		if(socket != null) {
+		}
+
+		if(channel != null) {
+			try {
+				channel.close();
+			} catch(java.io.IOException e) {
+				e.printStackTrace();
+			}
+		} else if(socket != null) {
 			try {
 				socket.close();
 			} catch(java.io.IOException e) {
@@ -870,6 +2936,17 @@ public class IPConnection {
 		in = null;
 		out = null;
 		socket = null;
+		channel = null;
+
+		synchronized(socketSendMutex) {
+			// don't send requests queued for this socket to the next one,
+			// their callers learn that they were not sent
+			if(writeLength > 0) {
+				writeLength = 0;
+				completeWrite(writeResult, new java.net.SocketException("Socket is closed"));
+				writeResult = new WriteResult();
+			}
+		}
 	}
 
 	static long getUIDFromData(byte[] data) {
@@ -932,36 +3009,284 @@ public class IPConnection {
 		return (long)(((long)data) & 0xFFFFFFFF);
 	}
 
+	// NOTE: Takes ownership of the request, it is returned to the request
+	//       packet pool after it was written
 	void sendRequest(byte[] request) throws NotConnectedException {
-		synchronized(socketMutex) {
-			if (getConnectionState() != CONNECTION_STATE_CONNECTED) {
-				throw new NotConnectedException();
+		long currentSocketID;
+
+		try {
+			synchronized(socketMutex) {
+				if (getConnectionState() != CONNECTION_STATE_CONNECTED) {
+					throw new NotConnectedException();
+				}
+
+				currentSocketID = socketID;
+				disconnectProbeFlag = false;
 			}
 
+			// the socket mutex is not held while writing, so concurrent
+			// requests can be coalesced into one socket write
 			try {
-				synchronized(socketSendMutex) {
-					out.write(request);
+				write(request);
+			} catch(java.io.IOException e) {
+				synchronized(socketMutex) {
+					// don't disconnect if it got disconnected or reconnected
+					// in the meantime
+					if(socket != null && socketID == currentSocketID) {
+						handleDisconnectByPeer(DISCONNECT_REASON_ERROR, 0, true);
+					}
 				}
-			} catch(java.net.SocketException e) {
-				handleDisconnectByPeer(DISCONNECT_REASON_ERROR, 0, true);
+
 				throw new NotConnectedException(e);
 			} catch(Exception e) {
 				e.printStackTrace();
 			}
+		} finally {
+			requestPacketPool.release(request);
+		}
+	}
+
+	// Appends the data to the write buffer and writes it. If another thread
+	// is writing already, that thread writes the data along with its own and
+	// this thread waits for the outcome of that write. With write batching
+	// enabled the write is deferred until the batching window expired or the
+	// batching size is reached, without waiting for it.
+	void write(byte[] data) throws java.io.IOException {
+		while(true) {
+			boolean flushFirst = false;
+
+			synchronized(socketSendMutex) {
+				while(writing && writeLength + data.length > writeBuffer.length) {
+					try {
+						socketSendMutex.wait();
+					} catch(InterruptedException e) {
+						e.printStackTrace();
+					}
+				}
+
+				if(writeLength + data.length > writeBuffer.length) {
+					// buffer is full of batched requests, write them first
+					flushFirst = true;
+				} else {
+					System.arraycopy(data, 0, writeBuffer, writeLength, data.length);
+					writeLength += data.length;
+
+					if(writing) {
+						awaitWrite(writeResult);
+						return;
+					}
+
+					if(writeBatchingWindow > 0 && writeLength < writeBatchingSize) {
+						scheduleBatchFlush();
+						return;
+					}
+				}
+
+				writing = true;
+			}
 
-			disconnectProbeFlag = false;
+			flushWriteBuffer();
+
+			if(!flushFirst) {
+				return;
+			}
 		}
 	}
 
-	private void handleEnumerate(byte[] packet) {
-		if(!listenerEnumerate.isEmpty()) {
+	// NOTE: Assumes that socketSendMutex is locked
+	private void awaitWrite(WriteResult result) throws java.io.IOException {
+		while(!result.done) {
 			try {
-				callbackQueue.put(new CallbackQueueObject(QUEUE_PACKET, (byte)0,
-				                                          (short)0, 0, packet));
-			} catch (InterruptedException e) {
+				socketSendMutex.wait();
+			} catch(InterruptedException e) {
 				e.printStackTrace();
 			}
 		}
+
+		if(result.error != null) {
+			throw result.error;
+		}
+	}
+
+	// NOTE: Assumes that socketSendMutex is locked
+	private void completeWrite(WriteResult result, java.io.IOException error) {
+		result.done = true;
+		result.error = error;
+
+		socketSendMutex.notifyAll();
+	}
+
+	// NOTE: Assumes that socketSendMutex is locked
+	private void scheduleBatchFlush() {
+		if(batchFlushScheduled) {
+			return;
+		}
+
+		batchFlushScheduled = true;
+
+		final Runnable batchFlush = new Runnable() {
+			public void run() {
+				synchronized(socketSendMutex) {
+					batchFlushScheduled = false;
+				}
+
+				try {
+					flush();
+				} catch(NotConnectedException e) {
+					// the requests are lost together with the connection
+				}
+			}
+		};
+
+		getScheduler().schedule(new Runnable() {
+			public void run() {
+				executeWrite(batchFlush);
+			}
+		}, writeBatchingWindow, TimeUnit.MICROSECONDS);
+	}
+
+	/**
+	 * Writes all requests that are held back by write batching to the
+	 * socket immediately. Does nothing if write batching is disabled.
+	 */
+	public void flush() throws NotConnectedException {
+		long currentSocketID;
+
+		synchronized(socketMutex) {
+			currentSocketID = socketID;
+		}
+
+		synchronized(socketSendMutex) {
+			if(writing || writeLength == 0) {
+				// nothing to do or the writing thread takes care of it
+				return;
+			}
+
+			writing = true;
+		}
+
+		try {
+			flushWriteBuffer();
+		} catch(java.io.IOException e) {
+			synchronized(socketMutex) {
+				if(socket != null && socketID == currentSocketID) {
+					handleDisconnectByPeer(DISCONNECT_REASON_ERROR, 0, true);
+				}
+			}
+
+			throw new NotConnectedException(e);
+		}
+	}
+
+	// NOTE: Assumes that writing was set by the caller
+	private void flushWriteBuffer() throws java.io.IOException {
+		java.io.IOException error = null;
+		boolean done = false;
+
+		try {
+			while(true) {
+				byte[] buffer;
+				int length;
+				WriteResult result;
+				OutputStream currentOut;
+				SocketChannel currentChannel;
+
+				synchronized(socketSendMutex) {
+					if(writeLength == 0) {
+						writing = false;
+						done = true;
+						break;
+					}
+
+					buffer = writeBuffer;
+					writeBuffer = flushBuffer;
+					flushBuffer = buffer;
+					length = writeLength;
+					writeLength = 0;
+					result = writeResult;
+					writeResult = new WriteResult();
+					currentOut = out;
+					currentChannel = channel;
+
+					socketSendMutex.notifyAll();
+				}
+
+				java.io.IOException writeError = null;
+
+				try {
+					writeUnlocked(buffer, length, currentOut, currentChannel);
+				} catch(java.io.IOException e) {
+					writeError = e;
+
+					if(error == null) {
+						error = e;
+					}
+				} finally {
+					synchronized(socketSendMutex) {
+						completeWrite(result, writeError);
+					}
+				}
+			}
+		} finally {
+			if(!done) {
+				synchronized(socketSendMutex) {
+					writing = false;
+					socketSendMutex.notifyAll();
+				}
+			}
+		}
+
+		if(error != null) {
+			throw error;
+		}
+	}
+
+	private void writeUnlocked(byte[] data, int length, OutputStream out,
+	                           SocketChannel channel) throws java.io.IOException {
+		if(channel != null) {
+			ByteBuffer buffer = ByteBuffer.wrap(data, 0, length);
+			Selector writeSelector = null;
+
+			try {
+				while(buffer.hasRemaining()) {
+					if(channel.write(buffer) == 0) {
+						// send buffer is full and the channel is non-blocking,
+						// wait until it is writable again. The wait is bounded,
+						// so a closed channel is noticed by the next write
+						if(writeSelector == null) {
+							writeSelector = Selector.open();
+							channel.register(writeSelector, SelectionKey.OP_WRITE);
+						}
+
+						writeSelector.select(100);
+						writeSelector.selectedKeys().clear();
+					}
+				}
+			} finally {
+				if(writeSelector != null) {
+					writeSelector.close();
+				}
+			}
+		} else if(out != null) {
+			out.write(data, 0, length);
+		} else {
+			throw new java.net.SocketException("Socket is closed");
+		}
+	}
+
+	private void handleEnumerate(byte[] packet) {
+		Device device = devices.get(getUIDFromData(packet));
+
+		if(device != null) {
+			device.updateIdentity(packet);
+		}
+
+		if(!listenerEnumerate.isEmpty()) {
+			callbackQueue.put(new CallbackQueueObject(QUEUE_PACKET, (byte)0,
+			                                          (short)0, 0, packet));
+		} else {
+			packetPool.release(packet);
+		}
 	}
 
 	byte getNextSequenceNumber() {
@@ -972,6 +3297,305 @@ public class IPConnection {
 		}
 	}
 
+	// Reserves a free sequence number for a request that expects a response
+	// and patches it into the request. Blocks if all sequence numbers are in
+	// flight already. The returned slot has to be released after use.
+	PendingResponse acquirePendingResponse(long uid, byte[] request) throws TimeoutException {
+		byte functionID = getFunctionIDFromData(request);
+		boolean acquired = false;
+
+		try {
+			acquired = pendingResponsePermits.tryAcquire(responseTimeout, TimeUnit.MILLISECONDS);
+		} catch(InterruptedException e) {
+			e.printStackTrace();
+		}
+
+		if(!acquired) {
+			throw new TimeoutException("Did not get a free sequence number in time for function ID " + functionID);
+		}
+
+		return claimPendingResponse(uid, request, null);
+	}
+
+	LatencyHistogram getLatencyHistogram(byte functionID) {
+		int index = unsignedByte(functionID);
+		LatencyHistogram histogram = latencyHistograms.get(index);
+
+		if(histogram == null) {
+			// another thread might create it at the same time, its
+			// histogram wins then
+			latencyHistograms.compareAndSet(index, null, new LatencyHistogram());
+			histogram = latencyHistograms.get(index);
+		}
+
+		return histogram;
+	}
+
+	// Returns the timeout in milliseconds for a request with the given function ID
+	int getResponseTimeout(byte functionID) {
+		if(!adaptiveTimeout) {
+			return responseTimeout;
+		}
+
+		int timeout = getLatencyHistogram(functionID).getAdaptiveTimeout();
+
+		if(timeout == 0 || timeout > responseTimeout) {
+			return responseTimeout;
+		}
+
+		return timeout;
+	}
+
+	// A timed out request counts with its timeout as latency, this raises
+	// the adaptive timeout quickly if the connection got slower
+	void recordResponseTimeout(byte functionID, int timeout) {
+		getLatencyHistogram(functionID).record((long)timeout * 1000);
+	}
+
+	// NOTE: Assumes that a permit of pendingResponsePermits is held
+	private PendingResponse claimPendingResponse(long uid, byte[] request, ResponseFuture<?> future) {
+		byte functionID = getFunctionIDFromData(request);
+
+		synchronized(sequenceNumberMutex) {
+			for(int i = 0; i < SEQUENCE_NUMBER_COUNT; i++) {
+				int sequenceNumber = nextSequenceNumber + 1;
+				nextSequenceNumber = sequenceNumber % SEQUENCE_NUMBER_COUNT;
+
+				PendingResponse pendingResponse = pendingResponses[sequenceNumber];
+
+				if(pendingResponse.claim(uid, functionID, future)) {
+					request[6] = (byte)((request[6] & 0x0F) | (sequenceNumber << SEQUENCE_NUMBER_POS));
+					return pendingResponse;
+				}
+			}
+		}
+
+		// cannot happen, the semaphore guarantees a free slot
+		pendingResponsePermits.release();
+		throw new IllegalStateException("No free sequence number available");
+	}
+
+	// Hands the permit of a released slot directly to the next queued async
+	// request, if there is one
+	void releasePendingResponse(PendingResponse pendingResponse) {
+		QueuedRequest next = null;
+
+		synchronized(sequenceNumberMutex) {
+			pendingResponse.release();
+
+			next = queuedRequests.poll();
+
+			if(next == null) {
+				pendingResponsePermits.release();
+			}
+		}
+
+		if(next != null) {
+			final QueuedRequest queuedRequest = next;
+
+			// not allowed to send from the receive thread, see dispatchMeta
+			executeWrite(new Runnable() {
+				public void run() {
+					startRequestAsync(queuedRequest.uid, queuedRequest.request, queuedRequest.future);
+				}
+			});
+		}
+	}
+
+	void sendRequestAsync(long uid, byte[] request, ResponseFuture<?> future) {
+		future.ipcon = this;
+
+		if(!getResponseExpectedFromData(request)) {
+			try {
+				sendRequest(request);
+				future.complete(null);
+			} catch(NotConnectedException e) {
+				future.fail(e);
+			}
+
+			return;
+		}
+
+		synchronized(sequenceNumberMutex) {
+			if(!pendingResponsePermits.tryAcquire()) {
+				final QueuedRequest queuedRequest = new QueuedRequest(uid, request, future);
+				final byte functionID = getFunctionIDFromData(request);
+
+				queuedRequests.add(queuedRequest);
+
+				// like a blocking request, a queued request waits for a free
+				// sequence number for at most the timeout of the connection
+				getScheduler().schedule(new Runnable() {
+					public void run() {
+						boolean queued;
+
+						synchronized(sequenceNumberMutex) {
+							queued = queuedRequests.remove(queuedRequest);
+						}
+
+						if(queued && queuedRequest.future.fail(new TimeoutException("Did not get a free sequence number in time for function ID " + functionID))) {
+							notifyResponseListeners(queuedRequest.future);
+						}
+					}
+				}, responseTimeout, TimeUnit.MILLISECONDS);
+
+				return;
+			}
+		}
+
+		startRequestAsync(uid, request, future);
+	}
+
+	// NOTE: Assumes that a permit of pendingResponsePermits is held
+	private void startRequestAsync(long uid, byte[] request, final ResponseFuture<?> future) {
+		final PendingResponse pendingResponse = claimPendingResponse(uid, request, future);
+		final byte functionID = getFunctionIDFromData(request);
+		final int timeout = getResponseTimeout(functionID);
+
+		getScheduler().schedule(new Runnable() {
+			public void run() {
+				if(pendingResponse.expire(future)) {
+					releasePendingResponse(pendingResponse);
+					recordResponseTimeout(functionID, timeout);
+
+					if(future.fail(new TimeoutException("Did not receive response in time for function ID " + functionID))) {
+						notifyResponseListeners(future);
+					}
+				}
+			}
+		}, timeout, TimeUnit.MILLISECONDS);
+
+		try {
+			sendRequest(request);
+		} catch(NotConnectedException e) {
+			if(pendingResponse.expire(future)) {
+				releasePendingResponse(pendingResponse);
+
+				if(future.fail(e)) {
+					notifyResponseListeners(future);
+				}
+			}
+		}
+	}
+
+	// Called by ResponseFuture.cancel after the future was completed as
+	// cancelled. Frees the sequence number of the request right away, or
+	// drops the request if it still waits for one
+	void cancelRequest(ResponseFuture<?> future) {
+		boolean queued = false;
+
+		synchronized(sequenceNumberMutex) {
+			Iterator<QueuedRequest> iterator = queuedRequests.iterator();
+
+			while(iterator.hasNext()) {
+				if(iterator.next().future == future) {
+					iterator.remove();
+					queued = true;
+					break;
+				}
+			}
+		}
+
+		if(!queued) {
+			for(int i = 1; i <= SEQUENCE_NUMBER_COUNT; i++) {
+				PendingResponse pendingResponse = pendingResponses[i];
+
+				if(pendingResponse.expire(future)) {
+					releasePendingResponse(pendingResponse);
+					break;
+				}
+			}
+		}
+
+		notifyResponseListeners(future);
+	}
+
+	// Fails all requests in flight, their responses cannot arrive anymore.
+	// Queued async requests are not affected, they are sent once a slot is
+	// free and fail then if there is no connection
+	void abortPendingResponses() {
+		for(int i = 1; i <= SEQUENCE_NUMBER_COUNT; i++) {
+			PendingResponse pendingResponse = pendingResponses[i];
+			ResponseFuture<?> future;
+
+			// the slot must not be claimed by an async request between
+			// reading its future and aborting it
+			synchronized(pendingResponse) {
+				future = pendingResponse.future;
+
+				if(future == null) {
+					pendingResponse.abort();
+					continue;
+				}
+			}
+
+			if(pendingResponse.expire(future)) {
+				releasePendingResponse(pendingResponse);
+
+				if(future.fail(new NotConnectedException())) {
+					notifyResponseListeners(future);
+				}
+			}
+		}
+	}
+
+	private void notifyResponseListeners(ResponseFuture<?> future) {
+		CallbackQueue queue = callbackQueue;
+
+		if(queue == null) {
+			future.notifyListeners();
+			return;
+		}
+
+		queue.put(new CallbackQueueObject(QUEUE_RESPONSE, (byte)0, (short)0, 0, null, future));
+	}
+
+	// Tasks that write to the socket must not run on the shared scheduler,
+	// they are handed to the writer of this connection
+	void executeWrite(Runnable task) {
+		writer.execute(task);
+	}
+
+	// Shared by all connections, measures the endpoints for the endpoint
+	// ranking and runs the writes of the connections. A thread blocked by a
+	// full send buffer holds up its connection only. Its threads end when
+	// they are idle
+	static synchronized ThreadPoolExecutor getWorker() {
+		if(worker == null) {
+			worker = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 1, TimeUnit.SECONDS,
+			                                new java.util.concurrent.SynchronousQueue<Runnable>(),
+			                                new ThreadFactory() {
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "Brickd-Worker");
+
+					thread.setDaemon(true);
+
+					return thread;
+				}
+			});
+		}
+
+		return worker;
+	}
+
+	// Shared by all connections, runs response timeouts of async requests and
+	// the deferred writes of write batching
+	static synchronized ScheduledExecutorService getScheduler() {
+		if(scheduler == null) {
+			scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "Brickd-Scheduler");
+
+					thread.setDaemon(true);
+
+					return thread;
+				}
+			});
+		}
+
+		return scheduler;
+	}
+
 	ByteBuffer createRequestPacket(byte length, byte functionID, Device device) {
 		int uid = BROADCAST_UID;
 		byte options = 0;
@@ -987,9 +3611,8 @@ public class IPConnection {
 
 		options |= getNextSequenceNumber() << SEQUENCE_NUMBER_POS;
 
-		ByteBuffer packet = ByteBuffer.allocate(length);
+		ByteBuffer packet = requestPacketPool.acquire(unsignedByte(length));
 
-		packet.order(ByteOrder.LITTLE_ENDIAN);
 		packet.putInt(uid);
 		packet.put(length);
 		packet.put(functionID);
@@ -1000,33 +3623,10 @@ public class IPConnection {
 	}
 
 	static String base58Encode(long value) {
-		String encoded = "";
-
-		while(value >= 58) {
-			long div = value / 58;
-			int mod = (int)(value % 58);
-			encoded = BASE58.charAt(mod) + encoded;
-			value = div;
-		}
-
-		return BASE58.charAt((int)value) + encoded;
+		return Base58.encode(value);
 	}
 
 	static long base58Decode(String encoded) {
-		long value = 0;
-		long columnMultiplier = 1;
-
-		for(int i = encoded.length() - 1; i >= 0; i--) {
-			int column = BASE58.indexOf(encoded.charAt(i));
-
-			if(column < 0) {
-				throw new IllegalArgumentException("Invalid Base58 value: " + encoded);
-			}
-
-			value += column * columnMultiplier;
-			columnMultiplier *= 58;
-		}
-
-		return value;
+		return Base58.decode(encoded);
 	}
 }
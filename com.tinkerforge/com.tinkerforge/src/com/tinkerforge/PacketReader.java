@@ -0,0 +1,134 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+/**
+ * Reads the little endian payload of a packet directly from its byte array.
+ * Used instead of a ByteBuffer to decode callbacks and responses without
+ * allocating: each thread reuses its own reader, see wrap.
+ */
+class PacketReader {
+	private final static ThreadLocal<PacketReader> readers = new ThreadLocal<PacketReader>() {
+		@Override
+		protected PacketReader initialValue() {
+			return new PacketReader();
+		}
+	};
+
+	private byte[] data = null;
+	private int position = 0;
+
+	/**
+	 * Returns the reader of the calling thread, positioned at the start of
+	 * the payload of \c data. The reader is only valid until the next call
+	 * of wrap from the same thread.
+	 */
+	static PacketReader wrap(byte[] data) {
+		PacketReader reader = readers.get();
+
+		reader.data = data;
+		reader.position = 8;
+
+		return reader;
+	}
+
+	byte get() {
+		return data[position++];
+	}
+
+	short getShort() {
+		short value = getShort(data, position);
+
+		position += 2;
+
+		return value;
+	}
+
+	int getInt() {
+		int value = getInt(data, position);
+
+		position += 4;
+
+		return value;
+	}
+
+	long getLong() {
+		long value = getLong(data, position);
+
+		position += 8;
+
+		return value;
+	}
+
+	float getFloat() {
+		return Float.intBitsToFloat(getInt());
+	}
+
+	/**
+	 * Reads an 8 character uid string. The same uid is always decoded to
+	 * the same String object.
+	 */
+	String uid() {
+		String value = Base58.uid(data, position);
+
+		position += 8;
+
+		return value;
+	}
+
+	/**
+	 * Reads a string of \c length bytes, it ends at the first zero byte.
+	 */
+	String string(int length) {
+		StringBuilder builder = new StringBuilder(length);
+		int end = position + length;
+
+		while(position < end) {
+			char c = (char)data[position++];
+
+			if(c == 0) {
+				break;
+			}
+
+			builder.append(c);
+		}
+
+		position = end;
+
+		return builder.toString();
+	}
+
+	/**
+	 * Reads a version (major, minor, revision). The array is handed to user
+	 * code, which may modify it, so it is a new one on every call.
+	 */
+	short[] version() {
+		short[] value = new short[3];
+
+		for(int i = 0; i < 3; i++) {
+			value[i] = (short)(data[position++] & 0xFF);
+		}
+
+		return value;
+	}
+
+	static short getShort(byte[] data, int offset) {
+		return (short)((data[offset] & 0xFF) | ((data[offset + 1] & 0xFF) << 8));
+	}
+
+	static int getInt(byte[] data, int offset) {
+		return  (data[offset]     & 0xFF)        | ((data[offset + 1] & 0xFF) << 8) |
+		       ((data[offset + 2] & 0xFF) << 16) | ((data[offset + 3] & 0xFF) << 24);
+	}
+
+	static long getLong(byte[] data, int offset) {
+		return (getInt(data, offset) & 0xFFFFFFFFL) | ((long)getInt(data, offset + 4) << 32);
+	}
+
+	static float getFloat(byte[] data, int offset) {
+		return Float.intBitsToFloat(getInt(data, offset));
+	}
+}
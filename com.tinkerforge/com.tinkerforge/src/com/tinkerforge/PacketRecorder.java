@@ -0,0 +1,122 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Records every packet an IP Connection receives into a packet log, see
+ * IPConnection.setPacketRecorder. A PacketReplayer feeds the log back into
+ * an IP Connection later.
+ *
+ * The log starts with an 8 byte magic and the length of the log (8 bytes,
+ * big endian, written by close), followed by one record per packet: the
+ * receive time in nanoseconds since the recording started (8 bytes, big
+ * endian) and the packet as received. The log is written through a memory
+ * mapped window of the file, so recording does not cost a system call per
+ * packet. The file is not cut to the length of the log, a mapped file
+ * cannot be truncated on every platform.
+ */
+public class PacketRecorder {
+	final static byte[] MAGIC = {'T', 'F', 'P', 'K', 'T', 'L', 'O', 'G'};
+	final static int HEADER_LENGTH = MAGIC.length + 8;
+	private final static int WINDOW_SIZE = 4 * 1024 * 1024;
+
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private MappedByteBuffer window = null;
+	private long windowStart = 0;
+	private final long startTime;
+	private long packetCount = 0;
+	private boolean closed = false;
+
+	/**
+	 * Creates a new packet log, an existing file is overwritten.
+	 */
+	public PacketRecorder(File log) throws IOException {
+		file = new RandomAccessFile(log, "rw");
+
+		try {
+			file.setLength(0);
+			channel = file.getChannel();
+			map(0);
+		} catch(IOException e) {
+			file.close();
+			throw e;
+		}
+
+		window.put(MAGIC);
+		window.putLong(0);
+		startTime = System.nanoTime();
+	}
+
+	private void map(long start) throws IOException {
+		window = channel.map(FileChannel.MapMode.READ_WRITE, start, WINDOW_SIZE);
+		windowStart = start;
+	}
+
+	// Called by the receive or selector thread for every packet, before the
+	// packet is handed on
+	synchronized void record(byte[] packet) {
+		if(closed) {
+			return;
+		}
+
+		try {
+			if(window.remaining() < 8 + packet.length) {
+				map(windowStart + window.position());
+			}
+
+			window.putLong(System.nanoTime() - startTime);
+			window.put(packet);
+
+			++packetCount;
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Returns the number of packets recorded so far.
+	 */
+	public synchronized long getPacketCount() {
+		return packetCount;
+	}
+
+	/**
+	 * Finishes the packet log. Packets received afterwards are not recorded
+	 * anymore.
+	 */
+	public synchronized void close() throws IOException {
+		if(closed) {
+			return;
+		}
+
+		closed = true;
+
+		long length = windowStart + window.position();
+
+		window.force();
+		window = null;
+
+		ByteBuffer header = ByteBuffer.allocate(8);
+
+		header.putLong(length);
+		header.flip();
+
+		try {
+			channel.write(header, MAGIC.length);
+			channel.force(false);
+		} finally {
+			file.close();
+		}
+	}
+}
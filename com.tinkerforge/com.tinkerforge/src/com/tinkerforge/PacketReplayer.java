@@ -0,0 +1,136 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds a packet log written by a PacketRecorder into an IP Connection, as
+ * if the packets were received from a Brick Daemon. The callbacks of the
+ * recording are dispatched to the devices of the IP Connection, so a
+ * recorded session can be repeated without hardware, e.g. to benchmark the
+ * callback processing.
+ *
+ * The log is memory mapped, it can be up to 2 GiB.
+ */
+public class PacketReplayer {
+	/**
+	 * Speed for replay to feed the packets without any delay.
+	 */
+	public final static double AS_FAST_AS_POSSIBLE = 0;
+
+	private final MappedByteBuffer log;
+	private final long logLength;
+
+	/**
+	 * Opens a packet log.
+	 */
+	public PacketReplayer(File log) throws IOException {
+		RandomAccessFile file = new RandomAccessFile(log, "r");
+
+		try {
+			this.log = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+		} finally {
+			file.close();
+		}
+
+		byte[] magic = new byte[PacketRecorder.MAGIC.length];
+
+		if(this.log.remaining() < magic.length) {
+			throw new IOException("Not a packet log: " + log);
+		}
+
+		this.log.get(magic);
+
+		if(!java.util.Arrays.equals(magic, PacketRecorder.MAGIC) || this.log.remaining() < 8) {
+			throw new IOException("Not a packet log: " + log);
+		}
+
+		// 0 if the recorder was not closed, the log ends at the zeros of the
+		// unused rest of the file then
+		long recordedLength = this.log.getLong();
+
+		if(recordedLength > 0 && recordedLength <= this.log.capacity()) {
+			this.logLength = recordedLength;
+		} else {
+			this.logLength = this.log.capacity();
+		}
+	}
+
+	/**
+	 * Feeds all callbacks of the log into the IP Connection and returns
+	 * their number. Blocks until all of them were handled.
+	 *
+	 * With a \c speed of 1 the packets are fed with the timing they were
+	 * recorded with, 2 replays twice as fast and so on. With
+	 * AS_FAST_AS_POSSIBLE the timing is ignored.
+	 *
+	 * The IP Connection must not be connected during the replay and must
+	 * not wait for any response, otherwise an IllegalStateException is
+	 * thrown. Responses in the log do not match any request and are
+	 * skipped, only callbacks are replayed.
+	 */
+	public long replay(IPConnection ipcon, double speed) throws AlreadyConnectedException,
+	                                                           InterruptedException {
+		if(speed < 0) {
+			throw new IllegalArgumentException("Speed cannot be negative");
+		}
+
+		ByteBuffer records = log.duplicate();
+		long count = 0;
+
+		records.position(PacketRecorder.HEADER_LENGTH);
+		records.limit((int)logLength);
+		ipcon.startReplay();
+
+		try {
+			long start = System.nanoTime();
+
+			while(records.remaining() >= 16) {
+				long timestamp = records.getLong();
+				int length = records.get(records.position() + 4) & 0xFF;
+
+				if(length < 8 || records.remaining() < length) {
+					// end of a log whose recorder was not closed
+					break;
+				}
+
+				if(speed != AS_FAST_AS_POSSIBLE) {
+					long delay = start + (long)(timestamp / speed) - System.nanoTime();
+
+					if(delay > 0) {
+						TimeUnit.NANOSECONDS.sleep(delay);
+					}
+				}
+
+				byte sequenceNumber = (byte)((records.get(records.position() + 6) >> 4) & 0x0F);
+
+				if(sequenceNumber != 0) {
+					// a response, it would complete a request in flight
+					records.position(records.position() + length);
+					continue;
+				}
+
+				byte[] packet = ipcon.packetPool.acquire(length);
+
+				records.get(packet);
+				ipcon.handleResponse(packet);
+
+				++count;
+			}
+		} finally {
+			ipcon.stopReplay();
+		}
+
+		return count;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Reads from many devices with the round trips running in parallel instead
+ * of one after the other. Add the asynchronous getter calls of all devices,
+ * they are sent back to back right away, then wait for all responses at
+ * once:
+ *
+ * <pre>
+ * ReadBatch batch = new ReadBatch();
+ * ResponseFuture&lt;Integer&gt; illuminance = batch.add(ambientLight.getIlluminanceAsync());
+ * ResponseFuture&lt;Short&gt; temperature = batch.add(temperatureBricklet.getTemperatureAsync());
+ * batch.await();
+ * </pre>
+ *
+ * An IP Connection has up to 15 requests in flight, further requests are
+ * sent as responses arrive. A snapshot of N devices therefore costs about
+ * N / 15 round trips instead of N.
+ */
+public class ReadBatch {
+	private final List<ResponseFuture<?>> futures = new ArrayList<ResponseFuture<?>>();
+
+	/**
+	 * Adds the result of an asynchronous getter call to this batch and
+	 * returns it.
+	 */
+	public <T> ResponseFuture<T> add(ResponseFuture<T> future) {
+		if(future == null) {
+			throw new IllegalArgumentException("Future cannot be null");
+		}
+
+		futures.add(future);
+
+		return future;
+	}
+
+	/**
+	 * Returns the number of reads in this batch.
+	 */
+	public int size() {
+		return futures.size();
+	}
+
+	/**
+	 * Waits until all reads of this batch are done and returns their
+	 * results in the order they were added. The result of a failed read is
+	 * null, its ResponseFuture tells why it failed.
+	 *
+	 * The response timeout of a read starts when it is sent, not when it is
+	 * added. A read that waits for one of the 15 sequence numbers fails
+	 * after the timeout of its IP Connection, see IPConnection.setTimeout,
+	 * and once sent it has the timeout again. So every read is done after
+	 * twice the timeout at the latest.
+	 */
+	public List<Object> await() throws InterruptedException {
+		List<Object> results = new ArrayList<Object>(futures.size());
+
+		for(ResponseFuture<?> future: futures) {
+			Object result = null;
+
+			try {
+				result = future.get();
+			} catch(ExecutionException e) {
+				// the future keeps the failure
+			} catch(java.util.concurrent.CancellationException e) {
+				// the future keeps the failure
+			}
+
+			results.add(result);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Returns the number of reads in this batch that failed. Only complete
+	 * after await returned.
+	 */
+	public int getFailureCount() {
+		int count = 0;
+
+		for(ResponseFuture<?> future: futures) {
+			if(future.isFailed()) {
+				++count;
+			}
+		}
+
+		return count;
+	}
+}
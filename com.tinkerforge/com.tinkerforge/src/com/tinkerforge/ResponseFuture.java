@@ -0,0 +1,223 @@
+/*
+ * Redistribution and use in source and binary forms of this file,
+ * with or without modification, are permitted.
+ */
+
+package com.tinkerforge;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of an asynchronous getter or setter call. The request is sent
+ * immediately and the response is matched by the receive thread, no thread
+ * is blocked while the request is in flight.
+ *
+ * Listeners are called from the callback thread of the IP Connection, the
+ * same thread that calls the callback listeners of the devices.
+ */
+public class ResponseFuture<T> implements Future<T> {
+	private final Device.ResponseDecoder<T> decoder;
+	private final List<Listener<T>> listeners = new CopyOnWriteArrayList<Listener<T>>();
+	private boolean done = false;
+	private boolean cancelled = false;
+	private T value = null;
+	private Throwable failure = null;
+
+	// set once the request was handed to an IP Connection, cancel hands the
+	// sequence number or the queue entry of the request back to it
+	volatile IPConnection ipcon = null;
+
+	public interface Listener<T> {
+		public void responseReceived(T value);
+		public void requestFailed(Throwable failure);
+	}
+
+	ResponseFuture(Device.ResponseDecoder<T> decoder) {
+		this.decoder = decoder;
+	}
+
+	/**
+	 * Adds a listener that is called once the response arrived or the
+	 * request failed. If this already happened the listener is called
+	 * immediately from the calling thread.
+	 */
+	public void addListener(Listener<T> listener) {
+		boolean notifyNow;
+
+		synchronized(this) {
+			notifyNow = done;
+
+			if(!done) {
+				listeners.add(listener);
+			}
+		}
+
+		if(notifyNow) {
+			notifyListener(listener);
+		}
+	}
+
+	/**
+	 * Removes a listener.
+	 */
+	public void removeListener(Listener<T> listener) {
+		listeners.remove(listener);
+	}
+
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		synchronized(this) {
+			if(done) {
+				return false;
+			}
+
+			cancelled = true;
+			failure = new java.util.concurrent.CancellationException();
+			done = true;
+			notifyAll();
+		}
+
+		IPConnection connection = ipcon;
+
+		if(connection != null) {
+			connection.cancelRequest(this);
+		} else {
+			notifyListeners();
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean isCancelled() {
+		return cancelled;
+	}
+
+	@Override
+	public synchronized boolean isDone() {
+		return done;
+	}
+
+	/**
+	 * Returns *true* if the request failed or was cancelled, *false* if it
+	 * succeeded or is not done yet.
+	 */
+	public synchronized boolean isFailed() {
+		return done && failure != null;
+	}
+
+	@Override
+	public synchronized T get() throws InterruptedException, ExecutionException {
+		while(!done) {
+			wait();
+		}
+
+		return result();
+	}
+
+	@Override
+	public synchronized T get(long timeout, TimeUnit unit) throws InterruptedException,
+	                                                              ExecutionException,
+	                                                              java.util.concurrent.TimeoutException {
+		long deadline = System.currentTimeMillis() + unit.toMillis(timeout);
+
+		while(!done) {
+			long remaining = deadline - System.currentTimeMillis();
+
+			if(remaining <= 0) {
+				throw new java.util.concurrent.TimeoutException();
+			}
+
+			wait(remaining);
+		}
+
+		return result();
+	}
+
+	// NOTE: Assumes that this is locked
+	private T result() throws ExecutionException {
+		if(cancelled) {
+			throw (java.util.concurrent.CancellationException)failure;
+		}
+
+		if(failure != null) {
+			throw new ExecutionException(failure);
+		}
+
+		return value;
+	}
+
+	// Decodes the response and completes the future, returns false if the
+	// future was already completed
+	boolean complete(byte[] response) {
+		T decoded = null;
+		Throwable error = null;
+
+		try {
+			if(response != null) {
+				Device.checkErrorCode(response);
+
+				if(decoder != null) {
+					decoded = decoder.decode(response);
+				}
+			}
+		} catch(Throwable e) {
+			error = e;
+		}
+
+		synchronized(this) {
+			if(done) {
+				return false;
+			}
+
+			value = decoded;
+			failure = error;
+			done = true;
+			notifyAll();
+		}
+
+		return true;
+	}
+
+	boolean fail(Throwable error) {
+		synchronized(this) {
+			if(done) {
+				return false;
+			}
+
+			failure = error;
+			done = true;
+			notifyAll();
+		}
+
+		return true;
+	}
+
+	void notifyListeners() {
+		for(Listener<T> listener: listeners) {
+			notifyListener(listener);
+		}
+
+		listeners.clear();
+	}
+
+	private void notifyListener(Listener<T> listener) {
+		Throwable error;
+		T result;
+
+		synchronized(this) {
+			error = failure;
+			result = value;
+		}
+
+		if(error != null) {
+			listener.requestFailed(error);
+		} else {
+			listener.responseReceived(result);
+		}
+	}
+}